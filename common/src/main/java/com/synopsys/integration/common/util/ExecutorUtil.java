@@ -0,0 +1,92 @@
+/**
+ * common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.common.util;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+public class ExecutorUtil {
+    /**
+     * Creates threads with the given name that do not keep the JVM alive, so a pool that is not shut down cannot stop Detect from exiting.
+     */
+    public static ThreadFactory daemonThreadFactory(String threadName) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static ExecutorService newDaemonThreadPool(String threadName, int threads) {
+        return Executors.newFixedThreadPool(threads, daemonThreadFactory(threadName));
+    }
+
+    public static ExecutorService newSingleDaemonThreadExecutor(String threadName) {
+        return Executors.newSingleThreadExecutor(daemonThreadFactory(threadName));
+    }
+
+    /**
+     * Waits for the future and throws the exception the task failed with instead of the ExecutionException wrapping it. A task that failed with an error still throws the ExecutionException.
+     */
+    public static <T> T getUnwrapped(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the future and throws the exception the task failed with when it is of the given type or unchecked, otherwise the failure, including an error, is wrapped.
+     */
+    public static <T, E extends Exception> T getUnwrapped(Future<T> future, Class<E> exceptionType, Function<Throwable, E> wrapper) throws E, InterruptedException {
+        return getUnwrapped(future, exceptionType, exceptionType, wrapper);
+    }
+
+    /**
+     * Waits for the future and throws the exception the task failed with when it is of either given type or unchecked, otherwise the failure, including an error, is wrapped.
+     */
+    public static <T, E1 extends Exception, E2 extends Exception> T getUnwrapped(Future<T> future, Class<E1> firstExceptionType, Class<E2> secondExceptionType, Function<Throwable, E2> wrapper)
+        throws E1, E2, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (firstExceptionType.isInstance(cause)) {
+                throw firstExceptionType.cast(cause);
+            } else if (secondExceptionType.isInstance(cause)) {
+                throw secondExceptionType.cast(cause);
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw wrapper.apply(cause);
+        }
+    }
+}
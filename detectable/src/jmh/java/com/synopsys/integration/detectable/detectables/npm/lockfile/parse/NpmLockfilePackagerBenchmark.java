@@ -0,0 +1,115 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.npm.lockfile.parse;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NpmLockfilePackagerBenchmark {
+    private static final int REQUIRES_PER_PACKAGE = 4;
+    private static final int NESTED_EVERY = 10;
+    private static final int NESTED_PER_PACKAGE = 5;
+
+    @Param({ "20000" })
+    public int packageCount;
+
+    private NpmLockfilePackager packager;
+    private String lockFileText;
+
+    @Setup
+    public void setup() {
+        Gson gson = new Gson();
+        packager = new NpmLockfilePackager(gson, new ExternalIdFactory());
+        lockFileText = gson.toJson(createLockFile(packageCount));
+    }
+
+    @Benchmark
+    public NpmParseResult parseLockFile() {
+        return packager.parse(null, lockFileText, true);
+    }
+
+    // Every package requires a few others by name, and some carry nested copies that shadow the top-level versions,
+    // so lookups walk both the parent chain and the project's resolved dependencies.
+    private static JsonObject createLockFile(int packageCount) {
+        JsonObject dependencies = new JsonObject();
+        for (int i = 0; i < packageCount; i++) {
+            JsonObject dependency = createDependency(i, packageCount);
+            if (i % NESTED_EVERY == 0) {
+                JsonObject nested = new JsonObject();
+                for (int n = 1; n <= NESTED_PER_PACKAGE; n++) {
+                    JsonObject nestedDependency = new JsonObject();
+                    nestedDependency.addProperty("version", "2.0." + n);
+                    nested.add(packageName((i + n * 7) % packageCount), nestedDependency);
+                }
+                dependency.add("dependencies", nested);
+            }
+            dependencies.add(packageName(i), dependency);
+        }
+
+        JsonObject lockFile = new JsonObject();
+        lockFile.addProperty("name", "benchmark");
+        lockFile.addProperty("version", "1.0.0");
+        lockFile.addProperty("lockfileVersion", 1);
+        lockFile.add("dependencies", dependencies);
+        return lockFile;
+    }
+
+    private static JsonObject createDependency(int index, int packageCount) {
+        JsonObject requires = new JsonObject();
+        for (int r = 1; r <= REQUIRES_PER_PACKAGE; r++) {
+            requires.addProperty(packageName((index + r * 31) % packageCount), "^1.0.0");
+        }
+
+        JsonObject dependency = new JsonObject();
+        dependency.addProperty("version", "1.0." + index);
+        dependency.addProperty("dev", index % 3 == 0);
+        dependency.add("requires", requires);
+        return dependency;
+    }
+
+    private static String packageName(int index) {
+        return "package-" + index;
+    }
+}
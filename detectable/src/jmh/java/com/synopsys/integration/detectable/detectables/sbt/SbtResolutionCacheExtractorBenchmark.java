@@ -0,0 +1,125 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.sbt;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
+import com.synopsys.integration.detectable.extraction.Extraction;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SbtResolutionCacheExtractorBenchmark {
+    private static final int CONFIGURATIONS_PER_MODULE = 20;
+    private static final int DEPENDENCIES_PER_REPORT = 50;
+    private static final int CALLERS_PER_REVISION = 3;
+
+    @Param({ "2000" })
+    public int reportCount;
+
+    @Param({ "1", "4" })
+    public int reportParallelism;
+
+    private File sourceDirectory;
+    private SbtResolutionCacheExtractor extractor;
+    private SbtResolutionCacheDetectableOptions options;
+
+    @Setup
+    public void setup() throws IOException {
+        sourceDirectory = Files.createTempDirectory("sbt-benchmark").toFile();
+        File reportDirectory = new File(sourceDirectory, "target/resolution-cache/reports");
+        Files.createDirectories(reportDirectory.toPath());
+        FileUtils.writeStringToFile(new File(sourceDirectory, "build.sbt"), "name := \"benchmark\"", StandardCharsets.UTF_8);
+        for (int i = 0; i < reportCount; i++) {
+            String moduleName = "module-" + (i / CONFIGURATIONS_PER_MODULE);
+            String configuration = "conf-" + (i % CONFIGURATIONS_PER_MODULE);
+            File reportFile = new File(reportDirectory, String.format("com.example-%s-%s.xml", moduleName, configuration));
+            FileUtils.writeStringToFile(reportFile, createReport(moduleName, configuration, i), StandardCharsets.UTF_8);
+        }
+
+        extractor = new SbtResolutionCacheExtractor(new WildcardFileFinder(), new ExternalIdFactory());
+        options = new SbtResolutionCacheDetectableOptions(new ArrayList<>(), new ArrayList<>(), 3, reportParallelism);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(sourceDirectory);
+    }
+
+    @Benchmark
+    public Extraction extract() {
+        return extractor.extract(sourceDirectory, options);
+    }
+
+    // Each report declares its own dependencies, and every revision is called by a few of the other dependencies in the same report.
+    private static String createReport(String moduleName, String configuration, int reportIndex) {
+        StringBuilder report = new StringBuilder();
+        report.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        report.append("<ivy-report version=\"1.0\">\n");
+        report.append(String.format("  <info organisation=\"com.example\" module=\"%s\" revision=\"1.0.0\" conf=\"%s\"/>\n", moduleName, configuration));
+        report.append("  <configurations>\n");
+        report.append(String.format("    <configuration name=\"%s\"/>\n", configuration));
+        report.append("  </configurations>\n");
+        report.append("  <dependencies>\n");
+        for (int d = 0; d < DEPENDENCIES_PER_REPORT; d++) {
+            String dependencyName = "dependency-" + ((reportIndex + d * 17) % (DEPENDENCIES_PER_REPORT * 4));
+            report.append(String.format("    <module organisation=\"org.example\" name=\"%s\">\n", dependencyName));
+            report.append(String.format("      <revision name=\"1.%d.0\" status=\"release\">\n", d % 5));
+            report.append("        <license name=\"Apache-2.0\"/>\n");
+            for (int c = 1; c <= CALLERS_PER_REVISION; c++) {
+                String callerName = c == 1 ? moduleName : "dependency-" + ((reportIndex + (d + c) * 17) % (DEPENDENCIES_PER_REPORT * 4));
+                report.append(String.format("        <caller organisation=\"%s\" name=\"%s\" conf=\"%s\" rev=\"1.0.0\" rev-constraint-default=\"1.0.0\" callerrev=\"1.0.0\"/>\n",
+                    c == 1 ? "com.example" : "org.example", callerName, configuration));
+            }
+            report.append("      </revision>\n");
+            report.append("    </module>\n");
+        }
+        report.append("  </dependencies>\n");
+        report.append("</ivy-report>\n");
+        return report.toString();
+    }
+}
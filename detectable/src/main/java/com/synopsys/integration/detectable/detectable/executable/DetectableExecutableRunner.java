@@ -23,7 +23,11 @@
 package com.synopsys.integration.detectable.detectable.executable;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -56,4 +60,45 @@ public interface DetectableExecutableRunner {
 
     @NotNull
     ExecutableOutput executeSuccessfully(Executable executable) throws ExecutableFailedException; //Returns output if and only if executable return code was zero, otherwise throws.
+
+    // Hands each line of standard output to the consumer as it is produced instead of collecting it. The returned output may only contain the last lines of the standard output.
+    // Runners that cannot stream fall back to collecting the output and replaying it to the consumer.
+    @NotNull
+    default ExecutableOutput executeSuccessfully(Executable executable, Consumer<String> standardOutputConsumer) throws ExecutableFailedException {
+        ExecutableOutput executableOutput = executeSuccessfully(executable);
+        executableOutput.getStandardOutputAsList().forEach(standardOutputConsumer);
+        return executableOutput;
+    }
+
+    // Writes standard and error output to files as it is produced so large outputs are never held in memory. The caller closes the result to delete the files.
+    // Runners that cannot stream fall back to collecting the output and writing it to temporary files.
+    @NotNull
+    default ExecutableOutputFiles executeToFiles(Executable executable) throws ExecutableRunnerException {
+        ExecutableOutput executableOutput = execute(executable);
+        try {
+            File standardOutputFile = Files.createTempFile("detect-executable", "-STD.out").toFile();
+            File errorOutputFile = Files.createTempFile("detect-executable", "-ERR.out").toFile();
+            standardOutputFile.deleteOnExit();
+            errorOutputFile.deleteOnExit();
+            Files.write(standardOutputFile.toPath(), executableOutput.getStandardOutput().getBytes(Charset.defaultCharset()));
+            Files.write(errorOutputFile.toPath(), executableOutput.getErrorOutput().getBytes(Charset.defaultCharset()));
+            return new ExecutableOutputFiles(executableOutput.getReturnCode(), standardOutputFile, errorOutputFile);
+        } catch (IOException e) {
+            throw new ExecutableRunnerException(e);
+        }
+    }
+
+    @NotNull
+    default ExecutableOutputFiles executeSuccessfullyToFiles(Executable executable) throws ExecutableFailedException { //Returns output files if and only if executable return code was zero, otherwise throws.
+        try {
+            ExecutableOutputFiles executableOutputFiles = executeToFiles(executable);
+            if (executableOutputFiles.getReturnCode() != 0) {
+                executableOutputFiles.close();
+                throw new ExecutableFailedException(executable, executableOutputFiles.getReturnCode());
+            }
+            return executableOutputFiles;
+        } catch (ExecutableRunnerException e) {
+            throw new ExecutableFailedException(executable, e);
+        }
+    }
 }
@@ -40,8 +40,12 @@ public class ExecutableFailedException extends Exception {
     }
     
     public ExecutableFailedException(Executable executable, ExecutableOutput executableOutput) {
-        super("An executable returned a non-zero exit code: " + executableOutput.getReturnCode());
-        this.returnCode = executableOutput.getReturnCode();
+        this(executable, executableOutput.getReturnCode());
+    }
+
+    public ExecutableFailedException(Executable executable, int returnCode) {
+        super("An executable returned a non-zero exit code: " + returnCode);
+        this.returnCode = returnCode;
         this.executableDescription = executable.getExecutableDescription();
         executableException = null;
     }
@@ -0,0 +1,87 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.executable;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.function.Consumer;
+
+// The output of an executable that was written to files rather than held in memory. Closing deletes the files; diagnostic mode has already copied them by the time they are returned.
+public class ExecutableOutputFiles implements Closeable {
+    private final int returnCode;
+    private final File standardOutputFile;
+    private final File errorOutputFile;
+
+    public ExecutableOutputFiles(int returnCode, File standardOutputFile, File errorOutputFile) {
+        this.returnCode = returnCode;
+        this.standardOutputFile = standardOutputFile;
+        this.errorOutputFile = errorOutputFile;
+    }
+
+    public int getReturnCode() {
+        return returnCode;
+    }
+
+    public File getStandardOutputFile() {
+        return standardOutputFile;
+    }
+
+    public File getErrorOutputFile() {
+        return errorOutputFile;
+    }
+
+    public void readStandardOutput(Consumer<String> lineConsumer) throws IOException {
+        readLines(standardOutputFile, lineConsumer);
+    }
+
+    public void readErrorOutput(Consumer<String> lineConsumer) throws IOException {
+        readLines(errorOutputFile, lineConsumer);
+    }
+
+    @Override
+    public void close() {
+        deleteFile(standardOutputFile);
+        deleteFile(errorOutputFile);
+    }
+
+    private void deleteFile(File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            file.deleteOnExit();
+        }
+    }
+
+    private void readLines(File file, Consumer<String> lineConsumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), Charset.defaultCharset())) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineConsumer.accept(line);
+            }
+        }
+    }
+}
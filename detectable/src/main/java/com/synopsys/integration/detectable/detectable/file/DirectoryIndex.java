@@ -0,0 +1,77 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-memory index of directory listings shared for a single run so each directory only has to be listed once.
+ * The index is filled while searching for detectors and should be invalidated once the source tree may be modified.
+ */
+public class DirectoryIndex {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Map<File, DirectoryListing> listings = new ConcurrentHashMap<>();
+    private volatile boolean valid = true;
+
+    public void addListing(final File directory, final DirectoryListing listing) {
+        if (valid) {
+            listings.put(directory, listing);
+        }
+    }
+
+    public DirectoryListing getListing(final File directory) {
+        final DirectoryListing indexed = listings.get(directory);
+        if (indexed != null) {
+            return indexed;
+        }
+
+        if (Files.isSymbolicLink(directory.toPath())) {
+            return DirectoryListing.empty();
+        }
+
+        try {
+            final DirectoryListing listing = DirectoryListing.read(directory);
+            addListing(directory, listing);
+            return listing;
+        } catch (final IOException e) {
+            logger.trace("Could not list directory: " + directory.toString());
+            return DirectoryListing.empty();
+        }
+    }
+
+    public void invalidate() {
+        valid = false;
+        listings.clear();
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class DirectoryListing {
+    private final List<DirectoryEntry> entries;
+    private final Map<String, Integer> entryPositionsByName;
+
+    public DirectoryListing(final List<DirectoryEntry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.entryPositionsByName = new HashMap<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            entryPositionsByName.put(entries.get(i).getName(), i);
+        }
+    }
+
+    public static DirectoryListing empty() {
+        return new DirectoryListing(Collections.emptyList());
+    }
+
+    // Walking a single level hands us the attributes read while listing, so each entry is only checked once and symbolic links are never followed.
+    public static DirectoryListing read(final File directory) throws IOException {
+        final Path directoryPath = directory.toPath();
+        final List<DirectoryEntry> entries = new ArrayList<>();
+        Files.walkFileTree(directoryPath, Collections.<FileVisitOption>emptySet(), 1, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+                entries.add(new DirectoryEntry(file.toFile(), attributes.isDirectory(), attributes.isSymbolicLink()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(final Path file, final IOException exception) throws IOException {
+                if (directoryPath.equals(file)) {
+                    throw exception;
+                }
+                entries.add(new DirectoryEntry(file.toFile(), false, false));
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return new DirectoryListing(entries);
+    }
+
+    public List<DirectoryEntry> getEntries() {
+        return entries;
+    }
+
+    public Optional<Integer> findPosition(final String name) {
+        return Optional.ofNullable(entryPositionsByName.get(name));
+    }
+}
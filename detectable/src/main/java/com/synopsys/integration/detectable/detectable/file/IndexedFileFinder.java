@@ -20,23 +20,19 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
+package com.synopsys.integration.detectable.detectable.file;
 
-import java.util.Map;
+import java.io.File;
 
-import com.google.gson.annotations.SerializedName;
+public class IndexedFileFinder extends WildcardFileFinder {
+    private final DirectoryIndex directoryIndex;
 
-public class PackageLockDependency {
-    @SerializedName("version")
-    public String version;
-
-    @SerializedName("dev")
-    public Boolean dev;
-
-    @SerializedName("requires")
-    public Map<String, String> requires;
-
-    @SerializedName("dependencies")
-    public Map<String, PackageLockDependency> dependencies;
+    public IndexedFileFinder(final DirectoryIndex directoryIndex) {
+        this.directoryIndex = directoryIndex;
+    }
 
+    @Override
+    protected DirectoryListing listDirectory(final File directory) {
+        return directoryIndex.getListing(directory);
+    }
 }
@@ -24,35 +24,38 @@ package com.synopsys.integration.detectable.detectable.file;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.filefilter.WildcardFileFilter;
 import org.jetbrains.annotations.NotNull;
 
 public class WildcardFileFinder implements FileFinder {
+    private final Map<List<String>, FilenamePatterns> compiledPatterns = new ConcurrentHashMap<>();
 
-    private List<File> findFiles(final File directoryToSearch, final FilenameFilter filenameFilter, final int depth, final boolean findInsideMatchingDirectories) {
+    private List<File> findFiles(final File directoryToSearch, final FilenamePatterns filenamePatterns, final int depth, final boolean findInsideMatchingDirectories) {
         final List<File> foundFiles = new ArrayList<>();
         if (depth < 0) {
             return foundFiles;
         }
-        if (Files.isSymbolicLink(directoryToSearch.toPath())) {
-            return foundFiles;
-        }
-        final File[] allFiles = directoryToSearch.listFiles();
-        if (allFiles == null) {
-            return foundFiles;
+        final DirectoryListing listing = listDirectory(directoryToSearch);
+        if (depth == 0 && filenamePatterns.isLiteral()) {
+            return findLiteralFiles(listing, filenamePatterns);
         }
-        for (final File file : allFiles) {
-            final boolean matches = filenameFilter.accept(directoryToSearch, file.getName());
+        for (final DirectoryEntry entry : listing.getEntries()) {
+            final boolean matches = filenamePatterns.getFilter().accept(directoryToSearch, entry.getName());
             if (matches) {
-                foundFiles.add(file);
+                foundFiles.add(entry.getFile());
             }
             if (!matches || findInsideMatchingDirectories) {
-                if (file.isDirectory() && !Files.isSymbolicLink(file.toPath())) {
-                    foundFiles.addAll(findFiles(file, filenameFilter, depth - 1, findInsideMatchingDirectories));
+                if (entry.isTraversableDirectory()) {
+                    foundFiles.addAll(findFiles(entry.getFile(), filenamePatterns, depth - 1, findInsideMatchingDirectories));
                 }
             }
         }
@@ -60,9 +63,57 @@ public class WildcardFileFinder implements FileFinder {
         return foundFiles;
     }
 
+    // Patterns without wildcards are looked up by name, keeping the order the files were listed in.
+    private List<File> findLiteralFiles(final DirectoryListing listing, final FilenamePatterns filenamePatterns) {
+        return filenamePatterns.getPatterns().stream()
+                   .map(listing::findPosition)
+                   .filter(Optional::isPresent)
+                   .map(Optional::get)
+                   .distinct()
+                   .sorted()
+                   .map(position -> listing.getEntries().get(position).getFile())
+                   .collect(Collectors.toList());
+    }
+
+    protected DirectoryListing listDirectory(final File directory) {
+        if (Files.isSymbolicLink(directory.toPath())) {
+            return DirectoryListing.empty();
+        }
+        try {
+            return DirectoryListing.read(directory);
+        } catch (final IOException e) {
+            return DirectoryListing.empty();
+        }
+    }
+
     @NotNull
     @Override
     public List<File> findFiles(final File directoryToSearch, final List<String> filenamePatterns, final int depth, final boolean findInsideMatchingDirectories) {
-        return findFiles(directoryToSearch, new WildcardFileFilter(filenamePatterns), depth, findInsideMatchingDirectories);
+        final FilenamePatterns compiled = compiledPatterns.computeIfAbsent(new ArrayList<>(filenamePatterns), FilenamePatterns::new);
+        return findFiles(directoryToSearch, compiled, depth, findInsideMatchingDirectories);
+    }
+
+    private static class FilenamePatterns {
+        private final List<String> patterns;
+        private final FilenameFilter filter;
+        private final boolean literal;
+
+        public FilenamePatterns(final List<String> patterns) {
+            this.patterns = patterns;
+            this.filter = new WildcardFileFilter(patterns);
+            this.literal = patterns.stream().noneMatch(pattern -> pattern.contains("*") || pattern.contains("?"));
+        }
+
+        public List<String> getPatterns() {
+            return patterns;
+        }
+
+        public FilenameFilter getFilter() {
+            return filter;
+        }
+
+        public boolean isLiteral() {
+            return literal;
+        }
     }
 }
@@ -44,6 +44,8 @@ public class Pipelines {
     private static final String CQUERY_OPTIONS_PLACEHOLDER = "${detect.bazel.cquery.options}";
     private static final String CQUERY_COMMAND = "cquery";
     private static final String OUTPUT_FLAG = "--output";
+    // Keeps each batched query expression well under command line length limits
+    private static final int MAVEN_JAR_QUERY_BATCH_SIZE = 100;
     private final EnumMap<WorkspaceRule, Pipeline> availablePipelines = new EnumMap<>(WorkspaceRule.class);
     private final Gson gson = new Gson();
 
@@ -58,7 +60,8 @@ public class Pipelines {
                                         .addIntermediateStep(new IntermediateStepReplaceInEach("^@", ""))
                                         .addIntermediateStep(new IntermediateStepReplaceInEach("//.*", ""))
                                         .addIntermediateStep(new IntermediateStepReplaceInEach("^", "//external:"))
-                                        .addIntermediateStep(new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor, Arrays.asList("query", "kind(maven_jar, ${input.item})", OUTPUT_FLAG, "xml"), true))
+                                        .addIntermediateStep(new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor, Arrays.asList("query", "kind(maven_jar, ${input.item})", OUTPUT_FLAG, "xml"), true,
+                                            MAVEN_JAR_QUERY_BATCH_SIZE))
                                         .addIntermediateStep(new IntermediateStepParseEachXml("/query/rule[@class='maven_jar']/string[@name='artifact']", "value"))
                                         .setFinalStep(new FinalStepColonSeparatedGavs(externalIdFactory))
                                         .build();
@@ -33,13 +33,22 @@ public class IntermediateStepExecuteBazelOnEach implements IntermediateStep {
     private final BazelVariableSubstitutor bazelVariableSubstitutor;
     private final List<String> bazelCommandArgs;
     private final boolean inputIsExpected;
+    private final int batchSize;
 
     public IntermediateStepExecuteBazelOnEach(BazelCommandExecutor bazelCommandExecutor,
         BazelVariableSubstitutor bazelVariableSubstitutor, List<String> bazelCommandArgs, boolean inputIsExpected) {
+        this(bazelCommandExecutor, bazelVariableSubstitutor, bazelCommandArgs, inputIsExpected, 1);
+    }
+
+    // Up to batchSize input items are combined into a single set(...) query expression.
+    // The commands run one at a time: the bazel server holds a lock per output base, so concurrent commands would only queue behind each other.
+    public IntermediateStepExecuteBazelOnEach(BazelCommandExecutor bazelCommandExecutor,
+        BazelVariableSubstitutor bazelVariableSubstitutor, List<String> bazelCommandArgs, boolean inputIsExpected, int batchSize) {
         this.bazelCommandExecutor = bazelCommandExecutor;
         this.bazelVariableSubstitutor = bazelVariableSubstitutor;
         this.bazelCommandArgs = bazelCommandArgs;
         this.inputIsExpected = inputIsExpected;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -54,7 +63,7 @@ public class IntermediateStepExecuteBazelOnEach implements IntermediateStep {
             adjustedInput = new ArrayList<>(1);
             adjustedInput.add(null);
         } else {
-            adjustedInput = input;
+            adjustedInput = batchInput(input);
         }
         for (String inputItem : adjustedInput) {
             List<String> finalizedArgs = bazelVariableSubstitutor.substitute(bazelCommandArgs, inputItem);
@@ -63,4 +72,20 @@ public class IntermediateStepExecuteBazelOnEach implements IntermediateStep {
         }
         return results;
     }
+
+    private List<String> batchInput(List<String> input) {
+        if (batchSize <= 1) {
+            return input;
+        }
+        List<String> batchedInput = new ArrayList<>();
+        for (int batchStart = 0; batchStart < input.size(); batchStart += batchSize) {
+            List<String> batch = input.subList(batchStart, Math.min(batchStart + batchSize, input.size()));
+            if (batch.size() == 1) {
+                batchedInput.add(batch.get(0));
+            } else {
+                batchedInput.add(String.format("set(%s)", String.join(" ", batch)));
+            }
+        }
+        return batchedInput;
+    }
 }
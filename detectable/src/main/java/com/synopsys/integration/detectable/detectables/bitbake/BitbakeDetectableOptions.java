@@ -29,12 +29,18 @@ public class BitbakeDetectableOptions {
     private final List<String> sourceArguments;
     private final List<String> packageNames;
     private final Integer searchDepth;
+    private final int graphParallelism;
 
     public BitbakeDetectableOptions(final String buildEnvName, final List<String> sourceArguments, final List<String> packageNames, final Integer searchDepth) {
+        this(buildEnvName, sourceArguments, packageNames, searchDepth, 1);
+    }
+
+    public BitbakeDetectableOptions(final String buildEnvName, final List<String> sourceArguments, final List<String> packageNames, final Integer searchDepth, final int graphParallelism) {
         this.buildEnvName = buildEnvName;
         this.sourceArguments = sourceArguments;
         this.packageNames = packageNames;
         this.searchDepth = searchDepth;
+        this.graphParallelism = graphParallelism;
     }
 
     public String getBuildEnvName() {
@@ -52,4 +58,8 @@ public class BitbakeDetectableOptions {
     public Integer getSearchDepth() {
         return searchDepth;
     }
+
+    public int getGraphParallelism() {
+        return graphParallelism;
+    }
 }
@@ -27,16 +27,20 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
 
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang3.NotImplementedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.paypal.digraph.parser.GraphParser;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.common.util.ExecutorUtil;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
@@ -70,52 +74,104 @@ public class BitbakeExtractor {
         this.bitbakeRecipesToLayerMap = bitbakeRecipesToLayerMap;
     }
 
-    public Extraction extract(File sourceDirectory, File buildEnvScript, List<String> sourceArguments, List<String> packageNames, Integer searchDepth, ExecutableTarget bash) {
-        List<CodeLocation> codeLocations = new ArrayList<>();
-
+    public Extraction extract(File sourceDirectory, File buildEnvScript, List<String> sourceArguments, List<String> packageNames, Integer searchDepth, ExecutableTarget bash, File outputDirectory,
+        int graphParallelism) {
         BitbakeSession bitbakeSession = new BitbakeSession(fileFinder, executableRunner, bitbakeRecipesParser, sourceDirectory, buildEnvScript, sourceArguments, bash);
-        for (String packageName : packageNames) {
-            try {
-                BitbakeGraph bitbakeGraph = generateBitbakeGraph(bitbakeSession, sourceDirectory, packageName, searchDepth);
-                List<BitbakeRecipe> bitbakeRecipes = bitbakeSession.executeBitbakeForRecipeLayerCatalog();
-                Map<String, String> recipeNameToLayersMap = bitbakeRecipesToLayerMap.convert(bitbakeRecipes);
 
-                DependencyGraph dependencyGraph = bitbakeGraphTransformer.transform(bitbakeGraph, recipeNameToLayersMap);
-                CodeLocation codeLocation = new CodeLocation(dependencyGraph);
+        // The recipe catalog is the same for every package, so it is only computed once.
+        Map<String, String> recipeNameToLayersMap;
+        try {
+            List<BitbakeRecipe> bitbakeRecipes = bitbakeSession.executeBitbakeForRecipeLayerCatalog();
+            recipeNameToLayersMap = bitbakeRecipesToLayerMap.convert(bitbakeRecipes);
+        } catch (IOException | IntegrationException | ExecutableRunnerException e) {
+            logger.error("Failed to extract the Bitbake recipe layer catalog.");
+            logger.debug(e.getMessage(), e);
+            return new Extraction.Builder()
+                       .failure("No Code Locations were generated during extraction")
+                       .build();
+        }
 
-                codeLocations.add(codeLocation);
+        // Bitbake locks the build directory, so the graphs are generated one at a time, but each graph is parsed while the next one is generated.
+        ExecutorService executorService = null;
+        if (graphParallelism > 1) {
+            executorService = ExecutorUtil.newDaemonThreadPool("detect-bitbake-graph", graphParallelism);
+        }
+        try {
+            Map<String, FutureTask<CodeLocation>> codeLocationTasks = new LinkedHashMap<>();
+            for (String packageName : packageNames) {
+                try {
+                    File taskDependsFile = generateTaskDependsFile(bitbakeSession, sourceDirectory, outputDirectory, packageName, searchDepth);
+                    FutureTask<CodeLocation> codeLocationTask = new FutureTask<>(() -> createCodeLocation(taskDependsFile, recipeNameToLayersMap));
+                    if (executorService != null) {
+                        executorService.execute(codeLocationTask);
+                    } else {
+                        codeLocationTask.run();
+                    }
+                    codeLocationTasks.put(packageName, codeLocationTask);
+                } catch (IOException | IntegrationException | ExecutableRunnerException e) {
+                    logExtractionFailure(packageName, e);
+                }
+            }
 
-            } catch (IOException | IntegrationException | ExecutableRunnerException | NotImplementedException e) {
-                logger.error(String.format("Failed to extract a Code Location while running Bitbake against package '%s'", packageName));
-                logger.debug(e.getMessage(), e);
+            List<CodeLocation> codeLocations = new ArrayList<>();
+            for (Map.Entry<String, FutureTask<CodeLocation>> codeLocationTask : codeLocationTasks.entrySet()) {
+                try {
+                    codeLocations.add(codeLocationTask.getValue().get());
+                } catch (ExecutionException e) {
+                    logExtractionFailure(codeLocationTask.getKey(), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logExtractionFailure(codeLocationTask.getKey(), e);
+                }
             }
-        }
 
-        Extraction extraction;
+            Extraction extraction;
 
-        if (codeLocations.isEmpty()) {
-            extraction = new Extraction.Builder()
-                             .failure("No Code Locations were generated during extraction")
-                             .build();
+            if (codeLocations.isEmpty()) {
+                extraction = new Extraction.Builder()
+                                 .failure("No Code Locations were generated during extraction")
+                                 .build();
 
-        } else {
-            extraction = new Extraction.Builder()
-                             .success(codeLocations)
-                             .build();
-        }
+            } else {
+                extraction = new Extraction.Builder()
+                                 .success(codeLocations)
+                                 .build();
+            }
 
-        return extraction;
+            return extraction;
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+        }
     }
 
-    private BitbakeGraph generateBitbakeGraph(BitbakeSession bitbakeSession, File sourceDirectory, String packageName, Integer searchDepth) throws ExecutableRunnerException, IOException, IntegrationException {
+    // The graph is copied out of the build directory because the next package overwrites it.
+    private File generateTaskDependsFile(BitbakeSession bitbakeSession, File sourceDirectory, File outputDirectory, String packageName, Integer searchDepth)
+        throws ExecutableRunnerException, IOException, IntegrationException {
         File taskDependsFile = bitbakeSession.executeBitbakeForDependencies(sourceDirectory, packageName, searchDepth)
-                                         .orElseThrow(() -> new IntegrationException("Failed to find file \"task-depends.dot\"."));
+                                   .orElseThrow(() -> new IntegrationException("Failed to find file \"task-depends.dot\"."));
+
+        File packageTaskDependsFile = new File(outputDirectory, packageName + "-" + taskDependsFile.getName());
+        FileUtils.copyFile(taskDependsFile, packageTaskDependsFile);
+        return packageTaskDependsFile;
+    }
 
+    private CodeLocation createCodeLocation(File taskDependsFile, Map<String, String> recipeNameToLayersMap) throws IOException {
         logger.trace(FileUtils.readFileToString(taskDependsFile, Charset.defaultCharset()));
 
-        InputStream dependsFileInputStream = FileUtils.openInputStream(taskDependsFile);
-        GraphParser graphParser = new GraphParser(dependsFileInputStream);
+        BitbakeGraph bitbakeGraph;
+        try (InputStream dependsFileInputStream = FileUtils.openInputStream(taskDependsFile)) {
+            GraphParser graphParser = new GraphParser(dependsFileInputStream);
+            bitbakeGraph = graphParserTransformer.transform(graphParser);
+        }
+
+        DependencyGraph dependencyGraph = bitbakeGraphTransformer.transform(bitbakeGraph, recipeNameToLayersMap);
+        return new CodeLocation(dependencyGraph);
+    }
 
-        return graphParserTransformer.transform(graphParser);
+    private void logExtractionFailure(String packageName, Throwable e) {
+        logger.error(String.format("Failed to extract a Code Location while running Bitbake against package '%s'", packageName));
+        logger.debug(e.getMessage(), e);
     }
 }
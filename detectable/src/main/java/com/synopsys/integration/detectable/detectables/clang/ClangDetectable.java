@@ -23,6 +23,7 @@
 package com.synopsys.integration.detectable.detectables.clang;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -90,7 +91,8 @@ public class ClangDetectable extends Detectable {
 
     @Override
     public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
-        return clangExtractor.extract(selectedPackageManager, packageManagerRunner, environment.getDirectory(), extractionEnvironment.getOutputDirectory(), jsonCompilationDatabaseFile, options.isCleanup());
+        return clangExtractor.extract(selectedPackageManager, packageManagerRunner, environment.getDirectory(), extractionEnvironment.getOutputDirectory(), jsonCompilationDatabaseFile, options.isCleanup(),
+            options.getPackageQueryParallelism(), options.getPackageCachePath().map(Path::toFile).orElse(null));
     }
 
     private ClangPackageManager findPkgMgr(final File workingDirectory) {
@@ -22,14 +22,40 @@
  */
 package com.synopsys.integration.detectable.detectables.clang;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
 public class ClangDetectableOptions {
     private final boolean cleanup;
+    private final int packageQueryParallelism;
+    @Nullable
+    private final Path packageCachePath;
 
     public ClangDetectableOptions(final boolean cleanup) {
+        this(cleanup, 1);
+    }
+
+    public ClangDetectableOptions(final boolean cleanup, final int packageQueryParallelism) {
+        this(cleanup, packageQueryParallelism, null);
+    }
+
+    public ClangDetectableOptions(final boolean cleanup, final int packageQueryParallelism, @Nullable final Path packageCachePath) {
         this.cleanup = cleanup;
+        this.packageQueryParallelism = packageQueryParallelism;
+        this.packageCachePath = packageCachePath;
     }
 
     public boolean isCleanup() {
         return cleanup;
     }
+
+    public int getPackageQueryParallelism() {
+        return packageQueryParallelism;
+    }
+
+    public Optional<Path> getPackageCachePath() {
+        return Optional.ofNullable(packageCachePath);
+    }
 }
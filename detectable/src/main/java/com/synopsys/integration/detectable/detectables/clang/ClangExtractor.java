@@ -30,9 +30,11 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.Gson;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
@@ -42,6 +44,7 @@ import com.synopsys.integration.detectable.detectables.clang.dependencyfile.Clan
 import com.synopsys.integration.detectable.detectables.clang.dependencyfile.DependencyFileDetailGenerator;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManager;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerRunner;
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageOwnershipCache;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetailsResult;
 import com.synopsys.integration.detectable.extraction.Extraction;
 
@@ -52,24 +55,38 @@ public class ClangExtractor {
     private final DependencyFileDetailGenerator dependencyFileDetailGenerator;
     private final ClangPackageDetailsTransformer clangPackageDetailsTransformer;
     private final CompileCommandDatabaseParser compileCommandDatabaseParser;
+    private final Gson gson;
 
     public ClangExtractor(final DetectableExecutableRunner executableRunner, final DependencyFileDetailGenerator dependencyFileDetailGenerator,
-        final ClangPackageDetailsTransformer clangPackageDetailsTransformer, final CompileCommandDatabaseParser compileCommandDatabaseParser) {
+        final ClangPackageDetailsTransformer clangPackageDetailsTransformer, final CompileCommandDatabaseParser compileCommandDatabaseParser, final Gson gson) {
         this.executableRunner = executableRunner;
         this.dependencyFileDetailGenerator = dependencyFileDetailGenerator;
         this.clangPackageDetailsTransformer = clangPackageDetailsTransformer;
         this.compileCommandDatabaseParser = compileCommandDatabaseParser;
+        this.gson = gson;
     }
 
     public Extraction extract(final ClangPackageManager currentPackageManager, final ClangPackageManagerRunner packageManagerRunner, final File sourceDirectory, final File outputDirectory, final File jsonCompilationDatabaseFile,
-        final boolean cleanup) {
+        final boolean cleanup, final int packageQueryParallelism, @Nullable final File packageCacheDirectory) {
         try {
             logger.debug(String.format("Analyzing %s", jsonCompilationDatabaseFile.getAbsolutePath()));
             logger.debug(String.format("extract() called; compileCommandsJsonFilePath: %s", jsonCompilationDatabaseFile.getAbsolutePath()));
 
             final List<CompileCommand> compileCommands = compileCommandDatabaseParser.parseCompileCommandDatabase(jsonCompilationDatabaseFile);
             final Set<File> dependencyFileDetails = dependencyFileDetailGenerator.fromCompileCommands(compileCommands, outputDirectory, cleanup);
-            final PackageDetailsResult results = packageManagerRunner.getAllPackages(currentPackageManager, sourceDirectory, executableRunner, dependencyFileDetails);
+            ClangPackageOwnershipCache ownershipCache = null;
+            if (packageCacheDirectory != null) {
+                ownershipCache = new ClangPackageOwnershipCache(gson, packageCacheDirectory, currentPackageManager.getPackageManagerInfo());
+                ownershipCache.load();
+            }
+            final PackageDetailsResult results = packageManagerRunner.getAllPackages(currentPackageManager, sourceDirectory, executableRunner, dependencyFileDetails, packageQueryParallelism, ownershipCache);
+            if (ownershipCache != null) {
+                try {
+                    ownershipCache.save();
+                } catch (final IOException e) {
+                    logger.warn(String.format("Unable to save the package ownership cache to %s: %s", packageCacheDirectory.getAbsolutePath(), e.getMessage()));
+                }
+            }
 
             logger.trace("Found : " + results.getFoundPackages() + " packages.");
             logger.trace("Found : " + results.getUnRecognizedDependencyFiles() + " non-package files.");
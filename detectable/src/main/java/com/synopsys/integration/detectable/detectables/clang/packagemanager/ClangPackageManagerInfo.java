@@ -37,9 +37,10 @@ public class ClangPackageManagerInfo {
     private List<String> pkgMgrGetOwnerCmdArgs;
     private List<String> pkgArchitectureArgs;
     private List<String> pkgInfoArgs;
+    private List<String> pkgDatabasePaths;
 
     public ClangPackageManagerInfo(final String pkgMgrName, final String pkgMgrCmdString, final List<Forge> forges, final Forge defaultForge, final List<String> checkPresenceCommandArgs,
-        final String checkPresenceCommandOutputExpectedText, final List<String> pkgMgrGetOwnerCmdArgs, final List<String> pkgArchitectureArgs, final List<String> pkgInfoArgs) {
+        final String checkPresenceCommandOutputExpectedText, final List<String> pkgMgrGetOwnerCmdArgs, final List<String> pkgArchitectureArgs, final List<String> pkgInfoArgs, final List<String> pkgDatabasePaths) {
         this.pkgMgrName = pkgMgrName;
         this.pkgMgrCmdString = pkgMgrCmdString;
         this.forges = forges;
@@ -49,6 +50,7 @@ public class ClangPackageManagerInfo {
         this.pkgMgrGetOwnerCmdArgs = pkgMgrGetOwnerCmdArgs;
         this.pkgArchitectureArgs = pkgArchitectureArgs;
         this.pkgInfoArgs = pkgInfoArgs;
+        this.pkgDatabasePaths = pkgDatabasePaths;
     }
 
     public String getPkgMgrName() {
@@ -86,4 +88,9 @@ public class ClangPackageManagerInfo {
     public Optional<List<String>> getPkgInfoArgs() {
         return Optional.ofNullable(pkgInfoArgs);
     }
+
+    // The files the package manager keeps its database in; any change to them means file ownership may have changed.
+    public List<String> getPkgDatabasePaths() {
+        return pkgDatabasePaths;
+    }
 }
@@ -38,6 +38,7 @@ public class ClangPackageManagerInfoBuilder {
     private List<String> pkgMgrGetOwnerCmdArgs;
     private List<String> architectureArguments;
     private List<String> pkgInfoArgs;
+    private List<String> pkgDatabasePaths = new ArrayList<>();
 
     public ClangPackageManagerInfoBuilder setName(final String name) {
         this.pkgMgrName = name;
@@ -106,7 +107,17 @@ public class ClangPackageManagerInfoBuilder {
         return setPackageInfoArguments(Arrays.asList(pkgInfoArgs));
     }
 
+    public ClangPackageManagerInfoBuilder setPackageDatabasePaths(final List<String> pkgDatabasePaths) {
+        this.pkgDatabasePaths = pkgDatabasePaths;
+        return this;
+    }
+
+    public ClangPackageManagerInfoBuilder setPackageDatabasePaths(final String... pkgDatabasePaths) {
+        return setPackageDatabasePaths(Arrays.asList(pkgDatabasePaths));
+    }
+
     public ClangPackageManagerInfo build() {
-        return new ClangPackageManagerInfo(pkgMgrName, pkgMgrCmdString, forges, defaultForge, checkPresenceCommandArgs, checkPresenceCommandOutputExpectedText, pkgMgrGetOwnerCmdArgs, architectureArguments, pkgInfoArgs);
+        return new ClangPackageManagerInfo(pkgMgrName, pkgMgrCmdString, forges, defaultForge, checkPresenceCommandArgs, checkPresenceCommandOutputExpectedText, pkgMgrGetOwnerCmdArgs, architectureArguments, pkgInfoArgs,
+            pkgDatabasePaths);
     }
 }
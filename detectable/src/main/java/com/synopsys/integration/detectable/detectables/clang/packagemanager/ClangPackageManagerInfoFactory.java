@@ -40,6 +40,7 @@ public class ClangPackageManagerInfoFactory {
         rpm.setPresenceCheckArguments(VERSION_FLAG);
         rpm.setPresenceCheckExpectedText("RPM version");
         rpm.setGetOwnerArguments("-qf", "--queryformat=\\{ epoch: \\\"%{E}\\\", name: \\\"%{N}\\\", version: \\\"%{V}-%{R}\\\", arch: \\\"%{ARCH}\\\" \\}");
+        rpm.setPackageDatabasePaths("/var/lib/rpm", "/usr/lib/sysimage/rpm");
         return rpm.build();
     }
 
@@ -52,6 +53,7 @@ public class ClangPackageManagerInfoFactory {
         dpkg.setPresenceCheckExpectedText("package management program version");
         dpkg.setGetOwnerArguments("-S");
         dpkg.setPackageInfoArguments("-s");
+        dpkg.setPackageDatabasePaths("/var/lib/dpkg/status");
         return dpkg.build();
     }
 
@@ -64,6 +66,7 @@ public class ClangPackageManagerInfoFactory {
         apk.setPresenceCheckExpectedText("apk-tools ");
         apk.setGetOwnerArguments("info", "--who-owns");
         apk.setArchitectureArguments("info", "--print-arch");
+        apk.setPackageDatabasePaths("/lib/apk/db/installed");
         return apk.build();
     }
 }
\ No newline at end of file
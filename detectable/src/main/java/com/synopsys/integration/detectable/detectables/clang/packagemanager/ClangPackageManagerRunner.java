@@ -23,15 +23,24 @@
 package com.synopsys.integration.detectable.detectables.clang.packagemanager;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.common.util.ExecutorUtil;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver.ClangPackageManagerResolver;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver.NotOwnedByAnyPkgException;
@@ -39,6 +48,11 @@ import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
 public class ClangPackageManagerRunner {
+    // The smallest ARG_MAX Linux has used, for when getconf is unavailable.
+    private static final int DEFAULT_ARG_MAX = 131072;
+    private static final int ARG_MAX_HEADROOM = 4096;
+    private static final int ARGUMENT_POINTER_SIZE = 8;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     public boolean applies(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executor) {
@@ -61,21 +75,187 @@ public class ClangPackageManagerRunner {
     }
 
     public PackageDetailsResult getAllPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final Set<File> dependencyFiles) {
+        return getAllPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFiles, 1);
+    }
+
+    public PackageDetailsResult getAllPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final Set<File> dependencyFiles,
+        final int parallelism) {
+        return getAllPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFiles, parallelism, null);
+    }
+
+    public PackageDetailsResult getAllPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final Set<File> dependencyFiles,
+        final int parallelism, @Nullable final ClangPackageOwnershipCache ownershipCache) {
+        final ClangPackageManagerResolver resolver = currentPackageManager.getPackageResolver();
+        final List<PackageDetailsResult> cachedResults = new ArrayList<>();
+        final List<File> batchableFiles = new ArrayList<>();
+        final List<Callable<PackageDetailsResult>> queries = new ArrayList<>();
+        for (final File dependencyFile : dependencyFiles) {
+            final Optional<PackageDetailsResult> cachedResult = ownershipCache == null ? Optional.empty() : ownershipCache.find(dependencyFile);
+            if (cachedResult.isPresent()) {
+                cachedResults.add(cachedResult.get());
+                continue;
+            }
+            // Paths containing whitespace can not be picked out of the combined output, so they are always queried on their own.
+            if (resolver.canBatchOwnerQueries() && !StringUtils.containsWhitespace(dependencyFile.getAbsolutePath())) {
+                batchableFiles.add(dependencyFile);
+            } else {
+                queries.add(() -> getPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile, ownershipCache));
+            }
+        }
+        if (ownershipCache != null) {
+            logger.debug(String.format("Found the owners of %d of %d dependency files in the package ownership cache.", cachedResults.size(), dependencyFiles.size()));
+        }
+        if (!batchableFiles.isEmpty()) {
+            final int maxBatchSize = (batchableFiles.size() + parallelism - 1) / Math.max(parallelism, 1);
+            final List<List<File>> batches = createBatches(currentPackageManager.getPackageManagerInfo(), workingDirectory, executableRunner, batchableFiles, maxBatchSize);
+            logger.debug(String.format("Querying the owners of %d dependency files with %d %s commands.", batchableFiles.size(), batches.size(), currentPackageManager.getPackageManagerInfo().getPkgMgrName()));
+            for (final List<File> batch : batches) {
+                queries.add(() -> getBatchedPackages(currentPackageManager, workingDirectory, executableRunner, batch, ownershipCache));
+            }
+        }
+
+        final Set<PackageDetails> packageDetails = new HashSet<>();
+        final Set<File> unRecognizedDependencyFiles = new HashSet<>();
+        final List<PackageDetailsResult> packageDetailsResults = new ArrayList<>(cachedResults);
+        packageDetailsResults.addAll(runQueries(queries, parallelism));
+        for (final PackageDetailsResult packageDetailsResult : packageDetailsResults) {
+            packageDetails.addAll(packageDetailsResult.getFoundPackages());
+            unRecognizedDependencyFiles.addAll(packageDetailsResult.getUnRecognizedDependencyFiles());
+        }
+
+        return new PackageDetailsResult(packageDetails, unRecognizedDependencyFiles);
+    }
+
+    private List<PackageDetailsResult> runQueries(final List<Callable<PackageDetailsResult>> queries, final int parallelism) {
+        final List<PackageDetailsResult> results = new ArrayList<>();
+        if (parallelism <= 1 || queries.size() <= 1) {
+            for (final Callable<PackageDetailsResult> query : queries) {
+                try {
+                    results.add(query.call());
+                } catch (final RuntimeException e) {
+                    throw e;
+                } catch (final Exception e) {
+                    throw new IllegalStateException("Failed to query the package manager.", e);
+                }
+            }
+            return results;
+        }
+
+        final ExecutorService executorService = ExecutorUtil.newDaemonThreadPool("detect-clang-package", Math.min(parallelism, queries.size()));
+        try {
+            for (final Future<PackageDetailsResult> result : executorService.invokeAll(queries)) {
+                results.add(result.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying the package manager.", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Failed to query the package manager.", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+        return results;
+    }
+
+    // Each batch stays within the system's limit on the total size of a command's arguments and environment (ARG_MAX).
+    private List<List<File>> createBatches(final ClangPackageManagerInfo packageManagerInfo, final File workingDirectory, final DetectableExecutableRunner executableRunner, final List<File> files, final int maxBatchSize) {
+        int argumentBudget = findArgMax(workingDirectory, executableRunner) - ARG_MAX_HEADROOM - argumentSize(packageManagerInfo.getPkgMgrCmdString());
+        for (final String argument : packageManagerInfo.getPkgMgrGetOwnerCmdArgs()) {
+            argumentBudget -= argumentSize(argument);
+        }
+        for (final Map.Entry<String, String> variable : System.getenv().entrySet()) {
+            argumentBudget -= argumentSize(variable.getKey() + "=" + variable.getValue());
+        }
+
+        final List<List<File>> batches = new ArrayList<>();
+        List<File> batch = new ArrayList<>();
+        int batchArgumentSize = 0;
+        for (final File file : files) {
+            final int fileArgumentSize = argumentSize(file.getAbsolutePath());
+            if (!batch.isEmpty() && (batch.size() >= maxBatchSize || batchArgumentSize + fileArgumentSize > argumentBudget)) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchArgumentSize = 0;
+            }
+            batch.add(file);
+            batchArgumentSize += fileArgumentSize;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private int findArgMax(final File workingDirectory, final DetectableExecutableRunner executableRunner) {
+        try {
+            final ExecutableOutput argMaxOutput = executableRunner.execute(workingDirectory, "getconf", "ARG_MAX");
+            if (argMaxOutput.getReturnCode() == 0) {
+                return Integer.parseInt(argMaxOutput.getStandardOutput().trim());
+            }
+            logger.debug(String.format("getconf ARG_MAX returned %d; using the default of %d.", argMaxOutput.getReturnCode(), DEFAULT_ARG_MAX));
+        } catch (final ExecutableRunnerException | NumberFormatException e) {
+            logger.debug(String.format("Unable to determine ARG_MAX (%s); using the default of %d.", e.getMessage(), DEFAULT_ARG_MAX));
+        }
+        return DEFAULT_ARG_MAX;
+    }
+
+    // Every argument takes its bytes, a terminating null and a pointer in the argument vector.
+    private int argumentSize(final String argument) {
+        return argument.getBytes(StandardCharsets.UTF_8).length + 1 + ARGUMENT_POINTER_SIZE;
+    }
+
+    private PackageDetailsResult getBatchedPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final List<File> dependencyFiles,
+        @Nullable final ClangPackageOwnershipCache ownershipCache) {
+        final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
+        final ExecutableOutput queryPackageResult;
+        try {
+            final List<String> getOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+            for (final File dependencyFile : dependencyFiles) {
+                getOwnerArgs.add(dependencyFile.getAbsolutePath());
+            }
+            queryPackageResult = executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getOwnerArgs);
+        } catch (final ExecutableRunnerException e) {
+            logger.debug(String.format("Error querying the owners of %d dependency files at once with %s (%s); querying them individually.", dependencyFiles.size(), packageManagerInfo.getPkgMgrCmdString(), e.getMessage()));
+            return getPackagesIndividually(currentPackageManager, workingDirectory, executableRunner, dependencyFiles, ownershipCache);
+        }
+
+        // Owned files are reported on standard output and unowned files on error output, so both streams are attributed to their files.
+        final String combinedOutput = queryPackageResult.getStandardOutput() + "\n" + queryPackageResult.getErrorOutput();
+        final Optional<Map<File, String>> outputByFile = currentPackageManager.getPackageResolver().splitOwnerQueryOutput(dependencyFiles, combinedOutput);
+        if (!outputByFile.isPresent()) {
+            logger.debug(String.format("The output of %s could not be matched exactly to the %d queried dependency files; querying them individually.", packageManagerInfo.getPkgMgrCmdString(), dependencyFiles.size()));
+            return getPackagesIndividually(currentPackageManager, workingDirectory, executableRunner, dependencyFiles, ownershipCache);
+        }
+
         final Set<PackageDetails> packageDetails = new HashSet<>();
         final Set<File> unRecognizedDependencyFiles = new HashSet<>();
         for (final File dependencyFile : dependencyFiles) {
-            final PackageDetailsResult packageDetailsResult = getPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile);
+            final PackageDetailsResult packageDetailsResult = resolvePackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile, outputByFile.get().get(dependencyFile), ownershipCache);
             packageDetails.addAll(packageDetailsResult.getFoundPackages());
             unRecognizedDependencyFiles.addAll(packageDetailsResult.getUnRecognizedDependencyFiles());
         }
+        return new PackageDetailsResult(packageDetails, unRecognizedDependencyFiles);
+    }
 
+    private PackageDetailsResult getPackagesIndividually(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final List<File> dependencyFiles,
+        @Nullable final ClangPackageOwnershipCache ownershipCache) {
+        final Set<PackageDetails> packageDetails = new HashSet<>();
+        final Set<File> unRecognizedDependencyFiles = new HashSet<>();
+        for (final File dependencyFile : dependencyFiles) {
+            final PackageDetailsResult packageDetailsResult = getPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile, ownershipCache);
+            packageDetails.addAll(packageDetailsResult.getFoundPackages());
+            unRecognizedDependencyFiles.addAll(packageDetailsResult.getUnRecognizedDependencyFiles());
+        }
         return new PackageDetailsResult(packageDetails, unRecognizedDependencyFiles);
     }
 
     public PackageDetailsResult getPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final File dependencyFile) {
+        return getPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile, null);
+    }
+
+    private PackageDetailsResult getPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final File dependencyFile,
+        @Nullable final ClangPackageOwnershipCache ownershipCache) {
         final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
-        final Set<PackageDetails> dependencyDetails = new HashSet<>();
-        final Set<File> unRecognizedDependencyFiles = new HashSet<>();
         try {
             final List<String> fileSpecificGetOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
             fileSpecificGetOwnerArgs.add(dependencyFile.getAbsolutePath());
@@ -86,8 +266,22 @@ public class ClangPackageManagerRunner {
             } else {
                 queryPackageOutputToParse = queryPackageResult.getErrorOutput();
             }
+            return resolvePackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile, queryPackageOutputToParse, ownershipCache);
+        } catch (final ExecutableRunnerException e) {
+            logger.debug(String.format("Error with dependency file %s when running %s", dependencyFile.getAbsolutePath(), packageManagerInfo.getPkgMgrCmdString()));
+            logger.error(String.format("Error executing %s: %s", packageManagerInfo.getPkgMgrCmdString(), e.getMessage()));
+        }
+        return new PackageDetailsResult(new HashSet<>(), new HashSet<>());
+    }
+
+    private PackageDetailsResult resolvePackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final File dependencyFile,
+        final String queryPackageOutputToParse, @Nullable final ClangPackageOwnershipCache ownershipCache) {
+        final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
+        final Set<PackageDetails> dependencyDetails = new HashSet<>();
+        final Set<File> unRecognizedDependencyFiles = new HashSet<>();
+        try {
             final ClangPackageManagerResolver resolver = currentPackageManager.getPackageResolver();
-            final List<PackageDetails> packageDetails = resolver.resolvePackages(currentPackageManager.getPackageManagerInfo(), executableRunner, workingDirectory, queryPackageOutputToParse);
+            final List<PackageDetails> packageDetails = resolver.resolvePackages(packageManagerInfo, executableRunner, workingDirectory, queryPackageOutputToParse);
             dependencyDetails.addAll(packageDetails);
         } catch (final NotOwnedByAnyPkgException notOwnedException) {
             logger.debug(String.format("%s is not recognized by the linux package manager (%s)", dependencyFile.getAbsolutePath(), notOwnedException.getMessage()));
@@ -95,8 +289,15 @@ public class ClangPackageManagerRunner {
         } catch (final ExecutableRunnerException e) {
             logger.debug(String.format("Error with dependency file %s when running %s", dependencyFile.getAbsolutePath(), packageManagerInfo.getPkgMgrCmdString()));
             logger.error(String.format("Error executing %s: %s", packageManagerInfo.getPkgMgrCmdString(), e.getMessage()));
+            // A failed query says nothing about the file's owner, so it is not remembered.
+            return new PackageDetailsResult(dependencyDetails, unRecognizedDependencyFiles);
+        }
+        final PackageDetailsResult packageDetailsResult = new PackageDetailsResult(dependencyDetails, unRecognizedDependencyFiles);
+        // Output that names neither an owner nor an unowned file usually means the query itself failed, so only a definite answer is remembered.
+        if (ownershipCache != null && (!dependencyDetails.isEmpty() || !unRecognizedDependencyFiles.isEmpty())) {
+            ownershipCache.record(dependencyFile, packageDetailsResult);
         }
-        return new PackageDetailsResult(dependencyDetails, unRecognizedDependencyFiles);
+        return packageDetailsResult;
     }
 
 }
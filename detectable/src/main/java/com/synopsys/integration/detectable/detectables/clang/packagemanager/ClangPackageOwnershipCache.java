@@ -0,0 +1,221 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.clang.packagemanager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+// Remembers which package owns each dependency file across runs. An entry is only trusted while the file keeps its modification time and
+// file key (inode), and the whole cache is discarded when the package manager's database changes.
+public class ClangPackageOwnershipCache {
+    private static final String CACHE_FILE_SUFFIX = "-package-ownership.json";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final Gson gson;
+    private final File cacheFile;
+    @Nullable
+    private final String databaseFingerprint;
+    private final Map<String, CachedOwnership> ownershipByPath = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+
+    public ClangPackageOwnershipCache(final Gson gson, final File cacheDirectory, final ClangPackageManagerInfo packageManagerInfo) {
+        this.gson = gson;
+        this.cacheFile = new File(cacheDirectory, packageManagerInfo.getPkgMgrName() + CACHE_FILE_SUFFIX);
+        this.databaseFingerprint = fingerprintDatabase(packageManagerInfo);
+    }
+
+    public boolean isEnabled() {
+        return databaseFingerprint != null;
+    }
+
+    public void load() {
+        if (!isEnabled()) {
+            logger.debug(String.format("None of the package database files are present; the package ownership cache %s will not be used.", cacheFile.getAbsolutePath()));
+            return;
+        }
+        if (!cacheFile.isFile()) {
+            return;
+        }
+        try (final Reader reader = Files.newBufferedReader(cacheFile.toPath(), StandardCharsets.UTF_8)) {
+            final CacheContents contents = gson.fromJson(reader, CacheContents.class);
+            if (contents == null || contents.ownershipByPath == null || !databaseFingerprint.equals(contents.databaseFingerprint)) {
+                logger.debug(String.format("The package database has changed since %s was written; it will be rebuilt.", cacheFile.getAbsolutePath()));
+                return;
+            }
+            ownershipByPath.putAll(contents.ownershipByPath);
+            logger.debug(String.format("Loaded %d cached package owners from %s.", ownershipByPath.size(), cacheFile.getAbsolutePath()));
+        } catch (final IOException | JsonParseException e) {
+            logger.debug(String.format("Unable to read the package ownership cache %s (%s); it will be rebuilt.", cacheFile.getAbsolutePath(), e.getMessage()));
+        }
+    }
+
+    public void save() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        final CacheContents contents = new CacheContents();
+        contents.databaseFingerprint = databaseFingerprint;
+        contents.ownershipByPath = ownershipByPath;
+
+        Files.createDirectories(cacheFile.getParentFile().toPath());
+        // Written beside the cache and moved over it so a concurrent or interrupted run never sees a partial file.
+        final Path temporaryFile = Files.createTempFile(cacheFile.getParentFile().toPath(), cacheFile.getName(), ".tmp");
+        try {
+            try (final Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                gson.toJson(contents, writer);
+            }
+            Files.move(temporaryFile, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        logger.debug(String.format("Saved %d package owners to %s (%d were reused from the cache).", ownershipByPath.size(), cacheFile.getAbsolutePath(), hits.get()));
+    }
+
+    public Optional<PackageDetailsResult> find(final File dependencyFile) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        final CachedOwnership cachedOwnership = ownershipByPath.get(dependencyFile.getAbsolutePath());
+        if (cachedOwnership == null) {
+            return Optional.empty();
+        }
+        final Optional<CachedOwnership> currentOwnership = describe(dependencyFile);
+        if (!currentOwnership.isPresent() || currentOwnership.get().lastModified != cachedOwnership.lastModified || !currentOwnership.get().fileKey.equals(cachedOwnership.fileKey)) {
+            ownershipByPath.remove(dependencyFile.getAbsolutePath());
+            return Optional.empty();
+        }
+
+        hits.incrementAndGet();
+        final Set<PackageDetails> packageDetails = new HashSet<>();
+        final Set<File> unRecognizedDependencyFiles = new HashSet<>();
+        if (cachedOwnership.notOwned) {
+            unRecognizedDependencyFiles.add(dependencyFile);
+        } else {
+            for (final CachedPackage cachedPackage : cachedOwnership.packages) {
+                packageDetails.add(new PackageDetails(cachedPackage.name, cachedPackage.version, cachedPackage.arch));
+            }
+        }
+        return Optional.of(new PackageDetailsResult(packageDetails, unRecognizedDependencyFiles));
+    }
+
+    public void record(final File dependencyFile, final PackageDetailsResult packageDetailsResult) {
+        if (!isEnabled()) {
+            return;
+        }
+        describe(dependencyFile).ifPresent(ownership -> {
+            ownership.notOwned = packageDetailsResult.getUnRecognizedDependencyFiles().contains(dependencyFile);
+            for (final PackageDetails packageDetails : packageDetailsResult.getFoundPackages()) {
+                final CachedPackage cachedPackage = new CachedPackage();
+                cachedPackage.name = packageDetails.getPackageName();
+                cachedPackage.version = packageDetails.getPackageVersion();
+                cachedPackage.arch = packageDetails.getPackageArch();
+                ownership.packages.add(cachedPackage);
+            }
+            ownershipByPath.put(dependencyFile.getAbsolutePath(), ownership);
+        });
+    }
+
+    private Optional<CachedOwnership> describe(final File dependencyFile) {
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(dependencyFile.toPath(), BasicFileAttributes.class);
+            final CachedOwnership ownership = new CachedOwnership();
+            ownership.lastModified = attributes.lastModifiedTime().toMillis();
+            ownership.fileKey = attributes.fileKey() == null ? "" : attributes.fileKey().toString();
+            return Optional.of(ownership);
+        } catch (final IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    // The database files' paths, sizes and modification times; a directory contributes its newest entry. Null when none of them exist.
+    @Nullable
+    private String fingerprintDatabase(final ClangPackageManagerInfo packageManagerInfo) {
+        final StringBuilder fingerprint = new StringBuilder(packageManagerInfo.getPkgMgrName());
+        boolean foundDatabase = false;
+        for (final String databasePath : packageManagerInfo.getPkgDatabasePaths()) {
+            final File databaseFile = new File(databasePath);
+            if (!databaseFile.exists()) {
+                continue;
+            }
+            foundDatabase = true;
+            long lastModified = databaseFile.lastModified();
+            long size = databaseFile.length();
+            if (databaseFile.isDirectory()) {
+                try (final Stream<Path> children = Files.list(databaseFile.toPath())) {
+                    for (final Path child : (Iterable<Path>) children::iterator) {
+                        final File childFile = child.toFile();
+                        lastModified = Math.max(lastModified, childFile.lastModified());
+                        size += childFile.length();
+                    }
+                } catch (final IOException e) {
+                    logger.debug(String.format("Unable to list the package database %s: %s", databasePath, e.getMessage()));
+                    return null;
+                }
+            }
+            fingerprint.append('|').append(databasePath).append(':').append(lastModified).append(':').append(size);
+        }
+        return foundDatabase ? fingerprint.toString() : null;
+    }
+
+    private static class CacheContents {
+        private String databaseFingerprint;
+        private Map<String, CachedOwnership> ownershipByPath;
+    }
+
+    private static class CachedOwnership {
+        private long lastModified;
+        private String fileKey;
+        private boolean notOwned;
+        private List<CachedPackage> packages = new ArrayList<>();
+    }
+
+    private static class CachedPackage {
+        private String name;
+        private String version;
+        private String arch;
+    }
+}
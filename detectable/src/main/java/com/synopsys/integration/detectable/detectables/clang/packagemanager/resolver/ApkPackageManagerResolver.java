@@ -27,6 +27,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +39,9 @@ import com.synopsys.integration.detectable.detectables.clang.packagemanager.Pack
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
 public class ApkPackageManagerResolver implements ClangPackageManagerResolver {
+    private static final Pattern OWNED_PATH_PATTERN = Pattern.compile("^(/.*) is owned by \\S+$");
+    private static final Pattern NOT_OWNED_PATH_PATTERN = Pattern.compile("^ERROR: (/.*): Could not find owner package$");
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final ApkArchitectureResolver architectureResolver;
 
@@ -69,6 +74,24 @@ public class ApkPackageManagerResolver implements ClangPackageManagerResolver {
         return packageDetailsList;
     }
 
+    @Override
+    public boolean canBatchOwnerQueries() {
+        return true;
+    }
+
+    @Override
+    public Optional<String> findOwnerQueryOutputPath(String outputLine) {
+        Matcher notOwnedMatcher = NOT_OWNED_PATH_PATTERN.matcher(outputLine);
+        if (notOwnedMatcher.matches()) {
+            return Optional.of(notOwnedMatcher.group(1));
+        }
+        Matcher ownedMatcher = OWNED_PATH_PATTERN.matcher(outputLine);
+        if (ownedMatcher.matches()) {
+            return Optional.of(ownedMatcher.group(1));
+        }
+        return Optional.empty();
+    }
+
     private void isValid(String queryPackageOutput) throws NotOwnedByAnyPkgException {
         if (queryPackageOutput.contains("ERROR") && queryPackageOutput.contains("Could not find owner package")) {
             throw new NotOwnedByAnyPkgException(queryPackageOutput);
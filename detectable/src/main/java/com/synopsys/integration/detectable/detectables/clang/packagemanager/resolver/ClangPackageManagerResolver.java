@@ -23,7 +23,10 @@
 package com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver;
 
 import java.io.File;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerInfo;
@@ -33,4 +36,47 @@ import com.synopsys.integration.executable.ExecutableRunnerException;
 public interface ClangPackageManagerResolver {
     List<PackageDetails> resolvePackages(ClangPackageManagerInfo currentPackageManager, DetectableExecutableRunner executableRunner, File workingDirectory, String queryPackageOutput)
         throws ExecutableRunnerException, NotOwnedByAnyPkgException;
+
+    // Owner queries for many files can only be combined into one command when every line of the output names the file it is about.
+    default boolean canBatchOwnerQueries() {
+        return false;
+    }
+
+    // The queried path a line of owner query output is about, only when the line names that path exactly.
+    default Optional<String> findOwnerQueryOutputPath(String outputLine) {
+        return Optional.empty();
+    }
+
+    // Splits the output of one owner query over many files into the output each file would have produced if it were queried on its own.
+    // Empty when any line can not be attributed to exactly one queried file or a file got no output, in which case the files have to be queried one at a time.
+    default Optional<Map<File, String>> splitOwnerQueryOutput(List<File> queriedFiles, String queryOutput) {
+        Map<String, File> queriedFilesByPath = new HashMap<>();
+        Map<File, StringBuilder> outputByFile = new HashMap<>();
+        for (File queriedFile : queriedFiles) {
+            if (queriedFilesByPath.put(queriedFile.getAbsolutePath(), queriedFile) != null) {
+                return Optional.empty();
+            }
+            outputByFile.put(queriedFile, new StringBuilder());
+        }
+
+        for (String outputLine : queryOutput.split("\n")) {
+            if (outputLine.trim().isEmpty()) {
+                continue;
+            }
+            File queriedFile = findOwnerQueryOutputPath(outputLine).map(queriedFilesByPath::get).orElse(null);
+            if (queriedFile == null) {
+                return Optional.empty();
+            }
+            outputByFile.get(queriedFile).append(outputLine).append("\n");
+        }
+
+        Map<File, String> splitOutput = new HashMap<>();
+        for (Map.Entry<File, StringBuilder> fileOutput : outputByFile.entrySet()) {
+            if (fileOutput.getValue().length() == 0) {
+                return Optional.empty();
+            }
+            splitOutput.put(fileOutput.getKey(), fileOutput.getValue().toString());
+        }
+        return Optional.of(splitOutput);
+    }
 }
@@ -26,6 +26,8 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +37,10 @@ import com.synopsys.integration.detectable.detectables.clang.packagemanager.Clan
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetails;
 
 public class DpkgPackageManagerResolver implements ClangPackageManagerResolver {
+    // Package names never contain a slash, so the path is everything after the first ": /".
+    private static final Pattern OWNED_PATH_PATTERN = Pattern.compile("^[^/]+?: (/.*)$");
+    private static final Pattern NOT_OWNED_PATH_PATTERN = Pattern.compile("^dpkg-query: no path found matching pattern (/.*)$");
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final DpkgPkgDetailsResolver versionResolver;
@@ -66,6 +72,24 @@ public class DpkgPackageManagerResolver implements ClangPackageManagerResolver {
         return packageDetailsList;
     }
 
+    @Override
+    public boolean canBatchOwnerQueries() {
+        return true;
+    }
+
+    @Override
+    public Optional<String> findOwnerQueryOutputPath(String outputLine) {
+        Matcher notOwnedMatcher = NOT_OWNED_PATH_PATTERN.matcher(outputLine);
+        if (notOwnedMatcher.matches()) {
+            return Optional.of(notOwnedMatcher.group(1));
+        }
+        Matcher ownedMatcher = OWNED_PATH_PATTERN.matcher(outputLine);
+        if (ownedMatcher.matches()) {
+            return Optional.of(ownedMatcher.group(1));
+        }
+        return Optional.empty();
+    }
+
     private boolean valid(String packageLine) throws NotOwnedByAnyPkgException {
         if (packageLine.contains("no path found matching pattern")) {
             throw new NotOwnedByAnyPkgException(packageLine);
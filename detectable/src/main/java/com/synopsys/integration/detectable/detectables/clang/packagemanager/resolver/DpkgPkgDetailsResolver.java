@@ -25,7 +25,9 @@ package com.synopsys.integration.detectable.detectables.clang.packagemanager.res
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -42,12 +44,27 @@ public class DpkgPkgDetailsResolver {
     private static final int PKG_INFO_LINE_LABEL_POSITION = 0;
     private static final int PKG_INFO_LINE_VALUE_POSITION = 1;
 
+    // Many dependency files belong to the same package, so each package is only queried once. Failed queries say nothing about the package and are not remembered.
+    private final Map<String, Optional<PackageDetails>> packageDetailsCache = new ConcurrentHashMap<>();
+
+    // A failed query only skips its own package, the other owners of a file are still resolved.
     public Optional<PackageDetails> resolvePackageDetails(ClangPackageManagerInfo currentPackageManager, DetectableExecutableRunner executableRunner, File workingDirectory, String packageName) {
+        Optional<PackageDetails> cachedPackageDetails = packageDetailsCache.get(packageName);
+        if (cachedPackageDetails != null) {
+            return cachedPackageDetails;
+        }
         try {
             List<String> args = new ArrayList<>(currentPackageManager.getPkgInfoArgs().get());
             args.add(packageName);
             ExecutableOutput packageInfoOutput = executableRunner.execute(workingDirectory, currentPackageManager.getPkgMgrCmdString(), args);
-            return parsePackageDetailsFromInfoOutput(packageName, packageInfoOutput.getStandardOutput());
+            if (packageInfoOutput.getReturnCode() != 0) {
+                logger.warn(String.format("%s returned %d for the details of package %s; this package will be omitted from the output: %s", currentPackageManager.getPkgMgrName(), packageInfoOutput.getReturnCode(),
+                    packageName, packageInfoOutput.getErrorOutput().trim()));
+                return Optional.empty();
+            }
+            Optional<PackageDetails> packageDetails = parsePackageDetailsFromInfoOutput(packageName, packageInfoOutput.getStandardOutput());
+            packageDetailsCache.putIfAbsent(packageName, packageDetails);
+            return packageDetails;
         } catch (ExecutableRunnerException e) {
             logger.warn(String.format("Error executing %s to get package info: %s", currentPackageManager.getPkgMgrName(), e.getMessage()));
         }
@@ -43,14 +43,20 @@ public class GoModCliDetectable extends Detectable {
     private final FileFinder fileFinder;
     private final GoResolver goResolver;
     private final GoModCliExtractor goModCliExtractor;
+    private final GoModCliDetectableOptions goModCliDetectableOptions;
 
     private ExecutableTarget goExe;
 
     public GoModCliDetectable(DetectableEnvironment environment, FileFinder fileFinder, GoResolver goResolver, GoModCliExtractor goModCliExtractor) {
+        this(environment, fileFinder, goResolver, goModCliExtractor, new GoModCliDetectableOptions(false));
+    }
+
+    public GoModCliDetectable(DetectableEnvironment environment, FileFinder fileFinder, GoResolver goResolver, GoModCliExtractor goModCliExtractor, GoModCliDetectableOptions goModCliDetectableOptions) {
         super(environment);
         this.fileFinder = fileFinder;
         this.goResolver = goResolver;
         this.goModCliExtractor = goModCliExtractor;
+        this.goModCliDetectableOptions = goModCliDetectableOptions;
     }
 
     @Override
@@ -69,6 +75,6 @@ public class GoModCliDetectable extends Detectable {
 
     @Override
     public Extraction extract(ExtractionEnvironment extractionEnvironment) {
-        return goModCliExtractor.extract(environment.getDirectory(), goExe);
+        return goModCliExtractor.extract(environment.getDirectory(), goExe, goModCliDetectableOptions.shouldRunCommandsConcurrently());
     }
 }
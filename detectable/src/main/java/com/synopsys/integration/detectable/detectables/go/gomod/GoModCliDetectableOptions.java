@@ -20,21 +20,16 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
+package com.synopsys.integration.detectable.detectables.go.gomod;
 
-import java.util.Map;
+public class GoModCliDetectableOptions {
+    private final boolean concurrentCommands;
 
-import com.google.gson.annotations.SerializedName;
+    public GoModCliDetectableOptions(boolean concurrentCommands) {
+        this.concurrentCommands = concurrentCommands;
+    }
 
-public class
-
-PackageLock {
-    @SerializedName("name")
-    public String name;
-
-    @SerializedName("version")
-    public String version;
-
-    @SerializedName("dependencies")
-    public Map<String, PackageLockDependency> dependencies;
+    public boolean shouldRunCommandsConcurrently() {
+        return concurrentCommands;
+    }
 }
@@ -24,8 +24,14 @@ package com.synopsys.integration.detectable.detectables.go.gomod;
 
 import java.io.File;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
 
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.common.util.ExecutorUtil;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.extraction.Extraction;
@@ -44,14 +50,40 @@ public class GoModCliExtractor {
     }
 
     public Extraction extract(File directory, ExecutableTarget goExe) {
+        return extract(directory, goExe, false);
+    }
+
+    public Extraction extract(File directory, ExecutableTarget goExe, boolean runCommandsConcurrently) {
         try {
-            List<String> listOutput = goModCommandExecutor.generateGoListOutput(directory, goExe);
-            List<String> listUJsonOutput = goModCommandExecutor.generateGoListUJsonOutput(directory, goExe);
-            List<String> modGraphOutput = goModCommandExecutor.generateGoModGraphOutput(directory, goExe);
-            List<String> modWhyOutput = goModCommandExecutor.generateGoModWhyOutput(directory, goExe);
+            // go list -m, go list -u and go mod why do not depend on each other, go list -u and go mod why are usually the slowest commands.
+            List<String> listOutput;
+            List<String> listUJsonOutput;
+            List<String> modWhyOutput;
+            if (runCommandsConcurrently) {
+                ExecutorService executorService = ExecutorUtil.newDaemonThreadPool("detect-go-mod", 3);
+                try {
+                    Future<List<String>> listFuture = executorService.submit(() -> goModCommandExecutor.generateGoListOutput(directory, goExe));
+                    Future<List<String>> listUJsonFuture = executorService.submit(() -> goModCommandExecutor.generateGoListUJsonOutput(directory, goExe));
+                    Future<List<String>> modWhyFuture = executorService.submit(() -> goModCommandExecutor.generateGoModWhyOutput(directory, goExe));
+                    listOutput = ExecutorUtil.getUnwrapped(listFuture);
+                    listUJsonOutput = ExecutorUtil.getUnwrapped(listUJsonFuture);
+                    modWhyOutput = ExecutorUtil.getUnwrapped(modWhyFuture);
+                } finally {
+                    executorService.shutdownNow();
+                }
+            } else {
+                listOutput = goModCommandExecutor.generateGoListOutput(directory, goExe);
+                listUJsonOutput = goModCommandExecutor.generateGoListUJsonOutput(directory, goExe);
+                modWhyOutput = goModCommandExecutor.generateGoModWhyOutput(directory, goExe);
+            }
+
             Set<String> moduleExclusionList = goModWhyParser.createModuleExclusionList(modWhyOutput);
-            List<String> finalModGraphOutput = goModGraphTransformer.transformGoModGraphOutput(modGraphOutput, listUJsonOutput);
-            List<CodeLocation> codeLocations = goModGraphParser.parseListAndGoModGraph(listOutput, finalModGraphOutput, moduleExclusionList);
+            UnaryOperator<String> modGraphLineTransformer = goModGraphTransformer.createGoModGraphLineTransformer(listUJsonOutput);
+
+            // The go mod graph output is parsed as it is read instead of being collected first.
+            Map<String, MutableDependencyGraph> moduleGraphs = goModGraphParser.createModuleGraphs(listOutput);
+            goModCommandExecutor.generateGoModGraphOutput(directory, goExe, line -> goModGraphParser.addGoModGraphLine(moduleGraphs, modGraphLineTransformer.apply(line), moduleExclusionList));
+            List<CodeLocation> codeLocations = goModGraphParser.createCodeLocations(moduleGraphs);
             return new Extraction.Builder().success(codeLocations).build();//no project info - hoping git can help with that.
         } catch (Exception e) {
             return new Extraction.Builder().exception(e).build();
@@ -25,6 +25,7 @@ package com.synopsys.integration.detectable.detectables.go.gomod;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -32,6 +33,7 @@ import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.ExecutableUtils;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
 import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
@@ -70,6 +72,15 @@ public class GoModCommandExecutor {
         return execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, "mod", "graph");
     }
 
+    // Each line is handed to the consumer as go prints it, so the graph can be parsed without collecting the output.
+    void generateGoModGraphOutput(File directory, ExecutableTarget goExe, Consumer<String> lineConsumer) throws DetectableException {
+        try {
+            executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, goExe, "mod", "graph"), lineConsumer);
+        } catch (ExecutableFailedException e) {
+            throw new DetectableException(FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH + e.getReturnCode(), e);
+        }
+    }
+
     List<String> generateGoModWhyOutput(File directory, ExecutableTarget goExe) throws ExecutableRunnerException, DetectableException {
         return execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, "mod", "why", "-m", "all");
     }
@@ -23,14 +23,15 @@
 package com.synopsys.integration.detectable.detectables.go.gomod;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
@@ -46,17 +47,6 @@ public class GoModGraphParser {
         this.externalIdFactory = externalIdFactory;
     }
 
-    DependencyGraph parseGoModGraph(List<String> goModGraph, String rootModule, Set<String> moduleExclusionList) {
-        MutableDependencyGraph mutableDependencyGraph = new MutableMapDependencyGraph();
-
-        for (String line : goModGraph) {
-            //example: github.com/gomods/athens cloud.google.com/go@v0.26.0
-            addDependencyToGraph(mutableDependencyGraph, line, rootModule, moduleExclusionList);
-        }
-
-        return mutableDependencyGraph;
-    }
-
     private void addDependencyToGraph(MutableDependencyGraph mutableDependencyGraph, String line, String rootModule, Set<String> moduleExclusionList) {
         String[] parts = line.split(" ");
         if (parts.length != 2) {
@@ -103,10 +93,31 @@ public class GoModGraphParser {
     }
 
     public List<CodeLocation> parseListAndGoModGraph(List<String> listOutput, List<String> modGraphOutput, Set<String> moduleExclusionList) {
-        List<CodeLocation> codeLocations = new ArrayList<>();
+        Map<String, MutableDependencyGraph> moduleGraphs = createModuleGraphs(listOutput);
+        modGraphOutput.forEach(line -> addGoModGraphLine(moduleGraphs, line, moduleExclusionList));
+        return createCodeLocations(moduleGraphs);
+    }
+
+    // The module graphs are filled one go mod graph line at a time, so the output can be parsed while it is still being read.
+    public Map<String, MutableDependencyGraph> createModuleGraphs(List<String> listOutput) {
+        Map<String, MutableDependencyGraph> moduleGraphs = new LinkedHashMap<>();
         for (String module : listOutput) {
-            DependencyGraph graph = parseGoModGraph(modGraphOutput, module, moduleExclusionList);
-            codeLocations.add(new CodeLocation(graph, externalIdFactory.createNameVersionExternalId(Forge.GOLANG, module, null)));
+            moduleGraphs.put(module, new MutableMapDependencyGraph());
+        }
+        return moduleGraphs;
+    }
+
+    public void addGoModGraphLine(Map<String, MutableDependencyGraph> moduleGraphs, String line, Set<String> moduleExclusionList) {
+        //example: github.com/gomods/athens cloud.google.com/go@v0.26.0
+        for (Map.Entry<String, MutableDependencyGraph> moduleGraph : moduleGraphs.entrySet()) {
+            addDependencyToGraph(moduleGraph.getValue(), line, moduleGraph.getKey(), moduleExclusionList);
+        }
+    }
+
+    public List<CodeLocation> createCodeLocations(Map<String, MutableDependencyGraph> moduleGraphs) {
+        List<CodeLocation> codeLocations = new ArrayList<>();
+        for (Map.Entry<String, MutableDependencyGraph> moduleGraph : moduleGraphs.entrySet()) {
+            codeLocations.add(new CodeLocation(moduleGraph.getValue(), externalIdFactory.createNameVersionExternalId(Forge.GOLANG, moduleGraph.getKey(), null)));
         }
         return codeLocations;
     }
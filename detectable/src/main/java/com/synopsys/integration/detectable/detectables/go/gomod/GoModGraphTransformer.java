@@ -24,6 +24,7 @@ package com.synopsys.integration.detectable.detectables.go.gomod;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 
@@ -35,30 +36,26 @@ public class GoModGraphTransformer {
     }
 
     List<String> transformGoModGraphOutput(List<String> modGraphOutput, List<String> listUJsonOutput) throws DetectableException {
-        if (!listUJsonOutput.isEmpty()) {
-            Map<String, String> replacementData = replacementDataExtractor.extractReplacementData(listUJsonOutput);
-
-            for (String line : modGraphOutput) {
-                int indexOfLine = modGraphOutput.indexOf(line);
-                boolean hasBeenModified = false;
-                for (Map.Entry<String, String> replacement : replacementData.entrySet()) {
-                    String newLine;
-                    boolean shouldModify;
-                    if (hasBeenModified) {
-                        newLine = modGraphOutput.get(indexOfLine).replace(replacement.getKey(), replacement.getValue());
-                        shouldModify = !modGraphOutput.get(indexOfLine).equals(newLine);
-                    } else {
-                        newLine = line.replace(replacement.getKey(), replacement.getValue());
-                        shouldModify = !line.equals(newLine);
-                    }
-                    if (shouldModify) {
-                        modGraphOutput.set(indexOfLine, newLine);
-                        hasBeenModified = true;
-                    }
-                }
-            }
+        UnaryOperator<String> lineTransformer = createGoModGraphLineTransformer(listUJsonOutput);
+        for (int i = 0; i < modGraphOutput.size(); i++) {
+            modGraphOutput.set(i, lineTransformer.apply(modGraphOutput.get(i)));
         }
         return modGraphOutput;
     }
 
+    // Applies every replacement from the go list -u output to a single line of go mod graph output, so lines can be transformed as they are read.
+    UnaryOperator<String> createGoModGraphLineTransformer(List<String> listUJsonOutput) throws DetectableException {
+        if (listUJsonOutput.isEmpty()) {
+            return UnaryOperator.identity();
+        }
+        Map<String, String> replacementData = replacementDataExtractor.extractReplacementData(listUJsonOutput);
+        return line -> {
+            String newLine = line;
+            for (Map.Entry<String, String> replacement : replacementData.entrySet()) {
+                newLine = newLine.replace(replacement.getKey(), replacement.getValue());
+            }
+            return newLine;
+        };
+    }
+
 }
@@ -69,6 +69,7 @@ public class GradleRunner {
             arguments.add("-Dhttps.proxyPort=" + proxyInfo.getPort());
         }
 
-        executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, gradleExe, arguments));
+        // Gradle's --info output can be very large and is only needed for diagnostics, which copy it as soon as gradle finishes, so it is kept on disk and then deleted.
+        executableRunner.executeSuccessfullyToFiles(ExecutableUtils.createFromTarget(directory, gradleExe, arguments)).close();
     }
 }
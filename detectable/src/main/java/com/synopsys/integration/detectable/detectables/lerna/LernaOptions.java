@@ -24,12 +24,22 @@ package com.synopsys.integration.detectable.detectables.lerna;
 
 public class LernaOptions {
     private final boolean includePrivatePackages;
+    private final int packageParallelism;
 
     public LernaOptions(boolean includePrivatePackages) {
+        this(includePrivatePackages, 1);
+    }
+
+    public LernaOptions(boolean includePrivatePackages, int packageParallelism) {
         this.includePrivatePackages = includePrivatePackages;
+        this.packageParallelism = packageParallelism;
     }
 
     public boolean shouldIncludePrivatePackages() {
         return includePrivatePackages;
     }
+
+    public int getPackageParallelism() {
+        return packageParallelism;
+    }
 }
@@ -25,10 +25,13 @@ package com.synopsys.integration.detectable.detectables.lerna;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
@@ -36,9 +39,11 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.common.util.ExecutorUtil;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
 import com.synopsys.integration.detectable.detectables.lerna.lockfile.LernaLockFileResult;
+import com.synopsys.integration.detectable.detectables.lerna.lockfile.LernaParsedLockFile;
 import com.synopsys.integration.detectable.detectables.lerna.model.LernaPackage;
 import com.synopsys.integration.detectable.detectables.lerna.model.LernaResult;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmLockfileOptions;
@@ -66,7 +71,12 @@ public class LernaPackager {
     }
 
     public LernaResult generateLernaResult(File sourceDirectory, File rootPackageJson, List<LernaPackage> lernaPackages) {
-        LernaLockFileResult rootLockFile = findLockFiles(sourceDirectory);
+        LernaParsedLockFile rootLockFile;
+        try {
+            rootLockFile = parseLockFile(findLockFiles(sourceDirectory));
+        } catch (IOException e) {
+            return LernaResult.failure(e);
+        }
         LernaResult rootLernaResult = parse(sourceDirectory, rootPackageJson, rootLockFile, new ArrayList<>());
 
         List<NameVersion> externalPackages = lernaPackages.stream()
@@ -74,8 +84,10 @@ public class LernaPackager {
                                                  .collect(Collectors.toList());
 
         List<CodeLocation> codeLocations = new ArrayList<>(rootLernaResult.getCodeLocations());
-        for (LernaPackage lernaPackage : lernaPackages) {
-            LernaResult lernaResult = extractPackage(lernaPackage, externalPackages, rootLockFile);
+        List<LernaResult> lernaResults = extractPackages(lernaPackages, externalPackages, rootLockFile);
+        for (int i = 0; i < lernaPackages.size(); i++) {
+            LernaPackage lernaPackage = lernaPackages.get(i);
+            LernaResult lernaResult = lernaResults.get(i);
             if (lernaResult != null) {
                 if (lernaResult.isSuccess()) {
                     lernaResult.getCodeLocations().stream()
@@ -92,7 +104,44 @@ public class LernaPackager {
         return LernaResult.success(rootLernaResult.getProjectName(), rootLernaResult.getProjectVersionName(), codeLocations);
     }
 
-    private @Nullable LernaResult extractPackage(LernaPackage lernaPackage, List<NameVersion> externalPackages, LernaLockFileResult rootLockFile) {
+    // Results are returned in the order of the packages so the code locations do not depend on which package finished first.
+    private List<LernaResult> extractPackages(List<LernaPackage> lernaPackages, List<NameVersion> externalPackages, LernaParsedLockFile rootLockFile) {
+        int packageParallelism = Math.min(lernaOptions.getPackageParallelism(), lernaPackages.size());
+        if (packageParallelism <= 1) {
+            return lernaPackages.stream()
+                       .map(lernaPackage -> extractPackage(lernaPackage, externalPackages, rootLockFile))
+                       .collect(Collectors.toList());
+        }
+
+        logger.debug(String.format("Extracting up to %d lerna packages in parallel.", packageParallelism));
+        ExecutorService executorService = ExecutorUtil.newDaemonThreadPool("detect-lerna-package", packageParallelism);
+        try {
+            List<Future<LernaResult>> futures = new ArrayList<>();
+            for (LernaPackage lernaPackage : lernaPackages) {
+                futures.add(executorService.submit(() -> extractPackage(lernaPackage, externalPackages, rootLockFile)));
+            }
+            List<LernaResult> lernaResults = new ArrayList<>();
+            for (Future<LernaResult> future : futures) {
+                lernaResults.add(getResult(future));
+            }
+            return lernaResults;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private LernaResult getResult(Future<LernaResult> future) {
+        try {
+            return ExecutorUtil.getUnwrapped(future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return LernaResult.failure(e);
+        } catch (Exception e) {
+            return LernaResult.failure(e);
+        }
+    }
+
+    private @Nullable LernaResult extractPackage(LernaPackage lernaPackage, List<NameVersion> externalPackages, LernaParsedLockFile rootLockFile) {
         String lernaPackageDetails = String.format("%s:%s at %s", lernaPackage.getName(), lernaPackage.getVersion(), lernaPackage.getLocation());
 
         if (!lernaOptions.shouldIncludePrivatePackages() && lernaPackage.isPrivate()) {
@@ -110,7 +159,11 @@ public class LernaPackager {
         }
 
         if (lockFile.hasLockFile()) {
-            return parse(lernaPackageDirectory, packagesPackageJson, lockFile, externalPackages);
+            try {
+                return parse(lernaPackageDirectory, packagesPackageJson, parseLockFile(lockFile), externalPackages);
+            } catch (IOException e) {
+                return LernaResult.failure(e);
+            }
         } else {
             return parse(lernaPackageDirectory, packagesPackageJson, rootLockFile, externalPackages);
         }
@@ -138,7 +191,16 @@ public class LernaPackager {
         }
     }
 
-    private LernaResult parse(File directory, File packageJson, LernaLockFileResult lockFile, List<NameVersion> externalPackages) {
+    private LernaParsedLockFile parseLockFile(LernaLockFileResult lockFile) throws IOException {
+        if (lockFile.getNpmLockContents().isPresent()) {
+            return LernaParsedLockFile.parsedNpm(npmLockfileParser.parseLockFile(new StringReader(lockFile.getNpmLockContents().get())));
+        } else if (lockFile.getYarnLockContents().isPresent()) {
+            return LernaParsedLockFile.parsedYarn(yarnPackager.parseYarnLock(lockFile.getYarnLockContents().get()));
+        }
+        return LernaParsedLockFile.parsedNone();
+    }
+
+    private LernaResult parse(File directory, File packageJson, LernaParsedLockFile lockFile, List<NameVersion> externalPackages) {
         String packageJsonContents;
         try {
             packageJsonContents = FileUtils.readFileToString(packageJson, StandardCharsets.UTF_8);
@@ -146,13 +208,13 @@ public class LernaPackager {
             return LernaResult.failure(e);
         }
 
-        if (lockFile.getNpmLockContents().isPresent()) {
+        if (lockFile.getNpmLockFile().isPresent()) {
             //TODO: What if the NPM result is FAILED?
             NpmParseResult npmParseResult = npmLockfileParser
-                                                .parse(packageJsonContents, lockFile.getNpmLockContents().get(), npmLockfileOptions.shouldIncludeDeveloperDependencies(), externalPackages);
+                                                .parse(packageJsonContents, lockFile.getNpmLockFile().get(), npmLockfileOptions.shouldIncludeDeveloperDependencies(), externalPackages);
             return LernaResult.success(npmParseResult.getProjectName(), npmParseResult.getProjectVersion(), Collections.singletonList(npmParseResult.getCodeLocation()));
-        } else if (lockFile.getYarnLockContents().isPresent()) {
-            YarnResult yarnResult = yarnPackager.generateYarnResult(packageJsonContents, lockFile.getYarnLockContents().get(), directory.getAbsolutePath(), externalPackages);
+        } else if (lockFile.getYarnLock().isPresent()) {
+            YarnResult yarnResult = yarnPackager.generateYarnResult(packageJsonContents, lockFile.getYarnLock().get(), directory.getAbsolutePath(), externalPackages);
 
             if (yarnResult.getException().isPresent()) {
                 return LernaResult.failure(yarnResult.getException().get());
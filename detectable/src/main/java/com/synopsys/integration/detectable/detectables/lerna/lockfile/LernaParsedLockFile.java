@@ -0,0 +1,62 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.lerna.lockfile;
+
+import java.util.Optional;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmProject;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLock;
+
+// A lockfile that has already been parsed. Neither form is modified once parsed, so the root lockfile can be shared by every package that has no lockfile of its own.
+public class LernaParsedLockFile {
+    private final NpmProject npmLockFile;
+    private final YarnLock yarnLock;
+
+    private LernaParsedLockFile(@Nullable NpmProject npmLockFile, @Nullable YarnLock yarnLock) {
+        this.npmLockFile = npmLockFile;
+        this.yarnLock = yarnLock;
+    }
+
+    public static LernaParsedLockFile parsedNpm(@NotNull NpmProject npmLockFile) {
+        return new LernaParsedLockFile(npmLockFile, null);
+    }
+
+    public static LernaParsedLockFile parsedYarn(@NotNull YarnLock yarnLock) {
+        return new LernaParsedLockFile(null, yarnLock);
+    }
+
+    public static LernaParsedLockFile parsedNone() {
+        return new LernaParsedLockFile(null, null);
+    }
+
+    public Optional<NpmProject> getNpmLockFile() {
+        return Optional.ofNullable(npmLockFile);
+    }
+
+    public Optional<YarnLock> getYarnLock() {
+        return Optional.ofNullable(yarnLock);
+    }
+}
@@ -23,23 +23,38 @@
 package com.synopsys.integration.detectable.detectables.maven.cli;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.common.util.Bds;
+import com.synopsys.integration.common.util.ExecutorUtil;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.ExecutableUtils;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
 import com.synopsys.integration.detectable.extraction.Extraction;
-import com.synopsys.integration.executable.ExecutableOutput;
 
 public class MavenCliExtractor {
+    // Maven evaluates the expressions separately for every module in the reactor, so each module writes its own tree and the root module's file starts with "true".
+    public static final String MODULE_TREE_DIRECTORY_NAME = "maven-module-trees";
+    public static final String MODULE_TREE_FILE_NAME = "${project.executionRoot}-${project.groupId}-${project.artifactId}.txt";
+    private static final String ROOT_MODULE_TREE_PREFIX = "true-";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
     private final DetectableExecutableRunner executableRunner;
     private final MavenCodeLocationPackager mavenCodeLocationPackager;
 
@@ -49,7 +64,7 @@ public class MavenCliExtractor {
     }
 
     //TODO: Limit 'extractors' to 'execute' and 'read', delegate all other work.
-    public Extraction extract(File directory, ExecutableTarget mavenExe, MavenCliExtractorOptions mavenCliExtractorOptions) throws ExecutableFailedException {
+    public Extraction extract(File directory, ExecutableTarget mavenExe, MavenCliExtractorOptions mavenCliExtractorOptions, File outputDirectory) throws ExecutableFailedException {
         String[] mavenCommand = mavenCliExtractorOptions.getMavenBuildCommand()
                                     .map(cmd -> cmd.replace("dependency:tree", ""))
                                     .map(String::trim)
@@ -58,16 +73,21 @@ public class MavenCliExtractor {
 
         List<String> arguments = new ArrayList<>(Arrays.asList(mavenCommand));
         arguments.add("dependency:tree");
-        arguments.add("-T1"); // Force maven to use a single thread to ensure the tree output is in the correct order.
-
-        ExecutableOutput mvnExecutableResult = executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, mavenExe, arguments));
 
-        List<String> mavenOutput = mvnExecutableResult.getStandardOutputAsList();
-        List<String> excludedScopes = mavenCliExtractorOptions.getMavenExcludedScopes();
-        List<String> includedScopes = mavenCliExtractorOptions.getMavenIncludedScopes();
-        List<String> excludedModules = mavenCliExtractorOptions.getMavenExcludedModules();
-        List<String> includedModules = mavenCliExtractorOptions.getMavenIncludedModules();
-        List<MavenParseResult> mavenResults = mavenCodeLocationPackager.extractCodeLocations(directory.toString(), mavenOutput, excludedScopes, includedScopes, excludedModules, includedModules);
+        List<MavenParseResult> mavenResults;
+        if (mavenCliExtractorOptions.getMavenParallelism() > 1) {
+            try {
+                mavenResults = extractModuleTrees(directory, mavenExe, arguments, mavenCliExtractorOptions, outputDirectory);
+            } catch (IOException | ExecutionException e) {
+                return new Extraction.Builder().exception(e).build();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Extraction.Builder().exception(e).build();
+            }
+        } else {
+            arguments.add("-T1"); // Force maven to use a single thread to ensure the tree output is in the correct order.
+            mavenResults = extractOutputTree(directory, mavenExe, arguments, mavenCliExtractorOptions);
+        }
 
         List<CodeLocation> codeLocations = Bds.of(mavenResults)
                                                .map(MavenParseResult::getCodeLocation)
@@ -83,4 +103,52 @@ public class MavenCliExtractor {
         }
         return builder.build();
     }
+
+    private List<MavenParseResult> extractOutputTree(File directory, ExecutableTarget mavenExe, List<String> arguments, MavenCliExtractorOptions mavenCliExtractorOptions) throws ExecutableFailedException {
+        mavenCodeLocationPackager.startCodeLocations(directory.toString(), mavenCliExtractorOptions.getMavenExcludedScopes(), mavenCliExtractorOptions.getMavenIncludedScopes(),
+            mavenCliExtractorOptions.getMavenExcludedModules(), mavenCliExtractorOptions.getMavenIncludedModules());
+
+        executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, mavenExe, arguments), mavenCodeLocationPackager::parseLine);
+        return mavenCodeLocationPackager.finishCodeLocations();
+    }
+
+    // Maven builds the modules concurrently and writes each module's tree to its own file in Detect's output directory, so the log output no longer has to stay in order.
+    private List<MavenParseResult> extractModuleTrees(File directory, ExecutableTarget mavenExe, List<String> arguments, MavenCliExtractorOptions mavenCliExtractorOptions, File outputDirectory)
+        throws ExecutableFailedException, IOException, ExecutionException, InterruptedException {
+        int parallelism = mavenCliExtractorOptions.getMavenParallelism();
+        File moduleTreeDirectory = new File(outputDirectory, MODULE_TREE_DIRECTORY_NAME);
+        Files.createDirectories(moduleTreeDirectory.toPath());
+        arguments.add("-T" + parallelism);
+        arguments.add("-DoutputFile=" + new File(moduleTreeDirectory, MODULE_TREE_FILE_NAME).getAbsolutePath());
+
+        executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, mavenExe, arguments), line -> {});
+
+        // Sorting keeps the root module first and the code locations stable between runs, regardless of the order the modules finished in.
+        File[] listedTreeFiles = moduleTreeDirectory.listFiles(File::isFile);
+        List<File> moduleTreeFiles = new ArrayList<>(Arrays.asList(listedTreeFiles == null ? new File[0] : listedTreeFiles));
+        moduleTreeFiles.sort(Comparator.comparing((File file) -> !file.getName().startsWith(ROOT_MODULE_TREE_PREFIX)).thenComparing(File::getName));
+
+        ExecutorService executorService = ExecutorUtil.newDaemonThreadPool("detect-maven-module", parallelism);
+        try {
+            List<Future<List<MavenParseResult>>> moduleResults = new ArrayList<>();
+            for (File moduleTreeFile : moduleTreeFiles) {
+                moduleResults.add(executorService.submit(() -> parseModuleTree(directory, moduleTreeFile, mavenCliExtractorOptions)));
+            }
+
+            List<MavenParseResult> mavenResults = new ArrayList<>();
+            for (Future<List<MavenParseResult>> moduleResult : moduleResults) {
+                mavenResults.addAll(moduleResult.get());
+            }
+            logger.debug(String.format("Parsed %d Maven module dependency trees.", moduleTreeFiles.size()));
+            return mavenResults;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private List<MavenParseResult> parseModuleTree(File directory, File moduleTreeFile, MavenCliExtractorOptions mavenCliExtractorOptions) throws IOException {
+        List<String> moduleTree = Files.readAllLines(moduleTreeFile.toPath(), StandardCharsets.UTF_8);
+        return mavenCodeLocationPackager.extractModuleCodeLocations(directory.toString(), moduleTree, mavenCliExtractorOptions.getMavenExcludedScopes(), mavenCliExtractorOptions.getMavenIncludedScopes(),
+            mavenCliExtractorOptions.getMavenExcludedModules(), mavenCliExtractorOptions.getMavenIncludedModules());
+    }
 }
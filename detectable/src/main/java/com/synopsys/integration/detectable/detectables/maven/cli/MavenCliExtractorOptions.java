@@ -31,13 +31,19 @@ public class MavenCliExtractorOptions {
     private final List<String> mavenIncludedScopes;
     private final List<String> mavenExcludedModules;
     private final List<String> mavenIncludedModules;
+    private final int mavenParallelism;
 
     public MavenCliExtractorOptions(String mavenBuildCommand, List<String> mavenExcludedScopes, List<String> mavenIncludedScopes, List<String> mavenExcludedModules, List<String> mavenIncludedModules) {
+        this(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules, 1);
+    }
+
+    public MavenCliExtractorOptions(String mavenBuildCommand, List<String> mavenExcludedScopes, List<String> mavenIncludedScopes, List<String> mavenExcludedModules, List<String> mavenIncludedModules, int mavenParallelism) {
         this.mavenBuildCommand = mavenBuildCommand;
         this.mavenExcludedScopes = mavenExcludedScopes;
         this.mavenIncludedScopes = mavenIncludedScopes;
         this.mavenExcludedModules = mavenExcludedModules;
         this.mavenIncludedModules = mavenIncludedModules;
+        this.mavenParallelism = mavenParallelism;
     }
 
     public Optional<String> getMavenBuildCommand() {
@@ -59,4 +65,8 @@ public class MavenCliExtractorOptions {
     public List<String> getMavenIncludedModules() {
         return mavenIncludedModules;
     }
+
+    public int getMavenParallelism() {
+        return mavenParallelism;
+    }
 }
@@ -52,6 +52,9 @@ public class MavenCodeLocationPackager {
     public static final String ORPHAN_LIST_PARENT_NODE_GROUP = "none";
     public static final String ORPHAN_LIST_PARENT_NODE_VERSION = "none";
 
+    private static final String MODULE_TREE_SECTION_LINE = "[INFO] --- maven-dependency-plugin:tree ---";
+    private static final String MODULE_TREE_LOG_PREFIX = "[INFO] ";
+
     private static final String END_OF_TREE_PATTERN_STRING = "^-*< .* >-*$";
     private final Pattern endOfTreePattern = Pattern.compile(END_OF_TREE_PATTERN_STRING);
     private final ExternalIdFactory externalIdFactory;
@@ -64,6 +67,9 @@ public class MavenCodeLocationPackager {
     private int level;
     private boolean inOutOfScopeTree = false;
     private MutableDependencyGraph currentGraph = null;
+    private String sourcePath;
+    private ExcludedIncludedWildcardFilter modulesFilter;
+    private ExcludedIncludedWildcardFilter scopeFilter;
 
     public MavenCodeLocationPackager(ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
@@ -71,8 +77,18 @@ public class MavenCodeLocationPackager {
 
     // mavenTextOutput should be the full output of mvn dependency:tree (no scope applied); scope filtering is now done by this method
     public List<MavenParseResult> extractCodeLocations(String sourcePath, List<String> mavenOutput, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules) {
-        ExcludedIncludedWildcardFilter modulesFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedModules, includedModules);
-        ExcludedIncludedWildcardFilter scopeFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedScopes, includedScopes);
+        startCodeLocations(sourcePath, excludedScopes, includedScopes, excludedModules, includedModules);
+        for (String currentLine : mavenOutput) {
+            parseLine(currentLine);
+        }
+        return finishCodeLocations();
+    }
+
+    // Allows the output of mvn dependency:tree to be parsed one line at a time as it is produced, so the full output never has to be held in memory.
+    public void startCodeLocations(String sourcePath, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules) {
+        this.sourcePath = sourcePath;
+        modulesFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedModules, includedModules);
+        scopeFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedScopes, includedScopes);
         codeLocations = new ArrayList<>();
         currentMavenProject = null;
         dependencyParentStack = new Stack<>();
@@ -80,39 +96,54 @@ public class MavenCodeLocationPackager {
         currentGraph = new MutableMapDependencyGraph();
 
         level = 0;
-        for (String currentLine : mavenOutput) {
-            String line = currentLine.trim();
+    }
 
-            if (shouldSkipLine(line)) {
-                continue;
-            }
+    // Parses the tree mvn dependency:tree writes to -DoutputFile for a single module. A new packager is used for every call so modules can be parsed concurrently.
+    public List<MavenParseResult> extractModuleCodeLocations(String sourcePath, List<String> moduleTree, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules) {
+        MavenCodeLocationPackager modulePackager = new MavenCodeLocationPackager(externalIdFactory);
+        modulePackager.startCodeLocations(sourcePath, excludedScopes, includedScopes, excludedModules, includedModules);
+        modulePackager.parseLine(MODULE_TREE_SECTION_LINE);
+        for (String treeLine : moduleTree) {
+            modulePackager.parseLine(MODULE_TREE_LOG_PREFIX + treeLine);
+        }
+        return modulePackager.finishCodeLocations();
+    }
 
-            line = trimLogLevel(line);
+    public void parseLine(String currentLine) {
+        String line = currentLine.trim();
 
-            if (parsingProjectSection && currentMavenProject == null) {
-                initializeCurrentMavenProject(modulesFilter, sourcePath, line);
-                continue;
-            }
+        if (shouldSkipLine(line)) {
+            return;
+        }
 
-            boolean finished = line.contains("--------") || endOfTreePattern.matcher(line).matches();
-            if (finished) {
-                currentMavenProject = null;
-                dependencyParentStack.clear();
-                parsingProjectSection = false;
-                level = 0;
-                continue;
-            }
+        line = trimLogLevel(line);
 
-            int previousLevel = level;
-            String cleanedLine = calculateCurrentLevelAndCleanLine(line);
-            ScopedDependency dependency = textToDependency(cleanedLine);
-            if (null == dependency) {
-                continue;
-            }
-            if (currentMavenProject != null) {
-                populateGraphDependencies(scopeFilter, dependency, previousLevel);
-            }
+        if (parsingProjectSection && currentMavenProject == null) {
+            initializeCurrentMavenProject(modulesFilter, sourcePath, line);
+            return;
         }
+
+        boolean finished = line.contains("--------") || endOfTreePattern.matcher(line).matches();
+        if (finished) {
+            currentMavenProject = null;
+            dependencyParentStack.clear();
+            parsingProjectSection = false;
+            level = 0;
+            return;
+        }
+
+        int previousLevel = level;
+        String cleanedLine = calculateCurrentLevelAndCleanLine(line);
+        ScopedDependency dependency = textToDependency(cleanedLine);
+        if (null == dependency) {
+            return;
+        }
+        if (currentMavenProject != null) {
+            populateGraphDependencies(scopeFilter, dependency, previousLevel);
+        }
+    }
+
+    public List<MavenParseResult> finishCodeLocations() {
         addOrphansToGraph(currentGraph, orphans);
 
         return codeLocations;
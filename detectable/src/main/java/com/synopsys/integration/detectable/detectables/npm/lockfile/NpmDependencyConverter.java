@@ -22,14 +22,18 @@
  */
 package com.synopsys.integration.detectable.detectables.npm.lockfile;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.Nullable;
 
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
@@ -37,22 +41,56 @@ import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmDependency;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmProject;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmRequires;
-import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLock;
-import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLockDependency;
 import com.synopsys.integration.detectable.detectables.npm.packagejson.model.PackageJson;
 
 public class NpmDependencyConverter {
+    private static final String NAME_KEY = "name";
+    private static final String VERSION_KEY = "version";
+    private static final String DEV_KEY = "dev";
+    private static final String REQUIRES_KEY = "requires";
+    private static final String DEPENDENCIES_KEY = "dependencies";
+
     private final ExternalIdFactory externalIdFactory;
 
     public NpmDependencyConverter(ExternalIdFactory externalIdFactory) {this.externalIdFactory = externalIdFactory;}
 
-    public NpmProject convertLockFile(PackageLock packageLock, @Nullable PackageJson packageJson) {
-        NpmProject project = new NpmProject(packageLock.name, packageLock.version);
+    public NpmProject convertLockFile(JsonReader lockFileReader, @Nullable PackageJson packageJson) throws IOException {
+        return withDeclaredDependencies(convertLockFile(lockFileReader), packageJson);
+    }
 
-        if (packageLock.dependencies != null) {
-            List<NpmDependency> children = convertPackageMapToDependencies(null, packageLock.dependencies);
-            project.addAllResolvedDependencies(children);
+    // Builds the project straight from the lockfile stream so neither the lockfile text nor an intermediate object model has to be held in memory.
+    // The returned project only holds the resolved dependencies and is not modified afterwards, so it can be shared by several package.json files.
+    public NpmProject convertLockFile(JsonReader lockFileReader) throws IOException {
+        String name = null;
+        String version = null;
+        boolean dependenciesSectionPresent = false;
+        List<NpmDependency> resolvedDependencies = Collections.emptyList();
+
+        lockFileReader.beginObject();
+        while (lockFileReader.hasNext()) {
+            String key = lockFileReader.nextName();
+            if (NAME_KEY.equals(key)) {
+                name = nextNullableString(lockFileReader);
+            } else if (VERSION_KEY.equals(key)) {
+                version = nextNullableString(lockFileReader);
+            } else if (DEPENDENCIES_KEY.equals(key)) {
+                dependenciesSectionPresent = lockFileReader.peek() == JsonToken.BEGIN_OBJECT;
+                resolvedDependencies = readDependencies(lockFileReader);
+            } else {
+                lockFileReader.skipValue();
+            }
         }
+        lockFileReader.endObject();
+
+        NpmProject project = new NpmProject(name, version, dependenciesSectionPresent);
+        project.addAllResolvedDependencies(resolvedDependencies);
+        return project;
+    }
+
+    // Returns a new project that shares the resolved dependencies of the lockfile project and declares the dependencies of the package json.
+    public NpmProject withDeclaredDependencies(NpmProject lockFileProject, @Nullable PackageJson packageJson) {
+        NpmProject project = new NpmProject(lockFileProject.getName(), lockFileProject.getVersion(), lockFileProject.isDependenciesSectionPresent());
+        project.addAllResolvedDependencies(lockFileProject.getResolvedDependencies());
 
         if (packageJson != null) {
             if (packageJson.dependencies != null) {
@@ -69,28 +107,83 @@ public class NpmDependencyConverter {
         return project;
     }
 
-    public List<NpmDependency> convertPackageMapToDependencies(NpmDependency parent, Map<String, PackageLockDependency> packageLockDependencyMap) {
-        List<NpmDependency> children = new ArrayList<>();
+    private List<NpmDependency> readDependencies(JsonReader lockFileReader) throws IOException {
+        if (lockFileReader.peek() != JsonToken.BEGIN_OBJECT) {
+            lockFileReader.skipValue();
+            return Collections.emptyList();
+        }
 
-        if (packageLockDependencyMap == null || packageLockDependencyMap.size() == 0) {
-            return children;
+        List<NpmDependency> dependencies = new ArrayList<>();
+        lockFileReader.beginObject();
+        while (lockFileReader.hasNext()) {
+            String packageName = lockFileReader.nextName();
+            if (lockFileReader.peek() == JsonToken.BEGIN_OBJECT) {
+                dependencies.add(readDependency(packageName, lockFileReader));
+            } else {
+                lockFileReader.skipValue();
+            }
         }
+        lockFileReader.endObject();
+        return dependencies;
+    }
 
-        for (Map.Entry<String, PackageLockDependency> packageEntry : packageLockDependencyMap.entrySet()) {
-            String packageName = packageEntry.getKey();
-            PackageLockDependency packageLockDependency = packageEntry.getValue();
+    private NpmDependency readDependency(String packageName, JsonReader lockFileReader) throws IOException {
+        String version = null;
+        Boolean dev = null;
+        Map<String, String> requires = Collections.emptyMap();
+        List<NpmDependency> children = Collections.emptyList();
+
+        // The nested dependencies may come before the version, so the dependency is only created once its object has been read.
+        lockFileReader.beginObject();
+        while (lockFileReader.hasNext()) {
+            String key = lockFileReader.nextName();
+            if (VERSION_KEY.equals(key)) {
+                version = nextNullableString(lockFileReader);
+            } else if (DEV_KEY.equals(key) && lockFileReader.peek() == JsonToken.BOOLEAN) {
+                dev = lockFileReader.nextBoolean();
+            } else if (REQUIRES_KEY.equals(key)) {
+                requires = readRequires(lockFileReader);
+            } else if (DEPENDENCIES_KEY.equals(key)) {
+                children = readDependencies(lockFileReader);
+            } else {
+                lockFileReader.skipValue();
+            }
+        }
+        lockFileReader.endObject();
 
-            NpmDependency dependency = createNpmDependency(packageName, packageLockDependency.version, packageLockDependency.dev);
-            dependency.setParent(parent);
-            children.add(dependency);
+        NpmDependency dependency = createNpmDependency(packageName, version, dev);
+        dependency.addAllRequires(convertNameVersionMapToRequires(requires));
+        for (NpmDependency child : children) {
+            child.setParent(dependency);
+        }
+        dependency.addAllDependencies(children);
+        return dependency;
+    }
 
-            List<NpmRequires> requires = convertNameVersionMapToRequires(packageLockDependency.requires);
-            dependency.addAllRequires(requires);
+    private Map<String, String> readRequires(JsonReader lockFileReader) throws IOException {
+        if (lockFileReader.peek() != JsonToken.BEGIN_OBJECT) {
+            lockFileReader.skipValue();
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> requires = new LinkedHashMap<>();
+        lockFileReader.beginObject();
+        while (lockFileReader.hasNext()) {
+            String requiredName = lockFileReader.nextName();
+            requires.put(requiredName, nextNullableString(lockFileReader));
+        }
+        lockFileReader.endObject();
+        return requires;
+    }
 
-            List<NpmDependency> grandChildren = convertPackageMapToDependencies(dependency, packageLockDependency.dependencies);
-            dependency.addAllDependencies(grandChildren);
+    @Nullable
+    private String nextNullableString(JsonReader lockFileReader) throws IOException {
+        JsonToken token = lockFileReader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return lockFileReader.nextString();
         }
-        return children;
+        lockFileReader.skipValue();
+        return null;
     }
 
     private NpmDependency createNpmDependency(String name, String version, Boolean isDev) {
@@ -24,7 +24,9 @@ package com.synopsys.integration.detectable.detectables.npm.lockfile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import org.apache.commons.io.FileUtils;
 
@@ -44,13 +46,15 @@ public class NpmLockfileExtractor {
      */
     public Extraction extract(File lockfile, File packageJson, boolean includeDevDependencies) {
         try {
-            String lockText = FileUtils.readFileToString(lockfile, StandardCharsets.UTF_8);
             String packageText = null;
             if (packageJson != null) {
                 packageText = FileUtils.readFileToString(packageJson, StandardCharsets.UTF_8);
             }
 
-            NpmParseResult result = npmLockfileParser.parse(packageText, lockText, includeDevDependencies);
+            NpmParseResult result;
+            try (Reader lockReader = Files.newBufferedReader(lockfile.toPath(), StandardCharsets.UTF_8)) {
+                result = npmLockfileParser.parse(packageText, lockReader, includeDevDependencies);
+            }
 
             return new Extraction.Builder()
                        .success(result.getCodeLocation())
@@ -24,7 +24,9 @@ package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.synopsys.integration.bdio.model.dependency.Dependency;
@@ -45,6 +47,7 @@ public class NpmDependency {
     private NpmDependency parent;
     private final List<NpmRequires> requires = new ArrayList<>();
     private final List<NpmDependency> dependencies = new ArrayList<>();
+    private final Map<String, NpmDependency> dependenciesByName = new HashMap<>();
 
     public Optional<NpmDependency> getParent() {
         return Optional.ofNullable(parent);
@@ -60,6 +63,14 @@ public class NpmDependency {
 
     public void addAllDependencies(final Collection<NpmDependency> dependencies) {
         this.dependencies.addAll(dependencies);
+        for (final NpmDependency dependency : dependencies) {
+            dependenciesByName.putIfAbsent(dependency.getName(), dependency);
+        }
+    }
+
+    // The first dependency added with the given name, found without scanning the children.
+    public Optional<NpmDependency> findDependency(final String name) {
+        return Optional.ofNullable(dependenciesByName.get(name));
     }
 
     public List<NpmRequires> getRequires() {
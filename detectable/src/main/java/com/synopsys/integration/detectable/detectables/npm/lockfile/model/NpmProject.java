@@ -24,20 +24,26 @@ package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class NpmProject {
     private final String name;
     private final String version;
+    private final boolean dependenciesSectionPresent;
 
     private final List<NpmRequires> declaredDevDependencies = new ArrayList<>();
     private final List<NpmRequires> declaredDependencies = new ArrayList<>();
 
     private final List<NpmDependency> resolvedDependencies = new ArrayList<>();
+    private final Map<String, NpmDependency> resolvedDependenciesByName = new HashMap<>();
 
-    public NpmProject(String name, String version) {
+    public NpmProject(String name, String version, boolean dependenciesSectionPresent) {
         this.name = name;
         this.version = version;
+        this.dependenciesSectionPresent = dependenciesSectionPresent;
     }
 
     public void addAllDevDependencies(Collection<NpmRequires> requires) {
@@ -50,6 +56,14 @@ public class NpmProject {
 
     public void addAllResolvedDependencies(Collection<NpmDependency> resolvedDependencies) {
         this.resolvedDependencies.addAll(resolvedDependencies);
+        for (NpmDependency resolvedDependency : resolvedDependencies) {
+            resolvedDependenciesByName.putIfAbsent(resolvedDependency.getName(), resolvedDependency);
+        }
+    }
+
+    // The first resolved dependency added with the given name, found without scanning the resolved dependencies.
+    public Optional<NpmDependency> findResolvedDependency(String name) {
+        return Optional.ofNullable(resolvedDependenciesByName.get(name));
     }
 
     public String getName() {
@@ -60,6 +74,11 @@ public class NpmProject {
         return version;
     }
 
+    // Whether the lockfile had a 'dependencies' section, even an empty one.
+    public boolean isDependenciesSectionPresent() {
+        return dependenciesSectionPresent;
+    }
+
     public List<NpmRequires> getDeclaredDependencies() {
         return declaredDependencies;
     }
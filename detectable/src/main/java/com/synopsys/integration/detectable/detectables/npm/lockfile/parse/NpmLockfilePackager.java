@@ -22,8 +22,13 @@
  */
 package com.synopsys.integration.detectable.detectables.npm.lockfile.parse;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jetbrains.annotations.Nullable;
@@ -31,6 +36,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
 import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
@@ -43,7 +50,6 @@ import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmDep
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmProject;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmRequires;
-import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLock;
 import com.synopsys.integration.detectable.detectables.npm.packagejson.model.PackageJson;
 import com.synopsys.integration.util.NameVersion;
 
@@ -62,31 +68,56 @@ public class NpmLockfilePackager {
     }
 
     public NpmParseResult parse(@Nullable String packageJsonText, String lockFileText, boolean includeDevDependencies, List<NameVersion> externalDependencies) {
+        try {
+            return parse(packageJsonText, new StringReader(lockFileText), includeDevDependencies, externalDependencies);
+        } catch (IOException e) {
+            // Reading from a string only fails when the json is malformed, which is how gson reports it.
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    public NpmParseResult parse(@Nullable String packageJsonText, Reader lockFileReader, boolean includeDevDependencies) throws IOException {
+        return parse(packageJsonText, lockFileReader, includeDevDependencies, new ArrayList<>());
+    }
+
+    public NpmParseResult parse(@Nullable String packageJsonText, Reader lockFileReader, boolean includeDevDependencies, List<NameVersion> externalDependencies) throws IOException {
+        return parse(packageJsonText, parseLockFile(lockFileReader), includeDevDependencies, externalDependencies);
+    }
+
+    // Parses only the lockfile, the result can be shared between several package json files that use the same lockfile.
+    public NpmProject parseLockFile(Reader lockFileReader) throws IOException {
+        //Convert to our custom format while the lockfile is read
+        NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
+        JsonReader jsonReader = gson.newJsonReader(lockFileReader);
+        jsonReader.setLenient(true);
+        return dependencyConverter.convertLockFile(jsonReader);
+    }
+
+    public NpmParseResult parse(@Nullable String packageJsonText, NpmProject lockFileProject, boolean includeDevDependencies, List<NameVersion> externalDependencies) {
         MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
 
         Optional<PackageJson> packageJson = Optional.ofNullable(packageJsonText)
                                                 .map(content -> gson.fromJson(content, PackageJson.class));
 
-        PackageLock packageLock = gson.fromJson(lockFileText, PackageLock.class);
+        NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
+        NpmProject project = dependencyConverter.withDeclaredDependencies(lockFileProject, packageJson.orElse(null));
 
         logger.debug("Processing project.");
-        if (packageLock.dependencies != null) {
-            logger.debug(String.format("Found %d dependencies in the lockfile.", packageLock.dependencies.size()));
-            //Convert to our custom format
-            NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
-            NpmProject project = dependencyConverter.convertLockFile(packageLock, packageJson.orElse(null));
+        if (project.isDependenciesSectionPresent()) {
+            logger.debug(String.format("Found %d dependencies in the lockfile.", project.getResolvedDependencies().size()));
+            Map<String, NameVersion> externalDependenciesByName = indexExternalDependencies(externalDependencies);
 
             //First we will recreate the graph from the resolved npm dependencies
             for (NpmDependency resolved : project.getResolvedDependencies()) {
-                transformTreeToGraph(resolved, project, dependencyGraph, includeDevDependencies, externalDependencies);
+                transformTreeToGraph(resolved, project, dependencyGraph, includeDevDependencies, externalDependenciesByName);
             }
 
             //Then we will add relationships between the project (root) and the graph
             boolean atLeastOneRequired = !project.getDeclaredDependencies().isEmpty() || !project.getDeclaredDevDependencies().isEmpty();
             if (atLeastOneRequired) {
-                addRootDependencies(project.getResolvedDependencies(), project.getDeclaredDependencies(), dependencyGraph, externalDependencies);
+                addRootDependencies(project, project.getDeclaredDependencies(), dependencyGraph, externalDependenciesByName);
                 if (includeDevDependencies) {
-                    addRootDependencies(project.getResolvedDependencies(), project.getDeclaredDevDependencies(), dependencyGraph, externalDependencies);
+                    addRootDependencies(project, project.getDeclaredDevDependencies(), dependencyGraph, externalDependenciesByName);
                 }
             } else {
                 project.getResolvedDependencies()
@@ -104,15 +135,15 @@ public class NpmLockfilePackager {
         if (packageJson.isPresent()) {
             projectId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, packageJson.get().name, packageJson.get().version);
         } else {
-            projectId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, packageLock.name, packageLock.version);
+            projectId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, project.getName(), project.getVersion());
         }
         CodeLocation codeLocation = new CodeLocation(dependencyGraph, projectId);
         return new NpmParseResult(projectId.getName(), projectId.getVersion(), codeLocation);
     }
 
-    private void addRootDependencies(List<NpmDependency> resolvedDependencies, List<NpmRequires> requires, MutableDependencyGraph dependencyGraph, final List<NameVersion> externalDependencies) {
+    private void addRootDependencies(NpmProject project, List<NpmRequires> requires, MutableDependencyGraph dependencyGraph, Map<String, NameVersion> externalDependencies) {
         for (NpmRequires dependency : requires) {
-            Dependency resolved = lookupProjectOrExternal(dependency.getName(), resolvedDependencies, externalDependencies);
+            Dependency resolved = lookupProjectOrExternal(dependency.getName(), project, externalDependencies);
             if (resolved != null) {
                 dependencyGraph.addChildToRoot(resolved);
             } else {
@@ -121,7 +152,7 @@ public class NpmLockfilePackager {
         }
     }
 
-    private void transformTreeToGraph(NpmDependency npmDependency, NpmProject npmProject, MutableDependencyGraph dependencyGraph, boolean includeDevDependencies, final List<NameVersion> externalDependencies) {
+    private void transformTreeToGraph(NpmDependency npmDependency, NpmProject npmProject, MutableDependencyGraph dependencyGraph, boolean includeDevDependencies, Map<String, NameVersion> externalDependencies) {
         if (!shouldIncludeDependency(npmDependency, includeDevDependencies)) {
             return;
         }
@@ -140,37 +171,40 @@ public class NpmLockfilePackager {
         npmDependency.getDependencies().forEach(child -> transformTreeToGraph(child, npmProject, dependencyGraph, includeDevDependencies, externalDependencies));
     }
 
-    private Dependency lookupProjectOrExternal(String name, List<NpmDependency> projectResolvedDependencies, final List<NameVersion> externalDependencies) {
-        Dependency projectDependency = firstDependencyWithName(projectResolvedDependencies, name);
-        if (projectDependency != null) {
-            return projectDependency;
+    private Dependency lookupProjectOrExternal(String name, NpmProject project, Map<String, NameVersion> externalDependencies) {
+        Optional<NpmDependency> projectDependency = project.findResolvedDependency(name);
+        if (projectDependency.isPresent()) {
+            return projectDependency.get().getGraphDependency();
         } else {
-            Optional<NameVersion> externalNameVersion = externalDependencies.stream().filter(it -> it.getName().equals(name)).findFirst();
-            return externalNameVersion.map(nameVersion -> new Dependency(nameVersion.getName(), nameVersion.getVersion(),
-                externalIdFactory.createNameVersionExternalId(Forge.NPMJS, nameVersion.getName(), nameVersion.getVersion()))).orElse(null);
+            NameVersion externalNameVersion = externalDependencies.get(name);
+            if (externalNameVersion == null) {
+                return null;
+            }
+            return new Dependency(externalNameVersion.getName(), externalNameVersion.getVersion(),
+                externalIdFactory.createNameVersionExternalId(Forge.NPMJS, externalNameVersion.getName(), externalNameVersion.getVersion()));
         }
     }
 
     //returns the first dependency in the following order: directly under this dependency, under a parent, under the project, under external dependencies
-    private Dependency lookupDependency(String name, NpmDependency npmDependency, NpmProject project, final List<NameVersion> externalDependencies) {
-        Dependency resolved = firstDependencyWithName(npmDependency.getDependencies(), name);
-
-        if (resolved != null) {
-            return resolved;
-        } else if (npmDependency.getParent().isPresent()) {
-            return lookupDependency(name, npmDependency.getParent().get(), project, externalDependencies);
-        } else {
-            return lookupProjectOrExternal(name, project.getResolvedDependencies(), externalDependencies);
+    private Dependency lookupDependency(String name, NpmDependency npmDependency, NpmProject project, Map<String, NameVersion> externalDependencies) {
+        NpmDependency current = npmDependency;
+        while (current != null) {
+            Optional<NpmDependency> resolved = current.findDependency(name);
+            if (resolved.isPresent()) {
+                return resolved.get().getGraphDependency();
+            }
+            current = current.getParent().orElse(null);
         }
+        return lookupProjectOrExternal(name, project, externalDependencies);
     }
 
-    private Dependency firstDependencyWithName(List<NpmDependency> dependencies, String name) {
-        for (NpmDependency current : dependencies) {
-            if (current.getName().equals(name)) {
-                return current.getGraphDependency();
-            }
+    // Keeps the first external dependency with each name, matching the order the list was searched in before it was indexed.
+    private Map<String, NameVersion> indexExternalDependencies(List<NameVersion> externalDependencies) {
+        Map<String, NameVersion> externalDependenciesByName = new HashMap<>();
+        for (NameVersion externalDependency : externalDependencies) {
+            externalDependenciesByName.putIfAbsent(externalDependency.getName(), externalDependency);
         }
-        return null;
+        return externalDependenciesByName;
     }
 
     private boolean shouldIncludeDependency(NpmDependency packageLockDependency, boolean includeDevDependencies) {
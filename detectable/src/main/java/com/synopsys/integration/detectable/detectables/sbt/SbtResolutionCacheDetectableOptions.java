@@ -28,11 +28,17 @@ public class SbtResolutionCacheDetectableOptions {
     private final List<String> includedConfigurations;
     private final List<String> excludedConfigurations;
     private final int reportDepth;
+    private final int reportParallelism;
 
     public SbtResolutionCacheDetectableOptions(List<String> includedConfigurations, List<String> excludedConfigurations, int reportDepth) {
+        this(includedConfigurations, excludedConfigurations, reportDepth, 1);
+    }
+
+    public SbtResolutionCacheDetectableOptions(List<String> includedConfigurations, List<String> excludedConfigurations, int reportDepth, int reportParallelism) {
         this.includedConfigurations = includedConfigurations;
         this.excludedConfigurations = excludedConfigurations;
         this.reportDepth = reportDepth;
+        this.reportParallelism = reportParallelism;
     }
 
     public List<String> getIncludedConfigurations() {
@@ -46,4 +52,8 @@ public class SbtResolutionCacheDetectableOptions {
     public int getReportDepth() {
         return reportDepth;
     }
+
+    public int getReportParallelism() {
+        return reportParallelism;
+    }
 }
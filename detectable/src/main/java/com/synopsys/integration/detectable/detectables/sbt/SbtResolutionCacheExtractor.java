@@ -24,22 +24,26 @@ package com.synopsys.integration.detectable.detectables.sbt;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.common.util.ExecutorUtil;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
 import com.synopsys.integration.detectable.detectables.sbt.model.SbtDependencyModule;
@@ -73,8 +77,19 @@ public class SbtResolutionCacheExtractor {
             List<String> included = sbtResolutionCacheDetectableOptions.getIncludedConfigurations();
             List<String> excluded = sbtResolutionCacheDetectableOptions.getExcludedConfigurations();
             int depth = sbtResolutionCacheDetectableOptions.getReportDepth();
-
-            SbtProject project = extractProject(directory, depth, included, excluded);
+            int reportParallelism = sbtResolutionCacheDetectableOptions.getReportParallelism();
+
+            SbtProject project;
+            if (reportParallelism > 1) {
+                ExecutorService executorService = ExecutorUtil.newDaemonThreadPool("detect-sbt-report", reportParallelism);
+                try {
+                    project = extractProject(directory, depth, included, excluded, executorService);
+                } finally {
+                    executorService.shutdownNow();
+                }
+            } else {
+                project = extractProject(directory, depth, included, excluded, null);
+            }
 
             List<CodeLocation> codeLocations = new ArrayList<>();
 
@@ -106,8 +121,9 @@ public class SbtResolutionCacheExtractor {
         }
     }
 
-    private SbtProject extractProject(File path, int depth, List<String> included, List<String> excluded) throws IOException, SAXException, ParserConfigurationException {
-        List<SbtDependencyModule> rawModules = extractModules(path, depth, included, excluded);
+    private SbtProject extractProject(File path, int depth, List<String> included, List<String> excluded, @Nullable ExecutorService executorService)
+        throws IOException, XMLStreamException, InterruptedException {
+        List<SbtDependencyModule> rawModules = extractModules(path, depth, included, excluded, executorService);
         List<SbtDependencyModule> modules = rawModules.stream().filter(it -> it.getGraph() != null).collect(Collectors.toList());
         int skipped = rawModules.size() - modules.size();
         if (skipped > 0) {
@@ -151,7 +167,8 @@ public class SbtResolutionCacheExtractor {
         return version;
     }
 
-    private List<SbtDependencyModule> extractModules(File path, int depth, List<String> included, List<String> excluded) throws IOException, SAXException, ParserConfigurationException {
+    private List<SbtDependencyModule> extractModules(File path, int depth, List<String> included, List<String> excluded, @Nullable ExecutorService executorService)
+        throws IOException, XMLStreamException, InterruptedException {
         List<File> sbtFiles = fileFinder.findFiles(path, BUILD_SBT_FILENAME, depth);
         List<File> resolutionCaches = fileFinder.findFiles(path, RESOLUTION_CACHE_DIRECTORY, depth); // TODO: ensure this does what the old method did. findDirectoriesContainingDirectoriesToDepth
 
@@ -159,21 +176,21 @@ public class SbtResolutionCacheExtractor {
         logger.debug(String.format("Found %s resolution caches.", resolutionCaches.size()));
 
         List<SbtDependencyModule> modules = new ArrayList<>();
-        List<String> usedReports = new ArrayList<>();
+        Set<String> usedReports = new HashSet<>();
 
         for (File sbtFile : sbtFiles) {
             logger.debug(String.format("Found SBT build file: %s", sbtFile.getCanonicalPath()));
             File sbtDirectory = sbtFile.getParentFile();
             File reportPath = new File(sbtDirectory, REPORT_FILE_DIRECTORY);
 
-            List<SbtDependencyModule> foundModules = extractReportModules(path, reportPath, sbtDirectory, included, excluded, usedReports);
+            List<SbtDependencyModule> foundModules = extractReportModules(path, reportPath, sbtDirectory, included, excluded, usedReports, executorService);
             modules.addAll(foundModules);
         }
 
         for (File resCache : resolutionCaches) {
             logger.debug(String.format("Found resolution cache: %s", resCache.getCanonicalPath()));
             File reportPath = new File(resCache, REPORT_DIRECTORY);
-            List<SbtDependencyModule> foundModules = extractReportModules(path, reportPath, resCache.getParentFile(), included, excluded, usedReports);
+            List<SbtDependencyModule> foundModules = extractReportModules(path, reportPath, resCache.getParentFile(), included, excluded, usedReports, executorService);
             modules.addAll(foundModules);
         }
 
@@ -205,8 +222,8 @@ public class SbtResolutionCacheExtractor {
         return file.getCanonicalPath().startsWith(projectPath.getCanonicalPath());
     }
 
-    private List<SbtDependencyModule> extractReportModules(File path, File reportPath, File source, List<String> included, List<String> excluded, List<String> usedReports)
-        throws IOException, SAXException, ParserConfigurationException {
+    private List<SbtDependencyModule> extractReportModules(File path, File reportPath, File source, List<String> included, List<String> excluded, Set<String> usedReports,
+        @Nullable ExecutorService executorService) throws IOException, XMLStreamException, InterruptedException {
         List<SbtDependencyModule> modules = new ArrayList<>();
         String canonical = reportPath.getCanonicalPath();
         if (usedReports.contains(canonical)) {
@@ -219,7 +236,7 @@ public class SbtResolutionCacheExtractor {
             if (reportFiles == null || reportFiles.isEmpty()) {
                 logger.debug(String.format("No reports were found in: %s", reportPath));
             } else {
-                List<SbtDependencyModule> aggregatedModules = makeModuleAggregate(reportFiles, included, excluded);
+                List<SbtDependencyModule> aggregatedModules = makeModuleAggregate(reportFiles, included, excluded, executorService);
 
                 if (aggregatedModules == null) {
                     logger.debug(String.format("No dependencies were generated for report folder: %s", reportPath));
@@ -239,22 +256,27 @@ public class SbtResolutionCacheExtractor {
         return modules;
     }
 
-    private List<SbtDependencyModule> makeModuleAggregate(List<File> reportFiles, List<String> include, List<String> exclude) throws SAXException, IOException, ParserConfigurationException {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder builder = factory.newDocumentBuilder();
-
+    private List<SbtDependencyModule> makeModuleAggregate(List<File> reportFiles, List<String> include, List<String> exclude, @Nullable ExecutorService executorService)
+        throws IOException, XMLStreamException, InterruptedException {
         SbtReportParser parser = new SbtReportParser();
         SbtDependencyResolver resolver = new SbtDependencyResolver(externalIdFactory);
         ExcludedIncludedWildcardFilter filter = ExcludedIncludedWildcardFilter.fromCollections(exclude, include);
         SbtModuleAggregator aggregator = new SbtModuleAggregator();
 
         List<SbtDependencyModule> modules = new ArrayList<>();
-        for (File reportFile : reportFiles) {
-            Document xml = builder.parse(reportFile);
-            logger.debug(String.format("Parsing SBT report file: %s", reportFile.getCanonicalPath()));
-            SbtReport report = parser.parseReportFromXml(xml);
-            SbtDependencyModule tree = resolver.resolveReport(report);
-            modules.add(tree);
+        if (executorService == null) {
+            for (File reportFile : reportFiles) {
+                modules.add(parseReportFile(parser, resolver, reportFile));
+            }
+        } else {
+            // Modules are collected in the order of the report files so the aggregate does not depend on which report finished first.
+            List<Future<SbtDependencyModule>> futures = new ArrayList<>();
+            for (File reportFile : reportFiles) {
+                futures.add(executorService.submit(() -> parseReportFile(parser, resolver, reportFile)));
+            }
+            for (Future<SbtDependencyModule> future : futures) {
+                modules.add(ExecutorUtil.getUnwrapped(future, XMLStreamException.class, IOException.class, IOException::new));
+            }
         }
 
         List<SbtDependencyModule> includedModules = modules.stream().filter(module -> filter.shouldInclude(module.getConfiguration())).collect(Collectors.toList());
@@ -269,4 +291,13 @@ public class SbtResolutionCacheExtractor {
 
         return aggregator.aggregateModules(includedModules);
     }
+
+    private SbtDependencyModule parseReportFile(SbtReportParser parser, SbtDependencyResolver resolver, File reportFile) throws IOException, XMLStreamException {
+        logger.debug(String.format("Parsing SBT report file: %s", reportFile.getCanonicalPath()));
+        SbtReport report;
+        try (InputStream reportInputStream = FileUtils.openInputStream(reportFile)) {
+            report = parser.parseReport(reportInputStream);
+        }
+        return resolver.resolveReport(report);
+    }
 }
@@ -22,18 +22,23 @@
  */
 package com.synopsys.integration.detectable.detectables.sbt.parse;
 
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import com.synopsys.integration.detectable.detectables.sbt.model.SbtCaller;
 import com.synopsys.integration.detectable.detectables.sbt.model.SbtModule;
 import com.synopsys.integration.detectable.detectables.sbt.model.SbtReport;
 import com.synopsys.integration.detectable.detectables.sbt.model.SbtRevision;
-import com.synopsys.integration.detectable.util.XmlUtil;
 
+// Reads the report as a stream of elements, so no document tree is built for reports that can be many megabytes.
 public class SbtReportParser {
     private static final String IVY_REPORT_NODE_KEY = "ivy-report";
     private static final String INFO_NODE_KEY = "info";
@@ -46,46 +51,85 @@ public class SbtReportParser {
     private static final String CALLER_NODE_KEY = "caller";
     private static final String CALLER_REVISION_NODE_KEY = "callerrev";
 
-    public SbtReport parseReportFromXml(final Document xmlReport) {
-        final Node ivyReport = XmlUtil.getNode(IVY_REPORT_NODE_KEY, xmlReport);
-        final Node infoNode = XmlUtil.getNode(INFO_NODE_KEY, ivyReport);
-        final Node dependenciesNode = XmlUtil.getNode(DEPENDENCIES_NODE_KEY, ivyReport);
-        final List<Node> xmlModules = XmlUtil.getNodeList(MODULE_NODE_KEY, dependenciesNode);
-
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, infoNode);
-        final String module = XmlUtil.getAttribute(MODULE_NODE_KEY, infoNode);
-        final String revision = XmlUtil.getAttribute(REVISION_NODE_KEY, infoNode);
-        final String configuration = XmlUtil.getAttribute(CONFIGURATION_NODE_KEY, infoNode);
-        final List<SbtModule> dependencies = xmlModules.stream().map(this::createModule).collect(Collectors.toList());
-
-        return new SbtReport(organisation, module, revision, configuration, dependencies);
-    }
-
-    private SbtModule createModule(final Node xmlModule) {
-        final List<Node> xmlRevisions = XmlUtil.getNodeList(REVISION_NODE_KEY, xmlModule);
-
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlModule);
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, xmlModule);
-        final List<SbtRevision> revisions = xmlRevisions.stream().map(this::createRevision).collect(Collectors.toList());
-
-        return new SbtModule(organisation, name, revisions);
+    // Factories are not guaranteed to be thread safe, and reports are parsed concurrently.
+    private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY = ThreadLocal.withInitial(() -> {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    });
+
+    public SbtReport parseReport(final InputStream reportInputStream) throws XMLStreamException {
+        final XMLStreamReader reader = XML_INPUT_FACTORY.get().createXMLStreamReader(reportInputStream);
+        try {
+            return parseReport(reader);
+        } finally {
+            reader.close();
+        }
     }
 
-    private SbtRevision createRevision(final Node xmlRevision) {
-        final List<Node> xmlCallers = XmlUtil.getNodeList(CALLER_NODE_KEY, xmlRevision);
-
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlRevision);
-        final List<SbtCaller> callers = xmlCallers.stream().map(this::createCaller).collect(Collectors.toList());
+    // Only elements at the same positions the ivy report format defines them are read: ivy-report/info, ivy-report/dependencies/module/revision/caller.
+    private SbtReport parseReport(final XMLStreamReader reader) throws XMLStreamException {
+        final Deque<String> path = new ArrayDeque<>();
+        String organisation = null;
+        String module = null;
+        String revision = null;
+        String configuration = null;
+        boolean foundInfo = false;
+
+        final List<SbtModule> dependencies = new ArrayList<>();
+        String moduleOrganisation = null;
+        String moduleName = null;
+        List<SbtRevision> moduleRevisions = null;
+        String revisionName = null;
+        List<SbtCaller> revisionCallers = null;
+
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final String elementName = reader.getLocalName();
+                final String parentName = path.peek();
+                final int depth = path.size();
+                if (depth == 1 && INFO_NODE_KEY.equals(elementName) && IVY_REPORT_NODE_KEY.equals(parentName) && !foundInfo) {
+                    organisation = attribute(reader, ORGANISATION_NODE_KEY);
+                    module = attribute(reader, MODULE_NODE_KEY);
+                    revision = attribute(reader, REVISION_NODE_KEY);
+                    configuration = attribute(reader, CONFIGURATION_NODE_KEY);
+                    foundInfo = true;
+                } else if (depth == 2 && MODULE_NODE_KEY.equals(elementName) && DEPENDENCIES_NODE_KEY.equals(parentName)) {
+                    moduleOrganisation = attribute(reader, ORGANISATION_NODE_KEY);
+                    moduleName = attribute(reader, NAME_NODE_KEY);
+                    moduleRevisions = new ArrayList<>();
+                } else if (depth == 3 && REVISION_NODE_KEY.equals(elementName) && MODULE_NODE_KEY.equals(parentName)) {
+                    revisionName = attribute(reader, NAME_NODE_KEY);
+                    revisionCallers = new ArrayList<>();
+                } else if (depth == 4 && CALLER_NODE_KEY.equals(elementName) && REVISION_NODE_KEY.equals(parentName)) {
+                    revisionCallers.add(new SbtCaller(attribute(reader, ORGANISATION_NODE_KEY), attribute(reader, NAME_NODE_KEY), attribute(reader, CALLER_REVISION_NODE_KEY)));
+                }
+                path.push(elementName);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                path.pop();
+                final String elementName = reader.getLocalName();
+                final int depth = path.size();
+                if (depth == 3 && REVISION_NODE_KEY.equals(elementName) && revisionCallers != null) {
+                    moduleRevisions.add(new SbtRevision(revisionName, revisionCallers));
+                    revisionCallers = null;
+                } else if (depth == 2 && MODULE_NODE_KEY.equals(elementName) && moduleRevisions != null) {
+                    dependencies.add(new SbtModule(moduleOrganisation, moduleName, moduleRevisions));
+                    moduleRevisions = null;
+                }
+            }
+        }
+
+        if (!foundInfo) {
+            throw new XMLStreamException(String.format("The report did not contain an %s element with an %s element.", IVY_REPORT_NODE_KEY, INFO_NODE_KEY));
+        }
 
-        return new SbtRevision(name, callers);
+        return new SbtReport(organisation, module, revision, configuration, dependencies);
     }
 
-    private SbtCaller createCaller(final Node xmlCaller) {
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, xmlCaller);
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlCaller);
-        final String revision = XmlUtil.getAttribute(CALLER_REVISION_NODE_KEY, xmlCaller);
-
-        return new SbtCaller(organisation, name, revision);
+    private String attribute(final XMLStreamReader reader, final String key) {
+        return reader.getAttributeValue(null, key);
     }
 
 }
@@ -49,8 +49,16 @@ public class YarnPackager {
     }
 
     public YarnResult generateYarnResult(String packageJsonText, List<String> yarnLockLines, String yarnLockFilePath, List<NameVersion> externalDependencies) {
+        return generateYarnResult(packageJsonText, parseYarnLock(yarnLockLines), yarnLockFilePath, externalDependencies);
+    }
+
+    // The parsed yarn lock is only read when generating results, so it can be shared between several package json files.
+    public YarnLock parseYarnLock(List<String> yarnLockLines) {
+        return yarnLockParser.parseYarnLock(yarnLockLines);
+    }
+
+    public YarnResult generateYarnResult(String packageJsonText, YarnLock yarnLock, String yarnLockFilePath, List<NameVersion> externalDependencies) {
         PackageJson packageJson = gson.fromJson(packageJsonText, PackageJson.class);
-        YarnLock yarnLock = yarnLockParser.parseYarnLock(yarnLockLines);
         YarnLockResult yarnLockResult = new YarnLockResult(packageJson, yarnLockFilePath, yarnLock);
 
         try {
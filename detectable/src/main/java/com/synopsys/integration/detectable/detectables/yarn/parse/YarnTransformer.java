@@ -22,6 +22,7 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn.parse;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -68,8 +69,9 @@ public class YarnTransformer {
                 }
             }
         }
+        Map<String, NameVersion> externalDependenciesByName = indexExternalDependencies(externalDependencies);
         return graphBuilder.build((dependencyId, lazyDependencyInfo) -> {
-            Optional<NameVersion> externalDependency = externalDependencies.stream().filter(it -> it.getName().equals(lazyDependencyInfo.getName())).findFirst();
+            Optional<NameVersion> externalDependency = Optional.ofNullable(externalDependenciesByName.get(lazyDependencyInfo.getName()));
             Optional<ExternalId> externalId = externalDependency.map(it -> externalIdFactory.createNameVersionExternalId(Forge.NPMJS, it.getName(), it.getVersion()));
 
             if (externalId.isPresent()) {
@@ -92,4 +94,13 @@ public class YarnTransformer {
             }
         }
     }
+
+    // Keeps the first external dependency with each name, matching the order the list was searched in before it was indexed.
+    private Map<String, NameVersion> indexExternalDependencies(List<NameVersion> externalDependencies) {
+        Map<String, NameVersion> externalDependenciesByName = new HashMap<>();
+        for (NameVersion externalDependency : externalDependencies) {
+            externalDependenciesByName.putIfAbsent(externalDependency.getName(), externalDependency);
+        }
+        return externalDependenciesByName;
+    }
 }
@@ -28,6 +28,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -64,4 +65,22 @@ public class IntermediateStepExecuteBazelOnEachTest {
         assertEquals(1, output.size());
         assertEquals("@org_apache_commons_commons_io//jar:jar\n@com_google_guava_guava//jar:jar", output.get(0));
     }
+
+    @Test
+    public void testBatchedInput() throws IntegrationException {
+        BazelCommandExecutor bazelCommandExecutor = Mockito.mock(BazelCommandExecutor.class);
+        List<String> firstBatchArgs = Arrays.asList("query", "kind(maven_jar, set(//external:a //external:b))", "--output", "xml");
+        List<String> secondBatchArgs = Arrays.asList("query", "kind(maven_jar, set(//external:c //external:d))", "--output", "xml");
+        List<String> lastItemArgs = Arrays.asList("query", "kind(maven_jar, //external:e)", "--output", "xml");
+        Mockito.when(bazelCommandExecutor.executeToString(firstBatchArgs)).thenReturn(Optional.of("ab"));
+        Mockito.when(bazelCommandExecutor.executeToString(secondBatchArgs)).thenReturn(Optional.of("cd"));
+        Mockito.when(bazelCommandExecutor.executeToString(lastItemArgs)).thenReturn(Optional.of("e"));
+        BazelVariableSubstitutor bazelVariableSubstitutor = new BazelVariableSubstitutor("//:ProjectRunner", null);
+        IntermediateStep executor = new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor, Arrays.asList("query", "kind(maven_jar, ${input.item})", "--output", "xml"), true, 2);
+        List<String> input = Arrays.asList("//external:a", "//external:b", "//external:c", "//external:d", "//external:e");
+
+        List<String> output = executor.process(input);
+
+        assertEquals(Arrays.asList("ab", "cd", "e"), output);
+    }
 }
@@ -0,0 +1,132 @@
+package com.synopsys.integration.detectable.detectables.bitbake.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectables.bitbake.BitbakeExtractor;
+import com.synopsys.integration.detectable.detectables.bitbake.BitbakeRecipesToLayerMapConverter;
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeGraphTransformer;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeRecipesParser;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.GraphParserTransformer;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.util.graph.NameVersionGraphAssert;
+import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
+import com.synopsys.integration.executable.ExecutableRunnerException;
+
+@UnitTest
+public class BitbakeExtractorTest {
+    private static final String SHOW_RECIPES_COMMAND = "bitbake-layers show-recipes";
+    private static final List<String> PACKAGE_NAMES = Arrays.asList("image-a", "image-b", "image-c");
+
+    private Path directoryPath;
+    private File buildEnvScript;
+    private File taskDependsFile;
+
+    @BeforeEach
+    public void createDirectories() throws IOException {
+        directoryPath = Files.createTempDirectory("BitbakeExtractorTest");
+        buildEnvScript = new File(directoryPath.toFile(), "oe-init-build-env");
+        buildEnvScript.createNewFile();
+        taskDependsFile = new File(directoryPath.toFile(), "task-depends.dot");
+        new File(directoryPath.toFile(), "output").mkdir();
+    }
+
+    @AfterEach
+    public void deleteDirectories() throws IOException {
+        FileUtils.deleteDirectory(directoryPath.toFile());
+    }
+
+    @Test
+    public void catalogIsReadOnceAndCodeLocationsKeepPackageOrder() throws ExecutableRunnerException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.execute(ArgumentMatchers.any(Executable.class))).thenAnswer(invocation -> runBitbake(invocation.getArgument(0)));
+
+        FileFinder fileFinder = Mockito.mock(FileFinder.class);
+        Mockito.when(fileFinder.findFile(ArgumentMatchers.any(File.class), ArgumentMatchers.eq("task-depends.dot"), ArgumentMatchers.anyInt())).thenReturn(taskDependsFile);
+
+        // The first graph is not transformed until the last one is, so its code location finishes last.
+        CountDownLatch lastGraphTransformed = new CountDownLatch(1);
+        BitbakeGraphTransformer bitbakeGraphTransformer = Mockito.spy(new BitbakeGraphTransformer(new ExternalIdFactory()));
+        Mockito.doAnswer(invocation -> {
+            String packageName = invocation.<BitbakeGraph>getArgument(0).getNodes().get(0).getName();
+            if (packageName.equals(PACKAGE_NAMES.get(0))) {
+                lastGraphTransformed.await(5, TimeUnit.SECONDS);
+            }
+            Object dependencyGraph = invocation.callRealMethod();
+            if (packageName.equals(PACKAGE_NAMES.get(PACKAGE_NAMES.size() - 1))) {
+                lastGraphTransformed.countDown();
+            }
+            return dependencyGraph;
+        }).when(bitbakeGraphTransformer).transform(ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        BitbakeExtractor bitbakeExtractor = new BitbakeExtractor(executableRunner, fileFinder, new GraphParserTransformer(), bitbakeGraphTransformer, new BitbakeRecipesParser(),
+            new BitbakeRecipesToLayerMapConverter());
+        Extraction extraction = bitbakeExtractor.extract(directoryPath.toFile(), buildEnvScript, Collections.emptyList(), PACKAGE_NAMES, 1, ExecutableTarget.forCommand("bash"),
+            new File(directoryPath.toFile(), "output"), PACKAGE_NAMES.size());
+
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(ArgumentMatchers.<Executable>argThat(executable -> SHOW_RECIPES_COMMAND.equals(getBitbakeCommand(executable))));
+        assertEquals(0, lastGraphTransformed.getCount());
+        assertEquals(Extraction.ExtractionResultType.SUCCESS, extraction.getResult());
+        assertEquals(PACKAGE_NAMES.size(), extraction.getCodeLocations().size());
+
+        ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        for (int i = 0; i < PACKAGE_NAMES.size(); i++) {
+            CodeLocation codeLocation = extraction.getCodeLocations().get(i);
+            NameVersionGraphAssert graphAssert = new NameVersionGraphAssert(Forge.YOCTO, codeLocation.getDependencyGraph());
+            graphAssert.hasRootSize(1);
+            graphAssert.hasRootDependency(externalIdFactory.createYoctoExternalId("meta", PACKAGE_NAMES.get(i), "1.0-r0"));
+        }
+    }
+
+    // Every package overwrites the same graph file, like bitbake does in the build directory.
+    private ExecutableOutput runBitbake(Executable executable) throws IOException {
+        String bitbakeCommand = getBitbakeCommand(executable);
+        if (SHOW_RECIPES_COMMAND.equals(bitbakeCommand)) {
+            StringBuilder recipes = new StringBuilder("=== Available recipes: ===");
+            for (String packageName : PACKAGE_NAMES) {
+                recipes.append(String.format("%n%s:%n  meta                 1.0", packageName));
+            }
+            return new ExecutableOutput(0, recipes.toString(), "");
+        }
+
+        String packageName = StringUtils.removeStart(bitbakeCommand, "bitbake -g ");
+        FileUtils.writeLines(taskDependsFile, StandardCharsets.UTF_8.name(), Arrays.asList(
+            "digraph depends {",
+            String.format("\"%s.do_build\" [label = \"%s do_build\\n:1.0-r0\\n/poky/meta/recipes-core/%s_1.0.bb\"]", packageName, packageName, packageName),
+            "}"
+        ));
+        return new ExecutableOutput(0, "", "");
+    }
+
+    private String getBitbakeCommand(Executable executable) {
+        List<String> commandWithArguments = executable.getCommandWithArguments();
+        return StringUtils.substringAfterLast(commandWithArguments.get(commandWithArguments.size() - 1), "; ");
+    }
+}
@@ -1,20 +1,31 @@
 package com.synopsys.integration.detectable.detectables.clang.unit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.google.gson.Gson;
+import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManager;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerInfo;
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerInfoBuilder;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerInfoFactory;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerRunner;
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageOwnershipCache;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetails;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetailsResult;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver.ApkArchitectureResolver;
@@ -100,6 +111,160 @@ public class ClangPackageManagerRunnerTest {
         testNonPkgOwnedIncludeFile(packageManagerInfo, packageResolver, pkgOwnerPattern, null);
     }
 
+    @Test
+    public void testDpkgBatchedOwnerQuery() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().dpkg();
+        ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver()));
+        File workingDirectory = new File("test");
+        File ownedFile = new File("/usr/include/X11/Intrinsic.h");
+        File unownedFile = new File("/opt/local/include/local.h");
+        Set<File> dependencyFiles = new LinkedHashSet<>(Arrays.asList(dependencyFile, ownedFile, unownedFile));
+
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.execute(workingDirectory, "getconf", "ARG_MAX")).thenReturn(new ExecutableOutput(0, "2097152\n", ""));
+
+        List<String> getOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        dependencyFiles.forEach(file -> getOwnerArgs.add(file.getAbsolutePath()));
+        String ownerOutput = String.format("libxt-dev:amd64: %s\nlibxt-dev:amd64: %s\n", dependencyFile.getAbsolutePath(), ownedFile.getAbsolutePath());
+        String ownerErrorOutput = String.format("dpkg-query: no path found matching pattern %s\n", unownedFile.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getOwnerArgs)).thenReturn(new ExecutableOutput(1, ownerOutput, ownerErrorOutput));
+
+        List<String> getDetailsArgs = new ArrayList<>(packageManagerInfo.getPkgInfoArgs().get());
+        getDetailsArgs.add("libxt-dev");
+        String detailsOutput = "Package: libxt-dev\nArchitecture: amd64\nVersion: 1:1.1.5-1\nStatus: install ok installed\n";
+        Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getDetailsArgs)).thenReturn(new ExecutableOutput(0, detailsOutput, ""));
+
+        PackageDetailsResult result = new ClangPackageManagerRunner().getAllPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFiles, 1);
+
+        assertEquals(1, result.getFoundPackages().size());
+        assertEquals("libxt-dev", result.getFoundPackages().iterator().next().getPackageName());
+        assertEquals(1, result.getUnRecognizedDependencyFiles().size());
+        assertEquals(unownedFile, result.getUnRecognizedDependencyFiles().iterator().next());
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getOwnerArgs);
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getDetailsArgs);
+    }
+
+    @Test
+    public void testApkBatchedOwnerQueryWithRewrittenPathQueriesIndividually() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().apk();
+        ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, new ApkPackageManagerResolver(new ApkArchitectureResolver()));
+        File workingDirectory = new File("test");
+        File linkedFile = new File("/usr/include/linked.h");
+        Set<File> dependencyFiles = new LinkedHashSet<>(Arrays.asList(dependencyFile, linkedFile));
+
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.execute(workingDirectory, "getconf", "ARG_MAX")).thenReturn(new ExecutableOutput(0, "2097152\n", ""));
+        Mockito.when(executableRunner.execute(workingDirectory, "apk", Arrays.asList("info", "--print-arch"))).thenReturn(new ExecutableOutput(0, "x86_64\n", ""));
+
+        // The combined query reports the symlink by its target, so neither line can be trusted to belong to the queried link.
+        List<String> getOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        dependencyFiles.forEach(file -> getOwnerArgs.add(file.getAbsolutePath()));
+        String batchedOutput = String.format("%s is owned by libxt-dev-1.1.5-r1\n/usr/include/target.h is owned by musl-dev-1.1.18-r3\n", dependencyFile.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, "apk", getOwnerArgs)).thenReturn(new ExecutableOutput(0, batchedOutput, ""));
+
+        List<String> getCoreOwnerArgs = Arrays.asList("info", "--who-owns", dependencyFile.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, "apk", getCoreOwnerArgs))
+            .thenReturn(new ExecutableOutput(0, String.format("%s is owned by libxt-dev-1.1.5-r1\n", dependencyFile.getAbsolutePath()), ""));
+        List<String> getLinkedOwnerArgs = Arrays.asList("info", "--who-owns", linkedFile.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, "apk", getLinkedOwnerArgs)).thenReturn(new ExecutableOutput(0, "/usr/include/target.h is owned by musl-dev-1.1.18-r3\n", ""));
+
+        PackageDetailsResult result = new ClangPackageManagerRunner().getAllPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFiles, 1);
+
+        assertEquals(2, result.getFoundPackages().size());
+        assertEquals(0, result.getUnRecognizedDependencyFiles().size());
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, "apk", getOwnerArgs);
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, "apk", getCoreOwnerArgs);
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, "apk", getLinkedOwnerArgs);
+    }
+
+    @Test
+    public void testOwnershipCacheSkipsOwnerQuery() throws ExecutableRunnerException, IOException {
+        Path tempDirectory = Files.createTempDirectory("ClangPackageOwnershipCache");
+        try {
+            File databaseFile = Files.write(tempDirectory.resolve("status"), "Package: libxt-dev\n".getBytes()).toFile();
+            File cachedFile = Files.write(tempDirectory.resolve("Intrinsic.h"), "#define INTRINSIC\n".getBytes()).toFile();
+            File cacheDirectory = tempDirectory.resolve("cache").toFile();
+            ClangPackageManagerInfo packageManagerInfo = createDpkgPackageManagerInfo(databaseFile);
+            ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver()));
+            File workingDirectory = new File("test");
+            Set<File> dependencyFiles = new LinkedHashSet<>(Arrays.asList(cachedFile));
+
+            String detailsOutput = "Package: libxt-dev\nArchitecture: amd64\nVersion: 1:1.1.5-1\nStatus: install ok installed\n";
+            DetectableExecutableRunner executableRunner = mockDpkgExecutableRunner(workingDirectory, cachedFile, new ExecutableOutput(0, detailsOutput, ""));
+
+            ClangPackageOwnershipCache firstRunCache = new ClangPackageOwnershipCache(new Gson(), cacheDirectory, packageManagerInfo);
+            firstRunCache.load();
+            new ClangPackageManagerRunner().getAllPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFiles, 1, firstRunCache);
+            firstRunCache.save();
+
+            DetectableExecutableRunner cachedExecutableRunner = Mockito.mock(DetectableExecutableRunner.class);
+            ClangPackageOwnershipCache secondRunCache = new ClangPackageOwnershipCache(new Gson(), cacheDirectory, packageManagerInfo);
+            secondRunCache.load();
+            PackageDetailsResult result = new ClangPackageManagerRunner().getAllPackages(currentPackageManager, workingDirectory, cachedExecutableRunner, dependencyFiles, 1, secondRunCache);
+
+            assertEquals(1, result.getFoundPackages().size());
+            PackageDetails packageDetails = result.getFoundPackages().iterator().next();
+            assertEquals("libxt-dev", packageDetails.getPackageName());
+            assertEquals("1:1.1.5-1", packageDetails.getPackageVersion());
+            assertEquals("amd64", packageDetails.getPackageArch());
+            Mockito.verifyZeroInteractions(cachedExecutableRunner);
+        } finally {
+            FileUtils.deleteDirectory(tempDirectory.toFile());
+        }
+    }
+
+    @Test
+    public void testOwnershipCacheSkipsFailedDetailsQuery() throws ExecutableRunnerException, IOException {
+        Path tempDirectory = Files.createTempDirectory("ClangPackageOwnershipCache");
+        try {
+            File databaseFile = Files.write(tempDirectory.resolve("status"), "Package: libxt-dev\n".getBytes()).toFile();
+            File lockedFile = Files.write(tempDirectory.resolve("Intrinsic.h"), "#define INTRINSIC\n".getBytes()).toFile();
+            File cacheDirectory = tempDirectory.resolve("cache").toFile();
+            ClangPackageManagerInfo packageManagerInfo = createDpkgPackageManagerInfo(databaseFile);
+            ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver()));
+            File workingDirectory = new File("test");
+            Set<File> dependencyFiles = new LinkedHashSet<>(Arrays.asList(lockedFile));
+
+            DetectableExecutableRunner executableRunner = mockDpkgExecutableRunner(workingDirectory, lockedFile, new ExecutableOutput(2, "", "dpkg-query: error: database is locked"));
+
+            ClangPackageOwnershipCache firstRunCache = new ClangPackageOwnershipCache(new Gson(), cacheDirectory, packageManagerInfo);
+            firstRunCache.load();
+            PackageDetailsResult result = new ClangPackageManagerRunner().getAllPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFiles, 1, firstRunCache);
+            firstRunCache.save();
+
+            ClangPackageOwnershipCache secondRunCache = new ClangPackageOwnershipCache(new Gson(), cacheDirectory, packageManagerInfo);
+            secondRunCache.load();
+
+            assertEquals(0, result.getFoundPackages().size());
+            assertEquals(0, result.getUnRecognizedDependencyFiles().size());
+            assertFalse(firstRunCache.find(lockedFile).isPresent());
+            assertFalse(secondRunCache.find(lockedFile).isPresent());
+        } finally {
+            FileUtils.deleteDirectory(tempDirectory.toFile());
+        }
+    }
+
+    private ClangPackageManagerInfo createDpkgPackageManagerInfo(File databaseFile) {
+        ClangPackageManagerInfoBuilder builder = new ClangPackageManagerInfoBuilder();
+        builder.setName("dpkg");
+        builder.setCmd("dpkg");
+        builder.setForge(Forge.UBUNTU, Forge.DEBIAN);
+        builder.setGetOwnerArguments("-S");
+        builder.setPackageInfoArguments("-s");
+        builder.setPackageDatabasePaths(databaseFile.getAbsolutePath());
+        return builder.build();
+    }
+
+    // Reports libxt-dev as the owner of the given file and answers its details query with the given output.
+    private DetectableExecutableRunner mockDpkgExecutableRunner(File workingDirectory, File ownedFile, ExecutableOutput detailsOutput) throws ExecutableRunnerException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.execute(workingDirectory, "getconf", "ARG_MAX")).thenReturn(new ExecutableOutput(0, "2097152\n", ""));
+        String ownerOutput = String.format("libxt-dev:amd64: %s\n", ownedFile.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, "dpkg", Arrays.asList("-S", ownedFile.getAbsolutePath()))).thenReturn(new ExecutableOutput(0, ownerOutput, ""));
+        Mockito.when(executableRunner.execute(workingDirectory, "dpkg", Arrays.asList("-s", "libxt-dev"))).thenReturn(detailsOutput);
+        return executableRunner;
+    }
+
     private void testNonPkgOwnedIncludeFile(ClangPackageManagerInfo packageManagerInfo, ClangPackageManagerResolver packageResolver,
         String pkgMgrOwnerQueryResultPattern, String pkgMgrDetailsQueryResultPattern) throws ExecutableRunnerException {
 
@@ -23,14 +23,18 @@
 package com.synopsys.integration.detectable.detectables.clang.unit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerInfo;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerInfoFactory;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetails;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver.DpkgPackageManagerResolver;
@@ -146,4 +150,42 @@ public class DpkgPackageManagerTest {
         assertEquals("amd64", pkgs.get(0).getPackageArch());
     }
 
+    @Test
+    public void testFailedDetailsQueryIsNotCached() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = new ClangPackageManagerInfoFactory().dpkg();
+        List<String> detailsArgs = Arrays.asList("-s", "login");
+        String detailsOutput = "Package: login\nStatus: install ok installed\nArchitecture: amd64\nVersion: 1:4.5-1ubuntu1\n";
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.execute(null, "dpkg", detailsArgs))
+            .thenReturn(new ExecutableOutput(2, "", "dpkg-query: error: database is locked"))
+            .thenReturn(new ExecutableOutput(0, detailsOutput, ""));
+
+        DpkgPkgDetailsResolver dpkgVersionResolver = new DpkgPkgDetailsResolver();
+        Optional<PackageDetails> failedDetails = dpkgVersionResolver.resolvePackageDetails(packageManagerInfo, executableRunner, null, "login");
+        Optional<PackageDetails> retriedDetails = dpkgVersionResolver.resolvePackageDetails(packageManagerInfo, executableRunner, null, "login");
+        Optional<PackageDetails> cachedDetails = dpkgVersionResolver.resolvePackageDetails(packageManagerInfo, executableRunner, null, "login");
+
+        assertFalse(failedDetails.isPresent());
+        assertTrue(retriedDetails.isPresent());
+        assertEquals("1:4.5-1ubuntu1", retriedDetails.get().getPackageVersion());
+        assertEquals(retriedDetails, cachedDetails);
+        Mockito.verify(executableRunner, Mockito.times(2)).execute(null, "dpkg", detailsArgs);
+    }
+
+    @Test
+    public void testFailedDetailsQueryKeepsOtherOwners() throws ExecutableRunnerException, NotOwnedByAnyPkgException {
+        String pkgMgrOwnedByOutput = "diversion by login from: /usr/include/stdlib.h\nlibc6-dev:amd64: /usr/include/stdlib.h\n";
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.execute(null, "dpkg", Arrays.asList("-s", "diversion")))
+            .thenReturn(new ExecutableOutput(1, "", "dpkg-query: package 'diversion' is not installed and no information is available"));
+        Mockito.when(executableRunner.execute(null, "dpkg", Arrays.asList("-s", "libc6-dev")))
+            .thenReturn(new ExecutableOutput(0, "Package: libc6-dev\nStatus: install ok installed\nArchitecture: amd64\nVersion: 2.27-3ubuntu1\n", ""));
+
+        DpkgPackageManagerResolver pkgMgr = new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver());
+        List<PackageDetails> pkgs = pkgMgr.resolvePackages(new ClangPackageManagerInfoFactory().dpkg(), executableRunner, null, pkgMgrOwnedByOutput);
+
+        assertEquals(1, pkgs.size());
+        assertEquals("libc6-dev", pkgs.get(0).getPackageName());
+        assertEquals("2.27-3ubuntu1", pkgs.get(0).getPackageVersion());
+    }
 }
@@ -2,16 +2,19 @@ package com.synopsys.integration.detectable.detectables.go.unit;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.google.gson.GsonBuilder;
+import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.ExecutableUtils;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliExtractor;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCommandExecutor;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModGraphParser;
@@ -19,6 +22,8 @@ import com.synopsys.integration.detectable.detectables.go.gomod.GoModGraphTransf
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModWhyParser;
 import com.synopsys.integration.detectable.detectables.go.gomod.ReplacementDataExtractor;
 import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.util.graph.NameVersionGraphAssert;
+import com.synopsys.integration.executable.Executable;
 import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
@@ -54,6 +59,42 @@ public class GoModCliExtractorTest {
         Assertions.assertTrue(wasSuccessful);
     }
 
+    @Test
+    public void concurrentCommandsParseTheStreamedGraphTest() throws ExecutableRunnerException, ExecutableFailedException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        File directory = new File("");
+        ExecutableTarget goExe = ExecutableTarget.forFile(new File(""));
+
+        Mockito.when(executableRunner.execute(withArguments("list", "-m"))).thenReturn(goListOutput());
+        Mockito.when(executableRunner.execute(withArguments("version"))).thenReturn(new ExecutableOutput(0, "go version go1.13.4 linux/amd64", ""));
+        Mockito.when(executableRunner.execute(withArguments("list", "-m", "-u", "-json", "all"))).thenReturn(goListJsonOutput());
+        Mockito.when(executableRunner.execute(withArguments("mod", "why", "-m", "all"))).thenReturn(new ExecutableOutput(0, "", ""));
+        Mockito.when(executableRunner.executeSuccessfully(withArguments("mod", "graph"), Mockito.any())).thenAnswer(invocation -> {
+            Consumer<String> lineConsumer = invocation.getArgument(1);
+            lineConsumer.accept("git.daimler.com/c445/t1 github.com/codegangsta/negroni@v1.0.0");
+            lineConsumer.accept("github.com/codegangsta/negroni@v1.0.0 github.com/sirupsen/logrus@v1.1.1");
+            return new ExecutableOutput(0, "", "");
+        });
+
+        GoModGraphParser goModGraphParser = new GoModGraphParser(new ExternalIdFactory());
+        GoModCommandExecutor goModCommandExecutor = new GoModCommandExecutor(executableRunner);
+        GoModGraphTransformer goModGraphTransformer = new GoModGraphTransformer(new ReplacementDataExtractor(new GsonBuilder().create()));
+        GoModCliExtractor goModCliExtractor = new GoModCliExtractor(goModCommandExecutor, goModGraphParser, goModGraphTransformer, new GoModWhyParser());
+
+        Extraction extraction = goModCliExtractor.extract(directory, goExe, true);
+
+        Assertions.assertTrue(extraction.isSuccess());
+        Assertions.assertEquals(1, extraction.getCodeLocations().size());
+        NameVersionGraphAssert graphAssert = new NameVersionGraphAssert(Forge.GOLANG, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(1);
+        graphAssert.hasRootDependency("github.com/codegangsta/negroni", "v2.0.0");
+        graphAssert.hasParentChildRelationship("github.com/codegangsta/negroni", "v2.0.0", "github.com/sirupsen/logrus", "v2.0.0");
+    }
+
+    private Executable withArguments(String... arguments) {
+        return Mockito.argThat(executable -> executable != null && executable.getCommandWithArguments().subList(1, executable.getCommandWithArguments().size()).equals(Arrays.asList(arguments)));
+    }
+
     private ExecutableOutput goListOutput() {
         String standardOutput = String.join("\n", Arrays.asList(
             "git.daimler.com/c445/t1"
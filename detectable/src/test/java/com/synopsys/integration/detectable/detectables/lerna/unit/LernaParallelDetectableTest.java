@@ -0,0 +1,30 @@
+package com.synopsys.integration.detectable.detectables.lerna.unit;
+
+import java.io.IOException;
+
+import org.jetbrains.annotations.NotNull;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.detectables.lerna.LernaOptions;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmLockfileOptions;
+import com.synopsys.integration.detectable.detectables.yarn.YarnLockOptions;
+
+// Extracts the same project with packages extracted concurrently, the code locations must come back in package order.
+public class LernaParallelDetectableTest extends LernaDetectableTest {
+    public LernaParallelDetectableTest() throws IOException {
+        super();
+    }
+
+    @NotNull
+    @Override
+    public Detectable create(@NotNull DetectableEnvironment environment) {
+        YarnLockOptions yarnLockOptions = Mockito.mock(YarnLockOptions.class);
+        NpmLockfileOptions npmLockFileOptions = new NpmLockfileOptions(true);
+        LernaOptions lernaOptions = new LernaOptions(false, 4);
+
+        return detectableFactory.createLernaDetectable(environment, () -> ExecutableTarget.forCommand("lerna"), yarnLockOptions, npmLockFileOptions, lernaOptions);
+    }
+}
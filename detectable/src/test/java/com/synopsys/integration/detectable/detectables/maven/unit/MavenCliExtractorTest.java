@@ -0,0 +1,123 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.maven.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCliExtractor;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCliExtractorOptions;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
+
+@UnitTest
+public class MavenCliExtractorTest {
+    private Path sourceDirectory;
+    private Path outputDirectory;
+
+    @BeforeEach
+    public void createDirectories() throws IOException {
+        sourceDirectory = Files.createTempDirectory("MavenCliExtractorTestSource");
+        outputDirectory = Files.createTempDirectory("MavenCliExtractorTestOutput");
+    }
+
+    @AfterEach
+    public void deleteDirectories() throws IOException {
+        FileUtils.deleteDirectory(sourceDirectory.toFile());
+        FileUtils.deleteDirectory(outputDirectory.toFile());
+    }
+
+    @Test
+    public void parallelExtractionReadsModuleTreesFromOutputDirectory() throws ExecutableFailedException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.executeSuccessfully(Mockito.any(Executable.class), Mockito.any())).thenAnswer(invocation -> {
+            Executable executable = invocation.getArgument(0);
+            String outputFile = findArgument(executable.getCommandWithArguments(), "-DoutputFile=");
+            // Maven writes the modules in whatever order they finish, the root module last here.
+            writeModuleTree(outputFile, "false", "com.example", "module-b", "org.apache.commons:commons-text:jar:1.9:compile");
+            writeModuleTree(outputFile, "false", "com.example", "module-a", "org.apache.commons:commons-lang3:jar:3.11:compile");
+            writeModuleTree(outputFile, "true", "com.example", "root", "junit:junit:jar:4.13:compile");
+            return new ExecutableOutput(0, "", "");
+        });
+
+        MavenCliExtractor extractor = new MavenCliExtractor(executableRunner, new MavenCodeLocationPackager(new ExternalIdFactory()));
+        MavenCliExtractorOptions options = new MavenCliExtractorOptions(null, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), 4);
+        Extraction extraction = extractor.extract(sourceDirectory.toFile(), ExecutableTarget.forCommand("mvn"), options, outputDirectory.toFile());
+
+        ArgumentCaptor<Executable> executableCaptor = ArgumentCaptor.forClass(Executable.class);
+        Mockito.verify(executableRunner).executeSuccessfully(executableCaptor.capture(), Mockito.any());
+        List<String> command = executableCaptor.getValue().getCommandWithArguments();
+        assertTrue(command.contains("-T4"));
+        File moduleTreeFile = new File(findArgument(command, "-DoutputFile="));
+        assertTrue(moduleTreeFile.isAbsolute());
+        assertTrue(moduleTreeFile.toPath().startsWith(outputDirectory));
+
+        assertTrue(extraction.isSuccess());
+        assertEquals("root", extraction.getProjectName());
+        assertEquals(3, extraction.getCodeLocations().size());
+        assertEquals(Optional.of("root"), extraction.getCodeLocations().get(0).getExternalId().map(externalId -> externalId.getName()));
+        assertEquals(Optional.of("module-a"), extraction.getCodeLocations().get(1).getExternalId().map(externalId -> externalId.getName()));
+        assertEquals(Optional.of("module-b"), extraction.getCodeLocations().get(2).getExternalId().map(externalId -> externalId.getName()));
+        assertEquals(0, sourceDirectory.toFile().list().length);
+    }
+
+    private String findArgument(List<String> command, String prefix) {
+        return command.stream()
+                   .filter(argument -> argument.startsWith(prefix))
+                   .map(argument -> argument.substring(prefix.length()))
+                   .findFirst()
+                   .orElseThrow(() -> new AssertionError("Missing argument " + prefix));
+    }
+
+    private void writeModuleTree(String outputFile, String executionRoot, String groupId, String artifactId, String dependency) throws IOException {
+        String moduleTreeFile = outputFile.replace("${project.executionRoot}", executionRoot)
+                                    .replace("${project.groupId}", groupId)
+                                    .replace("${project.artifactId}", artifactId);
+        List<String> moduleTree = Arrays.asList(groupId + ":" + artifactId + ":jar:1.0.0", "\\- " + dependency);
+        Files.write(new File(moduleTreeFile).toPath(), moduleTree, StandardCharsets.UTF_8);
+    }
+}
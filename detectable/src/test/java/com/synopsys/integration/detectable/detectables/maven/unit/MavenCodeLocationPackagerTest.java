@@ -28,13 +28,21 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.annotations.UnitTest;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenParseResult;
 import com.synopsys.integration.detectable.detectables.maven.cli.ScopedDependency;
+import com.synopsys.integration.detectable.util.graph.NameVersionGraphAssert;
 
 @UnitTest
 public class MavenCodeLocationPackagerTest {
@@ -276,4 +284,29 @@ public class MavenCodeLocationPackagerTest {
         final Dependency dependency = mavenCodeLocationPackager.textToDependency(cleanedLine);
         assertEquals("org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:pants (version selected from", dependency.getExternalId().createExternalId());
     }
+
+    @Test
+    public void testExtractModuleCodeLocations() {
+        final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        final MavenCodeLocationPackager mavenCodeLocationPackager = new MavenCodeLocationPackager(externalIdFactory);
+
+        final List<String> moduleTree = Arrays.asList(
+            "com.synopsys:module-a:jar:1.0.0",
+            "+- org.apache.commons:commons-lang3:jar:3.11:compile",
+            "|  \\- org.apache.commons:commons-text:jar:1.9:compile",
+            "\\- junit:junit:jar:4.13:test"
+        );
+        final List<MavenParseResult> results = mavenCodeLocationPackager.extractModuleCodeLocations("/source", moduleTree, Collections.singletonList("test"), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+        assertEquals(1, results.size());
+        assertEquals("module-a", results.get(0).getProjectName());
+        assertEquals("1.0.0", results.get(0).getProjectVersion());
+
+        final NameVersionGraphAssert graphAssert = new NameVersionGraphAssert(Forge.MAVEN, results.get(0).getCodeLocation().getDependencyGraph());
+        final ExternalId lang = externalIdFactory.createMavenExternalId("org.apache.commons", "commons-lang3", "3.11");
+        final ExternalId text = externalIdFactory.createMavenExternalId("org.apache.commons", "commons-text", "1.9");
+        graphAssert.hasRootSize(1);
+        graphAssert.hasRootDependency(lang);
+        graphAssert.hasParentChildRelationship(lang, text);
+    }
 }
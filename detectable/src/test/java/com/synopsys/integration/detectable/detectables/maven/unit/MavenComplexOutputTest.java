@@ -59,4 +59,22 @@ public class MavenComplexOutputTest {
         graphAssert.hasParentChildRelationship(hubCommonRest, integrationCommon);
         graphAssert.hasParentChildRelationship(hubCommon, hubCommonRest);
     }
+
+    @Test
+    public void testStreamedLines() {
+        ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        MavenCodeLocationPackager packager = new MavenCodeLocationPackager(externalIdFactory);
+
+        packager.startCodeLocations("", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        getInput().forEach(packager::parseLine);
+        List<MavenParseResult> results = packager.finishCodeLocations();
+
+        NameVersionGraphAssert graphAssert = new NameVersionGraphAssert(Forge.MAVEN, results.get(0).getCodeLocation().getDependencyGraph());
+        graphAssert.hasRootSize(1);
+
+        ExternalId hubCommon = externalIdFactory.createMavenExternalId("com.blackducksoftware.integration", "hub-common", "13.1.2");
+        ExternalId hubCommonRest = externalIdFactory.createMavenExternalId("com.blackducksoftware.integration", "hub-common-rest", "2.1.3");
+        graphAssert.hasRootDependency(hubCommon);
+        graphAssert.hasParentChildRelationship(hubCommon, hubCommonRest);
+    }
 }
@@ -0,0 +1,110 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.npm.lockfile.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.NpmLockfilePackager;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+import com.synopsys.integration.util.NameVersion;
+
+@UnitTest
+public class NpmLockfilePackagerTest {
+    private static final String LOCK_FILE = "{"
+                                                + "\"name\": \"project\", \"version\": \"1.0.0\", \"dependencies\": {"
+                                                + "  \"parent\": { \"version\": \"1.0.0\", \"requires\": { \"shared\": \"^2.0.0\", \"external\": \"^3.0.0\" },"
+                                                + "    \"dependencies\": { \"shared\": { \"version\": \"2.0.0\" } } },"
+                                                + "  \"sibling\": { \"version\": \"1.0.0\", \"requires\": { \"shared\": \"^1.0.0\" } },"
+                                                + "  \"shared\": { \"version\": \"1.0.0\" }"
+                                                + "} }";
+
+    @Test
+    public void testRequiresResolveNearestDependency() {
+        ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        NpmLockfilePackager packager = new NpmLockfilePackager(new Gson(), externalIdFactory);
+
+        NpmParseResult result = packager.parse(null, LOCK_FILE, true, Collections.singletonList(new NameVersion("external", "3.0.0")));
+
+        ExternalId parent = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "parent", "1.0.0");
+        ExternalId sibling = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "sibling", "1.0.0");
+        ExternalId nestedShared = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "shared", "2.0.0");
+        ExternalId topLevelShared = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "shared", "1.0.0");
+        ExternalId external = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "external", "3.0.0");
+
+        GraphAssert graphAssert = new GraphAssert(Forge.NPMJS, result.getCodeLocation().getDependencyGraph());
+        graphAssert.hasParentChildRelationship(parent, nestedShared);
+        graphAssert.hasParentChildRelationship(parent, external);
+        graphAssert.hasParentChildRelationship(sibling, topLevelShared);
+        graphAssert.hasRelationshipCount(parent, 2);
+        graphAssert.hasRelationshipCount(sibling, 1);
+    }
+
+    @Test
+    public void testStreamedLockFileWithNestedDependenciesBeforeVersion() throws IOException {
+        ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        NpmLockfilePackager packager = new NpmLockfilePackager(new Gson(), externalIdFactory);
+
+        String lockFile = "{"
+                              + "\"requires\": true, \"lockfileVersion\": 1, \"name\": \"project\", \"dependencies\": {"
+                              + "  \"parent\": { \"dependencies\": { \"child\": { \"version\": \"2.0.0\", \"integrity\": \"sha512-abc\" } },"
+                              + "    \"requires\": { \"child\": \"^2.0.0\" }, \"dev\": false, \"version\": \"1.0.0\" }"
+                              + "}, \"version\": \"1.2.3\" }";
+        NpmParseResult result = packager.parse(null, new StringReader(lockFile), false);
+
+        assertEquals("project", result.getProjectName());
+        assertEquals("1.2.3", result.getProjectVersion());
+
+        ExternalId parent = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "parent", "1.0.0");
+        ExternalId child = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "child", "2.0.0");
+        GraphAssert graphAssert = new GraphAssert(Forge.NPMJS, result.getCodeLocation().getDependencyGraph());
+        graphAssert.hasRootDependency(parent);
+        graphAssert.hasParentChildRelationship(parent, child);
+    }
+
+    @Test
+    public void testEmptyDependenciesSectionKeepsExternalRootDependencies() {
+        ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        NpmLockfilePackager packager = new NpmLockfilePackager(new Gson(), externalIdFactory);
+
+        String packageJson = "{ \"name\": \"project\", \"version\": \"1.0.0\", \"dependencies\": { \"external\": \"^3.0.0\" } }";
+        String lockFile = "{ \"name\": \"project\", \"version\": \"1.0.0\", \"dependencies\": {} }";
+        NpmParseResult result = packager.parse(packageJson, lockFile, true, Collections.singletonList(new NameVersion("external", "3.0.0")));
+
+        ExternalId external = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "external", "3.0.0");
+        GraphAssert graphAssert = new GraphAssert(Forge.NPMJS, result.getCodeLocation().getDependencyGraph());
+        graphAssert.hasRootDependency(external);
+        graphAssert.hasRootSize(1);
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.sbt.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.detectables.sbt.model.SbtCaller;
+import com.synopsys.integration.detectable.detectables.sbt.model.SbtModule;
+import com.synopsys.integration.detectable.detectables.sbt.model.SbtReport;
+import com.synopsys.integration.detectable.detectables.sbt.model.SbtRevision;
+import com.synopsys.integration.detectable.detectables.sbt.parse.SbtReportParser;
+
+public class SbtReportParserTest {
+    @Test
+    public void parsesInfoAndDependencies() throws XMLStreamException {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                         + "<ivy-report version=\"1.0\">\n"
+                         + "  <info organisation=\"com.example\" module=\"root\" revision=\"1.0.0\" conf=\"compile\"/>\n"
+                         + "  <dependencies>\n"
+                         + "    <module organisation=\"org.example\" name=\"library\">\n"
+                         + "      <revision name=\"2.1.0\" status=\"release\">\n"
+                         + "        <license name=\"Apache-2.0\"/>\n"
+                         + "        <caller organisation=\"com.example\" name=\"root\" conf=\"compile\" rev=\"2.1.0\" callerrev=\"1.0.0\"/>\n"
+                         + "      </revision>\n"
+                         + "    </module>\n"
+                         + "  </dependencies>\n"
+                         + "</ivy-report>\n";
+
+        SbtReport report = new SbtReportParser().parseReport(toInputStream(xml));
+
+        assertEquals("com.example", report.getOrganisation());
+        assertEquals("root", report.getModule());
+        assertEquals("1.0.0", report.getRevision());
+        assertEquals("compile", report.getConfiguration());
+        assertEquals(1, report.getDependencies().size());
+
+        SbtModule module = report.getDependencies().get(0);
+        assertEquals("org.example", module.getOrganisation());
+        assertEquals("library", module.getName());
+        assertEquals(1, module.getRevisions().size());
+
+        SbtRevision revision = module.getRevisions().get(0);
+        assertEquals("2.1.0", revision.getName());
+        assertEquals(1, revision.getCallers().size());
+
+        SbtCaller caller = revision.getCallers().get(0);
+        assertEquals("com.example", caller.getOrganisation());
+        assertEquals("root", caller.getName());
+        assertEquals("1.0.0", caller.getRevision());
+    }
+
+    @Test
+    public void failsWithoutInfo() {
+        String xml = "<ivy-report version=\"1.0\"><dependencies/></ivy-report>";
+
+        assertThrows(XMLStreamException.class, () -> new SbtReportParser().parseReport(toInputStream(xml)));
+    }
+
+    private InputStream toInputStream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
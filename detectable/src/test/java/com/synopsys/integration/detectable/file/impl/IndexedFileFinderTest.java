@@ -0,0 +1,68 @@
+package com.synopsys.integration.detectable.file.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.file.DirectoryIndex;
+import com.synopsys.integration.detectable.detectable.file.IndexedFileFinder;
+import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
+
+public class IndexedFileFinderTest {
+    private Path directoryPath;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        directoryPath = Files.createTempDirectory("IndexedFileFinderTest");
+        new File(directoryPath.toFile(), "pom.xml").createNewFile();
+        new File(directoryPath.toFile(), "build.gradle").createNewFile();
+        new File(directoryPath.toFile(), "sub").mkdir();
+        new File(directoryPath.toFile(), "sub/package.json").createNewFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(directoryPath.toFile());
+    }
+
+    @UnitTest
+    public void testMatchesWildcardFileFinder() {
+        final IndexedFileFinder indexedFileFinder = new IndexedFileFinder(new DirectoryIndex());
+        final WildcardFileFinder wildcardFileFinder = new WildcardFileFinder();
+        final File directory = directoryPath.toFile();
+
+        for (final List<String> patterns : Arrays.asList(Arrays.asList("pom.xml", "build.gradle"), Arrays.asList("*.xml", "*.json"), Arrays.asList("missing.txt"))) {
+            assertEquals(names(wildcardFileFinder.findFiles(directory, patterns, 0)), names(indexedFileFinder.findFiles(directory, patterns, 0)));
+            assertEquals(names(wildcardFileFinder.findFiles(directory, patterns, 1)), names(indexedFileFinder.findFiles(directory, patterns, 1)));
+        }
+    }
+
+    @UnitTest
+    public void testServesListingUntilInvalidated() throws IOException {
+        final DirectoryIndex directoryIndex = new DirectoryIndex();
+        final IndexedFileFinder fileFinder = new IndexedFileFinder(directoryIndex);
+        final File directory = directoryPath.toFile();
+
+        assertEquals(0, fileFinder.findFiles(directory, "setup.py").size());
+        new File(directory, "setup.py").createNewFile();
+        assertEquals(0, fileFinder.findFiles(directory, "setup.py").size());
+
+        directoryIndex.invalidate();
+        assertEquals(1, fileFinder.findFiles(directory, "setup.py").size());
+    }
+
+    private List<String> names(final List<File> files) {
+        return files.stream().map(File::getName).collect(Collectors.toList());
+    }
+}
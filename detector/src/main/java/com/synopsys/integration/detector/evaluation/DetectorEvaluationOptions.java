@@ -22,17 +22,33 @@
  */
 package com.synopsys.integration.detector.evaluation;
 
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import org.jetbrains.annotations.Nullable;
+
 import com.synopsys.integration.detector.rule.DetectorRule;
 
 public class DetectorEvaluationOptions {
     private final boolean forceNested;
     private final Predicate<DetectorRule> detectorFilter;
+    private final int extractionParallelism;
+    @Nullable
+    private final ExtractionCache extractionCache;
 
     public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter) {
+        this(forceNested, detectorFilter, 1);
+    }
+
+    public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter, final int extractionParallelism) {
+        this(forceNested, detectorFilter, extractionParallelism, null);
+    }
+
+    public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter, final int extractionParallelism, @Nullable final ExtractionCache extractionCache) {
         this.forceNested = forceNested;
         this.detectorFilter = detectorFilter;
+        this.extractionParallelism = extractionParallelism;
+        this.extractionCache = extractionCache;
     }
 
     public boolean isForceNested() {
@@ -42,4 +58,12 @@ public class DetectorEvaluationOptions {
     public Predicate<DetectorRule> getDetectorFilter() {
         return detectorFilter;
     }
+
+    public int getExtractionParallelism() {
+        return extractionParallelism;
+    }
+
+    public Optional<ExtractionCache> getExtractionCache() {
+        return Optional.ofNullable(extractionCache);
+    }
 }
@@ -22,6 +22,14 @@
  */
 package com.synopsys.integration.detector.evaluation;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +41,7 @@ import com.synopsys.integration.detector.base.DetectorEvaluationTree;
 
 public class ExtractionEvaluator extends Evaluator {
     private Logger logger = LoggerFactory.getLogger(ExtractionEvaluator.class);
+    private final Object listenerLock = new Object();
 
     public ExtractionEvaluator(DetectorEvaluationOptions evaluationOptions) {
         super(evaluationOptions);
@@ -41,11 +50,31 @@ public class ExtractionEvaluator extends Evaluator {
     @Override
     protected DetectorEvaluationTree performEvaluation(DetectorEvaluationTree rootEvaluation) {
         logger.debug("Starting detector extraction.");
-        extractionEvaluation(rootEvaluation);
+        int extractionParallelism = getEvaluationOptions().getExtractionParallelism();
+        if (extractionParallelism > 1) {
+            logger.debug("Extracting up to {} directories in parallel.", extractionParallelism);
+            ForkJoinPool extractionPool = new ForkJoinPool(extractionParallelism);
+            try {
+                extractionPool.invoke(new DirectoryExtractionTask(rootEvaluation));
+            } finally {
+                extractionPool.shutdown();
+            }
+        } else {
+            extractionEvaluation(rootEvaluation);
+        }
         return rootEvaluation;
     }
 
     public void extractionEvaluation(DetectorEvaluationTree detectorEvaluationTree) {
+        extractDirectory(detectorEvaluationTree);
+
+        for (DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
+            extractionEvaluation(childDetectorEvaluationTree);
+        }
+    }
+
+    // Evaluations within a single directory are always extracted in order, only separate directories are extracted concurrently.
+    private void extractDirectory(DetectorEvaluationTree detectorEvaluationTree) {
         logger.trace("Extracting detectors in the directory: {}", detectorEvaluationTree.getDirectory());
         for (DetectorEvaluation detectorEvaluation : detectorEvaluationTree.getOrderedEvaluations()) {
             if (detectorEvaluation.isExtractable() && detectorEvaluation.getExtractionEnvironment() != null) {
@@ -53,30 +82,62 @@ public class ExtractionEvaluator extends Evaluator {
                 logger.trace("Detector was searchable, applicable and extractable, will perform extraction: {}", detectorEvaluation.getDetectorRule().getDescriptiveName());
                 Detectable detectable = detectorEvaluation.getDetectable();
 
-                getDetectorEvaluatorListener().ifPresent(it -> it.extractionStarted(detectorEvaluation));
+                notifyListener(it -> it.extractionStarted(detectorEvaluation));
 
                 Discovery discovery = detectorEvaluation.getDiscovery();
                 if (discovery != null && discovery.getExtraction() != null) {
                     logger.debug("Extraction already completed during project discovery.");
                     detectorEvaluation.setExtraction(discovery.getExtraction());
                 } else {
-                    try {
-                        Extraction extraction = detectable.extract(detectorEvaluation.getExtractionEnvironment());
-                        detectorEvaluation.setExtraction(extraction);
-                    } catch (Exception e) {
-                        detectorEvaluation.setExtraction(new Extraction.Builder().exception(e).build());
+                    Optional<ExtractionCache> extractionCache = getEvaluationOptions().getExtractionCache();
+                    Optional<Extraction> cachedExtraction = extractionCache.flatMap(cache -> cache.find(detectorEvaluation));
+                    if (cachedExtraction.isPresent()) {
+                        logger.debug("Extraction found in the extraction cache.");
+                        detectorEvaluation.setExtraction(cachedExtraction.get());
+                    } else {
+                        try {
+                            Extraction extraction = detectable.extract(detectorEvaluation.getExtractionEnvironment());
+                            detectorEvaluation.setExtraction(extraction);
+                            extractionCache.ifPresent(cache -> cache.store(detectorEvaluation, extraction));
+                        } catch (Exception e) {
+                            detectorEvaluation.setExtraction(new Extraction.Builder().exception(e).build());
+                        }
                     }
                 }
 
-                getDetectorEvaluatorListener().ifPresent(it -> it.extractionEnded(detectorEvaluation));
+                notifyListener(it -> it.extractionEnded(detectorEvaluation));
 
                 logger.trace("Extraction result: {}", detectorEvaluation.wasExtractionSuccessful());
 
             }
         }
+    }
 
-        for (DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
-            extractionEvaluation(childDetectorEvaluationTree);
+    // Listeners are not required to be thread safe, so callbacks are serialized even when extracting in parallel.
+    private void notifyListener(Consumer<DetectorEvaluatorListener> callback) {
+        getDetectorEvaluatorListener().ifPresent(listener -> {
+            synchronized (listenerLock) {
+                callback.accept(listener);
+            }
+        });
+    }
+
+    private class DirectoryExtractionTask extends RecursiveAction {
+        private final DetectorEvaluationTree detectorEvaluationTree;
+
+        public DirectoryExtractionTask(DetectorEvaluationTree detectorEvaluationTree) {
+            this.detectorEvaluationTree = detectorEvaluationTree;
+        }
+
+        @Override
+        protected void compute() {
+            List<DirectoryExtractionTask> childTasks = detectorEvaluationTree.getChildren().stream()
+                                                           .map(DirectoryExtractionTask::new)
+                                                           .collect(Collectors.toList());
+            // Children are forked first so idle workers can steal them while this directory is extracted.
+            childTasks.forEach(ForkJoinTask::fork);
+            extractDirectory(detectorEvaluationTree);
+            childTasks.forEach(ForkJoinTask::join);
         }
     }
 }
@@ -25,67 +25,162 @@ package com.synopsys.integration.detector.finder;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.detectable.detectable.file.DirectoryEntry;
+import com.synopsys.integration.detectable.detectable.file.DirectoryIndex;
+import com.synopsys.integration.detectable.detectable.file.DirectoryListing;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
 
 public class DetectorFinder {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    @Nullable
+    private final DirectoryIndex directoryIndex;
 
-    public Optional<DetectorEvaluationTree> findDetectors(final File initialDirectory, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions options) throws DetectorFinderDirectoryListException {
-        return findDetectors(initialDirectory, detectorRuleSet, 0, options);
+    public DetectorFinder() {
+        this(null);
     }
 
-    private Optional<DetectorEvaluationTree> findDetectors(final File directory, final DetectorRuleSet detectorRuleSet, final int depth, final DetectorFinderOptions options)
-        throws DetectorFinderDirectoryListException {
+    // When given an index, every directory listed during the search is shared with the detectables so they do not list it again.
+    public DetectorFinder(@Nullable final DirectoryIndex directoryIndex) {
+        this.directoryIndex = directoryIndex;
+    }
 
-        if (depth > options.getMaximumDepth()) {
-            logger.trace("Skipping directory as it exceeds max depth: " + directory.toString());
+    public Optional<DetectorEvaluationTree> findDetectors(final File initialDirectory, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions options) throws DetectorFinderDirectoryListException {
+        if (0 > options.getMaximumDepth()) {
+            logger.trace("Skipping directory as it exceeds max depth: " + initialDirectory.toString());
             return Optional.empty();
         }
 
-        if (null == directory || Files.isSymbolicLink(directory.toPath()) || !directory.isDirectory()) {
-            final String directoryString = Optional.ofNullable(directory).map(File::toString).orElse("null");
+        if (null == initialDirectory || Files.isSymbolicLink(initialDirectory.toPath()) || !initialDirectory.isDirectory()) {
+            final String directoryString = Optional.ofNullable(initialDirectory).map(File::toString).orElse("null");
             logger.trace("Skipping file as it is not a directory: " + directoryString);
             return Optional.empty();
         }
 
-        logger.debug("Traversing directory: " + directory.getPath()); //TODO: Finding the perfect log level here is important. At INFO, we log a lot during a deep traversal but if we don't we might look stuck.
-        final List<DetectorEvaluation> evaluations = detectorRuleSet.getOrderedDetectorRules().stream()
-                                                         .map(DetectorEvaluation::new)
-                                                         .collect(Collectors.toList());
+        if (options.getTraversalParallelism() > 1) {
+            logger.debug("Traversing up to {} directories in parallel.", options.getTraversalParallelism());
+            return Optional.of(findDetectorsInParallel(initialDirectory, detectorRuleSet, options));
+        }
+        return Optional.of(findDetectors(initialDirectory, detectorRuleSet, 0, options));
+    }
 
+    private DetectorEvaluationTree findDetectors(final File directory, final DetectorRuleSet detectorRuleSet, final int depth, final DetectorFinderOptions options) throws DetectorFinderDirectoryListException {
+        logger.debug("Traversing directory: " + directory.getPath()); //TODO: Finding the perfect log level here is important. At INFO, we log a lot during a deep traversal but if we don't we might look stuck.
         final Set<DetectorEvaluationTree> children = new HashSet<>();
 
-        final List<File> subDirectories = findFilteredSubDirectories(directory, options.getFileFilter());
+        final List<File> subDirectories = findTraversableSubDirectories(directory, depth, options);
         for (final File subDirectory : subDirectories) {
-            final Optional<DetectorEvaluationTree> childEvaluationSet = findDetectors(subDirectory, detectorRuleSet, depth + 1, options);
-            childEvaluationSet.ifPresent(children::add);
+            children.add(findDetectors(subDirectory, detectorRuleSet, depth + 1, options));
         }
 
-        return Optional.of(new DetectorEvaluationTree(directory, depth, detectorRuleSet, evaluations, children));
+        return new DetectorEvaluationTree(directory, depth, detectorRuleSet, createEvaluations(detectorRuleSet), children);
+    }
+
+    private DetectorEvaluationTree findDetectorsInParallel(final File initialDirectory, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions options) throws DetectorFinderDirectoryListException {
+        final ForkJoinPool traversalPool = new ForkJoinPool(options.getTraversalParallelism());
+        try {
+            return traversalPool.invoke(new DirectoryTraversalTask(initialDirectory, detectorRuleSet, 0, options));
+        } catch (final UncheckedDirectoryListException e) {
+            // The pool may rethrow a copy of the exception from a worker thread, so search the causes for the original.
+            Throwable cause = e;
+            while (cause != null) {
+                if (cause instanceof DetectorFinderDirectoryListException) {
+                    throw (DetectorFinderDirectoryListException) cause;
+                }
+                cause = cause.getCause();
+            }
+            throw e;
+        } finally {
+            traversalPool.shutdown();
+        }
+    }
+
+    private List<DetectorEvaluation> createEvaluations(final DetectorRuleSet detectorRuleSet) {
+        return detectorRuleSet.getOrderedDetectorRules().stream()
+                   .map(DetectorEvaluation::new)
+                   .collect(Collectors.toList());
+    }
+
+    private List<File> findTraversableSubDirectories(final File directory, final int depth, final DetectorFinderOptions options) throws DetectorFinderDirectoryListException {
+        if (depth + 1 > options.getMaximumDepth()) {
+            logger.trace("Skipping subdirectories as they exceed max depth: " + directory.toString());
+            return Collections.emptyList();
+        }
+        return findFilteredSubDirectories(directory, options.getFileFilter());
     }
 
     private List<File> findFilteredSubDirectories(final File directory, final Predicate<File> filePredicate) throws DetectorFinderDirectoryListException {
-        try (final Stream<Path> pathStream = Files.list(directory.toPath())) {
-            return pathStream.map(Path::toFile)
-                       .filter(File::isDirectory)
-                       .filter(filePredicate)
-                       .collect(Collectors.toList());
+        final DirectoryListing listing;
+        try {
+            listing = DirectoryListing.read(directory);
         } catch (final IOException e) {
             throw new DetectorFinderDirectoryListException(String.format("Could not get the subdirectories for %s. %s", directory.getAbsolutePath(), e.getMessage()), e);
         }
+
+        if (directoryIndex != null) {
+            directoryIndex.addListing(directory, listing);
+        }
+
+        return listing.getEntries().stream()
+                   .filter(DirectoryEntry::isTraversableDirectory)
+                   .map(DirectoryEntry::getFile)
+                   .filter(filePredicate)
+                   .collect(Collectors.toList());
+    }
+
+    private class DirectoryTraversalTask extends RecursiveTask<DetectorEvaluationTree> {
+        private final File directory;
+        private final DetectorRuleSet detectorRuleSet;
+        private final int depth;
+        private final DetectorFinderOptions options;
+
+        public DirectoryTraversalTask(final File directory, final DetectorRuleSet detectorRuleSet, final int depth, final DetectorFinderOptions options) {
+            this.directory = directory;
+            this.detectorRuleSet = detectorRuleSet;
+            this.depth = depth;
+            this.options = options;
+        }
+
+        @Override
+        protected DetectorEvaluationTree compute() {
+            logger.debug("Traversing directory: " + directory.getPath());
+            final List<File> subDirectories;
+            try {
+                subDirectories = findTraversableSubDirectories(directory, depth, options);
+            } catch (final DetectorFinderDirectoryListException e) {
+                throw new UncheckedDirectoryListException(e);
+            }
+
+            final List<DirectoryTraversalTask> childTasks = subDirectories.stream()
+                                                                .map(subDirectory -> new DirectoryTraversalTask(subDirectory, detectorRuleSet, depth + 1, options))
+                                                                .collect(Collectors.toList());
+            final Set<DetectorEvaluationTree> children = ForkJoinTask.invokeAll(childTasks).stream()
+                                                             .map(ForkJoinTask::join)
+                                                             .collect(Collectors.toSet());
+
+            return new DetectorEvaluationTree(directory, depth, detectorRuleSet, createEvaluations(detectorRuleSet), children);
+        }
+    }
+
+    private static class UncheckedDirectoryListException extends RuntimeException {
+        public UncheckedDirectoryListException(final DetectorFinderDirectoryListException cause) {
+            super(cause);
+        }
     }
 }
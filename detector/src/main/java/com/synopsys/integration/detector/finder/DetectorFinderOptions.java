@@ -28,10 +28,16 @@ import java.util.function.Predicate;
 public class DetectorFinderOptions {
     private final Predicate<File> fileFilter;
     private final int maximumDepth;
+    private final int traversalParallelism;
 
     public DetectorFinderOptions(final Predicate<File> fileFilter, final int maximumDepth) {
+        this(fileFilter, maximumDepth, 1);
+    }
+
+    public DetectorFinderOptions(final Predicate<File> fileFilter, final int maximumDepth, final int traversalParallelism) {
         this.fileFilter = fileFilter;
         this.maximumDepth = maximumDepth;
+        this.traversalParallelism = traversalParallelism;
     }
 
     public Predicate<File> getFileFilter() {
@@ -41,4 +47,8 @@ public class DetectorFinderOptions {
     public int getMaximumDepth() {
         return maximumDepth;
     }
+
+    public int getTraversalParallelism() {
+        return traversalParallelism;
+    }
 }
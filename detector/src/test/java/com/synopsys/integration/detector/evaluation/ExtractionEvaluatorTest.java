@@ -3,7 +3,9 @@ package com.synopsys.integration.detector.evaluation;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -90,6 +92,72 @@ public class ExtractionEvaluatorTest {
         Mockito.verify(detectorEvaluatorListener).extractionEnded(detectorEvaluation);
     }
 
+    @Test
+    public void testParallelEvaluationExtractsEveryDirectory() throws DetectableException, ExecutableFailedException {
+        DetectorEvaluationOptions evaluationOptions = new DetectorEvaluationOptions(false, rule -> true, 4);
+        ExtractionEvaluator evaluator = new ExtractionEvaluator(evaluationOptions);
+        DetectorEvaluatorListener detectorEvaluatorListener = Mockito.mock(DetectorEvaluatorListener.class);
+        evaluator.setDetectorEvaluatorListener(detectorEvaluatorListener);
+
+        DetectorRuleSet detectorRuleSet = Mockito.mock(DetectorRuleSet.class);
+        DetectorEvaluation rootEvaluation = createExtractableEvaluationMock();
+        DetectorEvaluation firstChildEvaluation = createExtractableEvaluationMock();
+        DetectorEvaluation secondChildEvaluation = createExtractableEvaluationMock();
+        DetectorEvaluationTree firstChild = new DetectorEvaluationTree(new File("first"), 1, detectorRuleSet, Collections.singletonList(firstChildEvaluation), new HashSet<>());
+        DetectorEvaluationTree secondChild = new DetectorEvaluationTree(new File("second"), 1, detectorRuleSet, Collections.singletonList(secondChildEvaluation), new HashSet<>());
+        DetectorEvaluationTree root = new DetectorEvaluationTree(new File("."), 0, detectorRuleSet, Collections.singletonList(rootEvaluation), new HashSet<>(Arrays.asList(firstChild, secondChild)));
+
+        DetectorAggregateEvaluationResult result = evaluator.evaluate(root);
+
+        assertEquals(root, result.getEvaluationTree());
+        for (DetectorEvaluation detectorEvaluation : Arrays.asList(rootEvaluation, firstChildEvaluation, secondChildEvaluation)) {
+            Mockito.verify(detectorEvaluatorListener).extractionStarted(detectorEvaluation);
+            Mockito.verify(detectorEvaluation).setExtraction(Mockito.any(Extraction.class));
+            Mockito.verify(detectorEvaluatorListener).extractionEnded(detectorEvaluation);
+        }
+    }
+
+    @Test
+    public void testCachedExtractionSkipsTheDetectable() throws DetectableException, ExecutableFailedException {
+        Extraction cachedExtraction = new Extraction.Builder().success().build();
+        ExtractionCache extractionCache = Mockito.mock(ExtractionCache.class);
+        DetectorEvaluation cachedEvaluation = createExtractableEvaluationMock();
+        DetectorEvaluation uncachedEvaluation = createExtractableEvaluationMock();
+        Mockito.when(extractionCache.find(cachedEvaluation)).thenReturn(Optional.of(cachedExtraction));
+        Mockito.when(extractionCache.find(uncachedEvaluation)).thenReturn(Optional.empty());
+
+        DetectorEvaluationOptions evaluationOptions = new DetectorEvaluationOptions(false, rule -> true, 1, extractionCache);
+        ExtractionEvaluator evaluator = new ExtractionEvaluator(evaluationOptions);
+        DetectorRuleSet detectorRuleSet = Mockito.mock(DetectorRuleSet.class);
+        DetectorEvaluationTree root = new DetectorEvaluationTree(new File("."), 0, detectorRuleSet, Arrays.asList(cachedEvaluation, uncachedEvaluation), new HashSet<>());
+
+        evaluator.evaluate(root);
+
+        Mockito.verify(cachedEvaluation).setExtraction(cachedExtraction);
+        Mockito.verify(cachedEvaluation.getDetectable(), Mockito.never()).extract(Mockito.any(ExtractionEnvironment.class));
+        Mockito.verify(extractionCache, Mockito.never()).store(Mockito.eq(cachedEvaluation), Mockito.any(Extraction.class));
+
+        ExtractionEnvironment uncachedEnvironment = uncachedEvaluation.getExtractionEnvironment();
+        Mockito.verify(uncachedEvaluation.getDetectable()).extract(uncachedEnvironment);
+        Mockito.verify(extractionCache).store(Mockito.eq(uncachedEvaluation), Mockito.any(Extraction.class));
+    }
+
+    private DetectorEvaluation createExtractableEvaluationMock() throws DetectableException, ExecutableFailedException {
+        ExtractionEnvironment extractionEnvironment = Mockito.mock(ExtractionEnvironment.class);
+        Detectable detectable = Mockito.mock(Detectable.class);
+        Mockito.when(detectable.extract(Mockito.eq(extractionEnvironment))).thenReturn(new Extraction.Builder().success().build());
+
+        DetectorRule detectorRule = Mockito.mock(DetectorRule.class);
+        Mockito.when(detectorRule.getDescriptiveName()).thenReturn("test rule");
+
+        DetectorEvaluation detectorEvaluation = Mockito.mock(DetectorEvaluation.class);
+        Mockito.when(detectorEvaluation.isExtractable()).thenReturn(true);
+        Mockito.when(detectorEvaluation.getExtractionEnvironment()).thenReturn(extractionEnvironment);
+        Mockito.when(detectorEvaluation.getDetectable()).thenReturn(detectable);
+        Mockito.when(detectorEvaluation.getDetectorRule()).thenReturn(detectorRule);
+        return detectorEvaluation;
+    }
+
     private DetectorEvaluation createEvaluationMocks(DetectorEvaluationOptions evaluationOptions, DetectorEvaluationTree detectorEvaluationTree, boolean extractionExists, boolean throwException)
         throws DetectableException, ExecutableFailedException {
         ExtractionEnvironment extractionEnvironment = Mockito.mock(ExtractionEnvironment.class);
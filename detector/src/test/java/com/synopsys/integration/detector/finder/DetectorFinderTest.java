@@ -23,6 +23,7 @@
 package com.synopsys.integration.detector.finder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.condition.OS.WINDOWS;
 
@@ -35,6 +36,7 @@ import java.util.HashMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.SystemUtils;
@@ -102,6 +104,37 @@ public class DetectorFinderTest {
         assertTrue(subDirContentsName.startsWith("subSubDir"));
     }
 
+    @Test
+    @DisabledOnOs(WINDOWS) //TODO: See if we can fix on windows.
+    public void testParallelMatchesSerial() throws DetectorFinderDirectoryListException {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+
+        final File initialDirectory = initialDirectoryPath.toFile();
+        final File subDir = new File(initialDirectory, "testParallelMatchesSerial");
+        new File(subDir, "first/nested/tooDeep").mkdirs();
+        new File(subDir, "second").mkdirs();
+        new File(subDir, "excluded/nested").mkdirs();
+
+        final DetectorRuleSet detectorRuleSet = new DetectorRuleSet(new ArrayList<>(0), new HashMap<>(0), new HashMap<>(0));
+        final Predicate<File> fileFilter = f -> !f.getName().equals("excluded");
+        final int maximumDepth = 3;
+
+        final DetectorFinder finder = new DetectorFinder();
+        final Optional<DetectorEvaluationTree> serialTree = finder.findDetectors(initialDirectory, detectorRuleSet, new DetectorFinderOptions(fileFilter, maximumDepth, 1));
+        final Optional<DetectorEvaluationTree> parallelTree = finder.findDetectors(initialDirectory, detectorRuleSet, new DetectorFinderOptions(fileFilter, maximumDepth, 4));
+
+        assertEquals(describe(serialTree.get()), describe(parallelTree.get()));
+        assertTrue(describe(parallelTree.get()).contains("testParallelMatchesSerial/first/nested (depth 3)"));
+        assertFalse(describe(parallelTree.get()).contains("tooDeep"));
+        assertFalse(describe(parallelTree.get()).contains("excluded"));
+    }
+
+    private Set<String> describe(final DetectorEvaluationTree tree) {
+        return tree.asFlatList().stream()
+                   .map(it -> initialDirectoryPath.relativize(it.getDirectory().toPath()).toString() + " (depth " + it.getDepthFromRoot() + ")")
+                   .collect(Collectors.toSet());
+    }
+
     @Test
     @DisabledOnOs(WINDOWS) //TODO: See if we can fix on windows.
     public void testSymLinksNotFollowed() throws IOException, DetectorFinderDirectoryListException {
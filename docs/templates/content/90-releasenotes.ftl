@@ -6,15 +6,37 @@
 * Added the property detect.binary.scan.search.depth to define the directory search depth for the binary scanner.
 * The status.json file now features a list of the provided Detect property values.
 * When Detect is not configured to connect to blackduck or run offline, a link to the Detect help is included in an error message.
+* Added the property detect.detector.extraction.parallelism to extract detectors in separate directories concurrently.
+* Added the property detect.detector.search.parallelism to list directories concurrently while searching for detectors.
+* Added the property detect.maven.parallelism to run mvn dependency:tree with multiple threads and parse the module trees concurrently.
+* Added the property detect.clang.package.query.parallelism to run the Clang detector's package manager queries concurrently; dpkg and apk file ownership is now queried for many files per command.
+* Added the property detect.clang.package.cache.path to remember which Linux package owns each Clang dependency file between runs.
+* Added the property detect.blackduck.signature.scanner.concurrent to run the signature scan alongside Bazel and the detectors when the project name and version are provided.
+* Added the properties detect.bdio.upload.streaming and detect.bdio.upload.parallelism to write and upload the BDIO for each code location as soon as its detector finishes when the project name and version are provided and detectors are extracted one at a time.
+* Added the property detect.bdio.write.parallelism to write the BDIO files for separate code locations concurrently.
+* Added the property detect.trace to write a trace of the tools, detectors, executables, BDIO and Black Duck actions of a run in the Chrome trace event format.
+* Added the properties detect.detector.extraction.cache.path and detect.detector.extraction.cache.size to reuse a detector's extraction from an earlier run while its relevant files and the detector configuration are unchanged.
 
 ### Changed features
 * Added the timezone to the date format in the default log message format.
+* The aggregate BDIO (detect.bom.aggregate.name) is now built from a compact graph that stores each dependency once, using less memory for large projects.
+* In diagnostic mode, extended file capture is now written on a background thread so it no longer slows down the tools.
+* The signature scanner exclusion name patterns (detect.blackduck.signature.scanner.exclusion.name.patterns) are now found by walking the top level directories of the scan target concurrently, without searching inside directories that are already excluded.
+* The binary scan archive (detect.binary.scan.file.name.patterns) is now compressed using up to detect.parallel.processors threads, and files that are already compressed, such as jar and zip files, are stored without being compressed again.
+* After waiting for Black Duck results, the policy check, risk report and notices report now run concurrently. Their durations are included in the status output and status.json.
+* The output of the Gradle inspector build is now written to disk as it is produced instead of being held in memory, which keeps memory use flat for large multi-project builds.
+* Lerna now parses a shared root lockfile once for all packages, and can extract packages concurrently using the new detect.lerna.parallelism property.
+* Bitbake now runs bitbake-layers show-recipes once per extraction instead of once per package, and can parse the task-depends.dot graph of one package while the next is generated (detect.bitbake.graph.parallelism).
+* The Go Mod CLI detector now parses the output of go mod graph while it is read, and can run go list and go mod why at the same time (detect.go.mod.concurrent.commands).
+* The SBT detector now streams Ivy report files instead of loading each one into a document, and can parse them in parallel using detect.sbt.report.parallelism.
+* The Bazel detector now queries maven_jar dependencies in batches of up to 100 per bazel query instead of one query per dependency.
 
 ### Resolved issues
 * (IDETECT-1986) Resolved an issue where warnings regarding reflective access appear at the start of Detect.
 * (IDETECT-2400) Resolved an issue where 'dependencies' would be removed from the value of the detect.gradle.build.command property.
 * (IDETECT-2394) Resolved an issue that created inaccurate relationships in the BDIO files when Gemlock files were processed.
 * (IDETECT-2404) Resolved an issue where signature scanner arguments passed through detect.blackduck.signature.scanner.arguments that contained space were being improperly parsed.
+* Resolved an issue where the discovery times in the profiling report were the extraction times.
 
 ## Version 6.8.0
 ### New features
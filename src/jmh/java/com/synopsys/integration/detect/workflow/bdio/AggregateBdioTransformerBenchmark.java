@@ -0,0 +1,123 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+
+/**
+ * Compares the compact aggregate graph with copying every code location into a MutableMapDependencyGraph.
+ * Run with -PjmhProfilers=gc to see the bytes allocated per aggregation (gc.alloc.rate.norm) next to the time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AggregateBdioTransformerBenchmark {
+    private static final int CHILDREN_PER_DEPENDENCY = 3;
+
+    @Param({ "DIRECT", "TRANSITIVE" })
+    public AggregateMode aggregateMode;
+
+    @Param({ "300" })
+    public int codeLocationCount;
+
+    @Param({ "2000" })
+    public int dependenciesPerCodeLocation;
+
+    private final File sourcePath = new File("benchmark");
+    private final AggregateBdioTransformer aggregateBdioTransformer = new AggregateBdioTransformer();
+    private List<DetectCodeLocation> codeLocations;
+
+    @Setup
+    public void setup() {
+        codeLocations = createCodeLocations(new ExternalIdFactory());
+    }
+
+    @Benchmark
+    public DependencyGraph compactAggregate() throws DetectUserFriendlyException {
+        return aggregateBdioTransformer.aggregateCodeLocations(sourcePath, codeLocations, aggregateMode);
+    }
+
+    @Benchmark
+    public DependencyGraph mutableAggregate() {
+        MutableDependencyGraph aggregateDependencyGraph = new MutableMapDependencyGraph();
+        for (DetectCodeLocation codeLocation : codeLocations) {
+            if (aggregateMode == AggregateMode.DIRECT) {
+                aggregateDependencyGraph.addGraphAsChildrenToRoot(codeLocation.getDependencyGraph());
+            } else {
+                Dependency codeLocationDependency = new Dependency(codeLocation.getExternalId().getName(), codeLocation.getExternalId().getVersion(), codeLocation.getExternalId());
+                aggregateDependencyGraph.addChildrenToRoot(codeLocationDependency);
+                aggregateDependencyGraph.addGraphAsChildrenToParent(codeLocationDependency, codeLocation.getDependencyGraph());
+            }
+        }
+        return aggregateDependencyGraph;
+    }
+
+    // Modules of a monorepo share most of their dependencies, so each code location draws from one overlapping pool of versions.
+    private List<DetectCodeLocation> createCodeLocations(ExternalIdFactory externalIdFactory) {
+        List<DetectCodeLocation> detectCodeLocations = new ArrayList<>();
+        for (int codeLocationIndex = 0; codeLocationIndex < codeLocationCount; codeLocationIndex++) {
+            MutableMapDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
+            List<Dependency> dependencies = new ArrayList<>();
+            for (int dependencyIndex = 0; dependencyIndex < dependenciesPerCodeLocation; dependencyIndex++) {
+                String name = "dependency-" + dependencyIndex;
+                String version = "1." + (dependencyIndex + codeLocationIndex) % 5;
+                Dependency dependency = new Dependency(name, version, externalIdFactory.createMavenExternalId("com.example", name, version));
+                dependencies.add(dependency);
+                if (dependencyIndex < CHILDREN_PER_DEPENDENCY) {
+                    dependencyGraph.addChildToRoot(dependency);
+                } else {
+                    dependencyGraph.addChildWithParent(dependency, dependencies.get(dependencyIndex / CHILDREN_PER_DEPENDENCY - 1));
+                }
+            }
+            detectCodeLocations.add(DetectCodeLocation.forCreator(dependencyGraph, new File(sourcePath, "module-" + codeLocationIndex),
+                externalIdFactory.createMavenExternalId("com.example", "module-" + codeLocationIndex, "1.0"), "MAVEN"));
+        }
+        return detectCodeLocations;
+    }
+}
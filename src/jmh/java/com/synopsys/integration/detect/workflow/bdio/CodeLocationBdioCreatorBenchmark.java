@@ -0,0 +1,123 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.blackduck.codelocation.bdioupload.UploadTarget;
+import com.synopsys.integration.detect.configuration.DetectInfo;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.workflow.codelocation.BdioCodeLocation;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+import com.synopsys.integration.util.NameVersion;
+import com.synopsys.integration.util.OperatingSystemType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CodeLocationBdioCreatorBenchmark {
+    private static final int CHILDREN_PER_DEPENDENCY = 3;
+
+    @Param({ "1", "4" })
+    public int parallelism;
+
+    @Param({ "300" })
+    public int codeLocationCount;
+
+    @Param({ "2000" })
+    public int dependenciesPerCodeLocation;
+
+    private final NameVersion projectNameVersion = new NameVersion("benchmark", "1.0");
+    private CodeLocationBdioCreator codeLocationBdioCreator;
+    private List<BdioCodeLocation> bdioCodeLocations;
+    private File bdioOutput;
+
+    @Setup
+    public void setup() throws IOException {
+        DetectInfo detectInfo = new DetectInfo("benchmark", 6, OperatingSystemType.LINUX);
+        codeLocationBdioCreator = new CodeLocationBdioCreator(detectInfo, parallelism);
+        bdioCodeLocations = createBdioCodeLocations(new ExternalIdFactory());
+        bdioOutput = Files.createTempDirectory("bdio-benchmark").toFile();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(bdioOutput);
+    }
+
+    @Benchmark
+    public List<UploadTarget> createBdioFiles() throws DetectUserFriendlyException {
+        return codeLocationBdioCreator.createBdioFiles(bdioOutput, bdioCodeLocations, projectNameVersion, false);
+    }
+
+    // Each code location is a wide tree where every dependency has a few children, similar to a module of a large monorepo.
+    private List<BdioCodeLocation> createBdioCodeLocations(ExternalIdFactory externalIdFactory) {
+        List<BdioCodeLocation> codeLocations = new ArrayList<>();
+        for (int codeLocationIndex = 0; codeLocationIndex < codeLocationCount; codeLocationIndex++) {
+            MutableMapDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
+            List<Dependency> dependencies = new ArrayList<>();
+            for (int dependencyIndex = 0; dependencyIndex < dependenciesPerCodeLocation; dependencyIndex++) {
+                String name = "dependency-" + dependencyIndex;
+                Dependency dependency = new Dependency(name, "1.0", externalIdFactory.createMavenExternalId("com.example", name, "1.0"));
+                dependencies.add(dependency);
+                if (dependencyIndex < CHILDREN_PER_DEPENDENCY) {
+                    dependencyGraph.addChildToRoot(dependency);
+                } else {
+                    dependencyGraph.addChildWithParent(dependency, dependencies.get(dependencyIndex / CHILDREN_PER_DEPENDENCY - 1));
+                }
+            }
+
+            String codeLocationName = String.format("benchmark/1.0 module-%d maven/bom", codeLocationIndex);
+            DetectCodeLocation detectCodeLocation = DetectCodeLocation.forCreator(dependencyGraph, new File("module-" + codeLocationIndex),
+                externalIdFactory.createMavenExternalId("com.example", "module-" + codeLocationIndex, "1.0"), "MAVEN");
+            codeLocations.add(new BdioCodeLocation(detectCodeLocation, codeLocationName, codeLocationName.replaceAll("[^A-Za-z0-9.-]", "_")));
+        }
+        return codeLocations;
+    }
+}
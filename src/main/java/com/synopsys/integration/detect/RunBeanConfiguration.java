@@ -69,12 +69,15 @@ import com.synopsys.integration.detect.workflow.DetectRun;
 import com.synopsys.integration.detect.workflow.airgap.AirGapInspectorPaths;
 import com.synopsys.integration.detect.workflow.airgap.AirGapOptions;
 import com.synopsys.integration.detect.workflow.airgap.AirGapPathFinder;
+import com.synopsys.integration.detect.workflow.blackduck.ExclusionPatternFinder;
 import com.synopsys.integration.detect.workflow.codelocation.BdioCodeLocationCreator;
 import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameGenerator;
 import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameManager;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+import com.synopsys.integration.detect.workflow.profiling.Tracer;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectable.file.DirectoryIndex;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
 import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
 import com.synopsys.integration.detectable.detectable.inspector.GradleInspectorResolver;
@@ -97,6 +100,8 @@ public class RunBeanConfiguration {
     @Autowired
     public EventSystem eventSystem;
     @Autowired
+    public Tracer tracer;
+    @Autowired
     public Gson gson;
     @Autowired
     public Configuration configuration;
@@ -115,10 +120,15 @@ public class RunBeanConfiguration {
         return new WildcardFileFinder();
     }
 
+    @Bean
+    public DirectoryIndex directoryIndex() {
+        return new DirectoryIndex();
+    }
+
     //Be mindful of using this file finder, it filters based on detector exclusions, it's VERY DIFFERENT from the FULL file finder above.
     @Bean
     public FileFinder filteredFileFinder() {
-        return detectConfigurationFactory.createFilteredFileFinder(directoryManager.getSourceDirectory().toPath());
+        return detectConfigurationFactory.createFilteredFileFinder(directoryManager.getSourceDirectory().toPath(), directoryIndex());
     }
 
     @Bean
@@ -165,7 +175,7 @@ public class RunBeanConfiguration {
 
     @Bean
     public DetectableExecutableRunner executableRunner() {
-        return DetectExecutableRunner.newDebug(eventSystem);
+        return DetectExecutableRunner.newDebug(eventSystem, tracer, directoryManager.getSharedDirectory("executable-output"));
     }
 
     @Bean
@@ -241,7 +251,7 @@ public class RunBeanConfiguration {
     @Bean()
     public BlackDuckSignatureScanner blackDuckSignatureScanner(BlackDuckSignatureScannerOptions blackDuckSignatureScannerOptions, ScanBatchRunner scanBatchRunner, BlackDuckServerConfig blackDuckServerConfig,
         CodeLocationNameManager codeLocationNameManager) {
-        return new BlackDuckSignatureScanner(directoryManager, fullFileFinder(), codeLocationNameManager, blackDuckSignatureScannerOptions, eventSystem, scanBatchRunner, blackDuckServerConfig);
+        return new BlackDuckSignatureScanner(directoryManager, new ExclusionPatternFinder(blackDuckSignatureScannerOptions.getParallelProcessors()), codeLocationNameManager, blackDuckSignatureScannerOptions, eventSystem, scanBatchRunner, blackDuckServerConfig);
     }
 
 }
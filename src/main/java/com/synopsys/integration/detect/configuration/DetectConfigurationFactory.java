@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -48,6 +49,8 @@ import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.
 import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.SnippetMatching;
 import com.synopsys.integration.blackduck.configuration.BlackDuckServerConfigBuilder;
 import com.synopsys.integration.configuration.config.PropertyConfiguration;
+import com.synopsys.integration.configuration.property.Property;
+import com.synopsys.integration.configuration.property.PropertyGroupInfo;
 import com.synopsys.integration.configuration.property.base.NullableProperty;
 import com.synopsys.integration.configuration.property.base.ValuedProperty;
 import com.synopsys.integration.configuration.property.types.enumextended.ExtendedEnumValue;
@@ -56,18 +59,21 @@ import com.synopsys.integration.configuration.property.types.enumfilterable.Filt
 import com.synopsys.integration.configuration.property.types.path.NullablePathProperty;
 import com.synopsys.integration.configuration.property.types.path.PathResolver;
 import com.synopsys.integration.configuration.property.types.path.PathValue;
+import com.synopsys.integration.configuration.util.Group;
 import com.synopsys.integration.detect.PropertyConfigUtils;
 import com.synopsys.integration.detect.configuration.connection.BlackDuckConnectionDetails;
 import com.synopsys.integration.detect.configuration.connection.ConnectionDetails;
 import com.synopsys.integration.detect.configuration.enumeration.BlackduckScanMode;
 import com.synopsys.integration.detect.configuration.enumeration.DefaultDetectorExcludedDirectories;
 import com.synopsys.integration.detect.configuration.enumeration.DefaultVersionNameScheme;
+import com.synopsys.integration.detect.configuration.enumeration.DetectGroup;
 import com.synopsys.integration.detect.configuration.enumeration.DetectTool;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.detect.lifecycle.boot.product.ProductBootOptions;
 import com.synopsys.integration.detect.lifecycle.run.RunOptions;
 import com.synopsys.integration.detect.tool.binaryscanner.BinaryScanOptions;
 import com.synopsys.integration.detect.tool.detector.executable.DetectExecutableOptions;
+import com.synopsys.integration.detect.tool.detector.extraction.ExtractionCacheOptions;
 import com.synopsys.integration.detect.tool.detector.file.DetectDetectorFileFilter;
 import com.synopsys.integration.detect.tool.detector.file.FilteredFileFinder;
 import com.synopsys.integration.detect.tool.impactanalysis.ImpactAnalysisOptions;
@@ -83,10 +89,14 @@ import com.synopsys.integration.detect.workflow.blackduck.CustomFieldDocument;
 import com.synopsys.integration.detect.workflow.blackduck.DetectProjectServiceOptions;
 import com.synopsys.integration.detect.workflow.file.DirectoryOptions;
 import com.synopsys.integration.detect.workflow.phonehome.PhoneHomeOptions;
+import com.synopsys.integration.detect.workflow.profiling.Tracer;
 import com.synopsys.integration.detect.workflow.project.ProjectNameVersionOptions;
+import com.synopsys.integration.detectable.detectable.file.DirectoryIndex;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectable.file.IndexedFileFinder;
 import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
+import com.synopsys.integration.detector.evaluation.ExtractionCache;
 import com.synopsys.integration.detector.finder.DetectorFinderOptions;
 import com.synopsys.integration.log.SilentIntLogger;
 import com.synopsys.integration.polaris.common.configuration.PolarisServerConfig;
@@ -145,6 +155,15 @@ public class DetectConfigurationFactory {
         return Runtime.getRuntime().availableProcessors();
     }
 
+    // The parallelism properties all treat a value of 0 or less as one thread per processor.
+    public static int resolveParallelism(int provided) {
+        if (provided > 0) {
+            return provided;
+        } else {
+            return Runtime.getRuntime().availableProcessors();
+        }
+    }
+
     @Nullable
     public SnippetMatching findSnippetMatching() {
         ExtendedEnumValue<ExtendedSnippetMode, SnippetMatching> snippetMatching = getValue(DetectProperties.DETECT_BLACKDUCK_SIGNATURE_SCANNER_SNIPPET_MATCHING);
@@ -286,8 +305,11 @@ public class DetectConfigurationFactory {
         List<DetectTool> preferredTools = getValue(DetectProperties.DETECT_PROJECT_TOOL);
         Boolean useBdio2 = getValue(DetectProperties.DETECT_BDIO2_ENABLED);
         BlackduckScanMode scanMode = getValue(DetectProperties.DETECT_BLACKDUCK_SCAN_MODE);
+        Boolean concurrentSignatureScan = getValue(DetectProperties.DETECT_BLACKDUCK_SIGNATURE_SCANNER_CONCURRENT);
+        // Streamed code locations are named in the order they finish, which is only repeatable when detectors are extracted one at a time.
+        boolean streamingBdioUpload = getValue(DetectProperties.DETECT_BDIO_UPLOAD_STREAMING) && findExtractionParallelism() == 1;
 
-        return new RunOptions(unmapCodeLocations, aggregateName, aggregateMode, preferredTools, detectToolFilter, useBdio2, scanMode);
+        return new RunOptions(unmapCodeLocations, aggregateName, aggregateMode, preferredTools, detectToolFilter, useBdio2, scanMode, concurrentSignatureScan, streamingBdioUpload);
     }
 
     public DirectoryOptions createDirectoryOptions() throws IOException {
@@ -313,6 +335,11 @@ public class DetectConfigurationFactory {
         return new FilteredFileFinder(userProvidedExcludedFiles);
     }
 
+    public FileFinder createFilteredFileFinder(Path sourcePath, DirectoryIndex directoryIndex) {
+        List<String> userProvidedExcludedFiles = getValue(DetectProperties.DETECT_DETECTOR_SEARCH_EXCLUSION_FILES);
+        return new FilteredFileFinder(userProvidedExcludedFiles, new IndexedFileFinder(directoryIndex));
+    }
+
     public DetectorFinderOptions createSearchOptions(Path sourcePath) {
         //Normal settings
         Integer maxDepth = getValue(DetectProperties.DETECT_DETECTOR_SEARCH_DEPTH);
@@ -332,10 +359,18 @@ public class DetectConfigurationFactory {
 
         DetectDetectorFileFilter fileFilter = new DetectDetectorFileFilter(sourcePath, excludedDirectories, excludedDirectoryPaths, excludedDirectoryPatterns);
 
-        return new DetectorFinderOptions(fileFilter, maxDepth);
+        return new DetectorFinderOptions(fileFilter, maxDepth, findSearchParallelism());
+    }
+
+    public int findSearchParallelism() {
+        return resolveParallelism(getValue(DetectProperties.DETECT_DETECTOR_SEARCH_PARALLELISM));
     }
 
     public DetectorEvaluationOptions createDetectorEvaluationOptions() {
+        return createDetectorEvaluationOptions(null);
+    }
+
+    public DetectorEvaluationOptions createDetectorEvaluationOptions(@Nullable ExtractionCache extractionCache) {
         Boolean forceNestedSearch = getValue(DetectProperties.DETECT_DETECTOR_SEARCH_CONTINUE);
 
         //Detector Filter
@@ -343,13 +378,47 @@ public class DetectConfigurationFactory {
         List<FilterableEnumValue<DetectorType>> included = getValue(DetectProperties.DETECT_INCLUDED_DETECTOR_TYPES);
         ExcludeIncludeEnumFilter detectorFilter = new ExcludeIncludeEnumFilter(excluded, included);
 
-        return new DetectorEvaluationOptions(forceNestedSearch, (rule -> detectorFilter.shouldInclude(rule.getDetectorType())));
+        return new DetectorEvaluationOptions(forceNestedSearch, (rule -> detectorFilter.shouldInclude(rule.getDetectorType())), findExtractionParallelism(), extractionCache);
+    }
+
+    public ExtractionCacheOptions createExtractionCacheOptions() {
+        Path cacheDirectory = getPathOrNull(DetectProperties.DETECT_DETECTOR_EXTRACTION_CACHE_PATH.getProperty());
+        long maximumSizeInBytes = getValue(DetectProperties.DETECT_DETECTOR_EXTRACTION_CACHE_SIZE) * 1024L * 1024L;
+        return new ExtractionCacheOptions(cacheDirectory, maximumSizeInBytes, createExtractionCacheFingerprint());
+    }
+
+    // The detector, path and detector specific property values, since a change to any of them can change what a detector extracts, plus the PATH the tools are found on.
+    private String createExtractionCacheFingerprint() {
+        Map<String, String> fingerprint = new TreeMap<>();
+        try {
+            for (Property property : DetectProperties.allProperties().getProperties()) {
+                PropertyGroupInfo groupInfo = property.getPropertyGroupInfo();
+                if (groupInfo != null && isExtractionGroup(groupInfo.getPrimaryGroup())) {
+                    detectConfiguration.getRaw(property).ifPresent(value -> fingerprint.put(property.getKey(), value));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            // Every provided value is used instead, which can only cause extra cache misses.
+            fingerprint.putAll(detectConfiguration.getRaw());
+        }
+        fingerprint.put("PATH", StringUtils.defaultString(System.getenv("PATH")));
+        return fingerprint.toString();
+    }
+
+    private boolean isExtractionGroup(Group group) {
+        return group == DetectGroup.DETECTOR || group == DetectGroup.PATHS || group.getSuperGroup().filter(superGroup -> superGroup == DetectGroup.DETECTORS).isPresent();
+    }
+
+    public int findExtractionParallelism() {
+        return resolveParallelism(getValue(DetectProperties.DETECT_DETECTOR_EXTRACTION_PARALLELISM));
     }
 
     public BdioOptions createBdioOptions() {
         String prefix = getNullableValue(DetectProperties.DETECT_PROJECT_CODELOCATION_PREFIX);
         String suffix = getNullableValue(DetectProperties.DETECT_PROJECT_CODELOCATION_SUFFIX);
-        return new BdioOptions(prefix, suffix);
+        int uploadParallelism = resolveParallelism(getValue(DetectProperties.DETECT_BDIO_UPLOAD_PARALLELISM));
+        int writeParallelism = resolveParallelism(getValue(DetectProperties.DETECT_BDIO_WRITE_PARALLELISM));
+        return new BdioOptions(prefix, suffix, uploadParallelism, writeParallelism);
     }
 
     public ProjectNameVersionOptions createProjectNameVersionOptions(String sourceDirectoryName) {
@@ -469,7 +538,7 @@ public class DetectConfigurationFactory {
         String codeLocationPrefix = getNullableValue(DetectProperties.DETECT_PROJECT_CODELOCATION_PREFIX);
         String codeLocationSuffix = getNullableValue(DetectProperties.DETECT_PROJECT_CODELOCATION_SUFFIX);
         Integer searchDepth = getValue(DetectProperties.DETECT_BINARY_SCAN_SEARCH_DEPTH);
-        return new BinaryScanOptions(singleTarget, mutlipleTargets, codeLocationPrefix, codeLocationSuffix, searchDepth);
+        return new BinaryScanOptions(singleTarget, mutlipleTargets, codeLocationPrefix, codeLocationSuffix, searchDepth, findParallelProcessors());
     }
 
     public ImpactAnalysisOptions createImpactAnalysisOptions() {
@@ -480,6 +549,10 @@ public class DetectConfigurationFactory {
         return new ImpactAnalysisOptions(enabled, codeLocationPrefix, codeLocationSuffix, outputDirectory);
     }
 
+    public Tracer createTracer() {
+        return new Tracer(getValue(DetectProperties.DETECT_TRACE));
+    }
+
     public DetectExecutableOptions createDetectExecutableOptions() {
         return new DetectExecutableOptions(
             getValue(DetectProperties.DETECT_PYTHON_PYTHON3),
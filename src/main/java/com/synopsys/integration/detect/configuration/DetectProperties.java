@@ -239,6 +239,30 @@ public class DetectProperties {
             .setHelp("The version of BDIO files to generate.", "If set to false, BDIO version 1 will be generated. If set to true, BDIO version 2 will be generated.")
             .setGroups(DetectGroup.PATHS, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<BooleanProperty> DETECT_BDIO_UPLOAD_STREAMING =
+        new DetectProperty<>(new BooleanProperty("detect.bdio.upload.streaming", false))
+            .setInfo("BDIO Streaming Upload", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("If set to true, the BDIO for each code location is written and uploaded as soon as the detector that produced it finishes, while the remaining detectors run.",
+                "Streaming requires both detect.project.name and detect.project.version.name to be provided, and is not used when aggregating (detect.bom.aggregate.name), in rapid scan mode, or when detect.detector.extraction.parallelism is greater than 1; otherwise BDIO is created and uploaded after all detectors finish as usual. When several code locations resolve to the same name, the first keeps the name and the others are suffixed with ' 1', ' 2' and so on in the order the detectors run.")
+            .setGroups(DetectGroup.BLACKDUCK_SERVER, DetectGroup.BLACKDUCK)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_BDIO_UPLOAD_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.bdio.upload.parallelism", 2))
+            .setInfo("BDIO Streaming Upload Parallelism", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("How many BDIO uploads can be in flight at once when detect.bdio.upload.streaming is enabled, or one per processor when 0 or less.",
+                "Detectors that finish while the upload queue is full wait for room in the queue, so only a bounded number of BDIO files are waiting to be uploaded at once.")
+            .setGroups(DetectGroup.BLACKDUCK_SERVER, DetectGroup.BLACKDUCK)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_BDIO_WRITE_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.bdio.write.parallelism", 1))
+            .setInfo("BDIO Write Parallelism", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("How many code location BDIO files are converted and written to the output directory at once, or one per processor when 0 or less.",
+                "The files written are the same regardless of this value. It has no effect when the code locations are aggregated into a single BDIO file.")
+            .setGroups(DetectGroup.PATHS, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_BINARY_SCAN_FILE =
         new DetectProperty<>(new NullablePathProperty("detect.binary.scan.file.path"))
             .setInfo("Binary Scan Target", DetectPropertyFromVersion.VERSION_4_2_0)
@@ -283,6 +307,14 @@ public class DetectProperties {
             .setHelp("The depth at which Detect will search for files generated by Bitbake.")
             .setGroups(DetectGroup.BITBAKE, DetectGroup.SOURCE_SCAN);
 
+    public static final DetectProperty<IntegerProperty> DETECT_BITBAKE_GRAPH_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.bitbake.graph.parallelism", 1))
+            .setInfo("BitBake Graph Parallelism", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("How many task-depends.dot graphs of BitBake packages are parsed at once, or one per processor when 0 or less.",
+                "BitBake only allows one build per build directory, so the graphs are still generated one package at a time. Each graph is parsed while the graph of the next package is generated.")
+            .setGroups(DetectGroup.BITBAKE, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullableStringProperty> DETECT_BLACKDUCK_SIGNATURE_SCANNER_ARGUMENTS =
         new DetectProperty<>(new NullableStringProperty("detect.blackduck.signature.scanner.arguments"))
             .setInfo("Signature Scanner Arguments", DetectPropertyFromVersion.VERSION_4_2_0)
@@ -296,6 +328,13 @@ public class DetectProperties {
             .setHelp("When set to true, user will be able to scan and discover copyright names in Black Duck. Corresponding Signature Scanner CLI Argument: --copyright-search.")
             .setGroups(DetectGroup.SIGNATURE_SCANNER);
 
+    public static final DetectProperty<BooleanProperty> DETECT_BLACKDUCK_SIGNATURE_SCANNER_CONCURRENT =
+        new DetectProperty<>(new BooleanProperty("detect.blackduck.signature.scanner.concurrent", false))
+            .setInfo("Signature Scanner Concurrent", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("If set to true, the signature scan starts as soon as the Docker tool has finished and runs while Bazel and the detectors run.",
+                "The signature scan can only start early when both detect.project.name and detect.project.version.name are provided, since otherwise the project name and version depend on the detectors; when they are not provided, the signature scan runs after the detectors as usual. When online, the project and version are created before the signature scan starts. Signature scan status is reported at the same point as it would be without this property.")
+            .setGroups(DetectGroup.SIGNATURE_SCANNER)
+            .setCategory(DetectCategory.Advanced);
 
     public static final DetectProperty<BooleanProperty> DETECT_BLACKDUCK_SIGNATURE_SCANNER_DRY_RUN =
         new DetectProperty<>(new BooleanProperty("detect.blackduck.signature.scanner.dry.run", false))
@@ -392,6 +431,22 @@ public class DetectProperties {
             .setHelp("If set to true, only Detector's capable of running without a build will be run.")
             .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<IntegerProperty> DETECT_CLANG_PACKAGE_QUERY_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.clang.package.query.parallelism", 1))
+            .setInfo("Clang Package Query Parallelism", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("How many dpkg, rpm or apk ownership queries the Clang detector runs at once, or one per processor when 0 or less.",
+                "For dpkg and apk, the ownership of many dependency files is queried with a single command, limited by the maximum command line length of the system; the remaining queries are run individually. Increasing this value spreads those commands over multiple threads.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<NullablePathProperty> DETECT_CLANG_PACKAGE_CACHE_PATH =
+        new DetectProperty<>(new NullablePathProperty("detect.clang.package.cache.path"))
+            .setInfo("Clang Package Cache Path", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("The path to a directory where the Clang detector remembers which Linux package owns each dependency file between runs.",
+                "A remembered owner is reused while the dependency file keeps its modification time and inode, and all remembered owners are discarded when the package manager's database changes. If not set, every dependency file is queried on each run.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<BooleanProperty> DETECT_CLEANUP =
         new DetectProperty<>(new BooleanProperty("detect.cleanup", true))
             .setInfo("Cleanup Output", DetectPropertyFromVersion.VERSION_3_2_0)
@@ -462,6 +517,37 @@ public class DetectProperties {
             .setGroups(DetectGroup.PATHS, DetectGroup.DETECTOR, DetectGroup.GLOBAL, DetectGroup.SOURCE_SCAN)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<IntegerProperty> DETECT_DETECTOR_SEARCH_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.detector.search.parallelism", 1))
+            .setInfo("Detector Search Parallelism", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("How many directories of the source tree are listed at once while searching for detectors, or one per processor when 0 or less.",
+                "Increasing this value can greatly reduce the time spent searching large source trees or trees on network file systems. The search depth and exclusions behave the same regardless of this value.")
+            .setGroups(DetectGroup.PATHS, DetectGroup.DETECTOR, DetectGroup.GLOBAL, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_DETECTOR_EXTRACTION_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.detector.extraction.parallelism", 1))
+            .setInfo("Detector Extraction Parallelism", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("How many directories can have their applicable detectors extracted at once, or one per processor when 0 or less.",
+                "Detectors within a single directory are always extracted one after another. Only detectors in different directories are extracted concurrently.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<NullablePathProperty> DETECT_DETECTOR_EXTRACTION_CACHE_PATH =
+        new DetectProperty<>(new NullablePathProperty("detect.detector.extraction.cache.path"))
+            .setInfo("Detector Extraction Cache Path", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("The path to a directory where detector extractions are kept so later runs can reuse them instead of running the detector again.",
+                "An extraction is reused while the files the detector reported as relevant (for example the build or lock file), the directory, the detector and path properties, the PATH environment variable and the Detect version are all unchanged. Changes to files the detector does not report as relevant, such as the build files of nested projects or the installed tool versions, are not noticed. If not set, every detector is extracted on each run.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_DETECTOR_EXTRACTION_CACHE_SIZE =
+        new DetectProperty<>(new IntegerProperty("detect.detector.extraction.cache.size", 512))
+            .setInfo("Detector Extraction Cache Size", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("The maximum size in megabytes of the detector extraction cache (detect.detector.extraction.cache.path).", "When the cache grows beyond this size, the extractions that were least recently used are removed.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<BooleanProperty> DETECT_DIAGNOSTIC =
         new DetectProperty<>(new BooleanProperty("detect.diagnostic", false))
             .setInfo("Diagnostic Mode", DetectPropertyFromVersion.VERSION_6_5_0)
@@ -474,6 +560,14 @@ public class DetectProperties {
             .setHelp("When enabled, Synopsys Detect performs the actions of --detect.diagnostic, but also includes relevant files such as lock files and build artifacts.")
             .setGroups(DetectGroup.DEBUG, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<BooleanProperty> DETECT_TRACE =
+        new DetectProperty<>(new BooleanProperty("detect.trace", false))
+            .setInfo("Trace", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("When enabled, Synopsys Detect records how long each tool, detector, executable, BDIO and Black Duck action takes and writes them to a trace file next to the run directory.",
+                "The file uses the Chrome trace event format and can be opened with chrome://tracing or https://ui.perfetto.dev.")
+            .setGroups(DetectGroup.DEBUG, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<BooleanProperty> DETECT_IGNORE_CONNECTION_FAILURES =
         new DetectProperty<>(new BooleanProperty("detect.ignore.connection.failures", false))
             .setInfo("Detect Ignore Connection Failures", DetectPropertyFromVersion.VERSION_5_3_0)
@@ -594,6 +688,14 @@ public class DetectProperties {
             .setHelp("Path of the git executable")
             .setGroups(DetectGroup.PATHS, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<BooleanProperty> DETECT_GO_MOD_CONCURRENT_COMMANDS =
+        new DetectProperty<>(new BooleanProperty("detect.go.mod.concurrent.commands", false))
+            .setInfo("Go Mod Concurrent Commands", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("If true, Detect runs 'go list -m', 'go list -m -u -json all' and 'go mod why -m all' at the same time.",
+                "The output of 'go mod graph' is always parsed while it is read. Running the commands at the same time can greatly reduce the extraction time of large Go modules.")
+            .setGroups(DetectGroup.GO, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_GO_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.go.path"))
             .setInfo("Go Executable", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -706,6 +808,14 @@ public class DetectProperties {
             .setHelp("Lerna allows for private packages that do not get published. Set this to true to include all packages including private packages.")
             .setGroups(DetectGroup.LERNA, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<IntegerProperty> DETECT_LERNA_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.lerna.parallelism", 1))
+            .setInfo("Lerna Parallelism", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("How many Lerna packages have their lockfiles parsed and their graphs built at once, or one per processor when 0 or less.",
+                "The root lockfile is parsed once and shared by every package that does not have a lockfile of its own.")
+            .setGroups(DetectGroup.LERNA, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullableStringProperty> DETECT_MAVEN_BUILD_COMMAND =
         new DetectProperty<>(new NullableStringProperty("detect.maven.build.command"))
             .setInfo("Maven Build Command", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -756,6 +866,14 @@ public class DetectProperties {
             .setGroups(DetectGroup.MAVEN, DetectGroup.GLOBAL)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<IntegerProperty> DETECT_MAVEN_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.maven.parallelism", 1))
+            .setInfo("Maven Parallelism", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("The thread count passed to Maven with -T when building the dependency trees of a multi-module project, also used to parse the module trees; one per processor when 0 or less.",
+                "When greater than 1, Detect runs mvn dependency:tree with -T and -DoutputFile so that each module writes its own tree to a file in the Detect output directory, and parses those files concurrently. This can greatly reduce the extraction time of large reactors.")
+            .setGroups(DetectGroup.MAVEN, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<BooleanProperty> DETECT_NOTICES_REPORT =
         new DetectProperty<>(new BooleanProperty("detect.notices.report", false))
             .setInfo("Generate Notices Report", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -1147,6 +1265,14 @@ public class DetectProperties {
             .setHelp("Depth the sbt detector will use to search for report files.")
             .setGroups(DetectGroup.SBT, DetectGroup.SOURCE_SCAN);
 
+    public static final DetectProperty<IntegerProperty> DETECT_SBT_REPORT_PARALLELISM =
+        new DetectProperty<>(new IntegerProperty("detect.sbt.report.parallelism", 1))
+            .setInfo("SBT Report Parallelism", DetectPropertyFromVersion.VERSION_6_9_0)
+            .setHelp("How many Ivy report files of an sbt resolution cache are parsed at once, or one per processor when 0 or less.",
+                "Builds with many modules and configurations can have thousands of report files in their resolution caches.")
+            .setGroups(DetectGroup.SBT, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_SCAN_OUTPUT_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.scan.output.path"))
             .setInfo("Scan Output Path", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -53,6 +53,7 @@ import com.synopsys.integration.detectable.detectables.conan.cli.ConanCliExtract
 import com.synopsys.integration.detectable.detectables.conan.lockfile.ConanLockfileExtractorOptions;
 import com.synopsys.integration.detectable.detectables.conda.CondaCliDetectableOptions;
 import com.synopsys.integration.detectable.detectables.docker.DockerDetectableOptions;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliDetectableOptions;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorOptions;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.inspector.GradleInspectorScriptOptions;
 import com.synopsys.integration.detectable.detectables.lerna.LernaOptions;
@@ -102,12 +103,15 @@ public class DetectableOptionFactory {
         List<String> sourceArguments = getValue(DetectProperties.DETECT_BITBAKE_SOURCE_ARGUMENTS);
         List<String> packageNames = getValue(DetectProperties.DETECT_BITBAKE_PACKAGE_NAMES);
         Integer searchDepth = getValue(DetectProperties.DETECT_BITBAKE_SEARCH_DEPTH);
-        return new BitbakeDetectableOptions(buildEnvName, sourceArguments, packageNames, searchDepth);
+        int graphParallelism = DetectConfigurationFactory.resolveParallelism(getValue(DetectProperties.DETECT_BITBAKE_GRAPH_PARALLELISM));
+        return new BitbakeDetectableOptions(buildEnvName, sourceArguments, packageNames, searchDepth, graphParallelism);
     }
 
     public ClangDetectableOptions createClangDetectableOptions() {
         Boolean cleanup = getValue(DetectProperties.DETECT_CLEANUP);
-        return new ClangDetectableOptions(cleanup);
+        int packageQueryParallelism = DetectConfigurationFactory.resolveParallelism(getValue(DetectProperties.DETECT_CLANG_PACKAGE_QUERY_PARALLELISM));
+        Path packageCachePath = detectConfiguration.getValue(DetectProperties.DETECT_CLANG_PACKAGE_CACHE_PATH.getProperty()).map(path -> path.resolvePath(pathResolver)).orElse(null);
+        return new ClangDetectableOptions(cleanup, packageQueryParallelism, packageCachePath);
     }
 
     public ComposerLockDetectableOptions createComposerLockDetectableOptions() {
@@ -166,9 +170,15 @@ public class DetectableOptionFactory {
         return new GradleInspectorOptions(gradleBuildCommand, scriptOptions, proxyInfo);
     }
 
+    public GoModCliDetectableOptions createGoModCliDetectableOptions() {
+        Boolean concurrentCommands = getValue(DetectProperties.DETECT_GO_MOD_CONCURRENT_COMMANDS);
+        return new GoModCliDetectableOptions(concurrentCommands);
+    }
+
     public LernaOptions createLernaOptions() {
         Boolean includePrivate = getValue(DetectProperties.DETECT_LERNA_INCLUDE_PRIVATE);
-        return new LernaOptions(includePrivate);
+        int packageParallelism = DetectConfigurationFactory.resolveParallelism(getValue(DetectProperties.DETECT_LERNA_PARALLELISM));
+        return new LernaOptions(includePrivate, packageParallelism);
     }
 
     public MavenCliExtractorOptions createMavenCliOptions() {
@@ -177,7 +187,8 @@ public class DetectableOptionFactory {
         List<String> mavenIncludedScopes = getValue(DetectProperties.DETECT_MAVEN_INCLUDED_SCOPES);
         List<String> mavenExcludedModules = getValue(DetectProperties.DETECT_MAVEN_EXCLUDED_MODULES);
         List<String> mavenIncludedModules = getValue(DetectProperties.DETECT_MAVEN_INCLUDED_MODULES);
-        return new MavenCliExtractorOptions(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules);
+        int mavenParallelism = DetectConfigurationFactory.resolveParallelism(getValue(DetectProperties.DETECT_MAVEN_PARALLELISM));
+        return new MavenCliExtractorOptions(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules, mavenParallelism);
     }
 
     public ConanCliExtractorOptions createConanCliOptions() {
@@ -241,7 +252,8 @@ public class DetectableOptionFactory {
         List<String> includedConfigurations = getValue(DetectProperties.DETECT_SBT_INCLUDED_CONFIGURATIONS);
         List<String> excludedConfigurations = getValue(DetectProperties.DETECT_SBT_EXCLUDED_CONFIGURATIONS);
         Integer reportDepth = getValue(DetectProperties.DETECT_SBT_REPORT_DEPTH);
-        return new SbtResolutionCacheDetectableOptions(includedConfigurations, excludedConfigurations, reportDepth);
+        int reportParallelism = DetectConfigurationFactory.resolveParallelism(getValue(DetectProperties.DETECT_SBT_REPORT_PARALLELISM));
+        return new SbtResolutionCacheDetectableOptions(includedConfigurations, excludedConfigurations, reportDepth, reportParallelism);
     }
 
     public YarnLockOptions createYarnLockOptions() {
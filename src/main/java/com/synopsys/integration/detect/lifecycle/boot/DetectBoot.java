@@ -69,6 +69,7 @@ import com.synopsys.integration.detect.workflow.diagnostic.DiagnosticSystem;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+import com.synopsys.integration.detect.workflow.profiling.Tracer;
 import com.synopsys.integration.rest.proxy.ProxyInfo;
 
 import freemarker.template.Configuration;
@@ -210,7 +211,9 @@ public class DetectBoot {
         //Finished, populate the detect context
         detectContext.registerBean(detectBootFactory.getDetectRun());
         detectContext.registerBean(eventSystem);
-        detectContext.registerBean(detectBootFactory.createDetectorProfiler());
+        Tracer tracer = detectConfigurationFactory.createTracer();
+        detectContext.registerBean(tracer);
+        detectContext.registerBean(detectBootFactory.createDetectorProfiler(tracer));
 
         detectContext.registerBean(detectConfiguration);
         detectContext.registerBean(detectableOptionFactory);
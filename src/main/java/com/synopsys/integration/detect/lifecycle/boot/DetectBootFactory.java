@@ -85,6 +85,7 @@ import com.synopsys.integration.detect.workflow.diagnostic.DiagnosticSystem;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
 import com.synopsys.integration.detect.workflow.profiling.DetectorProfiler;
+import com.synopsys.integration.detect.workflow.profiling.Tracer;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
 import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
 import com.synopsys.integration.util.OperatingSystemType;
@@ -196,8 +197,8 @@ public class DetectBootFactory {
         return new DetectConfigurationBootManager(eventSystem, detectInfo, detectConfigurationReporter);
     }
 
-    public DetectorProfiler createDetectorProfiler() {
-        return new DetectorProfiler(eventSystem);
+    public DetectorProfiler createDetectorProfiler(Tracer tracer) {
+        return new DetectorProfiler(eventSystem, tracer);
     }
 
     public ProductBootFactory createProductBootFactory(DetectConfigurationFactory detectConfigurationFactory) {
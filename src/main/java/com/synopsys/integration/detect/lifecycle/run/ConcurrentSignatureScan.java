@@ -0,0 +1,119 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.lifecycle.run;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.blackduck.codelocation.CodeLocationCreationData;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchOutput;
+import com.synopsys.integration.blackduck.service.model.ProjectVersionWrapper;
+import com.synopsys.integration.common.util.ExecutorUtil;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.lifecycle.run.operation.blackduck.SignatureScanOperation;
+import com.synopsys.integration.detect.lifecycle.run.operation.input.SignatureScanInput;
+import com.synopsys.integration.detect.workflow.event.DeferredEvents;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.util.NameVersion;
+
+// A signature scan started before the other tools finish. Its events are held until it is joined, so the status it reports lands
+// in the same place as a signature scan run in sequence.
+public class ConcurrentSignatureScan {
+    private static final long CANCEL_TIMEOUT_SECONDS = 60;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final NameVersion projectNameVersion;
+    @Nullable
+    private final ProjectVersionWrapper projectVersionWrapper;
+    private final ExecutorService executorService;
+    private final DeferredEvents deferredEvents;
+    private final Future<Optional<CodeLocationCreationData<ScanBatchOutput>>> scanResult;
+
+    private ConcurrentSignatureScan(NameVersion projectNameVersion, @Nullable ProjectVersionWrapper projectVersionWrapper, SignatureScanOperation signatureScanOperation, SignatureScanInput signatureScanInput,
+        EventSystem eventSystem) {
+        this.projectNameVersion = projectNameVersion;
+        this.projectVersionWrapper = projectVersionWrapper;
+        this.deferredEvents = new DeferredEvents(eventSystem);
+        this.executorService = ExecutorUtil.newSingleDaemonThreadExecutor("detect-signature-scan");
+        this.scanResult = executorService.submit(() -> {
+            eventSystem.deferEventsOnCurrentThread(deferredEvents);
+            try {
+                return signatureScanOperation.execute(signatureScanInput);
+            } finally {
+                eventSystem.stopDeferringEventsOnCurrentThread();
+            }
+        });
+        executorService.shutdown();
+    }
+
+    public static ConcurrentSignatureScan start(NameVersion projectNameVersion, @Nullable ProjectVersionWrapper projectVersionWrapper, SignatureScanOperation signatureScanOperation, EventSystem eventSystem,
+        SignatureScanInput signatureScanInput) {
+        return new ConcurrentSignatureScan(projectNameVersion, projectVersionWrapper, signatureScanOperation, signatureScanInput, eventSystem);
+    }
+
+    public NameVersion getProjectNameVersion() {
+        return projectNameVersion;
+    }
+
+    public Optional<ProjectVersionWrapper> getProjectVersionWrapper() {
+        return Optional.ofNullable(projectVersionWrapper);
+    }
+
+    public Optional<CodeLocationCreationData<ScanBatchOutput>> join() throws DetectUserFriendlyException, IntegrationException {
+        try {
+            return ExecutorUtil.getUnwrapped(scanResult, DetectUserFriendlyException.class, IntegrationException.class,
+                cause -> new IntegrationException(String.format("The signature scan failed: %s", cause.getMessage()), cause));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IntegrationException("Interrupted while waiting for the signature scan to finish.", e);
+        } finally {
+            deferredEvents.publish();
+        }
+    }
+
+    public boolean isDone() {
+        return scanResult.isDone();
+    }
+
+    // Interrupting the scan makes the signature scanner tool stop the pool its CLI runs on, so cancelling waits for the scan to unwind
+    // instead of leaving the CLI running after the run has finished.
+    public void cancel() {
+        scanResult.cancel(true);
+        executorService.shutdownNow();
+        try {
+            if (!executorService.awaitTermination(CANCEL_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn(String.format("The signature scan did not stop within %d seconds of being cancelled.", CANCEL_TIMEOUT_SECONDS));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.lifecycle.run;
+
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.blackduck.service.model.ProjectVersionWrapper;
+import com.synopsys.integration.util.NameVersion;
+
+// The project name and version the user provided, and the project version created for them before the tools ran, when online.
+public class ProvidedProjectVersion {
+    private final NameVersion projectNameVersion;
+    @Nullable
+    private final ProjectVersionWrapper projectVersionWrapper;
+
+    public ProvidedProjectVersion(NameVersion projectNameVersion, @Nullable ProjectVersionWrapper projectVersionWrapper) {
+        this.projectNameVersion = projectNameVersion;
+        this.projectVersionWrapper = projectVersionWrapper;
+    }
+
+    public NameVersion getProjectNameVersion() {
+        return projectNameVersion;
+    }
+
+    public Optional<ProjectVersionWrapper> getProjectVersionWrapper() {
+        return Optional.ofNullable(projectVersionWrapper);
+    }
+}
@@ -38,6 +38,8 @@ import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameGen
 import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameManager;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+import com.synopsys.integration.detect.workflow.profiling.Tracer;
+import com.synopsys.integration.detectable.detectable.file.DirectoryIndex;
 import com.synopsys.integration.detectable.detectable.inspector.nuget.NugetInspectorResolver;
 
 public class RunContext {
@@ -55,8 +57,10 @@ public class RunContext {
     private final DetectDetectableFactory detectDetectableFactory;
     private final ExtractionEnvironmentProvider extractionEnvironmentProvider;
     private final CodeLocationConverter codeLocationConverter;
+    private final DirectoryIndex directoryIndex;
     private final Gson gson;
     private final Gson htmlEscapeDisabledGson;
+    private final Tracer tracer;
 
     public RunContext(DetectContext detectContext, ProductRunData productRunData) {
         this.detectContext = detectContext;
@@ -73,9 +77,11 @@ public class RunContext {
         detectDetectableFactory = detectContext.getBean(DetectDetectableFactory.class, nugetInspectorResolver);
         extractionEnvironmentProvider = new ExtractionEnvironmentProvider(directoryManager);
         codeLocationConverter = new CodeLocationConverter(new ExternalIdFactory());
+        directoryIndex = detectContext.getBean(DirectoryIndex.class);
         gson = detectContext.getBean(Gson.class);
         // Can't have more than one instance of Gson registered at the moment.  It causes problems resolving the beans for the application if there is more than one Gson.
         this.htmlEscapeDisabledGson = BlackDuckServicesFactory.createDefaultGsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+        tracer = detectContext.getBean(Tracer.class);
     }
 
     public DetectContext getDetectContext() {
@@ -134,6 +140,10 @@ public class RunContext {
         return codeLocationConverter;
     }
 
+    public DirectoryIndex getDirectoryIndex() {
+        return directoryIndex;
+    }
+
     public RunOptions createRunOptions() {
         return detectConfigurationFactory.createRunOptions();
     }
@@ -145,4 +155,8 @@ public class RunContext {
     public Gson getHtmlEscapeDisabledGson() {
         return htmlEscapeDisabledGson;
     }
+
+    public Tracer getTracer() {
+        return tracer;
+    }
 }
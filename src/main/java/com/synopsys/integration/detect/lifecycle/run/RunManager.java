@@ -22,8 +22,11 @@
  */
 package com.synopsys.integration.detect.lifecycle.run;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Optional;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,11 +52,17 @@ import com.synopsys.integration.detect.tool.impactanalysis.ImpactAnalysisToolRes
 import com.synopsys.integration.detect.util.filter.DetectToolFilter;
 import com.synopsys.integration.detect.workflow.bdio.AggregateOptions;
 import com.synopsys.integration.detect.workflow.bdio.BdioResult;
+import com.synopsys.integration.detect.workflow.bdio.StreamingBdioResult;
+import com.synopsys.integration.detect.workflow.bdio.StreamingBdioUploader;
 import com.synopsys.integration.detect.workflow.blackduck.codelocation.CodeLocationAccumulator;
 import com.synopsys.integration.detect.workflow.blackduck.codelocation.CodeLocationResults;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
 import com.synopsys.integration.detect.workflow.phonehome.PhoneHomeManager;
+import com.synopsys.integration.detect.workflow.profiling.ChromeTraceWriter;
+import com.synopsys.integration.detect.workflow.profiling.TraceSpan;
+import com.synopsys.integration.detect.workflow.profiling.Tracer;
 import com.synopsys.integration.detect.workflow.report.util.ReportConstants;
 import com.synopsys.integration.exception.IntegrationException;
 import com.synopsys.integration.util.NameVersion;
@@ -62,6 +71,28 @@ public class RunManager {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     public RunResult run(RunContext runContext) throws DetectUserFriendlyException, IntegrationException {
+        Tracer tracer = runContext.getTracer();
+        try (TraceSpan ignored = tracer.span("run", "Detect run")) {
+            return runTools(runContext, tracer);
+        } finally {
+            writeTrace(tracer, runContext.getDirectoryManager());
+        }
+    }
+
+    private void writeTrace(Tracer tracer, DirectoryManager directoryManager) {
+        if (!tracer.isEnabled()) {
+            return;
+        }
+        File traceFile = directoryManager.getTraceOutputFile();
+        try {
+            new ChromeTraceWriter().write(traceFile, tracer);
+            logger.info(String.format("Trace file: %s", traceFile.getAbsolutePath()));
+        } catch (IOException e) {
+            logger.warn(String.format("Failed to write the trace file: %s", e.getMessage()));
+        }
+    }
+
+    private RunResult runTools(RunContext runContext, Tracer tracer) throws DetectUserFriendlyException, IntegrationException {
         RunResult runResult = new RunResult();
         ProductRunData productRunData = runContext.getProductRunData();
         OperationFactory operationFactory = new OperationFactory(runContext);
@@ -71,19 +102,48 @@ public class RunManager {
 
         logger.info(ReportConstants.RUN_SEPARATOR);
         if (runContext.getProductRunData().shouldUsePolarisProduct()) {
-            runPolarisProduct(operationFactory, detectToolFilter, runOptions);
+            runPolarisProduct(operationFactory, detectToolFilter, runOptions, tracer);
         } else {
             logger.info("Polaris tools will not be run.");
         }
 
-        UniversalToolsResult universalToolsResult = runUniversalProjectTools(operationFactory, runOptions, detectToolFilter, eventSystem, runResult);
+        boolean dockerFailed = runDockerTool(operationFactory, runOptions, detectToolFilter, runResult, tracer);
+        boolean runSignatureScanConcurrently = shouldRunSignatureScanConcurrently(productRunData, runOptions, detectToolFilter);
+        boolean streamBdioUpload = shouldStreamBdioUpload(productRunData, runOptions);
+        ProvidedProjectVersion providedProjectVersion = null;
+        if (runSignatureScanConcurrently || streamBdioUpload) {
+            providedProjectVersion = createProvidedProjectVersion(productRunData, operationFactory, tracer).orElse(null);
+        }
+        ConcurrentSignatureScan concurrentSignatureScan = null;
+        StreamingBdioUploader streamingBdioUploader = null;
+        try {
+            if (runSignatureScanConcurrently && providedProjectVersion != null) {
+                concurrentSignatureScan = startConcurrentSignatureScan(providedProjectVersion, operationFactory, eventSystem, runResult);
+            }
+            if (streamBdioUpload && providedProjectVersion != null) {
+                logger.info("BDIO will be created and uploaded for each code location as it is extracted.");
+                streamingBdioUploader = operationFactory.createStreamingBdioUploader(providedProjectVersion.getProjectNameVersion());
+                streamingBdioUploader.start();
+            }
+
+            UniversalToolsResult universalToolsResult = runUniversalProjectTools(operationFactory, runOptions, detectToolFilter, eventSystem, runResult, dockerFailed, tracer);
+            eventSystem.flush();
 
-        if (productRunData.shouldUseBlackDuckProduct()) {
-            AggregateOptions aggregateOptions = operationFactory.createAggregateOptionsOperation().execute(universalToolsResult.anyFailed());
-            runBlackDuckProduct(productRunData.getBlackDuckRunData(), operationFactory, runOptions, detectToolFilter, runResult,
-                universalToolsResult.getNameVersion(), aggregateOptions);
-        } else {
-            logger.info("Black Duck tools will not be run.");
+            if (productRunData.shouldUseBlackDuckProduct()) {
+                AggregateOptions aggregateOptions = operationFactory.createAggregateOptionsOperation().execute(universalToolsResult.anyFailed());
+                runBlackDuckProduct(productRunData.getBlackDuckRunData(), operationFactory, runOptions, detectToolFilter, eventSystem, runResult,
+                    universalToolsResult.getNameVersion(), aggregateOptions, providedProjectVersion, concurrentSignatureScan, streamingBdioUploader, tracer);
+            } else {
+                logger.info("Black Duck tools will not be run.");
+            }
+        } finally {
+            if (concurrentSignatureScan != null && !concurrentSignatureScan.isDone()) {
+                logger.debug("Cancelling the signature scan that was started concurrently.");
+                concurrentSignatureScan.cancel();
+            }
+            if (streamingBdioUploader != null) {
+                streamingBdioUploader.cancel();
+            }
         }
 
         logger.info("All tools have finished.");
@@ -92,28 +152,79 @@ public class RunManager {
         return runResult;
     }
 
-    private UniversalToolsResult runUniversalProjectTools(
-        OperationFactory operationFactory,
-        RunOptions runOptions,
-        DetectToolFilter detectToolFilter,
-        EventSystem eventSystem,
-        RunResult runResult
-    ) throws DetectUserFriendlyException, IntegrationException {
-        boolean anythingFailed = false;
-
+    private boolean runDockerTool(OperationFactory operationFactory, RunOptions runOptions, DetectToolFilter detectToolFilter, RunResult runResult, Tracer tracer) throws DetectUserFriendlyException, IntegrationException {
+        boolean dockerFailed = false;
         logger.info(ReportConstants.RUN_SEPARATOR);
         if (!runOptions.shouldPerformRapidModeScan() && detectToolFilter.shouldInclude(DetectTool.DOCKER)) {
             logger.info("Will include the Docker tool.");
-            anythingFailed = anythingFailed || operationFactory.createDockerOperation().execute(runResult);
+            try (TraceSpan ignored = tracer.span("tool", "Docker")) {
+                dockerFailed = operationFactory.createDockerOperation().execute(runResult);
+            }
             logger.info("Docker actions finished.");
         } else {
             logger.info("Docker tool will not be run.");
         }
+        return dockerFailed;
+    }
+
+    // The signature scan only needs the Docker tar and the project name and version, so when the user provided both it can run alongside Bazel and the detectors.
+    private boolean shouldRunSignatureScanConcurrently(ProductRunData productRunData, RunOptions runOptions, DetectToolFilter detectToolFilter) {
+        return runOptions.shouldRunSignatureScanConcurrently() && !runOptions.shouldPerformRapidModeScan() && productRunData.shouldUseBlackDuckProduct() && detectToolFilter.shouldInclude(DetectTool.SIGNATURE_SCAN);
+    }
+
+    // Each code location can only be named and uploaded as it is extracted when its project is already known and it will not be aggregated.
+    private boolean shouldStreamBdioUpload(ProductRunData productRunData, RunOptions runOptions) {
+        return runOptions.shouldStreamBdioUpload() && !runOptions.shouldPerformRapidModeScan() && !runOptions.getAggregateName().isPresent() && productRunData.shouldUseBlackDuckProduct()
+                   && productRunData.getBlackDuckRunData().isOnline();
+    }
+
+    private Optional<ProvidedProjectVersion> createProvidedProjectVersion(ProductRunData productRunData, OperationFactory operationFactory, Tracer tracer) throws DetectUserFriendlyException, IntegrationException {
+        Optional<NameVersion> providedProjectNameVersion = operationFactory.createProjectDecisionOperation().executeProvidedNameVersion();
+        if (!providedProjectNameVersion.isPresent()) {
+            logger.info("The signature scan and BDIO upload will run after the detectors because the project name and version were not both provided.");
+            return Optional.empty();
+        }
+
+        NameVersion projectNameVersion = providedProjectNameVersion.get();
+        BlackDuckRunData blackDuckRunData = productRunData.getBlackDuckRunData();
+        ProjectVersionWrapper projectVersionWrapper = null;
+        if (blackDuckRunData.isOnline()) {
+            // The project is created first so that the scanner, the uploads and the project creation never race to create it.
+            blackDuckRunData.getPhoneHomeManager().ifPresent(PhoneHomeManager::startPhoneHome);
+            logger.debug("Getting or creating project.");
+            try (TraceSpan ignored = tracer.span("blackduck", "Project creation")) {
+                projectVersionWrapper = operationFactory.createProjectCreationOperation().execute(blackDuckRunData.getBlackDuckServicesFactory(), projectNameVersion);
+            }
+        }
+        return Optional.of(new ProvidedProjectVersion(projectNameVersion, projectVersionWrapper));
+    }
+
+    private ConcurrentSignatureScan startConcurrentSignatureScan(ProvidedProjectVersion providedProjectVersion, OperationFactory operationFactory, EventSystem eventSystem, RunResult runResult)
+        throws DetectUserFriendlyException {
+        logger.info(ReportConstants.RUN_SEPARATOR);
+        logger.info("Starting the signature scanner tool while the remaining tools run.");
+        NameVersion projectNameVersion = providedProjectVersion.getProjectNameVersion();
+        SignatureScanInput signatureScanInput = new SignatureScanInput(projectNameVersion, runResult.getDockerTar().orElse(null));
+        return ConcurrentSignatureScan.start(projectNameVersion, providedProjectVersion.getProjectVersionWrapper().orElse(null), operationFactory.createSignatureScanOperation(), eventSystem, signatureScanInput);
+    }
+
+    private UniversalToolsResult runUniversalProjectTools(
+        OperationFactory operationFactory,
+        RunOptions runOptions,
+        DetectToolFilter detectToolFilter,
+        EventSystem eventSystem,
+        RunResult runResult,
+        boolean dockerFailed,
+        Tracer tracer
+    ) throws DetectUserFriendlyException, IntegrationException {
+        boolean anythingFailed = dockerFailed;
 
         logger.info(ReportConstants.RUN_SEPARATOR);
         if (!runOptions.shouldPerformRapidModeScan() && detectToolFilter.shouldInclude(DetectTool.BAZEL)) {
             logger.info("Will include the Bazel tool.");
-            anythingFailed = anythingFailed || operationFactory.createBazelOperation().execute(runResult);
+            try (TraceSpan ignored = tracer.span("tool", "Bazel")) {
+                anythingFailed = anythingFailed || operationFactory.createBazelOperation().execute(runResult);
+            }
             logger.info("Bazel actions finished.");
         } else {
             logger.info("Bazel tool will not be run.");
@@ -122,7 +233,9 @@ public class RunManager {
         logger.info(ReportConstants.RUN_SEPARATOR);
         if (detectToolFilter.shouldInclude(DetectTool.DETECTOR)) {
             logger.info("Will include the detector tool.");
-            anythingFailed = anythingFailed || operationFactory.createDetectorOperation().execute(runResult);
+            try (TraceSpan ignored = tracer.span("tool", "Detectors")) {
+                anythingFailed = anythingFailed || operationFactory.createDetectorOperation().execute(runResult);
+            }
             logger.info("Detector actions finished.");
         } else {
             logger.info("Detector tool will not be run.");
@@ -147,37 +260,60 @@ public class RunManager {
         }
     }
 
-    private void runPolarisProduct(OperationFactory operationFactory, DetectToolFilter detectToolFilter, RunOptions runOptions) {
+    private void runPolarisProduct(OperationFactory operationFactory, DetectToolFilter detectToolFilter, RunOptions runOptions, Tracer tracer) {
         logger.info(ReportConstants.RUN_SEPARATOR);
         if (detectToolFilter.shouldInclude(DetectTool.POLARIS) && !runOptions.shouldPerformRapidModeScan()) {
             logger.info("Will include the Polaris tool.");
-            operationFactory.createPolarisOperation().execute();
+            try (TraceSpan ignored = tracer.span("tool", "Polaris")) {
+                operationFactory.createPolarisOperation().execute();
+            }
             logger.info("Polaris actions finished.");
         } else {
             logger.info("Polaris CLI tool will not be run.");
         }
     }
 
-    private void runBlackDuckProduct(BlackDuckRunData blackDuckRunData, OperationFactory operationFactory, RunOptions runOptions, DetectToolFilter detectToolFilter, RunResult runResult, NameVersion projectNameVersion,
-        AggregateOptions aggregateOptions)
+    private void runBlackDuckProduct(BlackDuckRunData blackDuckRunData, OperationFactory operationFactory, RunOptions runOptions, DetectToolFilter detectToolFilter, EventSystem eventSystem, RunResult runResult,
+        NameVersion projectNameVersion, AggregateOptions aggregateOptions, @Nullable ProvidedProjectVersion providedProjectVersion, @Nullable ConcurrentSignatureScan concurrentSignatureScan,
+        @Nullable StreamingBdioUploader streamingBdioUploader, Tracer tracer)
         throws IntegrationException, DetectUserFriendlyException {
 
         logger.debug("Black Duck tools will run.");
 
         ProjectVersionWrapper projectVersionWrapper = null;
 
-        BdioInput bdioInput = new BdioInput(aggregateOptions, projectNameVersion, runResult.getDetectCodeLocations());
-        BdioResult bdioResult = operationFactory.createBdioFileGenerationOperation().execute(bdioInput);
+        BdioResult bdioResult;
+        StreamingBdioResult streamingBdioResult = null;
+        if (streamingBdioUploader != null) {
+            logger.info("Waiting for the BDIO uploads that were started as code locations were extracted.");
+            try (TraceSpan ignored = tracer.span("bdio", "Wait for BDIO uploads")) {
+                streamingBdioResult = streamingBdioUploader.finish(runResult.getDetectCodeLocations());
+            }
+            bdioResult = streamingBdioResult.getBdioResult();
+            eventSystem.publishEvent(Event.DetectCodeLocationNamesCalculated, bdioResult.getCodeLocationNamesResult());
+        } else {
+            BdioInput bdioInput = new BdioInput(aggregateOptions, projectNameVersion, runResult.getDetectCodeLocations());
+            try (TraceSpan ignored = tracer.span("bdio", "BDIO generation")) {
+                bdioResult = operationFactory.createBdioFileGenerationOperation().execute(bdioInput);
+            }
+        }
         if (runOptions.shouldPerformRapidModeScan() && blackDuckRunData.isOnline()) {
             logger.info(ReportConstants.RUN_SEPARATOR);
             RapidScanInput rapidScanInput = new RapidScanInput(projectNameVersion, bdioResult);
-            operationFactory.createRapidScanOperation().execute(blackDuckRunData, blackDuckRunData.getBlackDuckServicesFactory(), rapidScanInput);
+            try (TraceSpan ignored = tracer.span("blackduck", "Rapid scan")) {
+                operationFactory.createRapidScanOperation().execute(blackDuckRunData, blackDuckRunData.getBlackDuckServicesFactory(), rapidScanInput);
+            }
         } else {
-            if (blackDuckRunData.isOnline()) {
+            if (providedProjectVersion != null) {
+                logger.debug("The project and version were created before the tools started.");
+                projectVersionWrapper = providedProjectVersion.getProjectVersionWrapper().orElse(null);
+            } else if (blackDuckRunData.isOnline()) {
                 blackDuckRunData.getPhoneHomeManager().ifPresent(PhoneHomeManager::startPhoneHome);
                 BlackDuckServicesFactory blackDuckServicesFactory = blackDuckRunData.getBlackDuckServicesFactory();
                 logger.debug("Getting or creating project.");
-                projectVersionWrapper = operationFactory.createProjectCreationOperation().execute(blackDuckServicesFactory, projectNameVersion);
+                try (TraceSpan ignored = tracer.span("blackduck", "Project creation")) {
+                    projectVersionWrapper = operationFactory.createProjectCreationOperation().execute(blackDuckServicesFactory, projectNameVersion);
+                }
             } else {
                 logger.debug("Detect is not online, and will not create the project.");
             }
@@ -186,17 +322,32 @@ public class RunManager {
             logger.debug("Processing Detect Code Locations.");
 
             CodeLocationAccumulator codeLocationAccumulator = new CodeLocationAccumulator<>();
-            Optional<CodeLocationCreationData<UploadBatchOutput>> uploadResult = operationFactory.createBdioUploadOperation().execute(blackDuckRunData, bdioResult);
-            uploadResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
+            if (streamingBdioResult != null) {
+                streamingBdioResult.getUploadResults().forEach(codeLocationAccumulator::addWaitableCodeLocation);
+            } else {
+                try (TraceSpan ignored = tracer.span("bdio", "BDIO upload")) {
+                    Optional<CodeLocationCreationData<UploadBatchOutput>> uploadResult = operationFactory.createBdioUploadOperation().execute(blackDuckRunData, bdioResult);
+                    uploadResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
+                }
+            }
 
             logger.debug("Completed Detect Code Location processing.");
 
             logger.info(ReportConstants.RUN_SEPARATOR);
-            if (detectToolFilter.shouldInclude(DetectTool.SIGNATURE_SCAN)) {
+            if (concurrentSignatureScan != null) {
+                logger.info("Waiting for the signature scanner tool that was started concurrently.");
+                try (TraceSpan ignored = tracer.span("tool", "Wait for signature scan")) {
+                    Optional<CodeLocationCreationData<ScanBatchOutput>> signatureScanResult = concurrentSignatureScan.join();
+                    signatureScanResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
+                }
+                logger.info("Signature scanner actions finished.");
+            } else if (detectToolFilter.shouldInclude(DetectTool.SIGNATURE_SCAN)) {
                 logger.info("Will include the signature scanner tool.");
                 SignatureScanInput signatureScanInput = new SignatureScanInput(projectNameVersion, runResult.getDockerTar().orElse(null));
-                Optional<CodeLocationCreationData<ScanBatchOutput>> signatureScanResult = operationFactory.createSignatureScanOperation().execute(signatureScanInput);
-                signatureScanResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
+                try (TraceSpan ignored = tracer.span("tool", "Signature scan")) {
+                    Optional<CodeLocationCreationData<ScanBatchOutput>> signatureScanResult = operationFactory.createSignatureScanOperation().execute(signatureScanInput);
+                    signatureScanResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
+                }
                 logger.info("Signature scanner actions finished.");
             } else {
                 logger.info("Signature scan tool will not be run.");
@@ -206,8 +357,10 @@ public class RunManager {
             if (detectToolFilter.shouldInclude(DetectTool.BINARY_SCAN)) {
                 logger.info("Will include the binary scanner tool.");
                 if (blackDuckRunData.isOnline()) {
-                    Optional<CodeLocationCreationData<BinaryScanBatchOutput>> binaryScanResult = operationFactory.createBinaryScanOperation().execute(projectNameVersion);
-                    binaryScanResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
+                    try (TraceSpan ignored = tracer.span("tool", "Binary scan")) {
+                        Optional<CodeLocationCreationData<BinaryScanBatchOutput>> binaryScanResult = operationFactory.createBinaryScanOperation().execute(projectNameVersion);
+                        binaryScanResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
+                    }
                 }
                 logger.info("Binary scanner actions finished.");
             } else {
@@ -218,7 +371,10 @@ public class RunManager {
             if (detectToolFilter.shouldInclude(DetectTool.IMPACT_ANALYSIS) && impactAnalysisOperation.shouldImpactAnalysisToolRun()) {
                 logger.info("Will include the Vulnerability Impact Analysis tool.");
                 ImpactAnalysisInput impactAnalysisInput = new ImpactAnalysisInput(projectNameVersion, projectVersionWrapper);
-                ImpactAnalysisToolResult impactAnalysisToolResult = impactAnalysisOperation.execute(impactAnalysisInput);
+                ImpactAnalysisToolResult impactAnalysisToolResult;
+                try (TraceSpan ignored = tracer.span("tool", "Impact analysis")) {
+                    impactAnalysisToolResult = impactAnalysisOperation.execute(impactAnalysisInput);
+                }
                 /* TODO: There is currently no mechanism within Black Duck for checking the completion status of an Impact Analysis code location. Waiting should happen here when such a mechanism exists. See HUB-25142. JM - 08/2020 */
                 codeLocationAccumulator.addNonWaitableCodeLocation(impactAnalysisToolResult.getCodeLocationNames());
                 logger.info("Vulnerability Impact Analysis tool actions finished.");
@@ -236,7 +392,9 @@ public class RunManager {
                 logger.info("Will perform Black Duck post actions.");
                 BlackDuckServicesFactory blackDuckServicesFactory = blackDuckRunData.getBlackDuckServicesFactory();
                 FullScanPostProcessingInput fullScanPostProcessingInput = new FullScanPostProcessingInput(projectNameVersion, bdioResult, codeLocationResults, projectVersionWrapper);
-                operationFactory.createFullScanPostProcessingOperation().execute(blackDuckServicesFactory, fullScanPostProcessingInput);
+                try (TraceSpan ignored = tracer.span("blackduck", "Post actions")) {
+                    operationFactory.createFullScanPostProcessingOperation().execute(blackDuckServicesFactory, fullScanPostProcessingInput);
+                }
                 logger.info("Black Duck actions have finished.");
             } else {
                 logger.debug("Will not perform Black Duck post actions: Detect is not online.");
@@ -40,8 +40,20 @@ public class RunOptions {
     private final DetectToolFilter detectToolFilter;
     private final boolean useBdio2;
     private final BlackduckScanMode scanMode;
+    private final boolean concurrentSignatureScan;
+    private final boolean streamingBdioUpload;
 
     public RunOptions(boolean unmapCodeLocations, @Nullable String aggregateName, AggregateMode aggregateMode, List<DetectTool> preferredTools, DetectToolFilter detectToolFilter, boolean useBdio2, BlackduckScanMode scanMode) {
+        this(unmapCodeLocations, aggregateName, aggregateMode, preferredTools, detectToolFilter, useBdio2, scanMode, false);
+    }
+
+    public RunOptions(boolean unmapCodeLocations, @Nullable String aggregateName, AggregateMode aggregateMode, List<DetectTool> preferredTools, DetectToolFilter detectToolFilter, boolean useBdio2, BlackduckScanMode scanMode,
+        boolean concurrentSignatureScan) {
+        this(unmapCodeLocations, aggregateName, aggregateMode, preferredTools, detectToolFilter, useBdio2, scanMode, concurrentSignatureScan, false);
+    }
+
+    public RunOptions(boolean unmapCodeLocations, @Nullable String aggregateName, AggregateMode aggregateMode, List<DetectTool> preferredTools, DetectToolFilter detectToolFilter, boolean useBdio2, BlackduckScanMode scanMode,
+        boolean concurrentSignatureScan, boolean streamingBdioUpload) {
         this.unmapCodeLocations = unmapCodeLocations;
         this.aggregateName = aggregateName;
         this.aggregateMode = aggregateMode;
@@ -49,6 +61,8 @@ public class RunOptions {
         this.detectToolFilter = detectToolFilter;
         this.useBdio2 = useBdio2;
         this.scanMode = scanMode;
+        this.concurrentSignatureScan = concurrentSignatureScan;
+        this.streamingBdioUpload = streamingBdioUpload;
     }
 
     public boolean shouldUnmapCodeLocations() {
@@ -82,4 +96,12 @@ public class RunOptions {
     public boolean shouldPerformRapidModeScan() {
         return BlackduckScanMode.RAPID == scanMode;
     }
+
+    public boolean shouldRunSignatureScanConcurrently() {
+        return concurrentSignatureScan;
+    }
+
+    public boolean shouldStreamBdioUpload() {
+        return streamingBdioUpload;
+    }
 }
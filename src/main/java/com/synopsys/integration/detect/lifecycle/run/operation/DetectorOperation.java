@@ -25,8 +25,13 @@ package com.synopsys.integration.detect.lifecycle.run.operation;
 import java.nio.file.Path;
 import java.util.List;
 
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.synopsys.integration.configuration.config.PropertyConfiguration;
 import com.synopsys.integration.detect.configuration.DetectConfigurationFactory;
+import com.synopsys.integration.detect.configuration.DetectInfo;
 import com.synopsys.integration.detect.configuration.DetectProperties;
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
 import com.synopsys.integration.detect.configuration.enumeration.DetectTool;
@@ -39,10 +44,13 @@ import com.synopsys.integration.detect.tool.detector.DetectorIssuePublisher;
 import com.synopsys.integration.detect.tool.detector.DetectorRuleFactory;
 import com.synopsys.integration.detect.tool.detector.DetectorTool;
 import com.synopsys.integration.detect.tool.detector.DetectorToolResult;
+import com.synopsys.integration.detect.tool.detector.extraction.ExtractionCacheOptions;
 import com.synopsys.integration.detect.tool.detector.extraction.ExtractionEnvironmentProvider;
+import com.synopsys.integration.detect.tool.detector.extraction.FileExtractionCache;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+import com.synopsys.integration.detectable.detectable.file.DirectoryIndex;
 import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
 import com.synopsys.integration.detector.finder.DetectorFinder;
@@ -52,6 +60,7 @@ import com.synopsys.integration.exception.IntegrationException;
 import com.synopsys.integration.util.NameVersion;
 
 public class DetectorOperation {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private PropertyConfiguration detectConfiguration;
     private DetectConfigurationFactory detectConfigurationFactory;
     private DirectoryManager directoryManager;
@@ -59,9 +68,11 @@ public class DetectorOperation {
     private DetectDetectableFactory detectDetectableFactory;
     private ExtractionEnvironmentProvider extractionEnvironmentProvider;
     private CodeLocationConverter codeLocationConverter;
+    private DirectoryIndex directoryIndex;
+    private DetectInfo detectInfo;
 
     public DetectorOperation(PropertyConfiguration detectConfiguration, DetectConfigurationFactory detectConfigurationFactory, DirectoryManager directoryManager, EventSystem eventSystem,
-        DetectDetectableFactory detectDetectableFactory, ExtractionEnvironmentProvider extractionEnvironmentProvider, CodeLocationConverter codeLocationConverter) {
+        DetectDetectableFactory detectDetectableFactory, ExtractionEnvironmentProvider extractionEnvironmentProvider, CodeLocationConverter codeLocationConverter, DirectoryIndex directoryIndex, DetectInfo detectInfo) {
         this.detectConfiguration = detectConfiguration;
         this.detectConfigurationFactory = detectConfigurationFactory;
         this.directoryManager = directoryManager;
@@ -69,6 +80,8 @@ public class DetectorOperation {
         this.detectDetectableFactory = detectDetectableFactory;
         this.extractionEnvironmentProvider = extractionEnvironmentProvider;
         this.codeLocationConverter = codeLocationConverter;
+        this.directoryIndex = directoryIndex;
+        this.detectInfo = detectInfo;
     }
 
     public boolean execute(RunResult runResult) throws DetectUserFriendlyException, IntegrationException {
@@ -81,12 +94,20 @@ public class DetectorOperation {
 
         Path sourcePath = directoryManager.getSourceDirectory().toPath();
         DetectorFinderOptions finderOptions = detectConfigurationFactory.createSearchOptions(sourcePath);
-        DetectorEvaluationOptions detectorEvaluationOptions = detectConfigurationFactory.createDetectorEvaluationOptions();
+        FileExtractionCache extractionCache = createExtractionCache(detectConfigurationFactory.createExtractionCacheOptions());
+        DetectorEvaluationOptions detectorEvaluationOptions = detectConfigurationFactory.createDetectorEvaluationOptions(extractionCache);
+
+        // Extractions may modify the source tree, so the directory listings gathered during the search are only trusted until then.
+        eventSystem.registerListener(Event.PreparationsCompleted, evaluationTree -> directoryIndex.invalidate());
 
         DetectorIssuePublisher detectorIssuePublisher = new DetectorIssuePublisher();
-        DetectorTool detectorTool = new DetectorTool(new DetectorFinder(), extractionEnvironmentProvider, eventSystem, codeLocationConverter, detectorIssuePublisher);
+        DetectorTool detectorTool = new DetectorTool(new DetectorFinder(directoryIndex), extractionEnvironmentProvider, eventSystem, codeLocationConverter, detectorIssuePublisher);
         DetectorToolResult detectorToolResult = detectorTool.performDetectors(directoryManager.getSourceDirectory(), detectRuleSet, finderOptions, detectorEvaluationOptions, projectBomTool, requiredDetectors);
 
+        if (extractionCache != null) {
+            logger.info(String.format("Reused %d detector extractions from the extraction cache.", extractionCache.getHitCount()));
+        }
+
         detectorToolResult.getBomToolProjectNameVersion().ifPresent(it -> runResult.addToolNameVersion(DetectTool.DETECTOR, new NameVersion(it.getName(), it.getVersion())));
         runResult.addDetectCodeLocations(detectorToolResult.getBomToolCodeLocations());
         boolean anythingFailed = false;
@@ -96,4 +117,11 @@ public class DetectorOperation {
         }
         return anythingFailed;
     }
+
+    @Nullable
+    private FileExtractionCache createExtractionCache(ExtractionCacheOptions extractionCacheOptions) {
+        return extractionCacheOptions.getCacheDirectory()
+                   .map(cacheDirectory -> new FileExtractionCache(cacheDirectory.toFile(), extractionCacheOptions.getMaximumSizeInBytes(), detectInfo.getDetectVersion() + extractionCacheOptions.getConfigurationFingerprint()))
+                   .orElse(null);
+    }
 }
@@ -49,13 +49,17 @@ import com.synopsys.integration.detect.tool.impactanalysis.service.ImpactAnalysi
 import com.synopsys.integration.detect.tool.signaturescanner.BlackDuckSignatureScannerOptions;
 import com.synopsys.integration.detect.tool.signaturescanner.BlackDuckSignatureScannerTool;
 import com.synopsys.integration.detect.workflow.bdio.BdioManager;
+import com.synopsys.integration.detect.workflow.bdio.CodeLocationBdioCreator;
+import com.synopsys.integration.detect.workflow.bdio.StreamingBdioUploader;
 import com.synopsys.integration.detect.workflow.blackduck.BlackDuckPostOptions;
+import com.synopsys.integration.detect.workflow.blackduck.DetectBdioUploadService;
 import com.synopsys.integration.detect.workflow.blackduck.DetectCustomFieldService;
 import com.synopsys.integration.detect.workflow.blackduck.DetectProjectServiceOptions;
 import com.synopsys.integration.detect.workflow.blackduck.codelocation.CodeLocationResultCalculator;
 import com.synopsys.integration.detect.workflow.project.ProjectNameVersionDecider;
 import com.synopsys.integration.detect.workflow.project.ProjectNameVersionOptions;
 import com.synopsys.integration.util.IntegrationEscapeUtil;
+import com.synopsys.integration.util.NameVersion;
 import com.synopsys.integration.util.NoThreadExecutorService;
 
 public class OperationFactory {
@@ -68,7 +72,7 @@ public class OperationFactory {
     }
 
     public final PolarisOperation createPolarisOperation() {
-        return new PolarisOperation(runContext.getProductRunData(), runContext.getDetectConfiguration(), runContext.getDirectoryManager(), runContext.getEventSystem());
+        return new PolarisOperation(runContext.getProductRunData(), runContext.getDetectConfiguration(), runContext.getDirectoryManager(), runContext.getEventSystem(), runContext.getTracer());
     }
 
     public final DockerOperation createDockerOperation() {
@@ -83,7 +87,7 @@ public class OperationFactory {
 
     public final DetectorOperation createDetectorOperation() {
         return new DetectorOperation(runContext.getDetectConfiguration(), runContext.getDetectConfigurationFactory(), runContext.getDirectoryManager(), runContext.getEventSystem(), runContext.getDetectDetectableFactory(),
-            runContext.getExtractionEnvironmentProvider(), runContext.getCodeLocationConverter());
+            runContext.getExtractionEnvironmentProvider(), runContext.getCodeLocationConverter(), runContext.getDirectoryIndex(), runContext.getDetectInfo());
     }
 
     public final RapidScanOperation createRapidScanOperation() {
@@ -100,6 +104,14 @@ public class OperationFactory {
         return new BdioFileGenerationOperation(runOptions, runContext.getDetectConfigurationFactory().createBdioOptions(), bdioManager, runContext.getEventSystem());
     }
 
+    public final StreamingBdioUploader createStreamingBdioUploader(NameVersion projectNameVersion) {
+        BlackDuckServicesFactory blackDuckServicesFactory = runContext.getProductRunData().getBlackDuckRunData().getBlackDuckServicesFactory();
+        CodeLocationBdioCreator codeLocationBdioCreator = new CodeLocationBdioCreator(runContext.getDetectInfo());
+        return new StreamingBdioUploader(runContext.getEventSystem(), runContext.getBdioCodeLocationCreator(), codeLocationBdioCreator, new DetectBdioUploadService(), blackDuckServicesFactory.createBdioUploadService(),
+            blackDuckServicesFactory.createBdio2UploadService(), runContext.getDirectoryManager().getBdioOutputDirectory(), runContext.getDetectConfigurationFactory().createBdioOptions(), projectNameVersion,
+            runOptions.shouldUseBdio2(), runContext.getTracer());
+    }
+
     public final BinaryScanOperation createBinaryScanOperation() {
         BlackDuckRunData blackDuckRunData = runContext.getProductRunData().getBlackDuckRunData();
         BinaryScanOptions binaryScanOptions = runContext.getDetectConfigurationFactory().createBinaryScanOptions();
@@ -31,6 +31,7 @@ import com.synopsys.integration.detect.tool.detector.executable.DetectExecutable
 import com.synopsys.integration.detect.tool.polaris.PolarisTool;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+import com.synopsys.integration.detect.workflow.profiling.Tracer;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.log.Slf4jIntLogger;
 import com.synopsys.integration.polaris.common.configuration.PolarisServerConfig;
@@ -42,17 +43,19 @@ public class PolarisOperation {
     private PropertyConfiguration detectConfiguration;
     private DirectoryManager directoryManager;
     private EventSystem eventSystem;
+    private Tracer tracer;
 
-    public PolarisOperation(ProductRunData productRunData, PropertyConfiguration detectConfiguration, DirectoryManager directoryManager, EventSystem eventSystem) {
+    public PolarisOperation(ProductRunData productRunData, PropertyConfiguration detectConfiguration, DirectoryManager directoryManager, EventSystem eventSystem, Tracer tracer) {
         this.productRunData = productRunData;
         this.detectConfiguration = detectConfiguration;
         this.directoryManager = directoryManager;
         this.eventSystem = eventSystem;
+        this.tracer = tracer;
     }
 
     public void execute() {
         PolarisServerConfig polarisServerConfig = productRunData.getPolarisRunData().getPolarisServerConfig();
-        DetectableExecutableRunner polarisExecutableRunner = DetectExecutableRunner.newInfo(eventSystem);
+        DetectableExecutableRunner polarisExecutableRunner = DetectExecutableRunner.newInfo(eventSystem, tracer);
         PolarisTool polarisTool = new PolarisTool(eventSystem, directoryManager, polarisExecutableRunner, detectConfiguration, polarisServerConfig);
         polarisTool.runPolaris(new Slf4jIntLogger(logger), directoryManager.getSourceDirectory());
     }
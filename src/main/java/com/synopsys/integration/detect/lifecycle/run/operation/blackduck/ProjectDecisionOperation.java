@@ -23,6 +23,7 @@
 package com.synopsys.integration.detect.lifecycle.run.operation.blackduck;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
 import com.synopsys.integration.detect.lifecycle.run.RunOptions;
@@ -43,4 +44,8 @@ public class ProjectDecisionOperation {
     public NameVersion execute(List<DetectToolProjectInfo> detectToolProjectInfoList) throws DetectUserFriendlyException, IntegrationException {
         return projectNameVersionDecider.decideProjectNameVersion(runOptions.getPreferredTools(), detectToolProjectInfoList);
     }
+
+    public Optional<NameVersion> executeProvidedNameVersion() {
+        return projectNameVersionDecider.decideProvidedProjectNameVersion();
+    }
 }
@@ -35,13 +35,19 @@ public class BinaryScanOptions {
     private final String codeLocationPrefix;
     private final String codeLocationSuffix;
     private final int searchDepth;
+    private final int archiveParallelism;
 
     public BinaryScanOptions(@Nullable Path singleTargetFilePath, List<String> multipleTargetFileNamePatterns, String codeLocationPrefix, String codeLocationSuffix, int searchDepth) {
+        this(singleTargetFilePath, multipleTargetFileNamePatterns, codeLocationPrefix, codeLocationSuffix, searchDepth, 1);
+    }
+
+    public BinaryScanOptions(@Nullable Path singleTargetFilePath, List<String> multipleTargetFileNamePatterns, String codeLocationPrefix, String codeLocationSuffix, int searchDepth, int archiveParallelism) {
         this.singleTargetFilePath = singleTargetFilePath;
         this.multipleTargetFileNamePatterns = multipleTargetFileNamePatterns;
         this.codeLocationPrefix = codeLocationPrefix;
         this.codeLocationSuffix = codeLocationSuffix;
         this.searchDepth = searchDepth;
+        this.archiveParallelism = archiveParallelism;
     }
 
     public List<String> getMultipleTargetFileNamePatterns() {
@@ -63,4 +69,8 @@ public class BinaryScanOptions {
     public int getSearchDepth() {
         return searchDepth;
     }
+
+    public int getArchiveParallelism() {
+        return archiveParallelism;
+    }
 }
@@ -32,6 +32,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.StopWatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -105,8 +106,10 @@ public class BlackDuckBinaryScannerTool {
                     final String zipPath = "binary-upload.zip";
                     File zip = new File(directoryManager.getBinaryOutputDirectory(), zipPath);
                     Map<String, Path> uploadTargets = multipleTargets.stream().collect(Collectors.toMap(File::getName, File::toPath));
-                    DetectZipUtil.zip(zip, uploadTargets);
-                    logger.info("Binary scan created the following zip for upload: " + zip.toPath());
+                    StopWatch stopWatch = new StopWatch();
+                    stopWatch.start();
+                    DetectZipUtil.zip(zip, uploadTargets, binaryScanOptions.getArchiveParallelism(), new File(directoryManager.getBinaryOutputDirectory(), "zip-scratch"));
+                    logger.info(String.format("Binary scan created the following zip for upload in %d ms: %s", stopWatch.getTime(), zip.toPath()));
                     binaryUpload = zip;
                 } catch (IOException e) {
                     throw new DetectUserFriendlyException("Unable to create binary scan archive for upload.", e, ExitCodeType.FAILURE_UNKNOWN_ERROR);
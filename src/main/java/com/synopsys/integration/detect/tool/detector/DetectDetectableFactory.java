@@ -139,7 +139,7 @@ public class DetectDetectableFactory {
     }
 
     public GoModCliDetectable createGoModCliDetectable(DetectableEnvironment environment) {
-        return detectableFactory.createGoModCliDetectable(environment, detectExecutableResolver);
+        return detectableFactory.createGoModCliDetectable(environment, detectExecutableResolver, detectableOptionFactory.createGoModCliDetectableOptions());
     }
 
     public GoDepLockDetectable createGoLockDetectable(DetectableEnvironment environment) {
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -44,6 +45,7 @@ import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodeRequest;
 import com.synopsys.integration.detect.tool.detector.extraction.ExtractionEnvironmentProvider;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
 import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventListener;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.nameversion.DetectorNameVersionHandler;
 import com.synopsys.integration.detect.workflow.nameversion.PreferredDetectorNameVersionHandler;
@@ -134,7 +136,21 @@ public class DetectorTool {
 
         detectorEvaluator.registerPostExtractionCallback(detectorAggregateEvaluationResult -> eventSystem.publishEvent(Event.ExtractionsCompleted, detectorAggregateEvaluationResult.getEvaluationTree()));
 
-        DetectorAggregateEvaluationResult evaluationResult = detectorEvaluator.evaluate(rootEvaluation);
+        // Code locations are converted as each extraction ends so they can be processed before the remaining detectors finish.
+        Map<DetectorEvaluation, Map<CodeLocation, DetectCodeLocation>> convertedCodeLocations = new ConcurrentHashMap<>();
+        EventListener<DetectorEvaluation> extractionEndedListener = detectorEvaluation -> {
+            if (detectorEvaluation.wasExtractionSuccessful()) {
+                convertCodeLocations(convertedCodeLocations, detectorEvaluation, directory).values()
+                    .forEach(detectCodeLocation -> eventSystem.publishEvent(Event.DetectCodeLocationExtracted, detectCodeLocation));
+            }
+        };
+        eventSystem.registerListener(Event.ExtractionEnded, extractionEndedListener);
+        DetectorAggregateEvaluationResult evaluationResult;
+        try {
+            evaluationResult = detectorEvaluator.evaluate(rootEvaluation);
+        } finally {
+            eventSystem.unregisterListener(Event.ExtractionEnded, extractionEndedListener);
+        }
 
         logger.debug("Finished detectors.");
 
@@ -146,7 +162,7 @@ public class DetectorTool {
         detectorIssuePublisher.publishEvents(eventSystem, rootEvaluation);
         publishMissingDetectorEvents(requiredDetectors, evaluationResult.getApplicableDetectorTypes());
 
-        Map<CodeLocation, DetectCodeLocation> codeLocationMap = createCodeLocationMap(detectorEvaluations, directory);
+        Map<CodeLocation, DetectCodeLocation> codeLocationMap = createCodeLocationMap(convertedCodeLocations, detectorEvaluations, directory);
 
         DetectorToolResult detectorToolResult = new DetectorToolResult(
             detectorNameVersionHandler.finalDecision().getChosenNameVersion().orElse(null),
@@ -255,15 +271,20 @@ public class DetectorTool {
         return Optional.ofNullable(statusType);
     }
 
-    private Map<CodeLocation, DetectCodeLocation> createCodeLocationMap(List<DetectorEvaluation> detectorEvaluations, File directory) {
+    private Map<CodeLocation, DetectCodeLocation> createCodeLocationMap(Map<DetectorEvaluation, Map<CodeLocation, DetectCodeLocation>> convertedCodeLocations, List<DetectorEvaluation> detectorEvaluations, File directory) {
         return detectorEvaluations.stream()
                    .filter(DetectorEvaluation::wasExtractionSuccessful)
-                   .map(it -> codeLocationConverter.toDetectCodeLocation(directory, it))
+                   .map(it -> convertCodeLocations(convertedCodeLocations, it, directory))
                    .map(Map::entrySet)
                    .flatMap(Collection::stream)
                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
+    // Reuses an earlier conversion so that listeners and the tool result see the same code location instances.
+    private Map<CodeLocation, DetectCodeLocation> convertCodeLocations(Map<DetectorEvaluation, Map<CodeLocation, DetectCodeLocation>> convertedCodeLocations, DetectorEvaluation detectorEvaluation, File directory) {
+        return convertedCodeLocations.computeIfAbsent(detectorEvaluation, it -> codeLocationConverter.toDetectCodeLocation(directory, it));
+    }
+
     private void publishStatusEvents(Map<DetectorType, StatusType> statusMap) {
         statusMap.forEach((detectorType, statusType) -> eventSystem.publishEvent(Event.StatusSummary, new DetectorStatus(detectorType, statusType)));
         if (statusMap.containsValue(StatusType.FAILURE)) {
@@ -22,21 +22,34 @@
  */
 package com.synopsys.integration.detect.tool.detector.executable;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.function.Consumer;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.profiling.TraceSpan;
+import com.synopsys.integration.detect.workflow.profiling.Tracer;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutputFiles;
 import com.synopsys.integration.executable.Executable;
 import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunner;
@@ -45,29 +58,52 @@ import com.synopsys.integration.executable.ProcessBuilderRunner;
 import com.synopsys.integration.log.Slf4jIntLogger;
 
 public class DetectExecutableRunner implements DetectableExecutableRunner {
+    private static final int STANDARD_OUTPUT_TAIL_LINES = 200;
+
     private final Logger logger;
     private final EventSystem eventSystem;
     private final boolean shouldLogOutput;
+    private final Consumer<String> outputConsumer;
+    private final Consumer<String> traceConsumer;
+    private final Tracer tracer;
+    @Nullable
+    private final File outputFileDirectory;
     private ProcessBuilderRunner runner;
     private ProcessBuilderRunner secretRunner;
 
-    private DetectExecutableRunner(Logger logger, final Consumer<String> outputConsumer, final Consumer<String> traceConsumer, EventSystem eventSystem, boolean shouldLogOutput) {
+    private DetectExecutableRunner(Logger logger, final Consumer<String> outputConsumer, final Consumer<String> traceConsumer, EventSystem eventSystem, boolean shouldLogOutput, Tracer tracer,
+        @Nullable File outputFileDirectory) {
         this.logger = logger;
         runner = new ProcessBuilderRunner(new Slf4jIntLogger(logger), outputConsumer, traceConsumer);
         secretRunner = new ProcessBuilderRunner(new Slf4jIntLogger(logger), (line) -> {}, line -> {});
         this.eventSystem = eventSystem;
         this.shouldLogOutput = shouldLogOutput;
-
+        this.outputConsumer = outputConsumer;
+        this.traceConsumer = traceConsumer;
+        this.tracer = tracer;
+        this.outputFileDirectory = outputFileDirectory;
     }
 
     public static DetectExecutableRunner newDebug(EventSystem eventSystem) {
+        return newDebug(eventSystem, Tracer.disabled());
+    }
+
+    public static DetectExecutableRunner newDebug(EventSystem eventSystem, Tracer tracer) {
+        return newDebug(eventSystem, tracer, null);
+    }
+
+    public static DetectExecutableRunner newDebug(EventSystem eventSystem, Tracer tracer, @Nullable File outputFileDirectory) {
         Logger logger = LoggerFactory.getLogger(DetectExecutableRunner.class);
-        return new DetectExecutableRunner(logger, logger::debug, logger::trace, eventSystem, true);
+        return new DetectExecutableRunner(logger, logger::debug, logger::trace, eventSystem, true, tracer, outputFileDirectory);
     }
 
     public static DetectExecutableRunner newInfo(EventSystem eventSystem) {
+        return newInfo(eventSystem, Tracer.disabled());
+    }
+
+    public static DetectExecutableRunner newInfo(EventSystem eventSystem, Tracer tracer) {
         Logger logger = LoggerFactory.getLogger(DetectExecutableRunner.class);
-        return new DetectExecutableRunner(logger, logger::info, logger::trace, eventSystem, false);
+        return new DetectExecutableRunner(logger, logger::info, logger::trace, eventSystem, false, tracer, null);
     }
 
     @Override
@@ -105,7 +141,11 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
         if (outputContainsSecret) {
             targetRunner = secretRunner;
         }
-        ExecutableOutput output = targetRunner.execute(executable);
+        ExecutableOutput output;
+        try (TraceSpan span = traceExecutable(executable)) {
+            output = targetRunner.execute(executable);
+            span.addArg("returnCode", output.getReturnCode());
+        }
         eventSystem.publishEvent(Event.Executable, new ExecutedExecutable(output, executable));
         boolean normallyLogOutput = output.getReturnCode() != 0 && shouldLogOutput && !logger.isDebugEnabled() && !logger.isTraceEnabled();
         if (normallyLogOutput && !outputContainsSecret) {
@@ -146,4 +186,168 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
             throw new ExecutableFailedException(executable, e);
         }
     }
+
+    @Override
+    public @NotNull ExecutableOutput executeSuccessfully(final Executable executable, final Consumer<String> standardOutputConsumer) throws ExecutableFailedException {
+        logger.info("Running executable >" + executable.getExecutableDescription());
+        ExecutableOutputTail standardOutputTail = new ExecutableOutputTail(STANDARD_OUTPUT_TAIL_LINES);
+        StringBuilder errorOutput = new StringBuilder();
+        ExecutableOutput output;
+        // Only the tail of the standard output is kept in memory. The complete output is in the files until the Executable event has been handled.
+        try (ExecutableOutputFiles outputFiles = runToFiles(executable, line -> {
+            standardOutputTail.accept(line);
+            standardOutputConsumer.accept(line);
+        }, line -> errorOutput.append(line).append(System.lineSeparator()))) {
+            output = new ExecutableOutput(outputFiles.getReturnCode(), standardOutputTail.toString(), errorOutput.toString());
+            eventSystem.publishEvent(Event.Executable, new ExecutedExecutable(output, outputFiles, executable));
+        } catch (ExecutableRunnerException e) {
+            throw new ExecutableFailedException(executable, e);
+        }
+
+        if (output.getReturnCode() != 0) {
+            if (shouldLogOutput && !logger.isDebugEnabled() && !logger.isTraceEnabled()) {
+                if (StringUtils.isNotBlank(output.getStandardOutput())) {
+                    logger.info(String.format("Standard Output (last %s lines): ", STANDARD_OUTPUT_TAIL_LINES));
+                    logger.info(output.getStandardOutput());
+                }
+
+                if (StringUtils.isNotBlank(output.getErrorOutput())) {
+                    logger.info("Error Output: ");
+                    logger.info(output.getErrorOutput());
+                }
+            }
+            throw new ExecutableFailedException(executable, output);
+        }
+        return output;
+    }
+
+    @NotNull
+    @Override
+    public ExecutableOutputFiles executeToFiles(final Executable executable) throws ExecutableRunnerException {
+        logger.info("Running executable >" + executable.getExecutableDescription());
+        ExecutableOutputFiles outputFiles = runToFiles(executable, line -> {}, line -> {});
+        eventSystem.publishEvent(Event.Executable, new ExecutedExecutable(outputFiles, executable));
+        if (outputFiles.getReturnCode() != 0 && shouldLogOutput && !logger.isDebugEnabled() && !logger.isTraceEnabled()) {
+            logger.info("Error Output: ");
+            try {
+                outputFiles.readErrorOutput(logger::info);
+            } catch (IOException e) {
+                logger.debug("Failed to read executable error output: " + e.getMessage());
+            }
+        }
+        return outputFiles;
+    }
+
+    // Standard output is read on the calling thread and error output on its own thread, so a full error pipe can never block the process.
+    // The process is destroyed if reading stops early, for example when a consumer throws, so it is never left running.
+    private int runProcess(Executable executable, Consumer<String> standardOutputConsumer, Consumer<String> errorOutputConsumer) throws IOException, InterruptedException {
+        ProcessBuilder processBuilder = new ProcessBuilder(executable.getCommandWithArguments());
+        processBuilder.directory(executable.getWorkingDirectory());
+        processBuilder.environment().putAll(executable.getEnvironmentVariables());
+        Process process = processBuilder.start();
+        try {
+            Thread errorOutputReader = new Thread(() -> {
+                try {
+                    readLines(process.getErrorStream(), errorOutputConsumer);
+                } catch (IOException | UncheckedIOException e) {
+                    logger.debug("Failed to read executable error output: " + e.getMessage());
+                }
+            }, "detect-executable-error-reader");
+            errorOutputReader.setDaemon(true);
+            errorOutputReader.start();
+
+            readLines(process.getInputStream(), standardOutputConsumer);
+
+            int returnCode = process.waitFor();
+            errorOutputReader.join();
+            return returnCode;
+        } finally {
+            if (process.isAlive()) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    // The files are deleted when the executable cannot be run or a consumer throws, otherwise the caller closes them.
+    private ExecutableOutputFiles runToFiles(Executable executable, Consumer<String> standardOutputConsumer, Consumer<String> errorOutputConsumer) throws ExecutableRunnerException {
+        File standardOutputFile = null;
+        File errorOutputFile = null;
+        try (TraceSpan span = traceExecutable(executable)) {
+            standardOutputFile = createOutputFile("-STD.out");
+            errorOutputFile = createOutputFile("-ERR.out");
+            int returnCode = runProcess(executable, standardOutputFile, errorOutputFile, standardOutputConsumer, errorOutputConsumer);
+            span.addArg("returnCode", returnCode);
+            return new ExecutableOutputFiles(returnCode, standardOutputFile, errorOutputFile);
+        } catch (IOException e) {
+            FileUtils.deleteQuietly(standardOutputFile);
+            FileUtils.deleteQuietly(errorOutputFile);
+            throw new ExecutableRunnerException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            FileUtils.deleteQuietly(standardOutputFile);
+            FileUtils.deleteQuietly(errorOutputFile);
+            throw new ExecutableRunnerException(e);
+        } catch (RuntimeException e) {
+            FileUtils.deleteQuietly(standardOutputFile);
+            FileUtils.deleteQuietly(errorOutputFile);
+            throw e;
+        }
+    }
+
+    // Lines are still logged as they are read, but only the files keep all of them so memory use does not grow with the output.
+    private int runProcess(Executable executable, File standardOutputFile, File errorOutputFile, Consumer<String> standardOutputConsumer, Consumer<String> errorOutputConsumer)
+        throws IOException, InterruptedException {
+        try (BufferedWriter standardOutputWriter = Files.newBufferedWriter(standardOutputFile.toPath(), Charset.defaultCharset());
+             BufferedWriter errorOutputWriter = Files.newBufferedWriter(errorOutputFile.toPath(), Charset.defaultCharset())) {
+            return runProcess(executable, line -> {
+                outputConsumer.accept(line);
+                writeLine(standardOutputWriter, line);
+                standardOutputConsumer.accept(line);
+            }, line -> {
+                traceConsumer.accept(line);
+                writeLine(errorOutputWriter, line);
+                errorOutputConsumer.accept(line);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private File createOutputFile(String suffix) throws IOException {
+        if (outputFileDirectory == null) {
+            File outputFile = Files.createTempFile("detect-executable", suffix).toFile();
+            outputFile.deleteOnExit();
+            return outputFile;
+        }
+        Files.createDirectories(outputFileDirectory.toPath());
+        return Files.createTempFile(outputFileDirectory.toPath(), "EXE-OUT-", suffix).toFile();
+    }
+
+    // Only the executable name is traced, arguments can contain secrets.
+    private TraceSpan traceExecutable(Executable executable) {
+        if (!tracer.isEnabled()) {
+            return tracer.span("executable", "");
+        }
+        String executableName = new File(executable.getCommandWithArguments().get(0)).getName();
+        return tracer.span("executable", executableName)
+                   .addArg("directory", executable.getWorkingDirectory());
+    }
+
+    private void readLines(InputStream inputStream, Consumer<String> lineConsumer) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, Charset.defaultCharset()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineConsumer.accept(line);
+            }
+        }
+    }
+
+    private void writeLine(BufferedWriter writer, String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
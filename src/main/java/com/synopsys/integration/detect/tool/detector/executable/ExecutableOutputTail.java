@@ -0,0 +1,51 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+// Keeps only the last lines of an output that is streamed elsewhere, enough to explain a failure without holding the whole output.
+public class ExecutableOutputTail implements Consumer<String> {
+    private final int maximumLines;
+    private final Deque<String> lines;
+
+    public ExecutableOutputTail(int maximumLines) {
+        this.maximumLines = maximumLines;
+        this.lines = new ArrayDeque<>(maximumLines);
+    }
+
+    @Override
+    public void accept(String line) {
+        if (lines.size() == maximumLines) {
+            lines.removeFirst();
+        }
+        lines.addLast(line);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(System.lineSeparator(), lines);
+    }
+}
@@ -22,16 +22,36 @@
  */
 package com.synopsys.integration.detect.tool.detector.executable;
 
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutputFiles;
 import com.synopsys.integration.executable.Executable;
 import com.synopsys.integration.executable.ExecutableOutput;
 
 public class ExecutedExecutable {
     private final ExecutableOutput output;
     private final Executable executable;
+    @Nullable
+    private final ExecutableOutputFiles outputFiles;
 
     public ExecutedExecutable(final ExecutableOutput output, final Executable executable) {
         this.output = output;
         this.executable = executable;
+        this.outputFiles = null;
+    }
+
+    // The output only holds the return code, the standard and error output stay in the files.
+    public ExecutedExecutable(final ExecutableOutputFiles outputFiles, final Executable executable) {
+        this(new ExecutableOutput(outputFiles.getReturnCode(), "", ""), outputFiles, executable);
+    }
+
+    // The files hold the complete output when the output only holds part of it. They are deleted once the event has been published.
+    public ExecutedExecutable(final ExecutableOutput output, final ExecutableOutputFiles outputFiles, final Executable executable) {
+        this.output = output;
+        this.executable = executable;
+        this.outputFiles = outputFiles;
     }
 
     public ExecutableOutput getOutput() {
@@ -41,4 +61,8 @@ public class ExecutedExecutable {
     public Executable getExecutable() {
         return executable;
     }
+
+    public Optional<ExecutableOutputFiles> getOutputFiles() {
+        return Optional.ofNullable(outputFiles);
+    }
 }
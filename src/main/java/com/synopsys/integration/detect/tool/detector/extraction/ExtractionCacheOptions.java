@@ -0,0 +1,52 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+public class ExtractionCacheOptions {
+    private final Path cacheDirectory;
+    private final long maximumSizeInBytes;
+    private final String configurationFingerprint;
+
+    public ExtractionCacheOptions(@Nullable Path cacheDirectory, long maximumSizeInBytes, String configurationFingerprint) {
+        this.cacheDirectory = cacheDirectory;
+        this.maximumSizeInBytes = maximumSizeInBytes;
+        this.configurationFingerprint = configurationFingerprint;
+    }
+
+    public Optional<Path> getCacheDirectory() {
+        return Optional.ofNullable(cacheDirectory);
+    }
+
+    public long getMaximumSizeInBytes() {
+        return maximumSizeInBytes;
+    }
+
+    public String getConfigurationFingerprint() {
+        return configurationFingerprint;
+    }
+}
@@ -0,0 +1,306 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.evaluation.ExtractionCache;
+
+// Keeps successful extractions as files named by a hash of everything that decides what the detector extracts: the relevant files' contents, the detector,
+// the directory and the configuration fingerprint. Entries are never updated in place, a changed input produces a new key and the old entry is removed once
+// the cache grows beyond its size, least recently used first.
+public class FileExtractionCache implements ExtractionCache {
+    // Part of every key so entries written in an older format are never read.
+    private static final String CACHE_FORMAT_VERSION = "1";
+    private static final String ENTRY_SUFFIX = ".json";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final Gson gson = new Gson();
+    private final File cacheDirectory;
+    private final long maximumSizeInBytes;
+    private final String configurationFingerprint;
+    // Keys are computed before extracting, so an extraction is stored under the inputs it was run with even if the detector changes them.
+    private final Map<DetectorEvaluation, String> pendingKeys = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+    private final AtomicInteger hits = new AtomicInteger();
+
+    public FileExtractionCache(File cacheDirectory, long maximumSizeInBytes, String configurationFingerprint) {
+        this.cacheDirectory = cacheDirectory;
+        this.maximumSizeInBytes = maximumSizeInBytes;
+        this.configurationFingerprint = configurationFingerprint;
+    }
+
+    @Override
+    public Optional<Extraction> find(DetectorEvaluation detectorEvaluation) {
+        Optional<String> key = createKey(detectorEvaluation);
+        if (!key.isPresent()) {
+            return Optional.empty();
+        }
+
+        File entryFile = new File(cacheDirectory, key.get() + ENTRY_SUFFIX);
+        if (entryFile.isFile()) {
+            try (Reader reader = Files.newBufferedReader(entryFile.toPath(), StandardCharsets.UTF_8)) {
+                Extraction extraction = gson.fromJson(reader, CachedExtraction.class).toExtraction();
+                // The modification time records when an entry was last used, which is the order entries are evicted in.
+                if (!entryFile.setLastModified(System.currentTimeMillis())) {
+                    logger.debug(String.format("Unable to mark the cached extraction %s as used.", entryFile.getAbsolutePath()));
+                }
+                hits.incrementAndGet();
+                logger.debug(String.format("Reusing the %s extraction cached in %s.", detectorEvaluation.getDetectorRule().getDescriptiveName(), entryFile.getAbsolutePath()));
+                return Optional.of(extraction);
+            } catch (IOException | RuntimeException e) {
+                logger.debug(String.format("Unable to read the cached extraction %s (%s); the detector will be extracted.", entryFile.getAbsolutePath(), e.getMessage()));
+            }
+        }
+        pendingKeys.put(detectorEvaluation, key.get());
+        return Optional.empty();
+    }
+
+    @Override
+    public void store(DetectorEvaluation detectorEvaluation, Extraction extraction) {
+        String key = pendingKeys.remove(detectorEvaluation);
+        if (key == null || !extraction.isSuccess()) {
+            return;
+        }
+
+        File entryFile = new File(cacheDirectory, key + ENTRY_SUFFIX);
+        try {
+            Files.createDirectories(cacheDirectory.toPath());
+            // Written beside the entry and moved over it so a concurrent or interrupted run never reads a partial entry.
+            Path temporaryFile = Files.createTempFile(cacheDirectory.toPath(), key, ".tmp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                    gson.toJson(CachedExtraction.fromExtraction(extraction), writer);
+                }
+                Files.move(temporaryFile, entryFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+            logger.debug(String.format("Cached the %s extraction in %s.", detectorEvaluation.getDetectorRule().getDescriptiveName(), entryFile.getAbsolutePath()));
+            evictLeastRecentlyUsed();
+        } catch (IOException | RuntimeException e) {
+            logger.debug(String.format("Unable to cache the %s extraction in %s: %s", detectorEvaluation.getDetectorRule().getDescriptiveName(), entryFile.getAbsolutePath(), e.getMessage()));
+        }
+    }
+
+    public int getHitCount() {
+        return hits.get();
+    }
+
+    // Evaluations without relevant files are never cached, nothing would tell when their extraction is out of date.
+    private Optional<String> createKey(DetectorEvaluation detectorEvaluation) {
+        Set<String> relevantPaths = new TreeSet<>();
+        for (File relevantFile : detectorEvaluation.getAllRelevantFiles()) {
+            relevantPaths.add(relevantFile.getAbsolutePath());
+        }
+        if (relevantPaths.isEmpty()) {
+            logger.trace(String.format("The %s detector reported no relevant files, its extraction will not be cached.", detectorEvaluation.getDetectorRule().getDescriptiveName()));
+            return Optional.empty();
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            updateDigest(digest, CACHE_FORMAT_VERSION);
+            updateDigest(digest, configurationFingerprint);
+            updateDigest(digest, detectorEvaluation.getDetectorRule().getDescriptiveName());
+            updateDigest(digest, detectorEvaluation.getDetectable().getClass().getName());
+            updateDigest(digest, detectorEvaluation.getDetectableEnvironment().getDirectory().getAbsolutePath());
+            byte[] buffer = new byte[8192];
+            for (String relevantPath : relevantPaths) {
+                updateDigest(digest, relevantPath);
+                try (InputStream inputStream = Files.newInputStream(new File(relevantPath).toPath())) {
+                    int read;
+                    while ((read = inputStream.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            }
+            return Optional.of(String.format("%064x", new BigInteger(1, digest.digest())));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            logger.debug(String.format("Unable to create the extraction cache key for the %s detector: %s", detectorEvaluation.getDetectorRule().getDescriptiveName(), e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    private void updateDigest(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private void evictLeastRecentlyUsed() {
+        synchronized (evictionLock) {
+            File[] entries = cacheDirectory.listFiles((directory, name) -> name.endsWith(ENTRY_SUFFIX));
+            if (entries == null) {
+                return;
+            }
+            long totalSize = 0;
+            for (File entry : entries) {
+                totalSize += entry.length();
+            }
+            if (totalSize <= maximumSizeInBytes) {
+                return;
+            }
+
+            Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+            int evicted = 0;
+            for (File entry : entries) {
+                if (totalSize <= maximumSizeInBytes) {
+                    break;
+                }
+                long entrySize = entry.length();
+                if (entry.delete()) {
+                    totalSize -= entrySize;
+                    evicted++;
+                }
+            }
+            logger.debug(String.format("Removed %d least recently used extractions from the extraction cache %s.", evicted, cacheDirectory.getAbsolutePath()));
+        }
+    }
+
+    private static class CachedExtraction {
+        private String projectName;
+        private String projectVersion;
+        private List<String> relevantFiles = new ArrayList<>();
+        private List<String> unrecognizedPaths = new ArrayList<>();
+        private List<CachedCodeLocation> codeLocations = new ArrayList<>();
+
+        private static CachedExtraction fromExtraction(Extraction extraction) {
+            CachedExtraction cachedExtraction = new CachedExtraction();
+            cachedExtraction.projectName = extraction.getProjectName();
+            cachedExtraction.projectVersion = extraction.getProjectVersion();
+            extraction.getRelevantFiles().forEach(file -> cachedExtraction.relevantFiles.add(file.getPath()));
+            extraction.getUnrecognizedPaths().forEach(file -> cachedExtraction.unrecognizedPaths.add(file.getPath()));
+            extraction.getCodeLocations().forEach(codeLocation -> cachedExtraction.codeLocations.add(CachedCodeLocation.fromCodeLocation(codeLocation)));
+            return cachedExtraction;
+        }
+
+        private Extraction toExtraction() {
+            List<CodeLocation> extractedCodeLocations = new ArrayList<>();
+            codeLocations.forEach(codeLocation -> extractedCodeLocations.add(codeLocation.toCodeLocation()));
+            return new Extraction.Builder()
+                       .success(extractedCodeLocations)
+                       .projectName(projectName)
+                       .projectVersion(projectVersion)
+                       .relevantFiles(relevantFiles.stream().map(File::new).toArray(File[]::new))
+                       .unrecognizedPaths(unrecognizedPaths.stream().map(File::new).toArray(File[]::new))
+                       .build();
+        }
+    }
+
+    // The graph is kept as a list of its dependencies with each dependency's children as indexes into that list.
+    private static class CachedCodeLocation {
+        private String sourcePath;
+        private ExternalId externalId;
+        private List<Dependency> dependencies = new ArrayList<>();
+        private List<Integer> rootIndexes = new ArrayList<>();
+        private List<int[]> childIndexes = new ArrayList<>();
+
+        private static CachedCodeLocation fromCodeLocation(CodeLocation codeLocation) {
+            CachedCodeLocation cachedCodeLocation = new CachedCodeLocation();
+            cachedCodeLocation.sourcePath = codeLocation.getSourcePath().map(File::getPath).orElse(null);
+            cachedCodeLocation.externalId = codeLocation.getExternalId().orElse(null);
+
+            DependencyGraph dependencyGraph = codeLocation.getDependencyGraph();
+            Map<ExternalId, Integer> indexes = new HashMap<>();
+            Deque<Dependency> parentsToVisit = new ArrayDeque<>();
+            for (Dependency root : dependencyGraph.getRootDependencies()) {
+                cachedCodeLocation.rootIndexes.add(cachedCodeLocation.indexOf(root, indexes, parentsToVisit));
+            }
+            while (!parentsToVisit.isEmpty()) {
+                Dependency parent = parentsToVisit.poll();
+                Set<Dependency> children = dependencyGraph.getChildrenForParent(parent);
+                int[] childIndexes = new int[children.size()];
+                int childCount = 0;
+                for (Dependency child : children) {
+                    childIndexes[childCount++] = cachedCodeLocation.indexOf(child, indexes, parentsToVisit);
+                }
+                cachedCodeLocation.childIndexes.set(indexes.get(parent.getExternalId()), childIndexes);
+            }
+            return cachedCodeLocation;
+        }
+
+        // Each dependency is visited once, the first time it is indexed.
+        private int indexOf(Dependency dependency, Map<ExternalId, Integer> indexes, Deque<Dependency> parentsToVisit) {
+            Integer index = indexes.get(dependency.getExternalId());
+            if (index == null) {
+                index = dependencies.size();
+                indexes.put(dependency.getExternalId(), index);
+                dependencies.add(dependency);
+                childIndexes.add(new int[0]);
+                parentsToVisit.add(dependency);
+            }
+            return index;
+        }
+
+        private CodeLocation toCodeLocation() {
+            MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
+            for (Integer rootIndex : rootIndexes) {
+                dependencyGraph.addChildToRoot(dependencies.get(rootIndex));
+            }
+            for (int parentIndex = 0; parentIndex < dependencies.size(); parentIndex++) {
+                Dependency parent = dependencies.get(parentIndex);
+                for (int childIndex : childIndexes.get(parentIndex)) {
+                    dependencyGraph.addChildWithParent(dependencies.get(childIndex), parent);
+                }
+            }
+            return new CodeLocation(dependencyGraph, externalId, sourcePath == null ? null : new File(sourcePath));
+        }
+    }
+}
@@ -28,19 +28,26 @@ import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
 
+import com.synopsys.integration.detectable.detectable.file.FileFinder;
 import com.synopsys.integration.detectable.detectable.file.WildcardFileFinder;
 
-public class FilteredFileFinder extends WildcardFileFinder {
+public class FilteredFileFinder implements FileFinder {
     private final List<String> excludedFileNames;
+    private final FileFinder fileFinder;
 
     public FilteredFileFinder(final List<String> excludedFileNames) {
+        this(excludedFileNames, new WildcardFileFinder());
+    }
+
+    public FilteredFileFinder(final List<String> excludedFileNames, final FileFinder fileFinder) {
         this.excludedFileNames = excludedFileNames;
+        this.fileFinder = fileFinder;
     }
 
     @NotNull
     @Override
     public List<File> findFiles(final File directoryToSearch, final List<String> filenamePatterns, final int depth, final boolean findInsideMatchingDirectories) {
-        return super.findFiles(directoryToSearch, filenamePatterns, depth, findInsideMatchingDirectories).stream()
+        return fileFinder.findFiles(directoryToSearch, filenamePatterns, depth, findInsideMatchingDirectories).stream()
                    .filter(file -> !excludedFileNames.contains(file.getName()))
                    .collect(Collectors.toList());
     }
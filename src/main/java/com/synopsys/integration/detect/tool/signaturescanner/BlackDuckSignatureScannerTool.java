@@ -28,6 +28,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -56,6 +57,8 @@ import com.synopsys.integration.util.IntEnvironmentVariables;
 import com.synopsys.integration.util.NameVersion;
 
 public class BlackDuckSignatureScannerTool {
+    private static final long SCANNER_SHUTDOWN_TIMEOUT_SECONDS = 30;
+
     private final Logger logger = LoggerFactory.getLogger(BlackDuckSignatureScannerTool.class);
     private final DetectContext detectContext;
     private final BlackDuckSignatureScannerOptions signatureScannerOptions;
@@ -91,7 +94,19 @@ public class BlackDuckSignatureScannerTool {
             logger.debug("Signature scan error", e);
             return SignatureScannerToolResult.createFailureResult();
         } finally {
-            executorService.shutdownNow();
+            shutdownScanner(executorService);
+        }
+    }
+
+    // The scanner CLI runs on this pool, so when the scan is interrupted the pool is stopped and given time to end the CLI before the tool returns.
+    private void shutdownScanner(ExecutorService executorService) {
+        executorService.shutdownNow();
+        try {
+            if (!executorService.awaitTermination(SCANNER_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn(String.format("The signature scanner did not stop within %d seconds.", SCANNER_SHUTDOWN_TIMEOUT_SECONDS));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -27,21 +27,38 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
 
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.parallel.FileBasedScatterGatherBackingStore;
+import org.apache.commons.compress.parallel.ScatterGatherBackingStoreSupplier;
 import org.apache.commons.compress.utils.IOUtils;
+import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.common.util.ExecutorUtil;
+
 public class DetectZipUtil {
     private static final Logger logger = LoggerFactory.getLogger(DetectZipUtil.class);
+    // Deflating these again costs time and barely changes their size.
+    private static final Set<String> COMPRESSED_EXTENSIONS = new HashSet<>(Arrays.asList("jar", "war", "ear", "aar", "apk", "zip", "gz", "tgz", "bz2", "xz", "7z", "rar", "whl", "nupkg"));
 
     public static void unzip(final File zip, final File dest) throws IOException {
         unzip(zip, dest, Charset.defaultCharset());
@@ -61,6 +78,49 @@ public class DetectZipUtil {
         }
     }
 
+    // Entries are compressed concurrently into temporary files in the scratch directory and then copied into the zip in the order given.
+    // Files that are already compressed are stored as they are.
+    public static void zip(final File zip, final Map<String, Path> entries, final int parallelism, final File scratchDirectory) throws IOException {
+        Files.createDirectories(scratchDirectory.toPath());
+        final ScatterGatherBackingStoreSupplier backingStoreSupplier = () -> new FileBasedScatterGatherBackingStore(File.createTempFile("detect-zip", ".tmp", scratchDirectory));
+        ExecutorService executorService = null;
+        try {
+            executorService = ExecutorUtil.newDaemonThreadPool("detect-zip", Math.max(1, parallelism));
+            final ParallelScatterZipCreator zipCreator = new ParallelScatterZipCreator(executorService, backingStoreSupplier);
+            for (final Map.Entry<String, Path> entry : entries.entrySet()) {
+                logger.info("Adding entry '{}' to zip as '{}'.", entry.getValue().toString(), entry.getKey());
+                final ZipArchiveEntry zipEntry = new ZipArchiveEntry(entry.getKey());
+                zipEntry.setMethod(isCompressed(entry.getValue()) ? ZipEntry.STORED : ZipEntry.DEFLATED);
+                zipCreator.addArchiveEntry(zipEntry, () -> {
+                    try {
+                        return Files.newInputStream(entry.getValue());
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+
+            try (final ZipArchiveOutputStream outputStream = new ZipArchiveOutputStream(zip)) {
+                zipCreator.writeTo(outputStream);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while creating the zip " + zip.getAbsolutePath(), e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+            throw new IOException("Unable to add an entry to the zip " + zip.getAbsolutePath(), cause);
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    private static boolean isCompressed(final Path path) {
+        final String extension = FilenameUtils.getExtension(path.getFileName().toString()).toLowerCase(Locale.ROOT);
+        return COMPRESSED_EXTENSIONS.contains(extension);
+    }
+
     public static void unzip(final File zip, final File dest, final Charset charset) throws IOException {
         final Path destPath = dest.toPath();
         try (final ZipFile zipFile = new ZipFile(zip, ZipFile.OPEN_READ, charset)) {
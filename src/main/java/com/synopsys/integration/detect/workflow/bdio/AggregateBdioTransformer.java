@@ -32,9 +32,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.bdio.SimpleBdioFactory;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
-import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
@@ -47,21 +45,15 @@ import com.synopsys.integration.detect.workflow.codelocation.FileNameUtils;
 public class AggregateBdioTransformer {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private final SimpleBdioFactory simpleBdioFactory;
-
-    public AggregateBdioTransformer(final SimpleBdioFactory simpleBdioFactory) {
-        this.simpleBdioFactory = simpleBdioFactory;
-    }
-
     public DependencyGraph aggregateCodeLocations(final File sourcePath, final List<DetectCodeLocation> codeLocations, final AggregateMode aggregateMode) throws DetectUserFriendlyException {
-        final MutableDependencyGraph aggregateDependencyGraph = simpleBdioFactory.createMutableDependencyGraph();
+        final CompactDependencyGraph aggregateDependencyGraph = new CompactDependencyGraph();
 
         for (final DetectCodeLocation detectCodeLocation : codeLocations) {
             if (aggregateMode.equals(AggregateMode.DIRECT)) {
                 aggregateDependencyGraph.addGraphAsChildrenToRoot(detectCodeLocation.getDependencyGraph());
             } else if (aggregateMode.equals(AggregateMode.TRANSITIVE)) {
                 final Dependency codeLocationDependency = createAggregateDependency(sourcePath, detectCodeLocation);
-                aggregateDependencyGraph.addChildrenToRoot(codeLocationDependency);
+                aggregateDependencyGraph.addChildToRoot(codeLocationDependency);
                 aggregateDependencyGraph.addGraphAsChildrenToParent(codeLocationDependency, detectCodeLocation.getDependencyGraph());
             } else {
                 throw new DetectUserFriendlyException(
@@ -70,6 +62,7 @@ public class AggregateBdioTransformer {
             }
         }
 
+        logger.debug(String.format("Aggregated %d code locations into %d dependencies.", codeLocations.size(), aggregateDependencyGraph.getNodeCount()));
         return aggregateDependencyGraph;
     }
 
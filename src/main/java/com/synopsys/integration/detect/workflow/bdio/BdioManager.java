@@ -85,7 +85,7 @@ public class BdioManager {
         if (aggregateOptions.shouldAggregate() && aggregateName.isPresent()) {
             logger.debug("Creating aggregate BDIO file.");
 
-            final AggregateBdioTransformer aggregateBdioTransformer = new AggregateBdioTransformer(simpleBdioFactory);
+            final AggregateBdioTransformer aggregateBdioTransformer = new AggregateBdioTransformer();
             final DependencyGraph aggregateDependencyGraph = aggregateBdioTransformer.aggregateCodeLocations(directoryManager.getSourceDirectory(), codeLocations, aggregateOptions.getAggregateMode());
             final boolean aggregateHasDependencies = !aggregateDependencyGraph.getRootDependencies().isEmpty();
 
@@ -110,7 +110,7 @@ public class BdioManager {
             final BdioCodeLocationResult codeLocationResult = bdioCodeLocationCreator.createFromDetectCodeLocations(codeLocations, bdioOptions.getProjectCodeLocationPrefix(), bdioOptions.getProjectCodeLocationSuffix(), projectNameVersion);
 
             logger.debug("Creating BDIO files from code locations.");
-            final CodeLocationBdioCreator codeLocationBdioCreator = new CodeLocationBdioCreator(detectBdioWriter, simpleBdioFactory, bdio2Factory, detectInfo);
+            final CodeLocationBdioCreator codeLocationBdioCreator = new CodeLocationBdioCreator(detectInfo, bdioOptions.getWriteParallelism());
             final List<UploadTarget> bdioUploadTargets = codeLocationBdioCreator.createBdioFiles(directoryManager.getBdioOutputDirectory(), codeLocationResult.getBdioCodeLocations(), projectNameVersion, useBdio2);
             uploadTargets.addAll(bdioUploadTargets);
             codeLocationNamesResult.putAll(codeLocationResult.getCodeLocationNames());
@@ -25,10 +25,22 @@ package com.synopsys.integration.detect.workflow.bdio;
 public class BdioOptions {
     private final String projectCodeLocationSuffix;
     private final String projectCodeLocationPrefix;
+    private final int uploadParallelism;
+    private final int writeParallelism;
 
     public BdioOptions(final String projectCodeLocationPrefix, String projectCodeLocationSuffix) {
+        this(projectCodeLocationPrefix, projectCodeLocationSuffix, 1);
+    }
+
+    public BdioOptions(final String projectCodeLocationPrefix, String projectCodeLocationSuffix, int uploadParallelism) {
+        this(projectCodeLocationPrefix, projectCodeLocationSuffix, uploadParallelism, 1);
+    }
+
+    public BdioOptions(final String projectCodeLocationPrefix, String projectCodeLocationSuffix, int uploadParallelism, int writeParallelism) {
         this.projectCodeLocationSuffix = projectCodeLocationSuffix;
         this.projectCodeLocationPrefix = projectCodeLocationPrefix;
+        this.uploadParallelism = uploadParallelism;
+        this.writeParallelism = writeParallelism;
     }
 
     public String getProjectCodeLocationSuffix() {
@@ -38,4 +50,12 @@ public class BdioOptions {
     public String getProjectCodeLocationPrefix() {
         return projectCodeLocationPrefix;
     }
+
+    public int getUploadParallelism() {
+        return uploadParallelism;
+    }
+
+    public int getWriteParallelism() {
+        return writeParallelism;
+    }
 }
@@ -28,7 +28,11 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,84 +50,126 @@ import com.synopsys.integration.blackduck.bdio2.Bdio2Document;
 import com.synopsys.integration.blackduck.bdio2.Bdio2Factory;
 import com.synopsys.integration.blackduck.bdio2.Bdio2Writer;
 import com.synopsys.integration.blackduck.codelocation.bdioupload.UploadTarget;
+import com.synopsys.integration.common.util.ExecutorUtil;
 import com.synopsys.integration.detect.configuration.DetectInfo;
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.detect.workflow.codelocation.BdioCodeLocation;
 import com.synopsys.integration.util.NameVersion;
 
+// Files may be written from several threads at once, both by the parallel path and by callers such as the streaming uploader.
+// The BDIO factories and writers are not documented as thread safe, so every file gets its own.
 public class CodeLocationBdioCreator {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private final DetectBdioWriter detectBdioWriter;
-    private final SimpleBdioFactory simpleBdioFactory;
-    private final Bdio2Factory bdio2Factory;
     private final DetectInfo detectInfo;
+    private final int parallelism;
 
-    public CodeLocationBdioCreator(final DetectBdioWriter detectBdioWriter, final SimpleBdioFactory simpleBdioFactory, final Bdio2Factory bdio2Factory, final DetectInfo detectInfo) {
-        this.detectBdioWriter = detectBdioWriter;
-        this.simpleBdioFactory = simpleBdioFactory;
-        this.bdio2Factory = bdio2Factory;
+    public CodeLocationBdioCreator(final DetectInfo detectInfo) {
+        this(detectInfo, 1);
+    }
+
+    public CodeLocationBdioCreator(final DetectInfo detectInfo, final int parallelism) {
         this.detectInfo = detectInfo;
+        this.parallelism = parallelism;
     }
 
-    public List<UploadTarget> createBdioFiles(final File bdioOutput, final List<BdioCodeLocation> bdioCodeLocations, final NameVersion projectNameVersion, boolean bdio2) throws DetectUserFriendlyException {
-        if (bdio2) {
-            return createBdio2Files(bdioOutput, bdioCodeLocations, projectNameVersion);
-        } else {
-            return createBdio1Files(bdioOutput, bdioCodeLocations, projectNameVersion);
+    public List<UploadTarget> createBdioFiles(final File bdioOutput, final List<BdioCodeLocation> bdioCodeLocations, final NameVersion projectNameVersion, final boolean bdio2) throws DetectUserFriendlyException {
+        if (parallelism > 1 && bdioCodeLocations.size() > 1 && haveDistinctBdioNames(bdioCodeLocations)) {
+            return createBdioFilesInParallel(bdioOutput, bdioCodeLocations, projectNameVersion, bdio2);
         }
-    }
 
-    private List<UploadTarget> createBdio1Files(final File bdioOutput, final List<BdioCodeLocation> bdioCodeLocations, final NameVersion projectNameVersion) throws DetectUserFriendlyException {
         final List<UploadTarget> uploadTargets = new ArrayList<>();
         for (final BdioCodeLocation bdioCodeLocation : bdioCodeLocations) {
-            final String codeLocationName = bdioCodeLocation.getCodeLocationName();
-            final ExternalId externalId = bdioCodeLocation.getDetectCodeLocation().getExternalId();
-            final DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
+            uploadTargets.add(createBdioFile(bdioOutput, bdioCodeLocation, projectNameVersion, bdio2));
+        }
+        return uploadTargets;
+    }
 
-            final File bdioOutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".jsonld");
-            final SimpleBdioDocument simpleBdioDocument = simpleBdioFactory.createSimpleBdioDocument(codeLocationName, projectNameVersion.getName(), projectNameVersion.getVersion(), externalId, dependencyGraph);
+    // Every code location is written to its own file by the same code as the serial path, so only the scheduling differs and the upload targets keep the order of the code locations.
+    private List<UploadTarget> createBdioFilesInParallel(final File bdioOutput, final List<BdioCodeLocation> bdioCodeLocations, final NameVersion projectNameVersion, final boolean bdio2) throws DetectUserFriendlyException {
+        logger.debug(String.format("Writing %d BDIO files with up to %d threads.", bdioCodeLocations.size(), parallelism));
+        final ExecutorService executorService = ExecutorUtil.newDaemonThreadPool("detect-bdio-file", Math.min(parallelism, bdioCodeLocations.size()));
+        try {
+            final List<Future<UploadTarget>> pendingUploadTargets = new ArrayList<>();
+            for (final BdioCodeLocation bdioCodeLocation : bdioCodeLocations) {
+                pendingUploadTargets.add(executorService.submit(() -> createBdioFile(bdioOutput, bdioCodeLocation, projectNameVersion, bdio2)));
+            }
 
-            detectBdioWriter.writeBdioFile(bdioOutputFile, simpleBdioDocument);
-            uploadTargets.add(UploadTarget.createDefault(projectNameVersion, codeLocationName, bdioOutputFile));
+            final List<UploadTarget> uploadTargets = new ArrayList<>();
+            for (final Future<UploadTarget> pendingUploadTarget : pendingUploadTargets) {
+                uploadTargets.add(ExecutorUtil.getUnwrapped(pendingUploadTarget, DetectUserFriendlyException.class,
+                    cause -> new DetectUserFriendlyException(cause.getMessage(), cause, ExitCodeType.FAILURE_GENERAL_ERROR)));
+            }
+            return uploadTargets;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DetectUserFriendlyException("Interrupted while writing BDIO files.", e, ExitCodeType.FAILURE_GENERAL_ERROR);
+        } finally {
+            executorService.shutdownNow();
         }
-
-        return uploadTargets;
     }
 
-    private List<UploadTarget> createBdio2Files(final File bdioOutput, final List<BdioCodeLocation> bdioCodeLocations, final NameVersion projectNameVersion) throws DetectUserFriendlyException {
-        final List<UploadTarget> uploadTargets = new ArrayList<>();
+    // When two code locations escape to the same file name the later one overwrites the earlier, which only the serial path does in a predictable order.
+    private boolean haveDistinctBdioNames(final List<BdioCodeLocation> bdioCodeLocations) {
+        final Set<String> bdioNames = new HashSet<>();
         for (final BdioCodeLocation bdioCodeLocation : bdioCodeLocations) {
-            final String codeLocationName = bdioCodeLocation.getCodeLocationName();
-            final ExternalId externalId = bdioCodeLocation.getDetectCodeLocation().getExternalId();
-            final DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
-
-            // Bdio 2
-            final ProductList.Builder productListBuilder = new ProductList.Builder();
-            final String detectVersion = detectInfo.getDetectVersion();
-            final SpdxCreator detectCreator = SpdxCreator.createToolSpdxCreator("Detect", detectVersion);
-            final Product product = new Product.Builder().name(detectCreator.getIdentifier()).build();
-            productListBuilder.addProduct(product);
-
-            final BdioMetadata bdioMetadata = bdio2Factory.createBdioMetadata(codeLocationName, ZonedDateTime.now(), productListBuilder);
-            final Project bdio2Project = bdio2Factory.createProject(externalId, projectNameVersion.getName(), projectNameVersion.getVersion());
-            final Bdio2Document bdio2Document = bdio2Factory.createBdio2Document(bdioMetadata, bdio2Project, dependencyGraph);
-
-            final Bdio2Writer bdio2Writer = new Bdio2Writer();
-            final File bdio2OutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".bdio");
-
-            try {
-                final OutputStream outputStream = new FileOutputStream(bdio2OutputFile);
-                bdio2Writer.writeBdioDocument(outputStream, bdio2Document);
-                logger.debug(String.format("BDIO Generated: %s", bdio2OutputFile.getAbsolutePath()));
-
-                uploadTargets.add(UploadTarget.createDefault(projectNameVersion, codeLocationName, bdio2OutputFile));
-            } catch (final IOException e) {
-                throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
+            if (!bdioNames.add(bdioCodeLocation.getBdioName())) {
+                return false;
             }
         }
+        return true;
+    }
 
-        return uploadTargets;
+    private UploadTarget createBdioFile(final File bdioOutput, final BdioCodeLocation bdioCodeLocation, final NameVersion projectNameVersion, final boolean bdio2) throws DetectUserFriendlyException {
+        if (bdio2) {
+            return createBdio2File(bdioOutput, bdioCodeLocation, projectNameVersion);
+        } else {
+            return createBdio1File(bdioOutput, bdioCodeLocation, projectNameVersion);
+        }
+    }
+
+    private UploadTarget createBdio1File(final File bdioOutput, final BdioCodeLocation bdioCodeLocation, final NameVersion projectNameVersion) throws DetectUserFriendlyException {
+        final String codeLocationName = bdioCodeLocation.getCodeLocationName();
+        final ExternalId externalId = bdioCodeLocation.getDetectCodeLocation().getExternalId();
+        final DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
+
+        final File bdioOutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".jsonld");
+        final SimpleBdioFactory simpleBdioFactory = new SimpleBdioFactory();
+        final DetectBdioWriter detectBdioWriter = new DetectBdioWriter(simpleBdioFactory, detectInfo);
+        final SimpleBdioDocument simpleBdioDocument = simpleBdioFactory.createSimpleBdioDocument(codeLocationName, projectNameVersion.getName(), projectNameVersion.getVersion(), externalId, dependencyGraph);
+
+        detectBdioWriter.writeBdioFile(bdioOutputFile, simpleBdioDocument);
+        return UploadTarget.createDefault(projectNameVersion, codeLocationName, bdioOutputFile);
+    }
+
+    private UploadTarget createBdio2File(final File bdioOutput, final BdioCodeLocation bdioCodeLocation, final NameVersion projectNameVersion) throws DetectUserFriendlyException {
+        final String codeLocationName = bdioCodeLocation.getCodeLocationName();
+        final ExternalId externalId = bdioCodeLocation.getDetectCodeLocation().getExternalId();
+        final DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
+
+        // Bdio 2
+        final ProductList.Builder productListBuilder = new ProductList.Builder();
+        final String detectVersion = detectInfo.getDetectVersion();
+        final SpdxCreator detectCreator = SpdxCreator.createToolSpdxCreator("Detect", detectVersion);
+        final Product product = new Product.Builder().name(detectCreator.getIdentifier()).build();
+        productListBuilder.addProduct(product);
+
+        final Bdio2Factory bdio2Factory = new Bdio2Factory();
+        final BdioMetadata bdioMetadata = bdio2Factory.createBdioMetadata(codeLocationName, ZonedDateTime.now(), productListBuilder);
+        final Project bdio2Project = bdio2Factory.createProject(externalId, projectNameVersion.getName(), projectNameVersion.getVersion());
+        final Bdio2Document bdio2Document = bdio2Factory.createBdio2Document(bdioMetadata, bdio2Project, dependencyGraph);
+
+        final Bdio2Writer bdio2Writer = new Bdio2Writer();
+        final File bdio2OutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".bdio");
+
+        try (final OutputStream outputStream = new FileOutputStream(bdio2OutputFile)) {
+            bdio2Writer.writeBdioDocument(outputStream, bdio2Document);
+            logger.debug(String.format("BDIO Generated: %s", bdio2OutputFile.getAbsolutePath()));
+
+            return UploadTarget.createDefault(projectNameVersion, codeLocationName, bdio2OutputFile);
+        } catch (final IOException e) {
+            throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
+        }
     }
 }
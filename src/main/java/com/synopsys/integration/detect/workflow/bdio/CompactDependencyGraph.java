@@ -0,0 +1,331 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+/**
+ * A dependency graph for aggregating many code locations. Each external id is interned once and given an integer node id,
+ * relationships are kept as int arrays per node instead of sets of external ids. The first dependency added for an external id is the one kept.
+ * Not thread safe.
+ */
+public class CompactDependencyGraph implements DependencyGraph {
+    private static final int[] NO_IDS = new int[0];
+
+    private final Map<ExternalId, Integer> nodeIds = new HashMap<>();
+    private final List<Dependency> nodes = new ArrayList<>();
+
+    private int[][] children = new int[16][];
+    private int[] childCounts = new int[16];
+    private int[] roots = NO_IDS;
+    private int rootCount = 0;
+
+    private boolean normalized = true;
+    private int[][] parents = null;
+
+    public int addDependency(Dependency dependency) {
+        Integer existing = nodeIds.get(dependency.getExternalId());
+        if (existing != null) {
+            return existing;
+        }
+        int id = nodes.size();
+        nodes.add(dependency);
+        nodeIds.put(dependency.getExternalId(), id);
+        if (id == children.length) {
+            children = Arrays.copyOf(children, id * 2);
+            childCounts = Arrays.copyOf(childCounts, id * 2);
+        }
+        children[id] = NO_IDS;
+        parents = null;
+        return id;
+    }
+
+    public void addChildToRoot(Dependency child) {
+        int childId = addDependency(child);
+        if (rootCount == roots.length) {
+            rootCount = sortUnique(roots, rootCount);
+            if (rootCount == roots.length) {
+                roots = Arrays.copyOf(roots, Math.max(4, rootCount * 2));
+            }
+        }
+        roots[rootCount++] = childId;
+        normalized = false;
+    }
+
+    public void addChildWithParent(Dependency child, Dependency parent) {
+        addRelationship(addDependency(parent), addDependency(child));
+    }
+
+    public void addGraphAsChildrenToRoot(DependencyGraph sourceGraph) {
+        for (Dependency rootDependency : sourceGraph.getRootDependencies()) {
+            addChildToRoot(rootDependency);
+        }
+        copyRelationships(sourceGraph);
+    }
+
+    public void addGraphAsChildrenToParent(Dependency parent, DependencyGraph sourceGraph) {
+        int parentId = addDependency(parent);
+        for (Dependency rootDependency : sourceGraph.getRootDependencies()) {
+            addRelationship(parentId, addDependency(rootDependency));
+        }
+        copyRelationships(sourceGraph);
+    }
+
+    public int getNodeCount() {
+        return nodes.size();
+    }
+
+    // Walks everything reachable from the source roots once, interning each dependency the first time it is seen.
+    private void copyRelationships(DependencyGraph sourceGraph) {
+        BitSet visited = new BitSet(nodes.size());
+        Deque<Dependency> pending = new ArrayDeque<>(sourceGraph.getRootDependencies());
+        while (!pending.isEmpty()) {
+            Dependency parent = pending.pop();
+            int parentId = addDependency(parent);
+            if (visited.get(parentId)) {
+                continue;
+            }
+            visited.set(parentId);
+            for (Dependency child : sourceGraph.getChildrenForParent(parent)) {
+                int childId = addDependency(child);
+                addRelationship(parentId, childId);
+                if (!visited.get(childId)) {
+                    pending.push(child);
+                }
+            }
+        }
+    }
+
+    private void addRelationship(int parentId, int childId) {
+        int[] parentChildren = children[parentId];
+        int count = childCounts[parentId];
+        if (count == parentChildren.length) {
+            // Shared subgraphs are copied once per code location, so drop repeated edges before deciding to grow.
+            count = sortUnique(parentChildren, count);
+            if (count == parentChildren.length) {
+                parentChildren = Arrays.copyOf(parentChildren, Math.max(4, count * 2));
+                children[parentId] = parentChildren;
+            }
+        }
+        parentChildren[count] = childId;
+        childCounts[parentId] = count + 1;
+        normalized = false;
+        parents = null;
+    }
+
+    private static int sortUnique(int[] ids, int count) {
+        if (count < 2) {
+            return count;
+        }
+        Arrays.sort(ids, 0, count);
+        int unique = 1;
+        for (int i = 1; i < count; i++) {
+            if (ids[i] != ids[unique - 1]) {
+                ids[unique++] = ids[i];
+            }
+        }
+        return unique;
+    }
+
+    private void normalize() {
+        if (normalized) {
+            return;
+        }
+        rootCount = sortUnique(roots, rootCount);
+        for (int id = 0; id < nodes.size(); id++) {
+            childCounts[id] = sortUnique(children[id], childCounts[id]);
+        }
+        normalized = true;
+    }
+
+    private int[] parentIds(int childId) {
+        if (parents == null) {
+            normalize();
+            int nodeCount = nodes.size();
+            int[] parentCounts = new int[nodeCount];
+            for (int id = 0; id < nodeCount; id++) {
+                for (int i = 0; i < childCounts[id]; i++) {
+                    parentCounts[children[id][i]]++;
+                }
+            }
+            int[][] computed = new int[nodeCount][];
+            for (int id = 0; id < nodeCount; id++) {
+                computed[id] = parentCounts[id] == 0 ? NO_IDS : new int[parentCounts[id]];
+                parentCounts[id] = 0;
+            }
+            for (int id = 0; id < nodeCount; id++) {
+                for (int i = 0; i < childCounts[id]; i++) {
+                    int child = children[id][i];
+                    computed[child][parentCounts[child]++] = id;
+                }
+            }
+            parents = computed;
+        }
+        return parents[childId];
+    }
+
+    private int[] childIds(ExternalId parent) {
+        Integer parentId = nodeIds.get(parent);
+        if (parentId == null) {
+            return NO_IDS;
+        }
+        normalize();
+        return Arrays.copyOf(children[parentId], childCounts[parentId]);
+    }
+
+    private int[] parentIds(ExternalId child) {
+        Integer childId = nodeIds.get(child);
+        if (childId == null) {
+            return NO_IDS;
+        }
+        return parentIds(childId).clone();
+    }
+
+    private Set<Dependency> toDependencies(int[] ids) {
+        return new IdSet<>(ids, nodes::get);
+    }
+
+    private Set<ExternalId> toExternalIds(int[] ids) {
+        return new IdSet<>(ids, id -> nodes.get(id).getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getRootDependencyExternalIds() {
+        normalize();
+        return toExternalIds(Arrays.copyOf(roots, rootCount));
+    }
+
+    @Override
+    public Set<Dependency> getRootDependencies() {
+        normalize();
+        return toDependencies(Arrays.copyOf(roots, rootCount));
+    }
+
+    @Override
+    public boolean hasDependency(ExternalId dependency) {
+        return nodeIds.containsKey(dependency);
+    }
+
+    @Override
+    public boolean hasDependency(Dependency dependency) {
+        return hasDependency(dependency.getExternalId());
+    }
+
+    @Override
+    public Dependency getDependency(ExternalId dependency) {
+        Integer id = nodeIds.get(dependency);
+        return id == null ? null : nodes.get(id);
+    }
+
+    @Override
+    public Set<Dependency> getChildrenForParent(ExternalId parent) {
+        return toDependencies(childIds(parent));
+    }
+
+    @Override
+    public Set<ExternalId> getChildrenExternalIdsForParent(ExternalId parent) {
+        return toExternalIds(childIds(parent));
+    }
+
+    @Override
+    public Set<Dependency> getChildrenForParent(Dependency parent) {
+        return getChildrenForParent(parent.getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getChildrenExternalIdsForParent(Dependency parent) {
+        return getChildrenExternalIdsForParent(parent.getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getParentExternalIdsForChild(Dependency child) {
+        return getParentExternalIdsForChild(child.getExternalId());
+    }
+
+    @Override
+    public Set<Dependency> getParentsForChild(ExternalId child) {
+        return toDependencies(parentIds(child));
+    }
+
+    @Override
+    public Set<Dependency> getParentsForChild(Dependency child) {
+        return getParentsForChild(child.getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getParentExternalIdsForChild(ExternalId child) {
+        return toExternalIds(parentIds(child));
+    }
+
+    // A read only set over distinct node ids, so callers get the usual Set contract without a hash set per lookup.
+    private static class IdSet<T> extends AbstractSet<T> {
+        private final int[] ids;
+        private final IntFunction<T> lookup;
+
+        private IdSet(int[] ids, IntFunction<T> lookup) {
+            this.ids = ids;
+            this.lookup = lookup;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < ids.length;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return lookup.apply(ids[index++]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+    }
+}
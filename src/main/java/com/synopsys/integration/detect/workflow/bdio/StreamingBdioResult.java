@@ -0,0 +1,46 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.util.List;
+
+import com.synopsys.integration.blackduck.codelocation.CodeLocationCreationData;
+import com.synopsys.integration.blackduck.codelocation.bdioupload.UploadBatchOutput;
+
+public class StreamingBdioResult {
+    private final BdioResult bdioResult;
+    private final List<CodeLocationCreationData<UploadBatchOutput>> uploadResults;
+
+    public StreamingBdioResult(BdioResult bdioResult, List<CodeLocationCreationData<UploadBatchOutput>> uploadResults) {
+        this.bdioResult = bdioResult;
+        this.uploadResults = uploadResults;
+    }
+
+    public BdioResult getBdioResult() {
+        return bdioResult;
+    }
+
+    public List<CodeLocationCreationData<UploadBatchOutput>> getUploadResults() {
+        return uploadResults;
+    }
+}
@@ -0,0 +1,277 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.blackduck.codelocation.CodeLocationCreationData;
+import com.synopsys.integration.blackduck.codelocation.bdio2upload.Bdio2UploadService;
+import com.synopsys.integration.blackduck.codelocation.bdioupload.BdioUploadService;
+import com.synopsys.integration.blackduck.codelocation.bdioupload.UploadBatchOutput;
+import com.synopsys.integration.blackduck.codelocation.bdioupload.UploadTarget;
+import com.synopsys.integration.common.util.ExecutorUtil;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.workflow.blackduck.DetectBdioUploadService;
+import com.synopsys.integration.detect.workflow.codelocation.BdioCodeLocation;
+import com.synopsys.integration.detect.workflow.codelocation.BdioCodeLocationCreator;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocationNamesResult;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventListener;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.profiling.TraceSpan;
+import com.synopsys.integration.detect.workflow.profiling.Tracer;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.util.NameVersion;
+
+// Writes the BDIO for each code location as soon as it is extracted, instead of waiting for every detector to finish.
+// Extracted code locations are handed to a single preparation thread, so the event listener returns at once. Code locations are named
+// the same way as the batch mode: a name shared by several code locations is numbered from 0 in the order they were published, which
+// is only known once every code location has been seen. So only the first code location with each name is written early, under its
+// base name, and the uploads start in finish() once the final names are known. A file whose code location was renamed is written again.
+// Writes run on a fixed number of threads and only a bounded number may be waiting, so the preparation thread waits for room while the queue is full.
+public class StreamingBdioUploader {
+    private static final int QUEUED_WRITES_PER_THREAD = 4;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final EventSystem eventSystem;
+    private final BdioCodeLocationCreator bdioCodeLocationCreator;
+    private final CodeLocationBdioCreator codeLocationBdioCreator;
+    private final DetectBdioUploadService detectBdioUploadService;
+    private final BdioUploadService bdioUploadService;
+    private final Bdio2UploadService bdio2UploadService;
+    private final File bdioOutputDirectory;
+    private final BdioOptions bdioOptions;
+    private final NameVersion projectNameVersion;
+    private final boolean useBdio2;
+    private final Tracer tracer;
+
+    private final ExecutorService preparationExecutor;
+    private final ExecutorService uploadExecutor;
+    private final Semaphore writeQueue;
+    private final EventListener<DetectCodeLocation> codeLocationListener = this::submit;
+
+    private final Set<DetectCodeLocation> submittedCodeLocations = new HashSet<>();
+    private final Set<String> usedCodeLocationNames = new HashSet<>();
+    private final Map<DetectCodeLocation, String> codeLocationNames = new LinkedHashMap<>();
+    private final List<Future<?>> preparations = new ArrayList<>();
+    private final Map<DetectCodeLocation, Future<List<UploadTarget>>> earlyWrites = new HashMap<>();
+    private boolean finished = false;
+
+    public StreamingBdioUploader(EventSystem eventSystem, BdioCodeLocationCreator bdioCodeLocationCreator, CodeLocationBdioCreator codeLocationBdioCreator, DetectBdioUploadService detectBdioUploadService,
+        BdioUploadService bdioUploadService, Bdio2UploadService bdio2UploadService, File bdioOutputDirectory, BdioOptions bdioOptions, NameVersion projectNameVersion, boolean useBdio2) {
+        this(eventSystem, bdioCodeLocationCreator, codeLocationBdioCreator, detectBdioUploadService, bdioUploadService, bdio2UploadService, bdioOutputDirectory, bdioOptions, projectNameVersion, useBdio2, Tracer.disabled());
+    }
+
+    public StreamingBdioUploader(EventSystem eventSystem, BdioCodeLocationCreator bdioCodeLocationCreator, CodeLocationBdioCreator codeLocationBdioCreator, DetectBdioUploadService detectBdioUploadService,
+        BdioUploadService bdioUploadService, Bdio2UploadService bdio2UploadService, File bdioOutputDirectory, BdioOptions bdioOptions, NameVersion projectNameVersion, boolean useBdio2, Tracer tracer) {
+        this.eventSystem = eventSystem;
+        this.bdioCodeLocationCreator = bdioCodeLocationCreator;
+        this.codeLocationBdioCreator = codeLocationBdioCreator;
+        this.detectBdioUploadService = detectBdioUploadService;
+        this.bdioUploadService = bdioUploadService;
+        this.bdio2UploadService = bdio2UploadService;
+        this.bdioOutputDirectory = bdioOutputDirectory;
+        this.bdioOptions = bdioOptions;
+        this.projectNameVersion = projectNameVersion;
+        this.useBdio2 = useBdio2;
+        this.tracer = tracer;
+
+        int uploadParallelism = Math.max(1, bdioOptions.getUploadParallelism());
+        this.writeQueue = new Semaphore(uploadParallelism * QUEUED_WRITES_PER_THREAD);
+        this.preparationExecutor = ExecutorUtil.newSingleDaemonThreadExecutor("detect-bdio-prepare");
+        this.uploadExecutor = ExecutorUtil.newDaemonThreadPool("detect-bdio-upload", uploadParallelism);
+    }
+
+    public void start() {
+        eventSystem.registerListener(Event.DetectCodeLocationExtracted, codeLocationListener);
+    }
+
+    public synchronized void submit(DetectCodeLocation detectCodeLocation) {
+        if (!finished) {
+            preparations.add(preparationExecutor.submit(() -> queueWrite(detectCodeLocation)));
+        }
+    }
+
+    // Only runs on the preparation thread.
+    private void queueWrite(DetectCodeLocation detectCodeLocation) {
+        BdioCodeLocation bdioCodeLocation;
+        synchronized (this) {
+            if (finished || !submittedCodeLocations.add(detectCodeLocation) || !bdioCodeLocationCreator.isValidCodeLocation(detectCodeLocation)) {
+                return;
+            }
+            String codeLocationName = bdioCodeLocationCreator.createCodeLocationName(detectCodeLocation, bdioOptions.getProjectCodeLocationPrefix(), bdioOptions.getProjectCodeLocationSuffix(), projectNameVersion);
+            codeLocationNames.put(detectCodeLocation, codeLocationName);
+            if (!usedCodeLocationNames.add(codeLocationName)) {
+                // The final name of a shared name is numbered, so it is written in finish().
+                return;
+            }
+            bdioCodeLocation = bdioCodeLocationCreator.createBdioCodeLocation(detectCodeLocation, codeLocationName);
+        }
+
+        try {
+            writeQueue.acquire();
+        } catch (InterruptedException e) {
+            // Only cancel interrupts the preparation thread.
+            Thread.currentThread().interrupt();
+            return;
+        }
+        synchronized (this) {
+            if (finished) {
+                writeQueue.release();
+                return;
+            }
+            logger.debug(String.format("Queued the BDIO write for code location: %s", bdioCodeLocation.getCodeLocationName()));
+            earlyWrites.put(detectCodeLocation, uploadExecutor.submit(() -> {
+                try {
+                    return writeBdio(bdioCodeLocation);
+                } finally {
+                    writeQueue.release();
+                }
+            }));
+        }
+    }
+
+    // Any code location that was not extracted by a detector, such as those from Docker or Bazel, is added before naming.
+    public StreamingBdioResult finish(List<DetectCodeLocation> detectCodeLocations) throws DetectUserFriendlyException, IntegrationException {
+        eventSystem.unregisterListener(Event.DetectCodeLocationExtracted, codeLocationListener);
+        detectCodeLocations.forEach(this::submit);
+
+        List<Future<?>> pendingPreparations;
+        synchronized (this) {
+            pendingPreparations = new ArrayList<>(preparations);
+        }
+        List<UploadTarget> uploadTargets = new ArrayList<>();
+        List<CodeLocationCreationData<UploadBatchOutput>> uploadResults = new ArrayList<>();
+        Map<DetectCodeLocation, String> finalCodeLocationNames;
+        try {
+            for (Future<?> pendingPreparation : pendingPreparations) {
+                ExecutorUtil.getUnwrapped(pendingPreparation, DetectUserFriendlyException.class, IntegrationException.class,
+                    cause -> new IntegrationException(String.format("A BDIO upload failed: %s", cause.getMessage()), cause));
+            }
+
+            Map<DetectCodeLocation, Future<List<UploadTarget>>> pendingWrites;
+            synchronized (this) {
+                finished = true;
+                pendingWrites = new HashMap<>(earlyWrites);
+                finalCodeLocationNames = new LinkedHashMap<>(codeLocationNames);
+            }
+            Map<DetectCodeLocation, List<UploadTarget>> writtenTargets = new HashMap<>();
+            for (Map.Entry<DetectCodeLocation, Future<List<UploadTarget>>> pendingWrite : pendingWrites.entrySet()) {
+                writtenTargets.put(pendingWrite.getKey(), ExecutorUtil.getUnwrapped(pendingWrite.getValue(), DetectUserFriendlyException.class, IntegrationException.class,
+                    cause -> new IntegrationException(String.format("A BDIO upload failed: %s", cause.getMessage()), cause)));
+            }
+
+            List<Future<StreamedUpload>> pendingUploads = new ArrayList<>();
+            for (BdioCodeLocation bdioCodeLocation : bdioCodeLocationCreator.createFromCodeLocationNames(finalCodeLocationNames).getBdioCodeLocations()) {
+                DetectCodeLocation detectCodeLocation = bdioCodeLocation.getDetectCodeLocation();
+                List<UploadTarget> earlyTargets = writtenTargets.get(detectCodeLocation);
+                boolean renamed = !bdioCodeLocation.getCodeLocationName().equals(finalCodeLocationNames.get(detectCodeLocation));
+                pendingUploads.add(uploadExecutor.submit(() -> writeAndUpload(bdioCodeLocation, earlyTargets, renamed)));
+            }
+            for (Future<StreamedUpload> pendingUpload : pendingUploads) {
+                StreamedUpload streamedUpload = ExecutorUtil.getUnwrapped(pendingUpload, DetectUserFriendlyException.class, IntegrationException.class,
+                    cause -> new IntegrationException(String.format("A BDIO upload failed: %s", cause.getMessage()), cause));
+                uploadTargets.addAll(streamedUpload.getUploadTargets());
+                uploadResults.add(streamedUpload.getUploadResult());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IntegrationException("Interrupted while waiting for the BDIO uploads to finish.", e);
+        } finally {
+            preparationExecutor.shutdownNow();
+            uploadExecutor.shutdownNow();
+        }
+
+        logger.info(String.format("Created and uploaded %d BDIO files.", uploadTargets.size()));
+        BdioResult bdioResult = new BdioResult(uploadTargets, new DetectCodeLocationNamesResult(finalCodeLocationNames), useBdio2);
+        return new StreamingBdioResult(bdioResult, uploadResults);
+    }
+
+    public void cancel() {
+        eventSystem.unregisterListener(Event.DetectCodeLocationExtracted, codeLocationListener);
+        synchronized (this) {
+            finished = true;
+        }
+        preparationExecutor.shutdownNow();
+        uploadExecutor.shutdownNow();
+    }
+
+    private List<UploadTarget> writeBdio(BdioCodeLocation bdioCodeLocation) throws DetectUserFriendlyException {
+        try (TraceSpan ignored = tracer.span("bdio", "Write BDIO").addArg("codeLocation", bdioCodeLocation.getCodeLocationName())) {
+            return codeLocationBdioCreator.createBdioFiles(bdioOutputDirectory, Collections.singletonList(bdioCodeLocation), projectNameVersion, useBdio2);
+        }
+    }
+
+    // The early targets were written under the base name, so they are only kept when the final name did not change.
+    private StreamedUpload writeAndUpload(BdioCodeLocation bdioCodeLocation, List<UploadTarget> earlyTargets, boolean renamed) throws DetectUserFriendlyException, IntegrationException {
+        List<UploadTarget> uploadTargets;
+        if (earlyTargets != null && !renamed) {
+            uploadTargets = earlyTargets;
+        } else {
+            if (earlyTargets != null) {
+                earlyTargets.forEach(uploadTarget -> FileUtils.deleteQuietly(uploadTarget.getUploadFile()));
+            }
+            uploadTargets = writeBdio(bdioCodeLocation);
+        }
+        CodeLocationCreationData<UploadBatchOutput> uploadResult;
+        try (TraceSpan ignored = tracer.span("bdio", "Upload BDIO").addArg("codeLocation", bdioCodeLocation.getCodeLocationName())) {
+            uploadResult = detectBdioUploadService.uploadBdioFiles(uploadTargets, useBdio2, bdioUploadService, bdio2UploadService);
+        }
+        return new StreamedUpload(uploadTargets, uploadResult);
+    }
+
+    private static class StreamedUpload {
+        private final List<UploadTarget> uploadTargets;
+        private final CodeLocationCreationData<UploadBatchOutput> uploadResult;
+
+        public StreamedUpload(List<UploadTarget> uploadTargets, CodeLocationCreationData<UploadBatchOutput> uploadResult) {
+            this.uploadTargets = uploadTargets;
+            this.uploadResult = uploadResult;
+        }
+
+        public List<UploadTarget> getUploadTargets() {
+            return uploadTargets;
+        }
+
+        public CodeLocationCreationData<UploadBatchOutput> getUploadResult() {
+            return uploadResult;
+        }
+    }
+}
@@ -24,12 +24,17 @@ package com.synopsys.integration.detect.workflow.blackduck;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.apache.commons.lang3.time.StopWatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.blackduck.api.generated.view.ProjectVersionView;
-import com.synopsys.integration.blackduck.api.generated.view.ProjectView;
 import com.synopsys.integration.blackduck.codelocation.CodeLocationCreationService;
 import com.synopsys.integration.blackduck.codelocation.CodeLocationWaitResult;
 import com.synopsys.integration.blackduck.exception.BlackDuckTimeoutExceededException;
@@ -38,13 +43,17 @@ import com.synopsys.integration.blackduck.service.dataservice.ProjectBomService;
 import com.synopsys.integration.blackduck.service.dataservice.ReportService;
 import com.synopsys.integration.blackduck.service.model.NotificationTaskRange;
 import com.synopsys.integration.blackduck.service.model.ProjectVersionWrapper;
+import com.synopsys.integration.common.util.ExecutorUtil;
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.detect.workflow.blackduck.codelocation.CodeLocationWaitData;
 import com.synopsys.integration.detect.workflow.blackduck.policy.PolicyChecker;
+import com.synopsys.integration.detect.workflow.event.DeferredEvents;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.result.ReportDetectResult;
+import com.synopsys.integration.detect.workflow.status.PostActionStatus;
+import com.synopsys.integration.detect.workflow.status.StatusType;
 import com.synopsys.integration.exception.IntegrationException;
 import com.synopsys.integration.rest.exception.IntegrationRestException;
 import com.synopsys.integration.util.NameVersion;
@@ -53,30 +62,39 @@ public class BlackDuckPostActions {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final CodeLocationCreationService codeLocationCreationService;
     private final EventSystem eventSystem;
-    private final BlackDuckApiClient blackDuckApiClient;
-    private final ProjectBomService projectBomService;
     private final ReportService reportService;
+    private final PolicyChecker policyChecker;
 
     public BlackDuckPostActions(CodeLocationCreationService codeLocationCreationService, EventSystem eventSystem, BlackDuckApiClient blackDuckApiClient, ProjectBomService projectBomService, ReportService reportService) {
+        this(codeLocationCreationService, eventSystem, reportService, new PolicyChecker(eventSystem, blackDuckApiClient, projectBomService));
+    }
+
+    public BlackDuckPostActions(CodeLocationCreationService codeLocationCreationService, EventSystem eventSystem, ReportService reportService, PolicyChecker policyChecker) {
         this.codeLocationCreationService = codeLocationCreationService;
         this.eventSystem = eventSystem;
-        this.blackDuckApiClient = blackDuckApiClient;
-        this.projectBomService = projectBomService;
         this.reportService = reportService;
+        this.policyChecker = policyChecker;
     }
 
     public void perform(BlackDuckPostOptions blackDuckPostOptions, CodeLocationWaitData codeLocationWaitData, ProjectVersionWrapper projectVersionWrapper, NameVersion projectNameVersion, long timeoutInSeconds)
         throws DetectUserFriendlyException {
         try {
             if (blackDuckPostOptions.shouldWaitForResults()) {
-                waitForCodeLocations(codeLocationWaitData, timeoutInSeconds, projectNameVersion);
+                runTimed(new PostAction("Wait for results", () -> waitForCodeLocations(codeLocationWaitData, timeoutInSeconds, projectNameVersion)));
             }
+
+            // Once the BOM is ready the policy check and the reports only read from Black Duck, so they run at the same time.
+            List<PostAction> postActions = new ArrayList<>();
             if (blackDuckPostOptions.shouldPerformPolicyCheck()) {
-                checkPolicy(blackDuckPostOptions, projectVersionWrapper.getProjectVersionView());
+                postActions.add(new PostAction("Policy check", () -> checkPolicy(blackDuckPostOptions, projectVersionWrapper.getProjectVersionView())));
+            }
+            if (blackDuckPostOptions.shouldGenerateRiskReport()) {
+                postActions.add(new PostAction("Risk report", () -> generateRiskReport(blackDuckPostOptions, projectVersionWrapper)));
             }
-            if (blackDuckPostOptions.shouldGenerateAnyReport()) {
-                generateReports(blackDuckPostOptions, projectVersionWrapper);
+            if (blackDuckPostOptions.shouldGenerateNoticesReport()) {
+                postActions.add(new PostAction("Notices report", () -> generateNoticesReport(blackDuckPostOptions, projectVersionWrapper)));
             }
+            runConcurrently(postActions);
         } catch (DetectUserFriendlyException e) {
             throw e;
         } catch (IllegalArgumentException e) {
@@ -90,6 +108,67 @@ public class BlackDuckPostActions {
         }
     }
 
+    // Every post action is run to completion, then the failure of the first one (in the order they were given) is thrown.
+    // The listeners of the status, result and exit code events are not thread safe, so each action's events are held and
+    // published on the calling thread in the order the actions were given.
+    private void runConcurrently(List<PostAction> postActions) throws Exception {
+        if (postActions.size() <= 1) {
+            for (PostAction postAction : postActions) {
+                runTimed(postAction);
+            }
+            return;
+        }
+
+        ExecutorService executorService = ExecutorUtil.newDaemonThreadPool("detect-post-action", postActions.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            List<DeferredEvents> deferredEvents = new ArrayList<>();
+            for (PostAction postAction : postActions) {
+                DeferredEvents postActionEvents = new DeferredEvents(eventSystem);
+                deferredEvents.add(postActionEvents);
+                futures.add(executorService.submit(() -> {
+                    eventSystem.deferEventsOnCurrentThread(postActionEvents);
+                    try {
+                        runTimed(postAction);
+                    } finally {
+                        eventSystem.stopDeferringEventsOnCurrentThread();
+                    }
+                    return null;
+                }));
+            }
+            Exception firstFailure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (firstFailure == null) {
+                        firstFailure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
+                }
+            }
+            deferredEvents.forEach(DeferredEvents::publish);
+            if (firstFailure != null) {
+                throw firstFailure;
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void runTimed(PostAction postAction) throws Exception {
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+        StatusType statusType = StatusType.FAILURE;
+        try {
+            postAction.action.run();
+            statusType = StatusType.SUCCESS;
+        } finally {
+            stopWatch.stop();
+            logger.debug(String.format("Black Duck post action '%s' took %d ms.", postAction.name, stopWatch.getTime()));
+            eventSystem.publishEvent(Event.StatusSummary, new PostActionStatus(postAction.name, statusType, stopWatch.getTime()));
+        }
+    }
+
     private void waitForCodeLocations(CodeLocationWaitData codeLocationWaitData, long timeoutInSeconds, NameVersion projectNameVersion) throws DetectUserFriendlyException, InterruptedException, IntegrationException {
         logger.info("Detect must wait for bom tool calculations to finish.");
         if (codeLocationWaitData.getExpectedNotificationCount() > 0) {
@@ -114,42 +193,50 @@ public class BlackDuckPostActions {
 
     private void checkPolicy(BlackDuckPostOptions blackDuckPostOptions, ProjectVersionView projectVersionView) throws IntegrationException {
         logger.info("Detect will check policy for violations.");
-        PolicyChecker policyChecker = new PolicyChecker(eventSystem, blackDuckApiClient, projectBomService);
         policyChecker.checkPolicy(blackDuckPostOptions.getSeveritiesToFailPolicyCheck(), projectVersionView);
     }
 
-    private void generateReports(BlackDuckPostOptions blackDuckPostOptions, ProjectVersionWrapper projectVersionWrapper) throws IntegrationException, IOException, InterruptedException {
-        ProjectView projectView = projectVersionWrapper.getProjectView();
-        ProjectVersionView projectVersionView = projectVersionWrapper.getProjectVersionView();
+    private void generateRiskReport(BlackDuckPostOptions blackDuckPostOptions, ProjectVersionWrapper projectVersionWrapper) throws IntegrationException, IOException, InterruptedException {
+        logger.info("Creating risk report pdf");
+        File reportDirectory = blackDuckPostOptions.getRiskReportPdfPath().toFile();
+
+        if (!reportDirectory.exists() && !reportDirectory.mkdirs()) {
+            logger.warn(String.format("Failed to create risk report pdf directory: %s", blackDuckPostOptions.getRiskReportPdfPath().toString()));
+        }
 
-        if (blackDuckPostOptions.shouldGenerateRiskReport()) {
-            logger.info("Creating risk report pdf");
-            File reportDirectory = blackDuckPostOptions.getRiskReportPdfPath().toFile();
+        DetectFontLoader detectFontLoader = new DetectFontLoader();
+        File createdPdf = reportService.createReportPdfFile(reportDirectory, projectVersionWrapper.getProjectView(), projectVersionWrapper.getProjectVersionView(), detectFontLoader::loadFont, detectFontLoader::loadBoldFont);
 
-            if (!reportDirectory.exists() && !reportDirectory.mkdirs()) {
-                logger.warn(String.format("Failed to create risk report pdf directory: %s", blackDuckPostOptions.getRiskReportPdfPath().toString()));
-            }
+        logger.info(String.format("Created risk report pdf: %s", createdPdf.getCanonicalPath()));
+        eventSystem.publishEvent(Event.ResultProduced, new ReportDetectResult("Risk Report", createdPdf.getCanonicalPath()));
+    }
 
-            DetectFontLoader detectFontLoader = new DetectFontLoader();
-            File createdPdf = reportService.createReportPdfFile(reportDirectory, projectView, projectVersionView, detectFontLoader::loadFont, detectFontLoader::loadBoldFont);
+    private void generateNoticesReport(BlackDuckPostOptions blackDuckPostOptions, ProjectVersionWrapper projectVersionWrapper) throws IntegrationException, IOException, InterruptedException {
+        logger.info("Creating notices report");
+        File noticesDirectory = blackDuckPostOptions.getNoticesReportPath().toFile();
 
-            logger.info(String.format("Created risk report pdf: %s", createdPdf.getCanonicalPath()));
-            eventSystem.publishEvent(Event.ResultProduced, new ReportDetectResult("Risk Report", createdPdf.getCanonicalPath()));
+        if (!noticesDirectory.exists() && !noticesDirectory.mkdirs()) {
+            logger.warn(String.format("Failed to create notices directory at %s", blackDuckPostOptions.getNoticesReportPath().toString()));
         }
 
-        if (blackDuckPostOptions.shouldGenerateNoticesReport()) {
-            logger.info("Creating notices report");
-            File noticesDirectory = blackDuckPostOptions.getNoticesReportPath().toFile();
+        File noticesFile = reportService.createNoticesReportFile(noticesDirectory, projectVersionWrapper.getProjectView(), projectVersionWrapper.getProjectVersionView());
+        logger.info(String.format("Created notices report: %s", noticesFile.getCanonicalPath()));
 
-            if (!noticesDirectory.exists() && !noticesDirectory.mkdirs()) {
-                logger.warn(String.format("Failed to create notices directory at %s", blackDuckPostOptions.getNoticesReportPath().toString()));
-            }
+        eventSystem.publishEvent(Event.ResultProduced, new ReportDetectResult("Notices Report", noticesFile.getCanonicalPath()));
+    }
 
-            File noticesFile = reportService.createNoticesReportFile(noticesDirectory, projectView, projectVersionView);
-            logger.info(String.format("Created notices report: %s", noticesFile.getCanonicalPath()));
+    @FunctionalInterface
+    private interface PostActionRunnable {
+        void run() throws Exception;
+    }
 
-            eventSystem.publishEvent(Event.ResultProduced, new ReportDetectResult("Notices Report", noticesFile.getCanonicalPath()));
+    private static class PostAction {
+        private final String name;
+        private final PostActionRunnable action;
 
+        private PostAction(String name, PostActionRunnable action) {
+            this.name = name;
+            this.action = action;
         }
     }
 }
@@ -22,6 +22,8 @@
  */
 package com.synopsys.integration.detect.workflow.blackduck;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,14 +44,19 @@ public class DetectBdioUploadService {
     private final Logger logger = LoggerFactory.getLogger(DetectBdioUploadService.class);
 
     public CodeLocationCreationData<UploadBatchOutput> uploadBdioFiles(BdioResult bdioResult, BdioUploadService bdioUploadService, Bdio2UploadService bdio2UploadService) throws DetectUserFriendlyException, IntegrationException {
+        return uploadBdioFiles(bdioResult.getUploadTargets(), bdioResult.isBdio2(), bdioUploadService, bdio2UploadService);
+    }
+
+    public CodeLocationCreationData<UploadBatchOutput> uploadBdioFiles(List<UploadTarget> uploadTargets, boolean isBdio2, BdioUploadService bdioUploadService, Bdio2UploadService bdio2UploadService)
+        throws DetectUserFriendlyException, IntegrationException {
         UploadBatch uploadBatch = new UploadBatch();
-        for (UploadTarget uploadTarget : bdioResult.getUploadTargets()) {
+        for (UploadTarget uploadTarget : uploadTargets) {
             logger.debug(String.format("Uploading %s", uploadTarget.getUploadFile().getName()));
             uploadBatch.addUploadTarget(uploadTarget);
         }
 
         CodeLocationCreationData<UploadBatchOutput> response;
-        if (bdioResult.isBdio2()) {
+        if (isBdio2) {
             response = bdio2UploadService.uploadBdio(uploadBatch);
         } else {
             response = bdioUploadService.uploadBdio(uploadBatch);
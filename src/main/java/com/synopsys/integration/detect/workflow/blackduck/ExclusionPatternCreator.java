@@ -32,16 +32,14 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.detectable.detectable.file.FileFinder;
-
 public class ExclusionPatternCreator {
     private final Logger logger = LoggerFactory.getLogger(ExclusionPatternCreator.class);
 
-    private final FileFinder fileFinder;
+    private final ExclusionPatternFinder exclusionPatternFinder;
     private final File scanTarget;
 
-    public ExclusionPatternCreator(final FileFinder fileFinder, final File scanTarget) {
-        this.fileFinder = fileFinder;
+    public ExclusionPatternCreator(final ExclusionPatternFinder exclusionPatternFinder, final File scanTarget) {
+        this.exclusionPatternFinder = exclusionPatternFinder;
         this.scanTarget = scanTarget;
     }
 
@@ -49,37 +47,13 @@ public class ExclusionPatternCreator {
         if (null == signatureScannerExclusionNamePatterns || signatureScannerExclusionNamePatterns.size() < 1 && scanTarget.isDirectory()) {
             return Collections.emptySet();
         }
-        final Set<String> scanExclusionPatterns = new HashSet<>();
         try {
-            final String scanTargetPath = scanTarget.getCanonicalPath();
             // TODO should we only collect directories since the scanner can only exclude directories?
-            final List<File> matchingFiles = fileFinder.findFiles(scanTarget, signatureScannerExclusionNamePatterns, maxDepth, false); //TODO: re-add the depth hit message creator?
-            for (final File matchingFile : matchingFiles) {
-                final String matchingFilePath = matchingFile.getCanonicalPath();
-                final String scanExclusionPattern = createExclusionPatternFromPaths(scanTargetPath, matchingFilePath);
-                scanExclusionPatterns.add(scanExclusionPattern);
-            }
+            return exclusionPatternFinder.findExclusionPatterns(scanTarget.toPath(), maxDepth, signatureScannerExclusionNamePatterns);
         } catch (final IOException e) {
             logger.warn("Problem encountered finding the exclusion patterns for the scanner. " + e.getMessage());
             logger.debug(e.getMessage(), e);
         }
-        return scanExclusionPatterns;
-    }
-
-    private String createExclusionPatternFromPaths(final String rootPath, final String targetPath) {
-        String scanExclusionPattern = targetPath.replace(rootPath, "/");
-        if (scanExclusionPattern.contains("\\\\")) {
-            scanExclusionPattern = scanExclusionPattern.replace("\\\\", "/");
-        }
-        if (scanExclusionPattern.contains("\\")) {
-            scanExclusionPattern = scanExclusionPattern.replace("\\", "/");
-        }
-        if (scanExclusionPattern.contains("//")) {
-            scanExclusionPattern = scanExclusionPattern.replace("//", "/");
-        }
-        if (!scanExclusionPattern.endsWith("/")) {
-            scanExclusionPattern = scanExclusionPattern + "/";
-        }
-        return scanExclusionPattern;
+        return new HashSet<>();
     }
 }
@@ -0,0 +1,166 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.blackduck;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOCase;
+import org.apache.commons.lang3.time.StopWatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.common.util.ExecutorUtil;
+
+/**
+ * Finds the files and directories under a scan target whose names match the exclusion name patterns, without looking inside a matching directory.
+ * Each top level directory is walked on its own thread and matches are kept as paths relative to the scan target.
+ */
+public class ExclusionPatternFinder {
+    private final Logger logger = LoggerFactory.getLogger(ExclusionPatternFinder.class);
+
+    private final int parallelism;
+
+    public ExclusionPatternFinder(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    // Like the file finder it replaces, entries down to maxDepth directories below the scan target's own entries are checked, and symbolic links are never followed.
+    public Set<String> findExclusionPatterns(Path scanTarget, int maxDepth, List<String> exclusionNamePatterns) throws IOException {
+        Path root = scanTarget.toAbsolutePath().normalize();
+        if (maxDepth < 0 || exclusionNamePatterns.isEmpty() || !Files.isDirectory(root, LinkOption.NOFOLLOW_LINKS)) {
+            return new HashSet<>();
+        }
+
+        Set<String> exclusionPatterns = ConcurrentHashMap.newKeySet();
+
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+        List<Path> directoriesToWalk = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(root)) {
+            for (Path entry : entries) {
+                if (matches(entry, exclusionNamePatterns)) {
+                    exclusionPatterns.add(createExclusionPattern(root, entry));
+                } else if (maxDepth > 0 && Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                    directoriesToWalk.add(entry);
+                }
+            }
+        }
+
+        if (parallelism == 1 || directoriesToWalk.size() < 2) {
+            for (Path directory : directoriesToWalk) {
+                walk(root, directory, maxDepth, exclusionNamePatterns, exclusionPatterns);
+            }
+        } else {
+            walkInParallel(root, directoriesToWalk, maxDepth, exclusionNamePatterns, exclusionPatterns);
+        }
+        stopWatch.stop();
+
+        logger.info(String.format("Found %d signature scanner exclusion patterns in %d ms.", exclusionPatterns.size(), stopWatch.getTime()));
+        return new HashSet<>(exclusionPatterns);
+    }
+
+    private void walkInParallel(Path root, List<Path> directoriesToWalk, int maxDepth, List<String> exclusionNamePatterns, Set<String> exclusionPatterns) throws IOException {
+        ExecutorService executorService = ExecutorUtil.newDaemonThreadPool("detect-exclusion-finder", Math.min(parallelism, directoriesToWalk.size()));
+        try {
+            List<Future<?>> walks = new ArrayList<>();
+            for (Path directory : directoriesToWalk) {
+                walks.add(executorService.submit(() -> {
+                    walk(root, directory, maxDepth, exclusionNamePatterns, exclusionPatterns);
+                    return null;
+                }));
+            }
+            for (Future<?> walk : walks) {
+                walk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while finding the exclusion patterns.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void walk(Path root, Path directory, int maxDepth, List<String> exclusionNamePatterns, Set<String> exclusionPatterns) throws IOException {
+        Files.walkFileTree(directory, EnumSet.noneOf(FileVisitOption.class), maxDepth, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (!dir.equals(directory) && matches(dir, exclusionNamePatterns)) {
+                    exclusionPatterns.add(createExclusionPattern(root, dir));
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (matches(file, exclusionNamePatterns)) {
+                    exclusionPatterns.add(createExclusionPattern(root, file));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                logger.debug(String.format("Could not read %s while finding exclusion patterns: %s", file, exc.getMessage()));
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private boolean matches(Path path, List<String> exclusionNamePatterns) {
+        String name = path.getFileName().toString();
+        for (String exclusionNamePattern : exclusionNamePatterns) {
+            if (FilenameUtils.wildcardMatch(name, exclusionNamePattern, IOCase.SENSITIVE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String createExclusionPattern(Path root, Path path) {
+        return "/" + FilenameUtils.separatorsToUnix(root.relativize(path).toString()) + "/";
+    }
+}
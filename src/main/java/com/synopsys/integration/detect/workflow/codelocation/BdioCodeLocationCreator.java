@@ -25,7 +25,7 @@ package com.synopsys.integration.detect.workflow.codelocation;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -57,6 +57,11 @@ public class BdioCodeLocationCreator {
         final List<DetectCodeLocation> validDetectCodeLocations = findValidCodeLocations(detectCodeLocations);
         final Map<DetectCodeLocation, String> codeLocationsAndNames = createCodeLocationNameMap(validDetectCodeLocations, directoryManager.getSourceDirectory(), projectNameVersion, prefix, suffix);
 
+        return createFromCodeLocationNames(codeLocationsAndNames);
+    }
+
+    // Code locations that share a name are numbered in the order of the given map, so callers that named them one at a time get the same names.
+    public BdioCodeLocationResult createFromCodeLocationNames(final Map<DetectCodeLocation, String> codeLocationsAndNames) {
         final Map<String, List<DetectCodeLocation>> codeLocationsByName = seperateCodeLocationsByName(codeLocationsAndNames);
 
         final List<BdioCodeLocation> bdioCodeLocations = createBdioCodeLocations(codeLocationsByName);
@@ -64,9 +69,28 @@ public class BdioCodeLocationCreator {
         return new BdioCodeLocationResult(bdioCodeLocations, codeLocationsAndNames);
     }
 
+    public boolean isValidCodeLocation(final DetectCodeLocation detectCodeLocation) {
+        if (detectCodeLocation.getDependencyGraph() == null) {
+            logger.warn(String.format("Dependency graph is null for code location %s", detectCodeLocation.getSourcePath()));
+            return false;
+        }
+        if (detectCodeLocation.getDependencyGraph().getRootDependencies().isEmpty()) {
+            logger.warn(String.format("Could not find any dependencies for code location %s", detectCodeLocation.getSourcePath()));
+        }
+        return true;
+    }
+
+    public String createCodeLocationName(final DetectCodeLocation detectCodeLocation, final String prefix, final String suffix, final NameVersion projectNameVersion) {
+        return codeLocationNameManager.createCodeLocationName(detectCodeLocation, directoryManager.getSourceDirectory(), projectNameVersion.getName(), projectNameVersion.getVersion(), prefix, suffix);
+    }
+
+    public BdioCodeLocation createBdioCodeLocation(final DetectCodeLocation detectCodeLocation, final String codeLocationName) {
+        return new BdioCodeLocation(detectCodeLocation, codeLocationName, createBdioName(codeLocationName, new IntegrationEscapeUtil()));
+    }
+
     private Map<DetectCodeLocation, String> createCodeLocationNameMap(final List<DetectCodeLocation> codeLocations, final File detectSourcePath, final NameVersion projectNameVersion, final String prefix,
         final String suffix) {
-        final Map<DetectCodeLocation, String> nameMap = new HashMap<>();
+        final Map<DetectCodeLocation, String> nameMap = new LinkedHashMap<>();
         for (final DetectCodeLocation detectCodeLocation : codeLocations) {
             final String codeLocationName = codeLocationNameManager.createCodeLocationName(detectCodeLocation, detectSourcePath, projectNameVersion.getName(), projectNameVersion.getVersion(), prefix, suffix);
             nameMap.put(detectCodeLocation, codeLocationName);
@@ -77,20 +101,15 @@ public class BdioCodeLocationCreator {
     private List<DetectCodeLocation> findValidCodeLocations(final List<DetectCodeLocation> detectCodeLocations) {
         final List<DetectCodeLocation> validCodeLocations = new ArrayList<>();
         for (final DetectCodeLocation detectCodeLocation : detectCodeLocations) {
-            if (detectCodeLocation.getDependencyGraph() == null) {
-                logger.warn(String.format("Dependency graph is null for code location %s", detectCodeLocation.getSourcePath()));
-                continue;
-            }
-            if (detectCodeLocation.getDependencyGraph().getRootDependencies().isEmpty()) {
-                logger.warn(String.format("Could not find any dependencies for code location %s", detectCodeLocation.getSourcePath()));
+            if (isValidCodeLocation(detectCodeLocation)) {
+                validCodeLocations.add(detectCodeLocation);
             }
-            validCodeLocations.add(detectCodeLocation);
         }
         return validCodeLocations;
     }
 
     private Map<String, List<DetectCodeLocation>> seperateCodeLocationsByName(final Map<DetectCodeLocation, String> detectCodeLocationNameMap) {
-        final Map<String, List<DetectCodeLocation>> codeLocationNameMap = new HashMap<>();
+        final Map<String, List<DetectCodeLocation>> codeLocationNameMap = new LinkedHashMap<>();
         for (final Map.Entry<DetectCodeLocation, String> detectCodeLocationEntry : detectCodeLocationNameMap.entrySet()) {
             final String codeLocationName = detectCodeLocationEntry.getValue();
             if (!codeLocationNameMap.containsKey(codeLocationName)) {
@@ -26,9 +26,9 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -38,7 +38,7 @@ import com.synopsys.integration.detect.workflow.file.DetectFileUtils;
 
 public class CodeLocationNameGenerator {
     private final String codeLocationNameOverride;
-    private final Map<String, Integer> nameCounters = new HashMap<>();
+    private final Map<String, Integer> nameCounters = new ConcurrentHashMap<>();
     private static final int MAXIMUM_CODE_LOCATION_NAME_LENGTH = 250;
 
     public CodeLocationNameGenerator(@Nullable String codeLocationNameOverride) {
@@ -229,16 +229,9 @@ public class CodeLocationNameGenerator {
         return nextName;
     }
 
+    // Names are generated from several upload and scan threads, so each base name is counted atomically.
     private int deriveNameNumber(String baseName) {
-        int nameIndex;
-        if (nameCounters.containsKey(baseName)) {
-            nameIndex = nameCounters.get(baseName);
-            nameIndex++;
-        } else {
-            nameIndex = 1;
-        }
-        nameCounters.put(baseName, nameIndex);
-        return nameIndex;
+        return nameCounters.merge(baseName, 1, Integer::sum);
     }
 
 }
@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.io.FileUtils;
@@ -36,6 +37,7 @@ import org.slf4j.LoggerFactory;
 import com.synopsys.integration.detect.tool.detector.executable.ExecutedExecutable;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutputFiles;
 
 public class DiagnosticExecutableCapture {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
@@ -45,24 +47,31 @@ public class DiagnosticExecutableCapture {
 
     public DiagnosticExecutableCapture(final File executableDirectory, final EventSystem eventSystem) {
         this.executableDirectory = executableDirectory;
+        // The output files of an Executed event can be deleted as soon as it has been published, so they are copied as they arrive rather than queued for another thread.
         eventSystem.registerListener(Event.Executable, this::executableFinished);
     }
 
-    private void executableFinished(final ExecutedExecutable executed) {
+    private synchronized void executableFinished(final ExecutedExecutable executed) {
         final File errorOut = new File(executableDirectory, "EXE-" + executables + "-ERR.xout");
         final File standardOut = new File(executableDirectory, "EXE-" + executables + "-STD.xout");
         indexToCommand.put(executables, executed.getExecutable().getExecutableDescription());
 
         try {
-            FileUtils.writeStringToFile(errorOut, executed.getOutput().getErrorOutput(), Charset.defaultCharset());
-            FileUtils.writeStringToFile(standardOut, executed.getOutput().getStandardOutput(), Charset.defaultCharset());
+            Optional<ExecutableOutputFiles> outputFiles = executed.getOutputFiles();
+            if (outputFiles.isPresent()) {
+                FileUtils.copyFile(outputFiles.get().getErrorOutputFile(), errorOut);
+                FileUtils.copyFile(outputFiles.get().getStandardOutputFile(), standardOut);
+            } else {
+                FileUtils.writeStringToFile(errorOut, executed.getOutput().getErrorOutput(), Charset.defaultCharset());
+                FileUtils.writeStringToFile(standardOut, executed.getOutput().getStandardOutput(), Charset.defaultCharset());
+            }
         } catch (final IOException e) {
             logger.error("Failed to capture executable output.", e);
         }
         executables++;
     }
 
-    public void finish() {
+    public synchronized void finish() {
         if (indexToCommand.size() <= 0) {
             return;
         }
@@ -44,10 +44,10 @@ public class DiagnosticFileCapture {
 
     public DiagnosticFileCapture(final File fileDirectory, final EventSystem eventSystem) {
         this.fileDirectory = fileDirectory;
-        eventSystem.registerListener(Event.CustomerFileOfInterest, this::fileFound);
+        eventSystem.registerAsyncListener(Event.CustomerFileOfInterest, this::fileFound);
     }
 
-    private void fileFound(final File foundFile) {
+    private synchronized void fileFound(final File foundFile) {
         final File savedFile = new File(fileDirectory, "FILE-" + files + "-" + foundFile.getName());
         fileNames.put(files, foundFile.toString());
 
@@ -60,7 +60,7 @@ public class DiagnosticFileCapture {
         files++;
     }
 
-    public void finish() {
+    public synchronized void finish() {
         if (fileNames.size() <= 0) {
             return;
         }
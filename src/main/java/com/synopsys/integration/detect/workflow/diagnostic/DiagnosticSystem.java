@@ -102,6 +102,7 @@ public class DiagnosticSystem {
 
     public void finish() {
         logger.info("Finishing diagnostic mode.");
+        eventSystem.flush();
 
         try {
             logger.info("Finishing reports.");
@@ -0,0 +1,123 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.event;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands events to a listener on a dedicated daemon thread through a bounded queue. A full queue blocks the publisher rather than dropping events.
+ */
+class AsyncEventListener<T> implements EventListener<T> {
+    private static final Object STOP = new Object();
+
+    private final Logger logger = LoggerFactory.getLogger(AsyncEventListener.class);
+    private final EventListener<T> delegate;
+    private final BlockingQueue<Object> queue;
+    private final Thread dispatchThread;
+    private volatile boolean stopped = false;
+
+    AsyncEventListener(EventListener<T> delegate, int queueCapacity) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.dispatchThread = new Thread(this::dispatch, "detect-event-dispatch");
+        dispatchThread.setDaemon(true);
+        dispatchThread.start();
+    }
+
+    EventListener<T> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void eventOccured(T event) {
+        if (stopped) {
+            return;
+        }
+        enqueue(new Delivery<>(event));
+    }
+
+    void flush() {
+        if (stopped) {
+            return;
+        }
+        CountDownLatch barrier = new CountDownLatch(1);
+        enqueue(barrier);
+        try {
+            barrier.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Events already queued are still delivered before the thread ends.
+    void stop() {
+        stopped = true;
+        enqueue(STOP);
+    }
+
+    private void enqueue(Object item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch() {
+        while (true) {
+            Object item;
+            try {
+                item = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (item == STOP) {
+                return;
+            } else if (item instanceof CountDownLatch) {
+                ((CountDownLatch) item).countDown();
+            } else {
+                try {
+                    delegate.eventOccured(((Delivery<T>) item).payload);
+                } catch (RuntimeException e) {
+                    // The publisher has already moved on, so the failure can only be reported here.
+                    logger.error(String.format("An asynchronous event listener failed: %s", e.getMessage()), e);
+                }
+            }
+        }
+    }
+
+    // Wrapped so that a payload can never be mistaken for a barrier or the stop marker.
+    private static class Delivery<T> {
+        private final T payload;
+
+        private Delivery(T payload) {
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DeferredEvents {
+    private final EventSystem eventSystem;
+    private final List<Runnable> events = new ArrayList<>();
+
+    public DeferredEvents(final EventSystem eventSystem) {
+        this.eventSystem = eventSystem;
+    }
+
+    public synchronized <T> void add(final EventType<T> event, final T payload) {
+        events.add(() -> eventSystem.publishEvent(event, payload));
+    }
+
+    // Publishes the held events in the order they were originally published, on the calling thread.
+    public void publish() {
+        final List<Runnable> eventsToPublish;
+        synchronized (this) {
+            eventsToPublish = new ArrayList<>(events);
+            events.clear();
+        }
+        eventsToPublish.forEach(Runnable::run);
+    }
+}
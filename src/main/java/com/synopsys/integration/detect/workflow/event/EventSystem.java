@@ -23,35 +23,87 @@
 package com.synopsys.integration.detect.workflow.event;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class EventSystem {
-    private final Map<EventType, List<EventListener>> eventListenerMap = new HashMap<>();
+    public static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 1024;
+
+    // Listeners are copied on registration so publishing from any thread only ever reads a stable list.
+    private final Map<EventType, List<EventListener>> eventListenerMap = new ConcurrentHashMap<>();
+    private final ThreadLocal<DeferredEvents> deferredEvents = new ThreadLocal<>();
 
     public <T> void publishEvent(final EventType<T> event, final T payload) {
-        for (final EventListener listener : safelyGetListeners(event)) {
+        final DeferredEvents currentDeferredEvents = deferredEvents.get();
+        if (currentDeferredEvents != null) {
+            currentDeferredEvents.add(event, payload);
+            return;
+        }
+        for (final EventListener listener : eventListenerMap.getOrDefault(event, Collections.emptyList())) {
             listener.eventOccured(payload);
         }
     }
 
+    // Until stopped, events published by the current thread are held so that work done in the background reports at a fixed point.
+    public void deferEventsOnCurrentThread(final DeferredEvents currentDeferredEvents) {
+        deferredEvents.set(currentDeferredEvents);
+    }
+
+    public void stopDeferringEventsOnCurrentThread() {
+        deferredEvents.remove();
+    }
+
     public <T> void registerListener(final EventType<T> event, final EventListener<T> listener) {
-        safelyGetListeners(event).add(listener);
+        eventListenerMap.computeIfAbsent(event, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    // The listener is called on its own thread, in publish order, so a slow listener such as a report writer never holds up the publisher.
+    public <T> void registerAsyncListener(final EventType<T> event, final EventListener<T> listener) {
+        registerAsyncListener(event, listener, DEFAULT_ASYNC_QUEUE_CAPACITY);
+    }
+
+    public <T> void registerAsyncListener(final EventType<T> event, final EventListener<T> listener, final int queueCapacity) {
+        registerListener(event, new AsyncEventListener<>(listener, queueCapacity));
     }
 
     public <T> void unregisterListener(final EventType<T> event, final EventListener<T> listener) {
-        safelyGetListeners(event).remove(listener);
+        final List<EventListener> listeners = eventListenerMap.get(event);
+        if (listeners == null) {
+            return;
+        }
+        for (final EventListener registered : listeners) {
+            if (registered == listener) {
+                listeners.remove(registered);
+                return;
+            } else if (registered instanceof AsyncEventListener && ((AsyncEventListener) registered).getDelegate() == listener) {
+                listeners.remove(registered);
+                ((AsyncEventListener) registered).stop();
+                return;
+            }
+        }
+    }
+
+    // A barrier for phase boundaries: returns once every event published before the call has been handled by the asynchronous listeners.
+    public void flush() {
+        for (final AsyncEventListener asyncListener : findAsyncListeners()) {
+            asyncListener.flush();
+        }
     }
 
-    private List<EventListener> safelyGetListeners(final EventType event) {
-        final List<EventListener> listeners;
-        if (eventListenerMap.containsKey(event)) {
-            listeners = eventListenerMap.get(event);
-        } else {
-            listeners = new ArrayList<>();
-            eventListenerMap.put(event, listeners);
+    private Set<AsyncEventListener> findAsyncListeners() {
+        final Set<AsyncEventListener> asyncListeners = new LinkedHashSet<>();
+        for (final List<EventListener> listeners : new ArrayList<>(eventListenerMap.values())) {
+            for (final EventListener listener : listeners) {
+                if (listener instanceof AsyncEventListener) {
+                    asyncListeners.add((AsyncEventListener) listener);
+                }
+            }
         }
-        return listeners;
+        return asyncListeners;
     }
 }
@@ -202,6 +202,10 @@ public class DirectoryManager {
         return runDirectory;
     }
 
+    public File getTraceOutputFile() { // kept beside the run directory so cleanup does not remove it
+        return new File(getRunsOutputDirectory(), runDirectory.getName() + "-trace.json");
+    }
+
     private File getOutputDirectory(OutputDirectory directory) {
         File actualDirectory = outputDirectories.get(directory);
         if (!actualDirectory.exists()) {
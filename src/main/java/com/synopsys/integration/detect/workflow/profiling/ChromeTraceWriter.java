@@ -0,0 +1,91 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.profiling;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Writes spans in the Chrome trace event format, which chrome://tracing, Perfetto and speedscope can open.
+ */
+public class ChromeTraceWriter {
+    private static final int PROCESS_ID = 1;
+
+    public void write(File traceFile, Tracer tracer) throws IOException {
+        Files.createDirectories(traceFile.getAbsoluteFile().getParentFile().toPath());
+        List<TraceSpan> spans = tracer.getCompletedSpans();
+        try (Writer writer = Files.newBufferedWriter(traceFile.toPath(), StandardCharsets.UTF_8); JsonWriter json = new JsonWriter(writer)) {
+            json.beginObject();
+            json.name("displayTimeUnit").value("ms");
+            json.name("traceEvents").beginArray();
+            Map<Long, String> threadNames = new LinkedHashMap<>();
+            for (TraceSpan span : spans) {
+                threadNames.putIfAbsent(span.getThreadId(), span.getThreadName());
+                writeSpan(json, span, tracer.getOriginNanos());
+            }
+            for (Map.Entry<Long, String> threadName : threadNames.entrySet()) {
+                writeThreadName(json, threadName.getKey(), threadName.getValue());
+            }
+            json.endArray();
+            json.endObject();
+        }
+    }
+
+    private void writeSpan(JsonWriter json, TraceSpan span, long originNanos) throws IOException {
+        json.beginObject();
+        json.name("name").value(span.getName());
+        json.name("cat").value(span.getCategory());
+        json.name("ph").value("X");
+        json.name("ts").value(TimeUnit.NANOSECONDS.toMicros(span.getStartNanos() - originNanos));
+        json.name("dur").value(TimeUnit.NANOSECONDS.toMicros(span.getDurationNanos()));
+        json.name("pid").value(PROCESS_ID);
+        json.name("tid").value(span.getThreadId());
+        if (!span.getArgs().isEmpty()) {
+            json.name("args").beginObject();
+            for (Map.Entry<String, String> arg : span.getArgs().entrySet()) {
+                json.name(arg.getKey()).value(arg.getValue());
+            }
+            json.endObject();
+        }
+        json.endObject();
+    }
+
+    private void writeThreadName(JsonWriter json, long threadId, String threadName) throws IOException {
+        json.beginObject();
+        json.name("name").value("thread_name");
+        json.name("ph").value("M");
+        json.name("pid").value(PROCESS_ID);
+        json.name("tid").value(threadId);
+        json.name("args").beginObject().name("name").value(threadName).endObject();
+        json.endObject();
+    }
+}
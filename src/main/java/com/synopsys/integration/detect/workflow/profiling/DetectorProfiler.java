@@ -25,6 +25,7 @@ package com.synopsys.integration.detect.workflow.profiling;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
@@ -36,11 +37,21 @@ public class DetectorProfiler {
     private final Timekeeper<DetectorEvaluation> extractableTimekeeper = new Timekeeper<>();
     private final Timekeeper<DetectorEvaluation> discoveryTimekeeper = new Timekeeper<>();
     private final Timekeeper<DetectorEvaluation> extractionTimekeeper = new Timekeeper<>();
+    private final Map<DetectorEvaluation, TraceSpan> applicableSpans = new ConcurrentHashMap<>();
+    private final Map<DetectorEvaluation, TraceSpan> extractableSpans = new ConcurrentHashMap<>();
+    private final Map<DetectorEvaluation, TraceSpan> discoverySpans = new ConcurrentHashMap<>();
+    private final Map<DetectorEvaluation, TraceSpan> extractionSpans = new ConcurrentHashMap<>();
 
     private final EventSystem eventSystem;
+    private final Tracer tracer;
 
     public DetectorProfiler(EventSystem eventSystem) {
+        this(eventSystem, Tracer.disabled());
+    }
+
+    public DetectorProfiler(EventSystem eventSystem, Tracer tracer) {
         this.eventSystem = eventSystem;
+        this.tracer = tracer;
 
         eventSystem.registerListener(Event.ApplicableStarted, this::applicableStarted);
         eventSystem.registerListener(Event.ApplicableEnded, this::applicableEnded);
@@ -55,34 +66,59 @@ public class DetectorProfiler {
 
     private void applicableStarted(DetectorEvaluation evaluation) {
         applicableTimekeeper.started(evaluation);
+        startSpan(applicableSpans, "Applicable", evaluation);
     }
 
     private void applicableEnded(DetectorEvaluation evaluation) {
         applicableTimekeeper.ended(evaluation);
+        endSpan(applicableSpans, evaluation);
     }
 
     private void extractableStarted(DetectorEvaluation evaluation) {
         extractableTimekeeper.started(evaluation);
+        startSpan(extractableSpans, "Extractable", evaluation);
     }
 
     private void extractableEnded(DetectorEvaluation evaluation) {
         extractableTimekeeper.ended(evaluation);
+        endSpan(extractableSpans, evaluation);
     }
 
     private void discoveryStarted(DetectorEvaluation evaluation) {
         discoveryTimekeeper.started(evaluation);
+        startSpan(discoverySpans, "Discovery", evaluation);
     }
 
     private void discoveryEnded(DetectorEvaluation evaluation) {
         discoveryTimekeeper.ended(evaluation);
+        endSpan(discoverySpans, evaluation);
     }
 
     private void extractionStarted(DetectorEvaluation evaluation) {
         extractionTimekeeper.started(evaluation);
+        startSpan(extractionSpans, "Extraction", evaluation);
     }
 
     private void extractionEnded(DetectorEvaluation evaluation) {
         extractionTimekeeper.ended(evaluation);
+        endSpan(extractionSpans, evaluation);
+    }
+
+    private void startSpan(Map<DetectorEvaluation, TraceSpan> spans, String phase, DetectorEvaluation evaluation) {
+        if (tracer.isEnabled()) {
+            TraceSpan span = tracer.span("detector", phase + " " + evaluation.getDetectorRule().getDescriptiveName());
+            if (evaluation.getDetectableEnvironment() != null) {
+                span.addArg("directory", evaluation.getDetectableEnvironment().getDirectory());
+            }
+            spans.put(evaluation, span);
+        }
+    }
+
+    private void endSpan(Map<DetectorEvaluation, TraceSpan> spans, DetectorEvaluation evaluation) {
+        TraceSpan span = spans.remove(evaluation);
+        if (span != null) {
+            span.close();
+        }
     }
 
     public List<Timing<DetectorEvaluation>> getApplicableTimings() {
@@ -98,7 +134,7 @@ public class DetectorProfiler {
     }
 
     public List<Timing<DetectorEvaluation>> getDiscoveryTimings() {
-        return extractionTimekeeper.getTimings();
+        return discoveryTimekeeper.getTimings();
     }
 
     public void detectorsComplete() {
@@ -0,0 +1,99 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.profiling;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A timed section of the run. Spans are closed on the thread that opened them, spans on the same thread nest by time when the trace is viewed.
+ */
+public class TraceSpan implements AutoCloseable {
+    static final TraceSpan NONE = new TraceSpan(null, "", "");
+
+    private final Tracer tracer;
+    private final String category;
+    private final String name;
+    private final long threadId;
+    private final String threadName;
+    private final long startNanos;
+    private Map<String, String> args = null;
+    private long durationNanos = -1;
+
+    TraceSpan(Tracer tracer, String category, String name) {
+        this.tracer = tracer;
+        this.category = category;
+        this.name = name;
+        Thread thread = Thread.currentThread();
+        this.threadId = thread.getId();
+        this.threadName = thread.getName();
+        this.startNanos = System.nanoTime();
+    }
+
+    public TraceSpan addArg(String key, Object value) {
+        if (tracer != null) {
+            if (args == null) {
+                args = new LinkedHashMap<>();
+            }
+            args.put(key, String.valueOf(value));
+        }
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (tracer != null && durationNanos < 0) {
+            durationNanos = System.nanoTime() - startNanos;
+            tracer.record(this);
+        }
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getThreadId() {
+        return threadId;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public Map<String, String> getArgs() {
+        return args == null ? Collections.emptyMap() : args;
+    }
+}
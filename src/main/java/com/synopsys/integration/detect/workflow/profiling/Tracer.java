@@ -0,0 +1,70 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.profiling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records spans for the whole run so they can be written as a trace file. When disabled, spans are a shared no-op and nothing is recorded.
+ */
+public class Tracer {
+    private static final Tracer DISABLED = new Tracer(false);
+
+    private final boolean enabled;
+    private final long originNanos = System.nanoTime();
+    private final Queue<TraceSpan> completedSpans = new ConcurrentLinkedQueue<>();
+
+    public Tracer(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static Tracer disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public TraceSpan span(String category, String name) {
+        if (!enabled) {
+            return TraceSpan.NONE;
+        }
+        return new TraceSpan(this, category, name);
+    }
+
+    void record(TraceSpan span) {
+        completedSpans.add(span);
+    }
+
+    public long getOriginNanos() {
+        return originNanos;
+    }
+
+    public List<TraceSpan> getCompletedSpans() {
+        return new ArrayList<>(completedSpans);
+    }
+}
@@ -77,6 +77,14 @@ public class ProjectNameVersionDecider {
         return new NameVersion(decidedProjectName, decidedProjectVersionName);
     }
 
+    // Present only when the project name and version do not depend on what the tools find.
+    public Optional<NameVersion> decideProvidedProjectNameVersion() {
+        if (StringUtils.isNotBlank(projectVersionOptions.overrideProjectName) && StringUtils.isNotBlank(projectVersionOptions.overrideProjectVersionName)) {
+            return Optional.of(new NameVersion(projectVersionOptions.overrideProjectName, projectVersionOptions.overrideProjectVersionName));
+        }
+        return Optional.empty();
+    }
+
     private Optional<DetectToolProjectInfo> decideToolProjectInfo(List<DetectTool> preferredDetectTools, List<DetectToolProjectInfo> detectToolProjectInfo) {
         Optional<DetectToolProjectInfo> chosenTool = Optional.empty();
 
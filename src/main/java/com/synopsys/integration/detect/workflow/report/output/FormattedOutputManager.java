@@ -78,7 +78,7 @@ public class FormattedOutputManager {
                                       .toList();
 
         formattedOutput.status = Bds.of(statusSummaries)
-                                     .map(status -> new FormattedStatusOutput(status.getDescriptionKey(), status.getStatusType().toString()))
+                                     .map(status -> new FormattedStatusOutput(status.getDescriptionKey(), status.getStatusType().toString(), status.getDurationInMillis().orElse(null)))
                                      .toList();
 
         formattedOutput.issues = Bds.of(detectIssues)
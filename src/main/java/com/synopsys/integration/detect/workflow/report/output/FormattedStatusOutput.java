@@ -22,12 +22,22 @@
  */
 package com.synopsys.integration.detect.workflow.report.output;
 
+import org.jetbrains.annotations.Nullable;
+
 public class FormattedStatusOutput {
     public final String key;
     public final String status;
+    // Only written for statuses that were timed.
+    @Nullable
+    public final Long durationInMillis;
 
     public FormattedStatusOutput(final String descriptionKey, final String status) {
+        this(descriptionKey, status, null);
+    }
+
+    public FormattedStatusOutput(final String descriptionKey, final String status, @Nullable final Long durationInMillis) {
         this.key = descriptionKey;
         this.status = status;
+        this.durationInMillis = durationInMillis;
     }
 }
@@ -97,7 +97,8 @@ public class DetectStatusLogger {
             if (previousSummaryClass != null && !previousSummaryClass.equals(status.getClass())) {
                 logger.info("");
             }
-            logger.info(String.format("%s: %s", status.getDescriptionKey(), status.getStatusType().toString()));
+            String duration = status.getDurationInMillis().map(durationInMillis -> String.format(" (%d ms)", durationInMillis)).orElse("");
+            logger.info(String.format("%s: %s%s", status.getDescriptionKey(), status.getStatusType().toString(), duration));
 
             previousSummaryClass = status.getClass();
         }
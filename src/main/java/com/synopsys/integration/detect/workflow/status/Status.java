@@ -22,13 +22,24 @@
  */
 package com.synopsys.integration.detect.workflow.status;
 
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
 public class Status {
     private final String descriptionKey;
     private final StatusType statusType;
+    @Nullable
+    private final Long durationInMillis;
 
     public Status(final String descriptionKey, final StatusType statusType) {
+        this(descriptionKey, statusType, null);
+    }
+
+    public Status(final String descriptionKey, final StatusType statusType, @Nullable final Long durationInMillis) {
         this.descriptionKey = descriptionKey;
         this.statusType = statusType;
+        this.durationInMillis = durationInMillis;
     }
 
     public String getDescriptionKey() {
@@ -39,4 +50,8 @@ public class Status {
         return statusType;
     }
 
+    public Optional<Long> getDurationInMillis() {
+        return Optional.ofNullable(durationInMillis);
+    }
+
 }
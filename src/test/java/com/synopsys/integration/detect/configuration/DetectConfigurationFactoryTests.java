@@ -90,6 +90,38 @@ public class DetectConfigurationFactoryTests {
 
         Assertions.assertEquals(5, factory.findParallelProcessors());
     }
+
+    @Test
+    public void extractionParallelismDefaultsToOne() {
+        final DetectConfigurationFactory factory = factoryOf();
+
+        Assertions.assertEquals(1, factory.findExtractionParallelism());
+    }
+
+    @Test
+    public void extractionParallelismUsesRuntimeProcessorsWhenNotPositive() {
+        final DetectConfigurationFactory factory = factoryOf(Pair.of(DetectProperties.DETECT_DETECTOR_EXTRACTION_PARALLELISM.getProperty(), "0"));
+
+        Assertions.assertEquals(Runtime.getRuntime().availableProcessors(), factory.findExtractionParallelism());
+    }
+
+    @Test
+    public void resolveParallelismKeepsPositiveValues() {
+        Assertions.assertEquals(3, DetectConfigurationFactory.resolveParallelism(3));
+        Assertions.assertEquals(Runtime.getRuntime().availableProcessors(), DetectConfigurationFactory.resolveParallelism(-1));
+    }
+
+    @Test
+    public void streamingBdioUploadRequiresSequentialExtraction() {
+        final DetectConfigurationFactory sequentialFactory = factoryOf(Pair.of(DetectProperties.DETECT_BDIO_UPLOAD_STREAMING.getProperty(), "true"));
+        final DetectConfigurationFactory parallelFactory = factoryOf(
+            Pair.of(DetectProperties.DETECT_BDIO_UPLOAD_STREAMING.getProperty(), "true"),
+            Pair.of(DetectProperties.DETECT_DETECTOR_EXTRACTION_PARALLELISM.getProperty(), "2")
+        );
+
+        Assertions.assertTrue(sequentialFactory.createRunOptions().shouldStreamBdioUpload());
+        Assertions.assertFalse(parallelFactory.createRunOptions().shouldStreamBdioUpload());
+    }
     //#endregion Parallel Processors
 
     //#region Snippet Matching
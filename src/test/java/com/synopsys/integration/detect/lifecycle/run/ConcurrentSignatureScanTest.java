@@ -0,0 +1,82 @@
+package com.synopsys.integration.detect.lifecycle.run;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.blackduck.codelocation.CodeLocationCreationData;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchOutput;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.lifecycle.run.operation.blackduck.SignatureScanOperation;
+import com.synopsys.integration.detect.lifecycle.run.operation.input.SignatureScanInput;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.status.DetectIssue;
+import com.synopsys.integration.detect.workflow.status.DetectIssueType;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.util.NameVersion;
+
+public class ConcurrentSignatureScanTest {
+    @Test
+    public void eventsArePublishedWhenJoined() throws DetectUserFriendlyException, IntegrationException, InterruptedException {
+        EventSystem eventSystem = new EventSystem();
+        List<DetectIssue> issues = new ArrayList<>();
+        eventSystem.registerListener(Event.Issue, issues::add);
+
+        CountDownLatch scanFinished = new CountDownLatch(1);
+        SignatureScanOperation signatureScanOperation = Mockito.mock(SignatureScanOperation.class);
+        NameVersion projectNameVersion = new NameVersion("project", "version");
+        SignatureScanInput signatureScanInput = new SignatureScanInput(projectNameVersion, null);
+        Mockito.when(signatureScanOperation.execute(signatureScanInput)).thenAnswer(invocation -> {
+            eventSystem.publishEvent(Event.Issue, new DetectIssue(DetectIssueType.SIGNATURE_SCANNER, Collections.singletonList("scan failed")));
+            scanFinished.countDown();
+            return Optional.empty();
+        });
+
+        ConcurrentSignatureScan concurrentSignatureScan = ConcurrentSignatureScan.start(projectNameVersion, null, signatureScanOperation, eventSystem, signatureScanInput);
+        scanFinished.await();
+        Assertions.assertTrue(issues.isEmpty());
+
+        Optional<CodeLocationCreationData<ScanBatchOutput>> result = concurrentSignatureScan.join();
+
+        Assertions.assertFalse(result.isPresent());
+        Assertions.assertEquals(1, issues.size());
+        Assertions.assertSame(projectNameVersion, concurrentSignatureScan.getProjectNameVersion());
+        Assertions.assertFalse(concurrentSignatureScan.getProjectVersionWrapper().isPresent());
+    }
+
+    @Test
+    public void cancelWaitsForTheScanToStop() throws DetectUserFriendlyException, IntegrationException, InterruptedException {
+        CountDownLatch scanStarted = new CountDownLatch(1);
+        AtomicBoolean scanStopped = new AtomicBoolean();
+        SignatureScanOperation signatureScanOperation = Mockito.mock(SignatureScanOperation.class);
+        NameVersion projectNameVersion = new NameVersion("project", "version");
+        SignatureScanInput signatureScanInput = new SignatureScanInput(projectNameVersion, null);
+        Mockito.when(signatureScanOperation.execute(signatureScanInput)).thenAnswer(invocation -> {
+            scanStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(5));
+            } catch (InterruptedException e) {
+                // Stands in for the scanner tool stopping its CLI once the scan is interrupted.
+                Thread.sleep(100);
+                scanStopped.set(true);
+            }
+            return Optional.empty();
+        });
+
+        ConcurrentSignatureScan concurrentSignatureScan = ConcurrentSignatureScan.start(projectNameVersion, null, signatureScanOperation, new EventSystem(), signatureScanInput);
+        scanStarted.await();
+        concurrentSignatureScan.cancel();
+
+        Assertions.assertTrue(scanStopped.get());
+        Assertions.assertTrue(concurrentSignatureScan.isDone());
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.condition.OS.WINDOWS;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.profiling.Tracer;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutputFiles;
+import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
+import com.synopsys.integration.executable.ExecutableRunnerException;
+
+public class DetectExecutableRunnerTest {
+    @Test
+    public void outputTailKeepsLastLines() {
+        ExecutableOutputTail tail = new ExecutableOutputTail(2);
+        tail.accept("one");
+        tail.accept("two");
+        tail.accept("three");
+
+        assertEquals("two" + System.lineSeparator() + "three", tail.toString());
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    public void failedStreamedExecutableKeepsStandardOutput() {
+        EventSystem eventSystem = new EventSystem();
+        List<ExecutedExecutable> executed = new ArrayList<>();
+        eventSystem.registerListener(Event.Executable, executed::add);
+        DetectExecutableRunner runner = DetectExecutableRunner.newDebug(eventSystem);
+
+        List<String> streamed = new ArrayList<>();
+        Executable executable = shell("echo first; echo 'BUILD FAILURE'; echo broken 1>&2; exit 3");
+        ExecutableFailedException exception = assertThrows(ExecutableFailedException.class, () -> runner.executeSuccessfully(executable, streamed::add));
+
+        assertEquals(3, exception.getReturnCode());
+        assertEquals(Arrays.asList("first", "BUILD FAILURE"), streamed);
+        assertEquals(1, executed.size());
+        assertEquals("first" + System.lineSeparator() + "BUILD FAILURE", executed.get(0).getOutput().getStandardOutput());
+        assertEquals("broken", executed.get(0).getOutput().getErrorOutput().trim());
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    public void processIsDestroyedWhenConsumerThrows() {
+        DetectExecutableRunner runner = DetectExecutableRunner.newDebug(new EventSystem());
+        Executable executable = shell("echo first; sleep 60; echo second");
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            assertThrows(IllegalStateException.class, () -> runner.executeSuccessfully(executable, line -> {
+                throw new IllegalStateException("Unexpected line: " + line);
+            }));
+        });
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    @ExtendWith(TempDirectory.class)
+    public void outputFilesAreWrittenAndDeletedOnClose(@TempDirectory.TempDir Path outputDirectory) throws ExecutableRunnerException, IOException {
+        EventSystem eventSystem = new EventSystem();
+        List<ExecutedExecutable> executed = new ArrayList<>();
+        eventSystem.registerListener(Event.Executable, executed::add);
+        DetectExecutableRunner runner = DetectExecutableRunner.newDebug(eventSystem, Tracer.disabled(), outputDirectory.toFile());
+
+        ExecutableOutputFiles outputFiles = runner.executeToFiles(shell("echo first; echo broken 1>&2; echo second; exit 3"));
+
+        assertEquals(3, outputFiles.getReturnCode());
+        assertEquals(outputDirectory.toFile(), outputFiles.getStandardOutputFile().getParentFile());
+        assertEquals(Arrays.asList("first", "second"), Files.readAllLines(outputFiles.getStandardOutputFile().toPath()));
+        assertEquals(Collections.singletonList("broken"), Files.readAllLines(outputFiles.getErrorOutputFile().toPath()));
+        assertEquals(1, executed.size());
+        assertTrue(executed.get(0).getOutputFiles().isPresent());
+
+        outputFiles.close();
+        assertEquals(0, outputDirectory.toFile().list().length);
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    @ExtendWith(TempDirectory.class)
+    public void failedExecutableDeletesOutputFiles(@TempDirectory.TempDir Path outputDirectory) {
+        DetectExecutableRunner runner = DetectExecutableRunner.newDebug(new EventSystem(), Tracer.disabled(), outputDirectory.toFile());
+
+        ExecutableFailedException exception = assertThrows(ExecutableFailedException.class, () -> runner.executeSuccessfullyToFiles(shell("echo first; exit 2")));
+
+        assertEquals(2, exception.getReturnCode());
+        assertEquals(0, outputDirectory.toFile().list().length);
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    @ExtendWith(TempDirectory.class)
+    public void streamedExecutablePublishesCompleteStandardOutput(@TempDirectory.TempDir Path outputDirectory) throws ExecutableFailedException {
+        EventSystem eventSystem = new EventSystem();
+        List<String> publishedLines = new ArrayList<>();
+        eventSystem.registerListener(Event.Executable, executed -> {
+            try {
+                executed.getOutputFiles().get().readStandardOutput(publishedLines::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        DetectExecutableRunner runner = DetectExecutableRunner.newDebug(eventSystem, Tracer.disabled(), outputDirectory.toFile());
+
+        List<String> streamed = new ArrayList<>();
+        ExecutableOutput output = runner.executeSuccessfully(shell("i=0; while [ $i -lt 250 ]; do i=$((i+1)); echo $i; done"), streamed::add);
+
+        assertEquals(250, streamed.size());
+        assertEquals(streamed, publishedLines);
+        assertEquals(200, output.getStandardOutputAsList().size());
+        assertEquals("250", output.getStandardOutputAsList().get(199));
+        assertEquals(0, outputDirectory.toFile().list().length);
+    }
+
+    private Executable shell(String script) {
+        return Executable.create(new File("."), Arrays.asList("sh", "-c", script));
+    }
+}
@@ -0,0 +1,153 @@
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detect.testutils.DependencyGraphSummarizer;
+import com.synopsys.integration.detect.testutils.DependencyGraphSummaryComparer;
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.rule.DetectorRule;
+
+public class FileExtractionCacheTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final DependencyGraphSummaryComparer comparer = new DependencyGraphSummaryComparer(new DependencyGraphSummarizer(new Gson()));
+
+    private File workingDirectory;
+    private File sourceDirectory;
+    private File cacheDirectory;
+    private File lockFile;
+
+    @BeforeEach
+    public void createDirectories() throws IOException {
+        workingDirectory = Files.createTempDirectory("extraction-cache").toFile();
+        sourceDirectory = new File(workingDirectory, "source");
+        cacheDirectory = new File(workingDirectory, "cache");
+        lockFile = new File(sourceDirectory, "package-lock.json");
+        FileUtils.writeStringToFile(lockFile, "{ \"lockfileVersion\": 1 }", "UTF-8");
+    }
+
+    @AfterEach
+    public void deleteDirectories() throws IOException {
+        FileUtils.deleteDirectory(workingDirectory);
+    }
+
+    @Test
+    public void storedExtractionIsFoundWithTheSameGraph() {
+        FileExtractionCache extractionCache = new FileExtractionCache(cacheDirectory, Long.MAX_VALUE, "fingerprint");
+        DetectorEvaluation detectorEvaluation = createEvaluation(lockFile);
+        Extraction extraction = createExtraction();
+
+        Assertions.assertFalse(extractionCache.find(detectorEvaluation).isPresent());
+        extractionCache.store(detectorEvaluation, extraction);
+        Optional<Extraction> cachedExtraction = new FileExtractionCache(cacheDirectory, Long.MAX_VALUE, "fingerprint").find(createEvaluation(lockFile));
+
+        Assertions.assertTrue(cachedExtraction.isPresent());
+        Assertions.assertTrue(cachedExtraction.get().isSuccess());
+        Assertions.assertEquals("project", cachedExtraction.get().getProjectName());
+        Assertions.assertEquals("1.0", cachedExtraction.get().getProjectVersion());
+        CodeLocation expected = extraction.getCodeLocations().get(0);
+        CodeLocation actual = cachedExtraction.get().getCodeLocations().get(0);
+        Assertions.assertEquals(expected.getExternalId(), actual.getExternalId());
+        Assertions.assertEquals(expected.getSourcePath(), actual.getSourcePath());
+        Assertions.assertTrue(comparer.areEqual(expected.getDependencyGraph(), actual.getDependencyGraph()));
+    }
+
+    @Test
+    public void changedRelevantFileOrConfigurationIsNotFound() throws IOException {
+        DetectorEvaluation detectorEvaluation = createEvaluation(lockFile);
+        FileExtractionCache extractionCache = new FileExtractionCache(cacheDirectory, Long.MAX_VALUE, "fingerprint");
+        extractionCache.find(detectorEvaluation);
+        extractionCache.store(detectorEvaluation, createExtraction());
+
+        Assertions.assertFalse(new FileExtractionCache(cacheDirectory, Long.MAX_VALUE, "other fingerprint").find(createEvaluation(lockFile)).isPresent());
+
+        FileUtils.writeStringToFile(lockFile, "{ \"lockfileVersion\": 2 }", "UTF-8");
+        Assertions.assertFalse(new FileExtractionCache(cacheDirectory, Long.MAX_VALUE, "fingerprint").find(createEvaluation(lockFile)).isPresent());
+    }
+
+    @Test
+    public void failedExtractionsAndEvaluationsWithoutRelevantFilesAreNotStored() {
+        FileExtractionCache extractionCache = new FileExtractionCache(cacheDirectory, Long.MAX_VALUE, "fingerprint");
+
+        DetectorEvaluation failedEvaluation = createEvaluation(lockFile);
+        extractionCache.find(failedEvaluation);
+        extractionCache.store(failedEvaluation, new Extraction.Builder().failure("failed").build());
+
+        DetectorEvaluation evaluationWithoutFiles = createEvaluation();
+        extractionCache.find(evaluationWithoutFiles);
+        extractionCache.store(evaluationWithoutFiles, createExtraction());
+
+        Assertions.assertFalse(cacheDirectory.exists() && cacheDirectory.list().length > 0);
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesAreEvicted() throws IOException {
+        File otherLockFile = new File(sourceDirectory, "other-package-lock.json");
+        FileUtils.writeStringToFile(otherLockFile, "{ }", "UTF-8");
+
+        FileExtractionCache unboundedCache = new FileExtractionCache(cacheDirectory, Long.MAX_VALUE, "fingerprint");
+        DetectorEvaluation firstEvaluation = createEvaluation(lockFile);
+        unboundedCache.find(firstEvaluation);
+        unboundedCache.store(firstEvaluation, createExtraction());
+        File[] entries = cacheDirectory.listFiles();
+        Assertions.assertEquals(1, entries.length);
+        Assertions.assertTrue(entries[0].setLastModified(System.currentTimeMillis() - 60000));
+
+        // The limit only leaves room for one entry, so storing a second removes the older one.
+        FileExtractionCache boundedCache = new FileExtractionCache(cacheDirectory, entries[0].length(), "fingerprint");
+        DetectorEvaluation secondEvaluation = createEvaluation(otherLockFile);
+        boundedCache.find(secondEvaluation);
+        boundedCache.store(secondEvaluation, createExtraction());
+
+        Assertions.assertFalse(boundedCache.find(createEvaluation(lockFile)).isPresent());
+        Assertions.assertTrue(boundedCache.find(createEvaluation(otherLockFile)).isPresent());
+    }
+
+    private DetectorEvaluation createEvaluation(File... relevantFiles) {
+        DetectorRule detectorRule = Mockito.mock(DetectorRule.class);
+        Mockito.when(detectorRule.getDescriptiveName()).thenReturn("NPM - Package Lock");
+
+        DetectorEvaluation detectorEvaluation = Mockito.mock(DetectorEvaluation.class);
+        Mockito.when(detectorEvaluation.getDetectorRule()).thenReturn(detectorRule);
+        Mockito.when(detectorEvaluation.getDetectable()).thenReturn(Mockito.mock(Detectable.class));
+        Mockito.when(detectorEvaluation.getDetectableEnvironment()).thenReturn(new DetectableEnvironment(sourceDirectory));
+        Mockito.when(detectorEvaluation.getAllRelevantFiles()).thenReturn(relevantFiles.length == 0 ? Collections.emptyList() : Arrays.asList(relevantFiles));
+        return detectorEvaluation;
+    }
+
+    private Extraction createExtraction() {
+        Dependency parent = new Dependency("parent", "1.0", externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "parent", "1.0"));
+        Dependency child = new Dependency("child", "2.0", externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "child", "2.0"));
+        Dependency shared = new Dependency("shared", "3.0", externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "shared", "3.0"));
+
+        MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
+        dependencyGraph.addChildToRoot(parent);
+        dependencyGraph.addChildToRoot(shared);
+        dependencyGraph.addChildWithParent(child, parent);
+        dependencyGraph.addChildWithParent(shared, child);
+
+        CodeLocation codeLocation = new CodeLocation(dependencyGraph, externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "project", "1.0"), sourceDirectory);
+        return new Extraction.Builder().success(codeLocation).projectName("project").projectVersion("1.0").build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.synopsys.integration.detect.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DetectZipUtilTest {
+    private File workingDirectory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        workingDirectory = Files.createTempDirectory("detect-zip").toFile();
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        FileUtils.deleteDirectory(workingDirectory);
+    }
+
+    @Test
+    public void parallelZipKeepsOrderAndStoresCompressedFiles() throws IOException {
+        Map<String, Path> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 8; i++) {
+            String content = String.join("", Collections.nCopies(1000, "entry " + i + " "));
+            String name = i % 2 == 0 ? "file" + i + ".txt" : "library" + i + ".jar";
+            File file = new File(workingDirectory, name);
+            FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+            entries.put(name, file.toPath());
+        }
+        File zip = new File(workingDirectory, "upload.zip");
+        File scratchDirectory = new File(workingDirectory, "scratch");
+
+        DetectZipUtil.zip(zip, entries, 4, scratchDirectory);
+
+        // The compressed entries are staged in the scratch directory and removed once they are copied into the zip.
+        Assertions.assertTrue(scratchDirectory.isDirectory());
+        Assertions.assertArrayEquals(new String[0], scratchDirectory.list());
+
+        List<String> entryNames = new ArrayList<>();
+        try (ZipFile zipFile = new ZipFile(zip)) {
+            for (ZipEntry zipEntry : Collections.list(zipFile.entries())) {
+                entryNames.add(zipEntry.getName());
+                int expectedMethod = zipEntry.getName().endsWith(".jar") ? ZipEntry.STORED : ZipEntry.DEFLATED;
+                Assertions.assertEquals(expectedMethod, zipEntry.getMethod(), zipEntry.getName());
+                try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                    Assertions.assertArrayEquals(Files.readAllBytes(entries.get(zipEntry.getName())), IOUtils.toByteArray(inputStream));
+                }
+            }
+        }
+        Assertions.assertEquals(new ArrayList<>(entries.keySet()), entryNames);
+    }
+
+    @Test
+    public void missingFileFailsTheZip() {
+        Map<String, Path> entries = new LinkedHashMap<>();
+        entries.put("missing.txt", new File(workingDirectory, "missing.txt").toPath());
+
+        Assertions.assertThrows(IOException.class, () -> DetectZipUtil.zip(new File(workingDirectory, "upload.zip"), entries, 2, new File(workingDirectory, "scratch")));
+    }
+}
@@ -0,0 +1,102 @@
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.testutils.DependencyGraphSummarizer;
+import com.synopsys.integration.detect.testutils.DependencyGraphSummaryComparer;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+
+public class AggregateBdioTransformerTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final DependencyGraphSummaryComparer comparer = new DependencyGraphSummaryComparer(new DependencyGraphSummarizer(new Gson()));
+
+    @Test
+    public void directMatchesMutableGraph() throws DetectUserFriendlyException {
+        List<DetectCodeLocation> codeLocations = createCodeLocations();
+
+        DependencyGraph aggregate = new AggregateBdioTransformer().aggregateCodeLocations(new File("source"), codeLocations, AggregateMode.DIRECT);
+
+        MutableDependencyGraph expected = new MutableMapDependencyGraph();
+        codeLocations.forEach(codeLocation -> expected.addGraphAsChildrenToRoot(codeLocation.getDependencyGraph()));
+        Assertions.assertTrue(comparer.areEqual(expected, aggregate));
+        Assertions.assertEquals(expected.getRootDependencyExternalIds(), new HashSet<>(aggregate.getRootDependencyExternalIds()));
+    }
+
+    @Test
+    public void transitiveMatchesMutableGraph() throws DetectUserFriendlyException {
+        List<DetectCodeLocation> codeLocations = createCodeLocations();
+
+        DependencyGraph aggregate = new AggregateBdioTransformer().aggregateCodeLocations(new File("source"), codeLocations, AggregateMode.TRANSITIVE);
+
+        // Every code location is wrapped in its own root, whose children are the code location's roots.
+        Assertions.assertEquals(codeLocations.size(), aggregate.getRootDependencies().size());
+        MutableDependencyGraph expected = new MutableMapDependencyGraph();
+        for (Dependency wrapper : aggregate.getRootDependencies()) {
+            DetectCodeLocation codeLocation = codeLocations.stream()
+                                                  .filter(it -> it.getExternalId().getName().equals(wrapper.getName()))
+                                                  .findFirst()
+                                                  .orElseThrow(AssertionError::new);
+            expected.addChildrenToRoot(wrapper);
+            expected.addGraphAsChildrenToParent(wrapper, codeLocation.getDependencyGraph());
+        }
+        Assertions.assertTrue(comparer.areEqual(expected, aggregate));
+    }
+
+    @Test
+    public void sharedDependenciesAreStoredOnce() {
+        Dependency parent = dependency("parent");
+        Dependency child = dependency("child");
+        MutableDependencyGraph source = new MutableMapDependencyGraph();
+        source.addChildWithParent(child, parent);
+        source.addChildToRoot(parent);
+
+        CompactDependencyGraph graph = new CompactDependencyGraph();
+        for (int i = 0; i < 10; i++) {
+            graph.addGraphAsChildrenToRoot(source);
+        }
+
+        Assertions.assertEquals(2, graph.getNodeCount());
+        Assertions.assertEquals(1, graph.getRootDependencies().size());
+        Assertions.assertEquals(1, graph.getChildrenForParent(parent).size());
+        Assertions.assertEquals(parent.getExternalId(), graph.getParentExternalIdsForChild(child).iterator().next());
+        Assertions.assertTrue(graph.getChildrenForParent(dependency("missing")).isEmpty());
+        Assertions.assertNull(graph.getDependency(dependency("missing").getExternalId()));
+    }
+
+    private List<DetectCodeLocation> createCodeLocations() {
+        Dependency shared = dependency("shared");
+        Dependency sharedChild = dependency("shared-child");
+        List<DetectCodeLocation> codeLocations = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MutableDependencyGraph graph = new MutableMapDependencyGraph();
+            Dependency module = dependency("direct-" + i);
+            graph.addChildToRoot(module);
+            graph.addChildToRoot(shared);
+            graph.addChildWithParent(shared, module);
+            graph.addChildWithParent(sharedChild, shared);
+            graph.addChildWithParent(dependency("leaf-" + i), sharedChild);
+
+            ExternalId projectId = externalIdFactory.createMavenExternalId("com.example", "module" + i, "1.0");
+            codeLocations.add(DetectCodeLocation.forCreator(graph, new File("source", "module" + i), projectId, "MAVEN"));
+        }
+        return codeLocations;
+    }
+
+    private Dependency dependency(String name) {
+        return new Dependency(name, "1.0", externalIdFactory.createMavenExternalId("com.example", name, "1.0"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.blackduck.codelocation.bdioupload.UploadTarget;
+import com.synopsys.integration.detect.configuration.DetectInfo;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.workflow.codelocation.BdioCodeLocation;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+import com.synopsys.integration.util.NameVersion;
+import com.synopsys.integration.util.OperatingSystemType;
+
+public class CodeLocationBdioCreatorTest {
+    @Test
+    public void parallelFilesMatchSerialFiles() throws IOException, DetectUserFriendlyException {
+        File serialOutput = Files.createTempDirectory("serial-bdio").toFile();
+        File parallelOutput = Files.createTempDirectory("parallel-bdio").toFile();
+        try {
+            List<BdioCodeLocation> bdioCodeLocations = createBdioCodeLocations(12);
+            NameVersion projectNameVersion = new NameVersion("project", "version");
+
+            List<UploadTarget> serialTargets = createCreator(1).createBdioFiles(serialOutput, bdioCodeLocations, projectNameVersion, false);
+            List<UploadTarget> parallelTargets = createCreator(4).createBdioFiles(parallelOutput, bdioCodeLocations, projectNameVersion, false);
+
+            Assertions.assertEquals(names(serialTargets), names(parallelTargets));
+            for (int i = 0; i < serialTargets.size(); i++) {
+                File serialFile = serialTargets.get(i).getUploadFile();
+                File parallelFile = parallelTargets.get(i).getUploadFile();
+                Assertions.assertEquals(serialFile.getName(), parallelFile.getName());
+                Assertions.assertEquals(normalize(serialFile), normalize(parallelFile));
+            }
+        } finally {
+            FileUtils.deleteDirectory(serialOutput);
+            FileUtils.deleteDirectory(parallelOutput);
+        }
+    }
+
+    // The streaming uploader writes single code locations from several threads through one creator.
+    @Test
+    public void concurrentWritesMatchSerialFiles() throws IOException, DetectUserFriendlyException, InterruptedException, ExecutionException {
+        File serialOutput = Files.createTempDirectory("serial-bdio").toFile();
+        File concurrentOutput = Files.createTempDirectory("concurrent-bdio").toFile();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<BdioCodeLocation> bdioCodeLocations = createBdioCodeLocations(24);
+            NameVersion projectNameVersion = new NameVersion("project", "version");
+            for (boolean bdio2 : new boolean[] { false, true }) {
+                List<UploadTarget> serialTargets = createCreator(1).createBdioFiles(serialOutput, bdioCodeLocations, projectNameVersion, bdio2);
+
+                CodeLocationBdioCreator sharedCreator = createCreator(1);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<List<UploadTarget>>> pendingTargets = new ArrayList<>();
+                for (BdioCodeLocation bdioCodeLocation : bdioCodeLocations) {
+                    pendingTargets.add(executorService.submit(() -> {
+                        start.await();
+                        return sharedCreator.createBdioFiles(concurrentOutput, Collections.singletonList(bdioCodeLocation), projectNameVersion, bdio2);
+                    }));
+                }
+                start.countDown();
+                List<UploadTarget> concurrentTargets = new ArrayList<>();
+                for (Future<List<UploadTarget>> pendingTarget : pendingTargets) {
+                    concurrentTargets.addAll(pendingTarget.get());
+                }
+
+                Assertions.assertEquals(names(serialTargets), names(concurrentTargets));
+                for (int i = 0; i < serialTargets.size(); i++) {
+                    File serialFile = serialTargets.get(i).getUploadFile();
+                    File concurrentFile = concurrentTargets.get(i).getUploadFile();
+                    Assertions.assertEquals(serialFile.getName(), concurrentFile.getName());
+                    // BDIO 2 files are zip archives, so only the BDIO 1 documents are compared as text.
+                    if (!bdio2) {
+                        Assertions.assertEquals(normalize(serialFile), normalize(concurrentFile));
+                    }
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+            FileUtils.deleteDirectory(serialOutput);
+            FileUtils.deleteDirectory(concurrentOutput);
+        }
+    }
+
+    private CodeLocationBdioCreator createCreator(int parallelism) {
+        DetectInfo detectInfo = new DetectInfo("1.0.0", 1, OperatingSystemType.LINUX);
+        return new CodeLocationBdioCreator(detectInfo, parallelism);
+    }
+
+    private List<BdioCodeLocation> createBdioCodeLocations(int count) {
+        ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        List<BdioCodeLocation> bdioCodeLocations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MutableMapDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
+            Dependency parent = new Dependency("parent" + i, "1.0", externalIdFactory.createNameVersionExternalId(Forge.MAVEN, "parent" + i, "1.0"));
+            Dependency child = new Dependency("child" + i, "2.0", externalIdFactory.createNameVersionExternalId(Forge.MAVEN, "child" + i, "2.0"));
+            dependencyGraph.addChildToRoot(parent);
+            dependencyGraph.addChildWithParent(child, parent);
+
+            ExternalId projectId = externalIdFactory.createNameVersionExternalId(Forge.MAVEN, "module" + i, "1.0");
+            DetectCodeLocation detectCodeLocation = DetectCodeLocation.forCreator(dependencyGraph, new File("module" + i), projectId, "MAVEN");
+            bdioCodeLocations.add(new BdioCodeLocation(detectCodeLocation, "project/version module" + i, "project_version_module" + i));
+        }
+        return bdioCodeLocations;
+    }
+
+    private List<String> names(List<UploadTarget> uploadTargets) {
+        return uploadTargets.stream().map(UploadTarget::getCodeLocationName).collect(Collectors.toList());
+    }
+
+    // Each document gets a fresh id and creation time from the BDIO library, in the serial path as well.
+    private String normalize(File bdioFile) throws IOException {
+        return FileUtils.readFileToString(bdioFile, StandardCharsets.UTF_8)
+                   .replaceAll("uuid:[0-9a-fA-F-]{36}", "uuid")
+                   .replaceAll("\\d{4}-\\d{2}-\\d{2}T[0-9:.]+Z?", "timestamp");
+    }
+}
@@ -0,0 +1,169 @@
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.blackduck.codelocation.CodeLocationCreationData;
+import com.synopsys.integration.blackduck.codelocation.bdio2upload.Bdio2UploadService;
+import com.synopsys.integration.blackduck.codelocation.bdioupload.BdioUploadService;
+import com.synopsys.integration.blackduck.codelocation.bdioupload.UploadBatchOutput;
+import com.synopsys.integration.blackduck.codelocation.bdioupload.UploadTarget;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.workflow.blackduck.DetectBdioUploadService;
+import com.synopsys.integration.detect.workflow.codelocation.BdioCodeLocation;
+import com.synopsys.integration.detect.workflow.codelocation.BdioCodeLocationCreator;
+import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameManager;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.util.NameVersion;
+
+public class StreamingBdioUploaderTest {
+    private final NameVersion projectNameVersion = new NameVersion("project", "version");
+    private final File bdioOutputDirectory = new File("bdio");
+    private final Map<UploadTarget, String> writtenCodeLocationNames = new ConcurrentHashMap<>();
+
+    @Test
+    public void uploadsExtractedAndRemainingCodeLocations() throws DetectUserFriendlyException, IntegrationException {
+        EventSystem eventSystem = new EventSystem();
+        DetectCodeLocation firstExtracted = createCodeLocation();
+        DetectCodeLocation secondExtracted = createCodeLocation();
+        DetectCodeLocation notExtracted = createCodeLocation();
+        BdioCodeLocationCreator bdioCodeLocationCreator = createBdioCodeLocationCreator(eventSystem, Collections.emptyMap());
+        CodeLocationBdioCreator codeLocationBdioCreator = createCodeLocationBdioCreator(new CountDownLatch(0));
+        DetectBdioUploadService detectBdioUploadService = createDetectBdioUploadService();
+
+        StreamingBdioUploader streamingBdioUploader = new StreamingBdioUploader(eventSystem, bdioCodeLocationCreator, codeLocationBdioCreator, detectBdioUploadService, Mockito.mock(BdioUploadService.class),
+            Mockito.mock(Bdio2UploadService.class), bdioOutputDirectory, new BdioOptions(null, null, 2), projectNameVersion, false);
+        streamingBdioUploader.start();
+
+        eventSystem.publishEvent(Event.DetectCodeLocationExtracted, firstExtracted);
+        eventSystem.publishEvent(Event.DetectCodeLocationExtracted, secondExtracted);
+
+        StreamingBdioResult result = streamingBdioUploader.finish(Arrays.asList(firstExtracted, secondExtracted, notExtracted));
+
+        Assertions.assertEquals(3, result.getUploadResults().size());
+        Assertions.assertEquals(Arrays.asList("project/version npm/bom 0", "project/version npm/bom 1", "project/version npm/bom 2"), getUploadedCodeLocationNames(result));
+        Map<DetectCodeLocation, String> codeLocationNames = result.getBdioResult().getCodeLocationNamesResult().getCodeLocationNames();
+        Assertions.assertEquals("project/version npm/bom", codeLocationNames.get(firstExtracted));
+        Assertions.assertEquals("project/version npm/bom", codeLocationNames.get(notExtracted));
+
+        eventSystem.publishEvent(Event.DetectCodeLocationExtracted, createCodeLocation());
+        Mockito.verify(detectBdioUploadService, Mockito.times(3)).uploadBdioFiles(ArgumentMatchers.anyList(), ArgumentMatchers.eq(false), ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void streamedNamesMatchBatchNames() throws DetectUserFriendlyException, IntegrationException {
+        EventSystem eventSystem = new EventSystem();
+        DetectCodeLocation first = createCodeLocation();
+        DetectCodeLocation unique = createCodeLocation();
+        DetectCodeLocation second = createCodeLocation();
+        DetectCodeLocation notExtracted = createCodeLocation();
+        DetectCodeLocation otherUnique = createCodeLocation();
+        Map<DetectCodeLocation, String> baseNames = new ConcurrentHashMap<>();
+        baseNames.put(unique, "project/version gradle/bom");
+        baseNames.put(otherUnique, "project/version maven/bom");
+        BdioCodeLocationCreator bdioCodeLocationCreator = createBdioCodeLocationCreator(eventSystem, baseNames);
+
+        StreamingBdioUploader streamingBdioUploader = new StreamingBdioUploader(eventSystem, bdioCodeLocationCreator, createCodeLocationBdioCreator(new CountDownLatch(0)), createDetectBdioUploadService(),
+            Mockito.mock(BdioUploadService.class), Mockito.mock(Bdio2UploadService.class), bdioOutputDirectory, new BdioOptions(null, null, 2), projectNameVersion, false);
+        streamingBdioUploader.start();
+        eventSystem.publishEvent(Event.DetectCodeLocationExtracted, first);
+        eventSystem.publishEvent(Event.DetectCodeLocationExtracted, unique);
+        eventSystem.publishEvent(Event.DetectCodeLocationExtracted, second);
+        List<DetectCodeLocation> detectCodeLocations = Arrays.asList(first, unique, second, notExtracted, otherUnique);
+        StreamingBdioResult streamingResult = streamingBdioUploader.finish(detectCodeLocations);
+
+        List<String> batchNames = bdioCodeLocationCreator.createFromDetectCodeLocations(detectCodeLocations, null, null, projectNameVersion).getBdioCodeLocations().stream()
+                                      .map(BdioCodeLocation::getCodeLocationName)
+                                      .collect(Collectors.toList());
+
+        Assertions.assertEquals(Arrays.asList("project/version npm/bom 0", "project/version npm/bom 1", "project/version npm/bom 2", "project/version gradle/bom", "project/version maven/bom"), batchNames);
+        Assertions.assertEquals(batchNames, getUploadedCodeLocationNames(streamingResult));
+    }
+
+    @Test
+    public void extractedEventsReturnWhileWritesAreBlocked() throws DetectUserFriendlyException, IntegrationException {
+        EventSystem eventSystem = new EventSystem();
+        // More uniquely named code locations than the write queue holds, so a listener that waited for room would never return.
+        List<DetectCodeLocation> extracted = new ArrayList<>();
+        Map<DetectCodeLocation, String> baseNames = new ConcurrentHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            DetectCodeLocation detectCodeLocation = createCodeLocation();
+            extracted.add(detectCodeLocation);
+            baseNames.put(detectCodeLocation, "project/version npm/bom-" + i);
+        }
+        CountDownLatch writesReleased = new CountDownLatch(1);
+
+        StreamingBdioUploader streamingBdioUploader = new StreamingBdioUploader(eventSystem, createBdioCodeLocationCreator(eventSystem, baseNames), createCodeLocationBdioCreator(writesReleased),
+            createDetectBdioUploadService(), Mockito.mock(BdioUploadService.class), Mockito.mock(Bdio2UploadService.class), bdioOutputDirectory, new BdioOptions(null, null, 1), projectNameVersion, false);
+        streamingBdioUploader.start();
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> extracted.forEach(detectCodeLocation -> eventSystem.publishEvent(Event.DetectCodeLocationExtracted, detectCodeLocation)));
+        writesReleased.countDown();
+
+        StreamingBdioResult result = streamingBdioUploader.finish(Collections.emptyList());
+
+        Assertions.assertEquals(10, result.getUploadResults().size());
+        Map<DetectCodeLocation, String> codeLocationNames = result.getBdioResult().getCodeLocationNamesResult().getCodeLocationNames();
+        Assertions.assertEquals("project/version npm/bom-0", codeLocationNames.get(extracted.get(0)));
+        Assertions.assertEquals("project/version npm/bom-9", codeLocationNames.get(extracted.get(9)));
+    }
+
+    private DetectCodeLocation createCodeLocation() {
+        DetectCodeLocation detectCodeLocation = Mockito.mock(DetectCodeLocation.class);
+        Mockito.when(detectCodeLocation.getDependencyGraph()).thenReturn(new MutableMapDependencyGraph());
+        return detectCodeLocation;
+    }
+
+    // Code locations without a base name of their own all share one.
+    private BdioCodeLocationCreator createBdioCodeLocationCreator(EventSystem eventSystem, Map<DetectCodeLocation, String> baseNames) {
+        CodeLocationNameManager codeLocationNameManager = Mockito.mock(CodeLocationNameManager.class);
+        Mockito.when(codeLocationNameManager.createCodeLocationName(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenAnswer(invocation -> baseNames.getOrDefault(invocation.getArgument(0), "project/version npm/bom"));
+        return new BdioCodeLocationCreator(codeLocationNameManager, Mockito.mock(DirectoryManager.class), eventSystem);
+    }
+
+    private CodeLocationBdioCreator createCodeLocationBdioCreator(CountDownLatch writesReleased) throws DetectUserFriendlyException {
+        CodeLocationBdioCreator codeLocationBdioCreator = Mockito.mock(CodeLocationBdioCreator.class);
+        Mockito.when(codeLocationBdioCreator.createBdioFiles(ArgumentMatchers.eq(bdioOutputDirectory), ArgumentMatchers.anyList(), ArgumentMatchers.eq(projectNameVersion), ArgumentMatchers.eq(false)))
+            .thenAnswer(invocation -> {
+                writesReleased.await();
+                List<BdioCodeLocation> bdioCodeLocations = invocation.getArgument(1);
+                BdioCodeLocation bdioCodeLocation = bdioCodeLocations.get(0);
+                UploadTarget uploadTarget = UploadTarget.createDefault(projectNameVersion, bdioCodeLocation.getCodeLocationName(), new File(bdioOutputDirectory, bdioCodeLocation.getBdioName()));
+                writtenCodeLocationNames.put(uploadTarget, bdioCodeLocation.getCodeLocationName());
+                return Collections.singletonList(uploadTarget);
+            });
+        return codeLocationBdioCreator;
+    }
+
+    private DetectBdioUploadService createDetectBdioUploadService() throws DetectUserFriendlyException, IntegrationException {
+        DetectBdioUploadService detectBdioUploadService = Mockito.mock(DetectBdioUploadService.class);
+        CodeLocationCreationData<UploadBatchOutput> uploadResult = Mockito.mock(CodeLocationCreationData.class);
+        Mockito.when(detectBdioUploadService.uploadBdioFiles(ArgumentMatchers.anyList(), ArgumentMatchers.eq(false), ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(uploadResult);
+        return detectBdioUploadService;
+    }
+
+    private List<String> getUploadedCodeLocationNames(StreamingBdioResult result) {
+        return result.getBdioResult().getUploadTargets().stream()
+                   .map(writtenCodeLocationNames::get)
+                   .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.blackduck;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.blackduck.api.generated.enumeration.PolicyRuleSeverityType;
+import com.synopsys.integration.blackduck.codelocation.CodeLocationCreationService;
+import com.synopsys.integration.blackduck.service.dataservice.ReportService;
+import com.synopsys.integration.blackduck.service.model.ProjectVersionWrapper;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
+import com.synopsys.integration.detect.workflow.blackduck.codelocation.CodeLocationWaitData;
+import com.synopsys.integration.detect.workflow.blackduck.policy.PolicyChecker;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.status.Status;
+import com.synopsys.integration.detect.workflow.status.StatusType;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.util.NameVersion;
+
+public class BlackDuckPostActionsTest {
+    private static final long SLOW_ACTION_MILLIS = 200;
+
+    @Test
+    @ExtendWith(TempDirectory.class)
+    public void firstGivenFailureIsThrownAfterEveryActionFinishes(@TempDirectory.TempDir Path tempDirectory) throws Exception {
+        PolicyChecker policyChecker = Mockito.mock(PolicyChecker.class);
+        Mockito.doAnswer(invocation -> {
+            Thread.sleep(SLOW_ACTION_MILLIS);
+            throw new IntegrationException("policy check failed");
+        }).when(policyChecker).checkPolicy(ArgumentMatchers.anyList(), ArgumentMatchers.any());
+        ReportService reportService = Mockito.mock(ReportService.class);
+        Mockito.when(reportService.createReportPdfFile(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(tempDirectory.resolve("risk.pdf").toFile());
+        Mockito.when(reportService.createNoticesReportFile(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenThrow(new IntegrationException("notices report failed"));
+        BlackDuckPostActions blackDuckPostActions = new BlackDuckPostActions(Mockito.mock(CodeLocationCreationService.class), new EventSystem(), reportService, policyChecker);
+
+        DetectUserFriendlyException exception = Assertions.assertThrows(DetectUserFriendlyException.class, () -> perform(blackDuckPostActions, tempDirectory));
+
+        // The notices report fails first, but the policy check was given first.
+        Assertions.assertEquals("There was a problem: policy check failed", exception.getMessage());
+        Assertions.assertEquals(ExitCodeType.FAILURE_GENERAL_ERROR, exception.getExitCodeType());
+        Mockito.verify(reportService).createReportPdfFile(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+        Mockito.verify(reportService).createNoticesReportFile(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    @ExtendWith(TempDirectory.class)
+    public void publishesStatusAndDurationOfEachAction(@TempDirectory.TempDir Path tempDirectory) throws Exception {
+        PolicyChecker policyChecker = Mockito.mock(PolicyChecker.class);
+        ReportService reportService = Mockito.mock(ReportService.class);
+        Mockito.when(reportService.createReportPdfFile(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenAnswer(invocation -> {
+                Thread.sleep(SLOW_ACTION_MILLIS);
+                return tempDirectory.resolve("risk.pdf").toFile();
+            });
+        Mockito.when(reportService.createNoticesReportFile(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenThrow(new IntegrationException("notices report failed"));
+        EventSystem eventSystem = new EventSystem();
+        List<Status> statuses = Collections.synchronizedList(new ArrayList<>());
+        eventSystem.registerListener(Event.StatusSummary, statuses::add);
+        BlackDuckPostActions blackDuckPostActions = new BlackDuckPostActions(Mockito.mock(CodeLocationCreationService.class), eventSystem, reportService, policyChecker);
+
+        Assertions.assertThrows(DetectUserFriendlyException.class, () -> perform(blackDuckPostActions, tempDirectory));
+
+        Map<String, Status> statusesByKey = statuses.stream().collect(Collectors.toMap(Status::getDescriptionKey, Function.identity()));
+        Assertions.assertEquals(4, statusesByKey.size());
+        Assertions.assertEquals(StatusType.SUCCESS, statusesByKey.get("Black Duck post action: Wait for results").getStatusType());
+        Assertions.assertEquals(StatusType.SUCCESS, statusesByKey.get("Black Duck post action: Policy check").getStatusType());
+        Assertions.assertEquals(StatusType.FAILURE, statusesByKey.get("Black Duck post action: Notices report").getStatusType());
+        Status riskReportStatus = statusesByKey.get("Black Duck post action: Risk report");
+        Assertions.assertEquals(StatusType.SUCCESS, riskReportStatus.getStatusType());
+        Assertions.assertTrue(riskReportStatus.getDurationInMillis().isPresent());
+        // Allows for timer granularity; without the timing the duration would be close to zero.
+        Assertions.assertTrue(riskReportStatus.getDurationInMillis().get() >= SLOW_ACTION_MILLIS / 2);
+        for (Status status : statuses) {
+            Assertions.assertTrue(status.getDurationInMillis().isPresent(), status.getDescriptionKey());
+        }
+    }
+
+    @Test
+    @ExtendWith(TempDirectory.class)
+    public void eventsArePublishedOnTheCallingThreadInActionOrder(@TempDirectory.TempDir Path tempDirectory) throws Exception {
+        PolicyChecker policyChecker = Mockito.mock(PolicyChecker.class);
+        Mockito.doAnswer(invocation -> {
+            Thread.sleep(SLOW_ACTION_MILLIS);
+            return null;
+        }).when(policyChecker).checkPolicy(ArgumentMatchers.anyList(), ArgumentMatchers.any());
+        ReportService reportService = Mockito.mock(ReportService.class);
+        Mockito.when(reportService.createReportPdfFile(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(tempDirectory.resolve("risk.pdf").toFile());
+        Mockito.when(reportService.createNoticesReportFile(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(tempDirectory.resolve("notices.txt").toFile());
+        EventSystem eventSystem = new EventSystem();
+        // A plain list, like the status and result managers, is only safe when every event arrives on one thread.
+        List<String> events = new ArrayList<>();
+        List<Thread> publishingThreads = new ArrayList<>();
+        eventSystem.registerListener(Event.StatusSummary, status -> {
+            events.add(status.getDescriptionKey());
+            publishingThreads.add(Thread.currentThread());
+        });
+        eventSystem.registerListener(Event.ResultProduced, result -> {
+            events.add(result.getResultLocation());
+            publishingThreads.add(Thread.currentThread());
+        });
+        BlackDuckPostActions blackDuckPostActions = new BlackDuckPostActions(Mockito.mock(CodeLocationCreationService.class), eventSystem, reportService, policyChecker);
+
+        perform(blackDuckPostActions, tempDirectory);
+
+        // The policy check finishes last, but its status is still published first.
+        Assertions.assertEquals(Arrays.asList(
+            "Black Duck post action: Wait for results",
+            "Black Duck post action: Policy check",
+            tempDirectory.resolve("risk.pdf").toFile().getCanonicalPath(),
+            "Black Duck post action: Risk report",
+            tempDirectory.resolve("notices.txt").toFile().getCanonicalPath(),
+            "Black Duck post action: Notices report"
+        ), events);
+        for (Thread publishingThread : publishingThreads) {
+            Assertions.assertSame(Thread.currentThread(), publishingThread);
+        }
+    }
+
+    private void perform(BlackDuckPostActions blackDuckPostActions, Path tempDirectory) throws DetectUserFriendlyException {
+        BlackDuckPostOptions blackDuckPostOptions = new BlackDuckPostOptions(false, true, true, tempDirectory.resolve("risk"), tempDirectory.resolve("notices"),
+            Collections.singletonList(PolicyRuleSeverityType.BLOCKER));
+        CodeLocationWaitData codeLocationWaitData = Mockito.mock(CodeLocationWaitData.class);
+        ProjectVersionWrapper projectVersionWrapper = Mockito.mock(ProjectVersionWrapper.class);
+        blackDuckPostActions.perform(blackDuckPostOptions, codeLocationWaitData, projectVersionWrapper, new NameVersion("project", "version"), 10);
+    }
+}
@@ -0,0 +1,68 @@
+package com.synopsys.integration.detect.workflow.blackduck;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ExclusionPatternFinderTest {
+    private File scanTarget;
+
+    @BeforeEach
+    public void createTree() throws IOException {
+        scanTarget = Files.createTempDirectory("exclusion-finder").toFile();
+        createDirectory("node_modules/inner/node_modules");
+        createDirectory("app/src/node_modules");
+        createDirectory("lib/a/b/c/node_modules");
+        createDirectory("docs");
+        createFile("app/build.log");
+        createFile("docs/readme.txt");
+    }
+
+    @AfterEach
+    public void deleteTree() throws IOException {
+        FileUtils.deleteDirectory(scanTarget);
+    }
+
+    @Test
+    public void findsMatchesWithoutLookingInsideMatchingDirectories() throws IOException {
+        Set<String> patterns = new ExclusionPatternFinder(4).findExclusionPatterns(scanTarget.toPath(), 10, Arrays.asList("node_modules", "*.log"));
+
+        Set<String> expected = new HashSet<>(Arrays.asList("/node_modules/", "/app/src/node_modules/", "/lib/a/b/c/node_modules/", "/app/build.log/"));
+        Assertions.assertEquals(expected, patterns);
+    }
+
+    @Test
+    public void serialAndParallelFindTheSamePatterns() throws IOException {
+        Set<String> serial = new ExclusionPatternFinder(1).findExclusionPatterns(scanTarget.toPath(), 10, Collections.singletonList("node_modules"));
+        Set<String> parallel = new ExclusionPatternFinder(8).findExclusionPatterns(scanTarget.toPath(), 10, Collections.singletonList("node_modules"));
+
+        Assertions.assertEquals(serial, parallel);
+    }
+
+    @Test
+    public void respectsMaxDepth() throws IOException {
+        ExclusionPatternFinder finder = new ExclusionPatternFinder(2);
+
+        Assertions.assertEquals(Collections.singleton("/node_modules/"), finder.findExclusionPatterns(scanTarget.toPath(), 0, Collections.singletonList("node_modules")));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("/node_modules/", "/app/src/node_modules/")), finder.findExclusionPatterns(scanTarget.toPath(), 2, Collections.singletonList("node_modules")));
+        Assertions.assertTrue(finder.findExclusionPatterns(scanTarget.toPath(), -1, Collections.singletonList("node_modules")).isEmpty());
+    }
+
+    private void createDirectory(String relativePath) {
+        Assertions.assertTrue(new File(scanTarget, relativePath).mkdirs());
+    }
+
+    private void createFile(String relativePath) throws IOException {
+        FileUtils.writeStringToFile(new File(scanTarget, relativePath), "content", "UTF-8");
+    }
+}
@@ -27,7 +27,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -180,4 +188,27 @@ public class CodeLocationNameGeneratorTest {
         assertEquals("myscanname testcreator/bom 2", codeLocationNameGenerator.getNextCodeLocationOverrideNameSourcedBom(detectCodeLocation));
         assertEquals("myscanname testcreator/bom 3", codeLocationNameGenerator.getNextCodeLocationOverrideNameSourcedBom(detectCodeLocation));
     }
+
+    @Test
+    public void testNameCountersAreUniqueAcrossThreads() throws InterruptedException, ExecutionException {
+        final CodeLocationNameGenerator codeLocationNameGenerator = new CodeLocationNameGenerator("myscanname");
+        final int nameCount = 1000;
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<String>> names = new ArrayList<>();
+            for (int i = 0; i < nameCount; i++) {
+                names.add(executorService.submit(() -> codeLocationNameGenerator.getNextCodeLocationOverrideNameUnSourced(CodeLocationNameType.SCAN)));
+            }
+            final Set<String> uniqueNames = new HashSet<>();
+            for (final Future<String> name : names) {
+                uniqueNames.add(name.get());
+            }
+
+            assertEquals(nameCount, uniqueNames.size());
+            assertTrue(uniqueNames.contains("myscanname scan"));
+            assertTrue(uniqueNames.contains("myscanname scan " + nameCount));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package com.synopsys.integration.detect.workflow.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EventSystemTest {
+    @Test
+    public void asyncListenerReceivesEventsInOrderBeforeFlushReturns() {
+        EventSystem eventSystem = new EventSystem();
+        List<Integer> received = new ArrayList<>();
+        eventSystem.registerAsyncListener(Event.DiscoveryCount, received::add, 2);
+
+        IntStream.range(0, 100).forEach(count -> eventSystem.publishEvent(Event.DiscoveryCount, count));
+        eventSystem.flush();
+
+        Assertions.assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), received);
+    }
+
+    @Test
+    public void unregisteredAsyncListenerStopsReceiving() {
+        EventSystem eventSystem = new EventSystem();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        EventListener<Integer> listener = received::add;
+        eventSystem.registerAsyncListener(Event.DiscoveryCount, listener);
+
+        eventSystem.publishEvent(Event.DiscoveryCount, 1);
+        eventSystem.flush();
+        eventSystem.unregisterListener(Event.DiscoveryCount, listener);
+        eventSystem.publishEvent(Event.DiscoveryCount, 2);
+        eventSystem.flush();
+
+        Assertions.assertEquals(Collections.singletonList(1), received);
+    }
+
+    @Test
+    public void publishingAndRegisteringFromManyThreadsIsSafe() throws InterruptedException {
+        EventSystem eventSystem = new EventSystem();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        eventSystem.registerListener(Event.DiscoveryCount, received::add);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 1000; i++) {
+            int count = i;
+            executorService.submit(() -> {
+                EventListener<Integer> temporary = event -> {};
+                eventSystem.registerListener(Event.DiscoveryCount, temporary);
+                eventSystem.publishEvent(Event.DiscoveryCount, count);
+                eventSystem.unregisterListener(Event.DiscoveryCount, temporary);
+            });
+        }
+        executorService.shutdown();
+        Assertions.assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(1000, received.size());
+    }
+
+    @Test
+    public void deferredEventsArePublishedLater() {
+        EventSystem eventSystem = new EventSystem();
+        List<Integer> received = new ArrayList<>();
+        eventSystem.registerListener(Event.DiscoveryCount, received::add);
+
+        DeferredEvents deferredEvents = new DeferredEvents(eventSystem);
+        eventSystem.deferEventsOnCurrentThread(deferredEvents);
+        eventSystem.publishEvent(Event.DiscoveryCount, 1);
+        eventSystem.stopDeferringEventsOnCurrentThread();
+        Assertions.assertTrue(received.isEmpty());
+
+        deferredEvents.publish();
+        Assertions.assertEquals(Collections.singletonList(1), received);
+    }
+}
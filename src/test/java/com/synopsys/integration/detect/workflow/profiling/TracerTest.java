@@ -0,0 +1,88 @@
+package com.synopsys.integration.detect.workflow.profiling;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+
+public class TracerTest {
+    @Test
+    public void disabledTracerRecordsNothing() {
+        Tracer tracer = Tracer.disabled();
+        try (TraceSpan span = tracer.span("tool", "Detectors")) {
+            span.addArg("key", "value");
+        }
+        Assertions.assertTrue(tracer.getCompletedSpans().isEmpty());
+    }
+
+    @Test
+    public void nestedSpansAreRecordedWhenClosed() {
+        Tracer tracer = new Tracer(true);
+        try (TraceSpan outer = tracer.span("run", "outer")) {
+            try (TraceSpan inner = tracer.span("tool", "inner")) {
+                inner.addArg("returnCode", 0);
+            }
+        }
+
+        List<TraceSpan> spans = tracer.getCompletedSpans();
+        Assertions.assertEquals(2, spans.size());
+        TraceSpan inner = spans.get(0);
+        TraceSpan outer = spans.get(1);
+        Assertions.assertEquals("inner", inner.getName());
+        Assertions.assertEquals("0", inner.getArgs().get("returnCode"));
+        Assertions.assertTrue(outer.getStartNanos() <= inner.getStartNanos());
+        Assertions.assertTrue(outer.getDurationNanos() >= inner.getDurationNanos());
+    }
+
+    @Test
+    public void writesChromeTraceEvents() throws IOException {
+        Tracer tracer = new Tracer(true);
+        tracer.span("tool", "Bazel").addArg("target", "//:app").close();
+
+        File directory = Files.createTempDirectory("detect-trace").toFile();
+        try {
+            File traceFile = new File(directory, "trace.json");
+            new ChromeTraceWriter().write(traceFile, tracer);
+
+            JsonObject trace = new Gson().fromJson(FileUtils.readFileToString(traceFile, StandardCharsets.UTF_8), JsonObject.class);
+            JsonArray events = trace.getAsJsonArray("traceEvents");
+            JsonObject span = events.get(0).getAsJsonObject();
+            Assertions.assertEquals("X", span.get("ph").getAsString());
+            Assertions.assertEquals("Bazel", span.get("name").getAsString());
+            Assertions.assertEquals("//:app", span.getAsJsonObject("args").get("target").getAsString());
+            Assertions.assertEquals("M", events.get(1).getAsJsonObject().get("ph").getAsString());
+        } finally {
+            FileUtils.deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    public void discoveryTimingsComeFromDiscovery() {
+        EventSystem eventSystem = new EventSystem();
+        DetectorProfiler detectorProfiler = new DetectorProfiler(eventSystem);
+        DetectorEvaluation discovered = Mockito.mock(DetectorEvaluation.class);
+        DetectorEvaluation extracted = Mockito.mock(DetectorEvaluation.class);
+
+        eventSystem.publishEvent(Event.DiscoveryStarted, discovered);
+        eventSystem.publishEvent(Event.DiscoveryEnded, discovered);
+        eventSystem.publishEvent(Event.ExtractionStarted, extracted);
+        eventSystem.publishEvent(Event.ExtractionEnded, extracted);
+
+        Assertions.assertEquals(1, detectorProfiler.getDiscoveryTimings().size());
+        Assertions.assertSame(discovered, detectorProfiler.getDiscoveryTimings().get(0).getKey());
+        Assertions.assertSame(extracted, detectorProfiler.getExtractionTimings().get(0).getKey());
+    }
+}